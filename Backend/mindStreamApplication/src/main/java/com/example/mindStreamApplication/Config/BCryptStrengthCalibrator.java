@@ -0,0 +1,52 @@
+package com.example.mindStreamApplication.Config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+// Picks the BCrypt strength (log2 of the work factor) whose hash takes as long as possible without
+// exceeding a target time on this machine. Each strength step doubles the work, so timing hashes at the
+// lowest allowed strength is enough to estimate the others.
+final class BCryptStrengthCalibrator {
+
+    // Strength range BCrypt accepts
+    static final int MIN_STRENGTH = 4;
+    static final int MAX_STRENGTH = 31;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    // Strength in minStrength..maxStrength for the target time per hash, timed on this machine
+    static int calibrate(Duration target, int minStrength, int maxStrength) {
+        return calibrate(target, minStrength, maxStrength, BCryptStrengthCalibrator::timeHash);
+    }
+
+    // Same, with the nanoseconds of one hash at a given strength supplied by the caller
+    static int calibrate(Duration target, int minStrength, int maxStrength, IntToLongFunction nanosAtStrength) {
+        int min = Math.max(MIN_STRENGTH, Math.min(minStrength, MAX_STRENGTH));
+        int max = Math.max(min, Math.min(maxStrength, MAX_STRENGTH));
+        long nanos = Math.max(1, nanosAtStrength.applyAsLong(min));
+        int strength = min;
+        while (strength < max && nanos * 2 <= target.toNanos()) {
+            nanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    // Fastest of three hashes after a warm-up one, so class loading and JIT compilation are not counted
+    private static long timeHash(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
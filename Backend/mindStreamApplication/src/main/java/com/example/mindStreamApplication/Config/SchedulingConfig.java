@@ -0,0 +1,11 @@
+package com.example.mindStreamApplication.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs (catalog feed sync, favorite count flush, recommendation rebuild,
+// feed snapshot refresh, login limiter sweep, expired refresh token purge)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,9 +2,14 @@ package com.example.mindStreamApplication.Config;
 
 
 import com.example.mindStreamApplication.JWT.JwtAuthFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -14,29 +19,63 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    // Id of the encoder new password hashes are written with
+    static final String PASSWORD_ENCODING_ID = "bcrypt";
+
     @Autowired
     private JwtAuthFilter jwtAuthFilter;
 
     @Autowired
     private UserDetailsService userDetailsService;
 
+    // Fixed BCrypt strength; 0 calibrates it at startup to the target time per hash
+    @Value("${auth.hashing.strength:0}")
+    private int hashStrength;
+
+    @Value("${auth.hashing.target-time:PT0.1S}")
+    private Duration hashTargetTime = Duration.ofMillis(100);
+
+    // Bounds for the calibrated strength
+    @Value("${auth.hashing.min-strength:10}")
+    private int minHashStrength = 10;
+
+    @Value("${auth.hashing.max-strength:14}")
+    private int maxHashStrength = 14;
+
+    // Hashes are stored as {bcrypt}$2a$<strength>$..., recording algorithm and cost with each one.
+    // Hashes from before the prefix are plain BCrypt and still match; upgradeEncoding reports them
+    // (and any hash below the current strength) so a login can replace them
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = hashStrength > 0
+                ? hashStrength
+                : BCryptStrengthCalibrator.calibrate(hashTargetTime, minHashStrength, maxHashStrength);
+        log.info("Password hashing uses bcrypt strength {}", strength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(PASSWORD_ENCODING_ID,
+                Map.of(PASSWORD_ENCODING_ID, new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
     @Bean
@@ -58,10 +97,16 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // No or expired token: 401, which the client answers with POST /auth/refresh
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/tvshows/import", "/tvshows/sync").hasRole("ADMIN")  // Bulk writes
                         .requestMatchers("/tvshows/**").permitAll()  // Public access to TV shows
                         .requestMatchers("/favorites/**").authenticated()  // Protected endpoints
+                        .requestMatchers("/feed/**").authenticated()
+                        .requestMatchers("/admin/**").hasRole("ADMIN")  // Users whose users.role is ADMIN
                         .requestMatchers("/api-docs/**").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
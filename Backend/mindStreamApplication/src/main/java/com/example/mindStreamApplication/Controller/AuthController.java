@@ -1,7 +1,12 @@
 package com.example.mindStreamApplication.Controller;
 
+import com.example.mindStreamApplication.DTO.AuthResponse;
+import com.example.mindStreamApplication.DTO.AvailabilityResponse;
 import com.example.mindStreamApplication.Domain.User;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Service.AuthService;
+import com.example.mindStreamApplication.Service.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -15,40 +20,76 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
     // Register a new user
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> register(@Valid @RequestBody User user) {
-        Map<String, Object> result = authService.register(user);
-        boolean success = (boolean) result.get("success");
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody User user) {
+        AuthResponse result = authService.register(user);
 
-        if (success) {
+        if (result.success()) {
             return ResponseEntity.ok(result);
         } else {
             return ResponseEntity.badRequest().body(result);
         }
     }
 
-    // Login user
+    // Check whether a username and/or email is still free before registering
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(@RequestParam(required = false) String username,
+                                                             @RequestParam(required = false) String email) {
+        if ((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            throw new InvalidRequestException("username or email is required");
+        }
+        return ResponseEntity.ok(authService.checkAvailability(blankToNull(username), blankToNull(email)));
+    }
+
+    // Login user (throttled per username and client IP before any lookup or password check)
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> loginRequest) {
+    public ResponseEntity<AuthResponse> login(@RequestBody Map<String, String> loginRequest,
+                                              HttpServletRequest request) {
         String username = loginRequest.get("username");
         String password = loginRequest.get("password");
 
         if (username == null || password == null) {
-            return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "message", "Username and password are required"
-            ));
+            return ResponseEntity.badRequest().body(AuthResponse.failure("Username and password are required"));
         }
 
-        Map<String, Object> result = authService.login(username, password);
-        boolean success = (boolean) result.get("success");
+        loginRateLimiter.acquire(username, request.getRemoteAddr());
+        AuthResponse result = authService.login(username, password);
 
-        if (success) {
+        if (result.success()) {
+            loginRateLimiter.onSuccess(username);
             return ResponseEntity.ok(result);
         } else {
             return ResponseEntity.status(401).body(result);
         }
     }
 
+    // Get a new JWT token with a refresh token (no password check; the refresh token is replaced)
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody Map<String, String> refreshRequest) {
+        String refreshToken = refreshRequest.get("refreshToken");
+
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return ResponseEntity.badRequest().body(AuthResponse.failure("Refresh token is required"));
+        }
+
+        return ResponseEntity.ok(authService.refresh(refreshToken));
+    }
+
+    // Logout user (revokes the refresh token)
+    @PostMapping("/logout")
+    public ResponseEntity<AuthResponse> logout(@RequestBody(required = false) Map<String, String> logoutRequest) {
+        if (logoutRequest != null) {
+            authService.logout(logoutRequest.get("refreshToken"));
+        }
+        return ResponseEntity.ok(new AuthResponse(true, "Logout successful", null, null, null));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
 }
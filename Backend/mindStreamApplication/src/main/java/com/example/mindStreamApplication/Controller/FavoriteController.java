@@ -1,5 +1,9 @@
 package com.example.mindStreamApplication.Controller;
 
+import com.example.mindStreamApplication.DTO.ApiResponse;
+import com.example.mindStreamApplication.DTO.FavoriteBatchRequest;
+import com.example.mindStreamApplication.DTO.FavoriteBatchResult;
+import com.example.mindStreamApplication.DTO.FavoriteResponse;
 import com.example.mindStreamApplication.Service.FavoriteService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -16,16 +20,11 @@ public class FavoriteController {
 
     // Get user's favorites
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Map<String, Object>> getUserFavorites(@PathVariable Long userId) {
-        List<Map<String, Object>> favorites = favoriteService.getUserFavorites(userId);
-        long count = favoriteService.countUserFavorites(userId);
+    public ResponseEntity<ApiResponse<List<FavoriteResponse>>> getUserFavorites(@PathVariable Long userId) {
+        List<FavoriteResponse> favorites = favoriteService.getUserFavorites(userId);
 
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "User favorites retrieved successfully",
-                "data", favorites,
-                "count", count
-        ));
+        // Count comes from the same result instead of a separate COUNT query
+        return ResponseEntity.ok(ApiResponse.list("User favorites retrieved successfully", favorites));
     }
 
     // Add TV show to favorites
@@ -78,6 +77,12 @@ public class FavoriteController {
         }
     }
 
+    // Apply several add/remove operations in one request (safe to retry)
+    @PostMapping("/batch")
+    public ResponseEntity<FavoriteBatchResult> applyBatch(@RequestBody FavoriteBatchRequest request) {
+        return ResponseEntity.ok(favoriteService.applyBatch(request.userId(), request.operations()));
+    }
+
     // Check if TV show is favorited by user
     @GetMapping("/check")
     public ResponseEntity<Map<String, Object>> checkFavorite(
@@ -0,0 +1,26 @@
+package com.example.mindStreamApplication.Controller;
+
+import com.example.mindStreamApplication.DTO.ApiResponse;
+import com.example.mindStreamApplication.DTO.FeedItemResponse;
+import com.example.mindStreamApplication.Service.FeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/feed")
+public class FeedController {
+
+    @Autowired
+    private FeedService feedService;
+
+    // Personalized feed: shows the user has not favorited yet, best first
+    @GetMapping("/{userId}")
+    public ResponseEntity<ApiResponse<List<FeedItemResponse>>> getFeed(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer limit) {
+        List<FeedItemResponse> feed = feedService.getFeed(userId, limit);
+        return ResponseEntity.ok(ApiResponse.list("Feed retrieved successfully", feed));
+    }
+}
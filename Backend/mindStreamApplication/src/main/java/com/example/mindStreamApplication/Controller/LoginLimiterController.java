@@ -0,0 +1,51 @@
+package com.example.mindStreamApplication.Controller;
+
+import com.example.mindStreamApplication.DTO.ApiResponse;
+import com.example.mindStreamApplication.DTO.LoginLimitState;
+import com.example.mindStreamApplication.DTO.LoginLimiterStats;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import com.example.mindStreamApplication.Service.LoginRateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/admin/login-limiter")
+public class LoginLimiterController {
+
+    // Kinds of keys the limiter tracks, as used in the paths below
+    private static final Set<String> KEY_TYPES = Set.of(LoginRateLimiter.TYPE_USERNAME, LoginRateLimiter.TYPE_IP);
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    // Limiter settings, counters and currently blocked keys (Admin function)
+    @GetMapping
+    public ResponseEntity<ApiResponse<LoginLimiterStats>> getStats() {
+        return ResponseEntity.ok(ApiResponse.ok("Login limiter state retrieved successfully",
+                loginRateLimiter.stats()));
+    }
+
+    // State of one username or IP (Admin function)
+    @GetMapping("/{type}/{key}")
+    public ResponseEntity<ApiResponse<LoginLimitState>> getState(@PathVariable String type, @PathVariable String key) {
+        return ResponseEntity.ok(ApiResponse.ok("Login limiter state retrieved successfully",
+                loginRateLimiter.state(checkType(type), key)));
+    }
+
+    // Unblock one username or IP (Admin function)
+    @DeleteMapping("/{type}/{key}")
+    public ResponseEntity<ApiResponse<Void>> reset(@PathVariable String type, @PathVariable String key) {
+        boolean tracked = loginRateLimiter.reset(checkType(type), key);
+        return ResponseEntity.ok(ApiResponse.ok(tracked ? "Login limiter entry cleared" : "Nothing to clear", null));
+    }
+
+    private static String checkType(String type) {
+        if (!KEY_TYPES.contains(type)) {
+            throw new InvalidRequestException("type must be one of " + KEY_TYPES);
+        }
+        return type;
+    }
+}
@@ -1,9 +1,32 @@
 package com.example.mindStreamApplication.Controller;
 
+import com.example.mindStreamApplication.DTO.ApiResponse;
+import com.example.mindStreamApplication.DTO.BrowseResponse;
+import com.example.mindStreamApplication.DTO.CatalogBrowse;
+import com.example.mindStreamApplication.DTO.CatalogPage;
+import com.example.mindStreamApplication.DTO.FeedSyncResult;
+import com.example.mindStreamApplication.DTO.PageResponse;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.DTO.RecommendedTvShowResponse;
+import com.example.mindStreamApplication.DTO.TvShowImportResult;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
+import com.example.mindStreamApplication.Service.CatalogFeedSync;
+import com.example.mindStreamApplication.Service.TvShowImportService;
 import com.example.mindStreamApplication.Service.TvShowService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
@@ -14,73 +37,158 @@ public class TvShowController {
     @Autowired
     private TvShowService tvShowService;
 
-    // Get all TV shows
+    @Autowired
+    private TvShowImportService tvShowImportService;
+
+    @Autowired
+    private CatalogFeedSync catalogFeedSync;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Get all TV shows (keyset paginated when limit or after is given)
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllTvShows(
+    public ResponseEntity<?> getAllTvShows(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeCount) {
+
+        if (isPaged(limit, after)) {
+            CatalogPage page = tvShowService.getTvShowsPage(limit, after, includeCount, userId);
+            return ResponseEntity.ok(PageResponse.of("TV shows retrieved successfully", page));
+        }
+
+        List<TvShowResponse> tvShows = tvShowService.getAllTvShows(userId);
+
+        return ResponseEntity.ok(ApiResponse.list("TV shows retrieved successfully", tvShows));
+    }
+
+    // Export the whole catalog as newline-delimited JSON (one TV show per line).
+    // Rows are written to the response as they are read from the database, so nothing is buffered
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTvShows(
             @RequestParam(required = false) Long userId) {
 
-        List<Map<String, Object>> tvShows = tvShowService.getAllTvShows(userId);
+        ObjectWriter writer = objectMapper.writerFor(TvShowResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "TV shows retrieved successfully",
-                "data", tvShows,
-                "count", tvShows.size()
-        ));
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                tvShowService.streamAllTvShows(userId, show -> writeLine(writer, generator, show));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Get the most favorited TV shows (counts are aggregated in the background)
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<List<PopularTvShowResponse>>> getTopTvShows(
+            @RequestParam(required = false) Integer limit) {
+
+        List<PopularTvShowResponse> tvShows = tvShowService.getTopTvShows(limit);
+
+        return ResponseEntity.ok(ApiResponse.list("Top TV shows retrieved successfully", tvShows));
+    }
+
+    // Get TV shows by chart rank, best first (optionally only ranks from..to)
+    @GetMapping("/chart")
+    public ResponseEntity<ApiResponse<List<TvShowResponse>>> getChartTvShows(
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long userId) {
+
+        List<TvShowResponse> tvShows = tvShowService.getChartTvShows(from, to, limit, userId);
+
+        return ResponseEntity.ok(ApiResponse.list("Chart TV shows retrieved successfully", tvShows));
+    }
+
+    // Browse TV shows by year range and album prefix (keyset paged by year, id) with year and decade counts
+    @GetMapping("/browse")
+    public ResponseEntity<BrowseResponse> browseTvShows(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Long userId) {
+
+        CatalogBrowse browse = tvShowService.browseTvShows(fromYear, toYear, prefix, limit, after, userId);
+
+        return ResponseEntity.ok(BrowseResponse.of("TV shows retrieved successfully", browse));
     }
 
     // Get TV show by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getTvShowById(
+    public ResponseEntity<ApiResponse<TvShowResponse>> getTvShowById(
             @PathVariable Long id,
             @RequestParam(required = false) Long userId) {
 
-        Map<String, Object> tvShow = tvShowService.getTvShowById(id, userId);
+        TvShowResponse tvShow = tvShowService.getTvShowById(id, userId);
 
         if (tvShow == null) {
-            return ResponseEntity.status(404).body(Map.of(
-                    "success", false,
-                    "message", "TV show not found with id: " + id
-            ));
+            return ResponseEntity.status(404).body(ApiResponse.failure("TV show not found with id: " + id));
         }
 
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "TV show retrieved successfully",
-                "data", tvShow
-        ));
+        return ResponseEntity.ok(ApiResponse.ok("TV show retrieved successfully", tvShow));
+    }
+
+    // Get shows that users who favorited this one also favorited
+    @GetMapping("/{id}/recommendations")
+    public ResponseEntity<ApiResponse<List<RecommendedTvShowResponse>>> getRecommendations(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long userId) {
+
+        List<RecommendedTvShowResponse> tvShows = tvShowService.getRecommendations(id, limit, userId);
+
+        return ResponseEntity.ok(ApiResponse.list("Recommendations retrieved successfully", tvShows));
     }
 
-    // Search TV shows by album name
+    // Search TV shows by album name (keyset paginated when limit or after is given)
     @GetMapping("/search")
-    public ResponseEntity<Map<String, Object>> searchTvShows(
+    public ResponseEntity<?> searchTvShows(
             @RequestParam String query,
-            @RequestParam(required = false) Long userId) {
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeCount) {
 
-        List<Map<String, Object>> tvShows = tvShowService.searchTvShows(query, userId);
+        if (isPaged(limit, after)) {
+            CatalogPage page = tvShowService.searchTvShowsPage(query, limit, after, includeCount, userId);
+            return ResponseEntity.ok(PageResponse.of("Search results for: " + query, page));
+        }
 
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Search results for: " + query,
-                "data", tvShows,
-                "count", tvShows.size()
-        ));
+        List<TvShowResponse> tvShows = tvShowService.searchTvShows(query, userId);
+
+        return ResponseEntity.ok(ApiResponse.list("Search results for: " + query, tvShows));
     }
 
-    // Get TV shows by year
+    // Get TV shows by year (keyset paginated when limit or after is given)
     @GetMapping("/year/{year}")
-    public ResponseEntity<Map<String, Object>> getTvShowsByYear(
+    public ResponseEntity<?> getTvShowsByYear(
             @PathVariable Integer year,
-            @RequestParam(required = false) Long userId) {
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeCount) {
 
-        List<Map<String, Object>> tvShows = tvShowService.getTvShowsByYear(year, userId);
+        if (isPaged(limit, after)) {
+            CatalogPage page = tvShowService.getTvShowsByYearPage(year, limit, after, includeCount, userId);
+            return ResponseEntity.ok(PageResponse.of("TV shows from year: " + year, page));
+        }
 
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "TV shows from year: " + year,
-                "data", tvShows,
-                "count", tvShows.size()
-        ));
+        List<TvShowResponse> tvShows = tvShowService.getTvShowsByYear(year, userId);
+
+        return ResponseEntity.ok(ApiResponse.list("TV shows from year: " + year, tvShows));
     }
 
     // Add a new TV show (Admin function)
@@ -109,6 +217,28 @@ public class TvShowController {
         }
     }
 
+    // Bulk import TV shows from a CSV body (album,year,chartPosition) or a JSON array (Admin function)
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<TvShowImportResult>> importTvShows(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        TvShowImportResult result = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? tvShowImportService.importJson(body)
+                : tvShowImportService.importCsv(body);
+
+        return ResponseEntity.ok(ApiResponse.ok(
+                "Imported " + result.inserted() + " of " + result.received() + " TV shows", result));
+    }
+
+    // Sync the catalog from the json.server.url feed now instead of waiting for the schedule (Admin function)
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<FeedSyncResult>> syncTvShows() {
+        FeedSyncResult result = catalogFeedSync.sync();
+
+        return ResponseEntity.ok(ApiResponse.ok("Catalog feed sync: " + result.status(), result));
+    }
+
     // Load initial data (Admin function - call once)
     @PostMapping("/load-initial-data")
     public ResponseEntity<Map<String, Object>> loadInitialData() {
@@ -119,4 +249,19 @@ public class TvShowController {
                 "message", "Initial TV show data loaded successfully"
         ));
     }
+
+    // Write one NDJSON line; the generator flushes to the response only when its buffer fills
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, TvShowResponse show) {
+        try {
+            writer.writeValue(generator, show);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Pagination is opt-in so existing clients keep receiving the full list
+    private boolean isPaged(Integer limit, String after) {
+        return limit != null || after != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Standard response envelope: success flag, message, payload and (for lists) the item count
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponse<T>(boolean success, String message, T data, Long count) {
+
+    public static <T> ApiResponse<T> ok(String message, T data) {
+        return new ApiResponse<>(true, message, data, null);
+    }
+
+    public static <E> ApiResponse<List<E>> list(String message, List<E> data) {
+        return new ApiResponse<>(true, message, data, (long) data.size());
+    }
+
+    public static <T> ApiResponse<T> failure(String message) {
+        return new ApiResponse<>(false, message, null, null);
+    }
+}
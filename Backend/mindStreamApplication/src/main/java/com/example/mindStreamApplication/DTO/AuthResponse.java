@@ -0,0 +1,12 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Response of /auth/register, /auth/login and /auth/refresh (tokens only on login and refresh)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuthResponse(boolean success, String message, String token, String refreshToken, UserResponse user) {
+
+    public static AuthResponse failure(String message) {
+        return new AuthResponse(false, message, null, null, null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Response of GET /auth/availability (only the fields that were asked about)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityResponse(String username, Boolean usernameAvailable, String email, Boolean emailAvailable) {
+}
@@ -0,0 +1,14 @@
+package com.example.mindStreamApplication.DTO;
+
+import java.util.List;
+
+// Standard envelope around a CatalogBrowse; count is the number of shows matching every filter
+public record BrowseResponse(boolean success, String message, List<TvShowResponse> data, String nextCursor,
+                             boolean hasMore, Long count, CatalogFacets facets) {
+
+    public static BrowseResponse of(String message, CatalogBrowse browse) {
+        CatalogPage page = browse.page();
+        return new BrowseResponse(true, message, page.data(), page.nextCursor(), page.hasMore(), page.count(),
+                browse.facets());
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.mindStreamApplication.DTO;
+
+// One page of a faceted catalog browse together with the facet counts for the album prefix
+public record CatalogBrowse(CatalogPage page, CatalogFacets facets) {
+}
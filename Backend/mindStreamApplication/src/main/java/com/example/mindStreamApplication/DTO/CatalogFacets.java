@@ -0,0 +1,11 @@
+package com.example.mindStreamApplication.DTO;
+
+import java.util.List;
+
+// Facet counts of a catalog browse: shows per year and per decade (decade is its first year, e.g. 1990),
+// ascending, plus the number of shows without a year
+public record CatalogFacets(List<FacetCount> years, List<FacetCount> decades, long unknownYear) {
+
+    public record FacetCount(int value, long count) {
+    }
+}
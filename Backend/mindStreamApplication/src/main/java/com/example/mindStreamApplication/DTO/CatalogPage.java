@@ -0,0 +1,10 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// One keyset page of TV shows; nextCursor is null on the last page, count only when requested
+public record CatalogPage(List<TvShowResponse> data, String nextCursor, boolean hasMore,
+                          @JsonInclude(JsonInclude.Include.NON_NULL) Long count) {
+}
@@ -0,0 +1,11 @@
+package com.example.mindStreamApplication.DTO;
+
+import java.util.List;
+
+// Body of POST /favorites/batch: add/remove operations for one user, applied in order
+public record FavoriteBatchRequest(Long userId, List<Operation> operations) {
+
+    // action is "add" or "remove"
+    public record Operation(String action, Long tvShowId) {
+    }
+}
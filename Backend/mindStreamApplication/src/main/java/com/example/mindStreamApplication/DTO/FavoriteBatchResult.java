@@ -0,0 +1,12 @@
+package com.example.mindStreamApplication.DTO;
+
+import java.util.List;
+
+// Outcome of POST /favorites/batch: rows written and one result per operation, in request order.
+// outcome is "added", "removed", "unchanged" (already in the requested state), "not-found" (add of an
+// unknown TV show) or "invalid" (unknown action or missing tvShowId)
+public record FavoriteBatchResult(Long userId, int added, int removed, List<Item> results) {
+
+    public record Item(String action, Long tvShowId, String outcome) {
+    }
+}
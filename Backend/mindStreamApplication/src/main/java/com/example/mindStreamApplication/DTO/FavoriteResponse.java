@@ -0,0 +1,14 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+// Favorite entry as returned by GET /favorites/user/{userId}
+public record FavoriteResponse(Long id, TvShowSummary tvShow, LocalDateTime addedAt,
+                               @JsonProperty("isFavorite") boolean isFavorite) {
+
+    // TV show columns of a favorite (missing year and chart position are shown as 0 and "-")
+    public record TvShowSummary(Long id, String album, int year, String chartPosition) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.mindStreamApplication.DTO;
+
+// One entry of GET /feed/{userId}, best first. score is the weighted blend of favorite co-occurrence,
+// year recency and chart position (0..1); reason is "co-favorite" when the show was favorited together
+// with one of the user's favorites and "popular" when it came from the global fallback pool
+public record FeedItemResponse(Long id, String album, Integer year, String chartPosition, double score,
+                               String reason) {
+}
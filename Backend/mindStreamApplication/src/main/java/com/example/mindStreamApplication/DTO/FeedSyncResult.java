@@ -0,0 +1,12 @@
+package com.example.mindStreamApplication.DTO;
+
+// Outcome of one catalog feed sync.
+// status is "updated" (feed read and applied), "not-modified" (304 for the stored validators),
+// "disabled" (no feed configured) or "busy" (another sync was running)
+public record FeedSyncResult(String status, long received, long inserted, long updated, long unchanged,
+                             long invalid, long elapsedMillis) {
+
+    public static FeedSyncResult of(String status) {
+        return new FeedSyncResult(status, 0, 0, 0, 0, 0, 0);
+    }
+}
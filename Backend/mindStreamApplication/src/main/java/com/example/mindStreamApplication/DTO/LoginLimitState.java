@@ -0,0 +1,7 @@
+package com.example.mindStreamApplication.DTO;
+
+// Login limiter state of one username or client IP: attempts estimated over the sliding window,
+// the limit for that kind of key and how long a blocked key has to wait
+public record LoginLimitState(String type, String key, double attempts, int limit, boolean blocked,
+                              long retryAfterSeconds) {
+}
@@ -0,0 +1,9 @@
+package com.example.mindStreamApplication.DTO;
+
+import java.util.List;
+
+// Login limiter settings, counters and the keys that are blocked right now (at most a sample of them)
+public record LoginLimiterStats(long windowSeconds, int perUsername, int perIp, long trackedUsernames,
+                                long trackedIps, long allowed, long blockedByUsername, long blockedByIp,
+                                List<LoginLimitState> blocked) {
+}
@@ -0,0 +1,14 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Standard envelope around a CatalogPage
+public record PageResponse(boolean success, String message, List<TvShowResponse> data, String nextCursor,
+                           boolean hasMore, @JsonInclude(JsonInclude.Include.NON_NULL) Long count) {
+
+    public static PageResponse of(String message, CatalogPage page) {
+        return new PageResponse(true, message, page.data(), page.nextCursor(), page.hasMore(), page.count());
+    }
+}
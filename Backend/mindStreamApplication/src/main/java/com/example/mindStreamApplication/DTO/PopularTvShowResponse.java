@@ -0,0 +1,5 @@
+package com.example.mindStreamApplication.DTO;
+
+// TV show with its favorite count as returned by GET /tvshows/top
+public record PopularTvShowResponse(Long id, String album, Integer year, String chartPosition, long favoriteCount) {
+}
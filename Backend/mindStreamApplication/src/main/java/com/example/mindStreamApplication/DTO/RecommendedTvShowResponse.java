@@ -0,0 +1,7 @@
+package com.example.mindStreamApplication.DTO;
+
+// TV show recommended by GET /tvshows/{id}/recommendations, with the number of users
+// who favorited both it and the requested show
+public record RecommendedTvShowResponse(Long id, String album, Integer year, String chartPosition,
+                                        int sharedFavorites) {
+}
@@ -0,0 +1,12 @@
+package com.example.mindStreamApplication.DTO;
+
+import java.util.List;
+
+// Outcome of a bulk TV show import: row counts, overall throughput and one entry per JDBC batch
+public record TvShowImportResult(long received, long inserted, long duplicates, long invalid,
+                                 long elapsedMillis, long rowsPerSecond, List<Batch> batches) {
+
+    // One written batch: rows after in-upload dedupe, rows inserted after the table check, and its timing
+    public record Batch(int batch, int rows, int inserted, long elapsedMillis, long rowsPerSecond) {
+    }
+}
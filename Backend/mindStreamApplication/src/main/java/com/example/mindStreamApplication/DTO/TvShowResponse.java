@@ -0,0 +1,13 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+// TV show as returned by the /tvshows endpoints
+@JsonSerialize(using = TvShowResponseSerializer.class)
+public record TvShowResponse(Long id, String album, Integer year, String chartPosition, boolean isFavorite) {
+
+    public static TvShowResponse of(TvShow show, boolean isFavorite) {
+        return new TvShowResponse(show.getId(), show.getAlbum(), show.getYear(), show.getChartPosition(), isFavorite);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// Writes a TvShowResponse straight to the generator.
+// List endpoints return thousands of these, so skip bean introspection and property writers per row.
+public class TvShowResponseSerializer extends StdSerializer<TvShowResponse> {
+
+    public TvShowResponseSerializer() {
+        super(TvShowResponse.class);
+    }
+
+    @Override
+    public void serialize(TvShowResponse show, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        if (show.id() != null) {
+            generator.writeNumberField("id", show.id());
+        } else {
+            generator.writeNullField("id");
+        }
+        generator.writeStringField("album", show.album());
+        if (show.year() != null) {
+            generator.writeNumberField("year", show.year());
+        } else {
+            generator.writeNullField("year");
+        }
+        generator.writeStringField("chartPosition", show.chartPosition());
+        generator.writeBooleanField("isFavorite", show.isFavorite());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.example.mindStreamApplication.Domain.User;
+
+// Public user fields returned by the auth endpoints (never the password)
+public record UserResponse(Long id, String username, String email, String fullName) {
+
+    public static UserResponse of(User user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(),
+                user.getFullName() != null ? user.getFullName() : "");
+    }
+}
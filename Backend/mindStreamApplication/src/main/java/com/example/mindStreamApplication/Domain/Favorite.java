@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "favorites")
+@Table(name = "favorites",
+        uniqueConstraints = {
+                // One favorite per user and show; also serves lookups by user (leading column)
+                @UniqueConstraint(name = "uk_favorites_user_show", columnNames = {"user_id", "tv_show_id"})
+        },
+        indexes = {
+                @Index(name = "idx_favorites_tv_show", columnList = "tv_show_id")
+        })
 public class Favorite {
 
     @Id
@@ -0,0 +1,67 @@
+package com.example.mindStreamApplication.Domain;
+
+import java.time.LocalDateTime;
+
+// Read-only projection of a favorite joined with its TV show columns
+public class FavoriteTvShowView {
+
+    private final Long id;
+
+    private final LocalDateTime addedAt;
+
+    private final Long tvShowId;
+
+    private final String album;
+
+    private final Integer year;
+
+    private final String chartPosition;
+
+
+    public FavoriteTvShowView(Long id, LocalDateTime addedAt, Long tvShowId,
+                              String album, Integer year, String chartPosition) {
+        this.id = id;
+        this.addedAt = addedAt;
+        this.tvShowId = tvShowId;
+        this.album = album;
+        this.year = year;
+        this.chartPosition = chartPosition;
+    }
+
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getAddedAt() {
+        return addedAt;
+    }
+
+    public Long getTvShowId() {
+        return tvShowId;
+    }
+
+    public String getAlbum() {
+        return album;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public String getChartPosition() {
+        return chartPosition;
+    }
+
+    @Override
+    public String toString() {
+        return "FavoriteTvShowView{" +
+                "id=" + id +
+                ", addedAt=" + addedAt +
+                ", tvShowId=" + tvShowId +
+                ", album='" + album + '\'' +
+                ", year=" + year +
+                ", chartPosition='" + chartPosition + '\'' +
+                '}';
+    }
+}
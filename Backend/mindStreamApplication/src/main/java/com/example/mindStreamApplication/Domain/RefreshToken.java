@@ -0,0 +1,82 @@
+package com.example.mindStreamApplication.Domain;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// One issued refresh token, stored by the SHA-256 of its value (the token itself is never kept).
+// Rotation marks a token revoked instead of deleting it, so presenting it again is recognised as reuse;
+// rows are purged once they expire.
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        // Revoking every session of a user
+        @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken implements Persistable<byte[]> {
+
+    @Id
+    @Column(name = "token_hash", columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    // New tokens are inserted without a select (the hash is assigned, so save() cannot tell on its own)
+    @Transient
+    private boolean stored;
+
+
+    public RefreshToken() {
+    }
+
+    public RefreshToken(byte[] tokenHash, Long userId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+
+    @Override
+    public byte[] getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+
+    public byte[] getTokenHash() {
+        return tokenHash;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isRevoked() {
+        return revoked;
+    }
+
+    public void setRevoked(boolean revoked) {
+        this.revoked = revoked;
+    }
+}
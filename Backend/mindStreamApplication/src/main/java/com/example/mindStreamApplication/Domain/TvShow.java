@@ -4,7 +4,12 @@ package com.example.mindStreamApplication.Domain;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "tv_shows")
+@Table(name = "tv_shows", indexes = {
+        // Duplicate checks (existsByAlbum, bulk import) look shows up by album
+        @Index(name = "idx_tv_shows_album", columnList = "album"),
+        // Chart listings (top N, rank ranges) read this index in order
+        @Index(name = "idx_tv_shows_chart_rank", columnList = "chart_rank, id")
+})
 public class TvShow {
 
     @Id
@@ -20,6 +25,10 @@ public class TvShow {
     @Column(name = "chart_position")
     private String chartPosition;
 
+    // Numeric form of chartPosition for sorting and range queries; null when the position is not a number
+    @Column(name = "chart_rank")
+    private Integer chartRank;
+
 
     public TvShow() {
     }
@@ -27,7 +36,26 @@ public class TvShow {
     public TvShow(String album, Integer year, String chartPosition) {
         this.album = album;
         this.year = year;
-        this.chartPosition = chartPosition;
+        setChartPosition(chartPosition);
+    }
+
+    // Rank of a chart position: a positive whole number ("1", " 10 "), anything else has no rank.
+    // The V4 migration applies the same rule to existing rows
+    public static Integer parseChartRank(String chartPosition) {
+        if (chartPosition == null) {
+            return null;
+        }
+        String value = chartPosition.trim();
+        if (value.isEmpty() || value.length() > 9) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return null;
+            }
+        }
+        int rank = Integer.parseInt(value);
+        return rank > 0 ? rank : null;
     }
 
 
@@ -61,6 +89,11 @@ public class TvShow {
 
     public void setChartPosition(String chartPosition) {
         this.chartPosition = chartPosition;
+        this.chartRank = parseChartRank(chartPosition);
+    }
+
+    public Integer getChartRank() {
+        return chartRank;
     }
 
     @Override
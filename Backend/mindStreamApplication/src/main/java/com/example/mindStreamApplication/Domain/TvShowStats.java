@@ -0,0 +1,45 @@
+package com.example.mindStreamApplication.Domain;
+
+import jakarta.persistence.*;
+
+// Aggregated favorite count of one TV show (written in batches by FavoriteCountAggregator)
+@Entity
+@Table(name = "tv_show_stats", indexes = {
+        // GET /tvshows/top reads the highest counts first
+        @Index(name = "idx_tv_show_stats_favorite_count", columnList = "favorite_count")
+})
+public class TvShowStats {
+
+    @Id
+    @Column(name = "tv_show_id")
+    private Long tvShowId;
+
+    @Column(name = "favorite_count", nullable = false)
+    private long favoriteCount;
+
+
+    public TvShowStats() {
+    }
+
+    public TvShowStats(Long tvShowId, long favoriteCount) {
+        this.tvShowId = tvShowId;
+        this.favoriteCount = favoriteCount;
+    }
+
+
+    public Long getTvShowId() {
+        return tvShowId;
+    }
+
+    public void setTvShowId(Long tvShowId) {
+        this.tvShowId = tvShowId;
+    }
+
+    public long getFavoriteCount() {
+        return favoriteCount;
+    }
+
+    public void setFavoriteCount(long favoriteCount) {
+        this.favoriteCount = favoriteCount;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.mindStreamApplication.Exception;
+
+
+public class TooManyRequestsException extends RuntimeException {
+
+    // Seconds the client should wait before retrying (sent as the Retry-After header)
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.mindStreamApplication.JWT;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
@@ -24,6 +27,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    // Build the principal from verified claims only, without a user lookup per request
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+
+    // How long a loaded user may be reused when not stateless (0 = load on every request)
+    @Value("${jwt.user-cache-ttl:0s}")
+    private Duration userCacheTtl = Duration.ZERO;
+
+    private final UserDetailsTtlCache userDetailsCache = new UserDetailsTtlCache();
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -31,7 +44,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
+        final Claims claims;
 
         // If no Authorization header or doesn't start with "Bearer ", continue filter chain
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -39,26 +52,36 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract JWT token
+        // Extract JWT token and verify it once (signature + expiry); null means invalid
         jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
-
-        // If username exists and no authentication in context
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            // Validate token
-            if (jwtService.validateToken(jwt)) {
-                // Create authentication token
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // Set authentication in context
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        claims = jwtService.verifyToken(jwt);
+
+        // If token is valid, has a subject and no authentication in context
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolveUser(claims);
+
+            // Create authentication token
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            // Set authentication in context
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Get the principal for a verified token: from claims when stateless, otherwise from the user store.
+    // ROLE_ADMIN comes from the users.role column either way (stateless: as signed into the token at login,
+    // so a demotion takes effect when the token expires)
+    private UserDetails resolveUser(Claims claims) {
+        if (stateless) {
+            return new JwtUserPrincipal(claims.getSubject(), claims.get("userId", Long.class),
+                    Boolean.TRUE.equals(claims.get(JwtService.ADMIN_CLAIM, Boolean.class)));
+        }
+        return userDetailsCache.get(claims.getSubject(), userCacheTtl.toMillis(), System.currentTimeMillis(),
+                userDetailsService::loadUserByUsername);
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.mindStreamApplication.JWT;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -11,10 +17,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 @Service
-public class JwtService {
+public class JwtService implements MeterBinder {
+
+    // Claim set on tokens of users whose stored role is ADMIN
+    public static final String ADMIN_CLAIM = "admin";
 
     @Value("${jwt.secret}")
     private String jwtSecret;
@@ -22,10 +32,63 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // Maximum number of verified tokens kept in memory (0 disables the cache)
+    @Value("${jwt.token-cache.max-entries:10000}")
+    private int tokenCacheMaxEntries = 10000;
+
+    private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache();
+
+    // Signing key and parser derived from jwtSecret, built once per secret
+    private volatile KeyMaterial keyMaterial;
+
+    private static final class KeyMaterial {
+
+        private final String secret;
+        private final SecretKey key;
+        private final JwtParser parser;
+
+        KeyMaterial(String secret) {
+            this.secret = secret;
+            this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            this.parser = Jwts.parser().verifyWith(key).build();
+        }
+    }
+
     // Get the signing key from the configured secret
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return keyMaterial().key;
+    }
+
+    private KeyMaterial keyMaterial() {
+        KeyMaterial current = keyMaterial;
+        if (current == null || !current.secret.equals(jwtSecret)) {
+            current = new KeyMaterial(jwtSecret);
+            keyMaterial = current;
+        }
+        return current;
+    }
+
+    // Verify a token once and return its claims, or null when it is malformed, forged or expired.
+    // Verified tokens are cached by hash until they expire, so repeat requests skip the HMAC check.
+    public Claims verifyToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        String tokenHash = VerifiedTokenCache.hash(token);
+        Claims cached = verifiedTokens.get(tokenHash, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            verifiedTokens.put(tokenHash, claims, tokenCacheMaxEntries, now);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     // Extract username from token
@@ -52,22 +115,23 @@ public class JwtService {
 
     // Parse and extract all claims from token
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return keyMaterial().parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     // Generate token for user
     public String generateToken(String username, Long userId) {
+        return generateToken(username, userId, false);
+    }
+
+    // Generate token for user; admin comes from the user's stored role and is read back in stateless mode
+    public String generateToken(String username, Long userId, boolean admin) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
+        if (admin) {
+            claims.put(ADMIN_CLAIM, true);
+        }
         return createToken(claims, username);
     }
 
@@ -82,13 +146,9 @@ public class JwtService {
                 .compact();
     }
 
-    // Validate token
+    // Validate token (signature and expiry, checked once per token while cached)
     public Boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyToken(token) != null;
     }
 
     // Get token from Authorization header
@@ -98,4 +158,14 @@ public class JwtService {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.hits", verifiedTokens.hits(), LongAdder::sum)
+                .description("Tokens served from the verified token cache").register(registry);
+        FunctionCounter.builder("jwt.cache.misses", verifiedTokens.misses(), LongAdder::sum)
+                .description("Tokens that needed a signature check").register(registry);
+        Gauge.builder("jwt.cache.size", verifiedTokens, VerifiedTokenCache::size)
+                .description("Verified tokens held in memory").register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.mindStreamApplication.JWT;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+// Principal built only from verified token claims (stateless mode, no user lookup).
+// It carries no password; the token itself is the credential.
+public class JwtUserPrincipal implements UserDetails {
+
+    // Authorities of an account whose stored role is ADMIN
+    public static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final String username;
+    private final Long userId;
+    private final boolean admin;
+
+    public JwtUserPrincipal(String username, Long userId) {
+        this(username, userId, false);
+    }
+
+    public JwtUserPrincipal(String username, Long userId, boolean admin) {
+        this.username = username;
+        this.userId = userId;
+        this.admin = admin;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return admin ? ADMIN_AUTHORITIES : List.of();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtUserPrincipal{" +
+                "username='" + username + '\'' +
+                ", userId=" + userId +
+                ", admin=" + admin +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.mindStreamApplication.JWT;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -21,25 +22,18 @@ public class JwtUtils {
 
     // Extract user ID from request
     public Long extractUserIdFromRequest(HttpServletRequest request) {
-        String token = extractToken(request);
-        if (token != null && jwtService.validateToken(token)) {
-            return jwtService.extractUserId(token);
-        }
-        return null;
+        Claims claims = jwtService.verifyToken(extractToken(request));
+        return claims != null ? claims.get("userId", Long.class) : null;
     }
 
     // Extract username from request
     public String extractUsernameFromRequest(HttpServletRequest request) {
-        String token = extractToken(request);
-        if (token != null && jwtService.validateToken(token)) {
-            return jwtService.extractUsername(token);
-        }
-        return null;
+        Claims claims = jwtService.verifyToken(extractToken(request));
+        return claims != null ? claims.getSubject() : null;
     }
 
     // Validate token from request
     public boolean validateTokenFromRequest(HttpServletRequest request) {
-        String token = extractToken(request);
-        return token != null && jwtService.validateToken(token);
+        return jwtService.verifyToken(extractToken(request)) != null;
     }
 }
@@ -0,0 +1,55 @@
+package com.example.mindStreamApplication.JWT;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Short-lived cache of loaded UserDetails for the JWT filter.
+// Bounds how stale a revoked or deleted user can be to the TTL while
+// taking the per-request user lookup off hot paths. A TTL of 0 disables it.
+class UserDetailsTtlCache {
+
+    private static final int MAX_ENTRIES = 10000;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static final class Entry {
+
+        private final UserDetails userDetails;
+        private final long loadedAtMillis;
+
+        Entry(UserDetails userDetails, long loadedAtMillis) {
+            this.userDetails = userDetails;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+    }
+
+    // Get cached details younger than ttlMillis, or load and remember them
+    UserDetails get(String username, long ttlMillis, long nowMillis, Function<String, UserDetails> loader) {
+        if (ttlMillis <= 0) {
+            return loader.apply(username);
+        }
+
+        synchronized (this) {
+            Entry entry = entries.get(username);
+            if (entry != null && nowMillis - entry.loadedAtMillis < ttlMillis) {
+                return entry.userDetails;
+            }
+        }
+
+        // Loader failures (e.g. user deleted) propagate and are not cached
+        UserDetails loaded = loader.apply(username);
+        synchronized (this) {
+            entries.put(username, new Entry(loaded, nowMillis));
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > MAX_ENTRIES && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.mindStreamApplication.JWT;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded LRU of tokens whose signature has already been verified.
+// Entries are keyed by the SHA-256 of the token (raw tokens are never kept)
+// and are dropped once the token's exp claim has passed.
+class VerifiedTokenCache {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static final class Entry {
+
+        private final Claims claims;
+        private final long expiresAtMillis;
+
+        Entry(Claims claims, long expiresAtMillis) {
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    // Claims of a previously verified, still valid token, or null
+    synchronized Claims get(String tokenHash, long nowMillis) {
+        Entry entry = entries.get(tokenHash);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= nowMillis) {
+            entries.remove(tokenHash);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims;
+    }
+
+    // Remember verified claims; tokens without an expiry are not cached
+    synchronized void put(String tokenHash, Claims claims, int maxEntries, long nowMillis) {
+        if (maxEntries <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+        entries.put(tokenHash, new Entry(claims, claims.getExpiration().getTime()));
+
+        if (entries.size() > maxEntries) {
+            // Expired tokens go first, then the least recently used ones
+            entries.values().removeIf(entry -> entry.expiresAtMillis <= nowMillis);
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    LongAdder hits() {
+        return hits;
+    }
+
+    LongAdder misses() {
+        return misses;
+    }
+
+    // URL-safe base64 SHA-256 of the token
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
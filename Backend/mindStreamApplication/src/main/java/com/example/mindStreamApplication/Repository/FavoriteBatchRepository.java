@@ -0,0 +1,55 @@
+package com.example.mindStreamApplication.Repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Plain JDBC bulk access to favorites: batch writes (IDENTITY ids stop Hibernate from batching inserts)
+// and a streaming scan of the whole table. Rows written this way bypass the persistence context and
+// the favorites cache.
+@Repository
+public class FavoriteBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Receives one (user, show) pair per favorite
+    public interface FavoriteHandler {
+        void accept(long userId, long tvShowId);
+    }
+
+    // Pass every favorite to the handler ordered by user, reading through a cursor instead of loading the table
+    public void forEachFavorite(FavoriteHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT user_id, tv_show_id FROM favorites "
+                            + "WHERE user_id IS NOT NULL AND tv_show_id IS NOT NULL ORDER BY user_id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(1000);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> handler.accept(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+
+    // Insert one favorite per TV show id for the user as one JDBC batch
+    public void insertAll(Long userId, Collection<Long> tvShowIds, LocalDateTime addedAt) {
+        if (tvShowIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(addedAt);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO favorites (user_id, tv_show_id, added_at) VALUES (?, ?, ?)",
+                List.copyOf(tvShowIds), tvShowIds.size(), (statement, tvShowId) -> {
+                    statement.setLong(1, userId);
+                    statement.setLong(2, tvShowId);
+                    statement.setTimestamp(3, timestamp);
+                });
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.mindStreamApplication.Repository;
 
 import com.example.mindStreamApplication.Domain.Favorite;
+import com.example.mindStreamApplication.Domain.FavoriteTvShowView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
@@ -11,6 +17,18 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // Find all favorites by user ID
     List<Favorite> findByUserId(Long userId);
 
+    // Find all favorites of a user together with their TV show columns in one query.
+    // LEFT JOIN keeps favorites whose show was deleted so the caller can report them.
+    @Query("SELECT new com.example.mindStreamApplication.Domain.FavoriteTvShowView(" +
+            "f.id, f.addedAt, f.tvShowId, t.album, t.year, t.chartPosition) " +
+            "FROM Favorite f LEFT JOIN TvShow t ON t.id = f.tvShowId " +
+            "WHERE f.userId = :userId ORDER BY f.id")
+    List<FavoriteTvShowView> findFavoriteViewsByUserId(@Param("userId") Long userId);
+
+    // Find IDs of all TV shows favorited by a user (single query for list endpoints)
+    @Query("SELECT f.tvShowId FROM Favorite f WHERE f.userId = :userId")
+    Set<Long> findTvShowIdsByUserId(@Param("userId") Long userId);
+
     // Find specific favorite by user ID and TV show ID
     Favorite findByUserIdAndTvShowId(Long userId, Long tvShowId);
 
@@ -20,6 +38,11 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // Delete favorite by user ID and TV show ID
     void deleteByUserIdAndTvShowId(Long userId, Long tvShowId);
 
+    // Delete the user's favorites for any of the given TV show IDs with one statement
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.userId = :userId AND f.tvShowId IN :tvShowIds")
+    int deleteByUserIdAndTvShowIdIn(@Param("userId") Long userId, @Param("tvShowIds") Collection<Long> tvShowIds);
+
     // Count favorites by user ID
     long countByUserId(Long userId);
 }
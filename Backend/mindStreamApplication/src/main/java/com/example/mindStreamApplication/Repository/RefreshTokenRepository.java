@@ -0,0 +1,30 @@
+package com.example.mindStreamApplication.Repository;
+
+import com.example.mindStreamApplication.Domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, byte[]> {
+
+    // Revoke a token only if it is still live; 1 means this caller won the rotation
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true " +
+            "WHERE r.tokenHash = :tokenHash AND r.revoked = false AND r.expiresAt > :now")
+    int revokeIfActive(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    // Revoke every live token of a user (logout everywhere, or a reused token)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.userId = :userId AND r.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    // Drop tokens past their expiry, revoked or not
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,99 @@
+package com.example.mindStreamApplication.Repository;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+// Plain JDBC bulk access to tv_shows: batch writes and a streaming scan for the in-memory indexes.
+// IDENTITY ids stop Hibernate from batching inserts, so bulk writers (import, feed sync) go through here.
+// Rows written this way bypass the persistence context; callers refresh the read caches themselves.
+@Repository
+public class TvShowBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile String yearColumn;
+
+    // Receives the id, album, year and chart rank of one show (year and rank are null when unknown)
+    public interface ShowHandler {
+        void accept(long id, String album, Integer year, Integer chartRank);
+    }
+
+    // Pass every show to the handler in id order, reading through a cursor instead of loading entities
+    public void forEachShow(ShowHandler handler) {
+        String sql = "SELECT id, album, " + yearColumn() + ", chart_rank FROM tv_shows ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(1000);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            int year = resultSet.getInt(3);
+            Integer knownYear = resultSet.wasNull() ? null : year;
+            int chartRank = resultSet.getInt(4);
+            handler.accept(resultSet.getLong(1), resultSet.getString(2), knownYear,
+                    resultSet.wasNull() ? null : chartRank);
+        });
+    }
+
+    // Insert the given shows as one JDBC batch (ids are generated and not read back)
+    public void insertAll(List<TvShow> shows) {
+        if (shows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tv_shows (album, " + yearColumn() + ", chart_position, chart_rank) VALUES (?, ?, ?, ?)",
+                shows, shows.size(), (statement, show) -> {
+                    statement.setString(1, show.getAlbum());
+                    setInteger(statement, 2, show.getYear());
+                    statement.setString(3, show.getChartPosition());
+                    setInteger(statement, 4, show.getChartRank());
+                });
+    }
+
+    // Update year and chart position (with its rank) of the given shows by id as one JDBC batch
+    public void updateAll(List<TvShow> shows) {
+        if (shows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE tv_shows SET " + yearColumn() + " = ?, chart_position = ?, chart_rank = ? WHERE id = ?",
+                shows, shows.size(), (statement, show) -> {
+                    setInteger(statement, 1, show.getYear());
+                    statement.setString(2, show.getChartPosition());
+                    setInteger(statement, 3, show.getChartRank());
+                    statement.setLong(4, show.getId());
+                });
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value != null) {
+            statement.setInt(index, value);
+        } else {
+            statement.setNull(index, Types.INTEGER);
+        }
+    }
+
+    // "year" is a keyword on some databases, so quote it the way the connected one expects
+    private String yearColumn() {
+        String column = yearColumn;
+        if (column == null) {
+            String quote = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getIdentifierQuoteString());
+            quote = quote == null || quote.isBlank() ? "" : quote;
+            column = quote + "year" + quote;
+            yearColumn = column;
+        }
+        return column;
+    }
+}
@@ -1,9 +1,18 @@
 package com.example.mindStreamApplication.Repository;
 
 import com.example.mindStreamApplication.Domain.TvShow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface TvShowRepository extends JpaRepository<TvShow, Long> {
@@ -22,4 +31,39 @@ public interface TvShowRepository extends JpaRepository<TvShow, Long> {
 
     // Check if album exists
     boolean existsByAlbum(String album);
+
+    // Albums from the given set that already exist (one query per import batch)
+    @Query("SELECT t.album FROM TvShow t WHERE t.album IN :albums")
+    List<String> findAlbumsIn(@Param("albums") Collection<String> albums);
+
+    // Ids from the given set that exist (one query per favorites batch)
+    @Query("SELECT t.id FROM TvShow t WHERE t.id IN :ids")
+    Set<Long> findIdsIn(@Param("ids") Collection<Long> ids);
+
+    // Shows with any of the given albums (one query per feed sync batch)
+    List<TvShow> findByAlbumIn(Collection<String> albums);
+
+    // Keyset page of the catalog: next rows after the given id
+    List<TvShow> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // Keyset page of TV shows by year: next rows after the given id
+    List<TvShow> findByYearAndIdGreaterThanOrderByIdAsc(Integer year, Long afterId, Limit limit);
+
+    // Best charting shows first (ties by id); shows without a numeric chart rank are left out
+    List<TvShow> findByChartRankNotNullOrderByChartRankAscIdAsc(Limit limit);
+
+    // Shows ranked from..to inclusive, best rank first (ties by id)
+    List<TvShow> findByChartRankBetweenOrderByChartRankAscIdAsc(Integer fromRank, Integer toRank, Limit limit);
+
+    // Whole catalog in id order as a forward-only cursor fetching rows in batches.
+    // The stream must be consumed and closed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TvShow t ORDER BY t.id")
+    Stream<TvShow> streamAllByOrderByIdAsc();
+
+    // Count TV shows by year
+    long countByYear(Integer year);
 }
\ No newline at end of file
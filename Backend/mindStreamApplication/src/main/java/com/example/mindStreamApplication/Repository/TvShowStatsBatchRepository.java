@@ -0,0 +1,55 @@
+package com.example.mindStreamApplication.Repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Plain JDBC batch writes for tv_show_stats.
+// Counts are adjusted with one batched UPDATE; shows that have no row yet get one batched INSERT.
+@Repository
+public class TvShowStatsBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Add each delta to the favorite count of its TV show (both statements commit together)
+    @Transactional
+    public void addAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE tv_show_stats SET favorite_count = favorite_count + ? WHERE tv_show_id = ?",
+                entries, entries.size(), (statement, entry) -> {
+                    statement.setLong(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                });
+
+        // A delta is never zero, so an existing row always reports a changed row (or SUCCESS_NO_INFO)
+        List<Map.Entry<Long, Long>> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(entries.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tv_show_stats (tv_show_id, favorite_count) VALUES (?, ?)",
+                missing, missing.size(), (statement, entry) -> {
+                    statement.setLong(1, entry.getKey());
+                    statement.setLong(2, Math.max(0, entry.getValue()));
+                });
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.mindStreamApplication.Repository;
+
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.Domain.TvShowStats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface TvShowStatsRepository extends JpaRepository<TvShowStats, Long> {
+
+    // Most favorited shows first (ties by id); shows without favorites are left out
+    @Query("SELECT new com.example.mindStreamApplication.DTO.PopularTvShowResponse(" +
+            "t.id, t.album, t.year, t.chartPosition, s.favoriteCount) " +
+            "FROM TvShowStats s JOIN TvShow t ON t.id = s.tvShowId " +
+            "WHERE s.favoriteCount > 0 ORDER BY s.favoriteCount DESC, t.id")
+    List<PopularTvShowResponse> findMostFavorited(Limit limit);
+}
@@ -3,8 +3,15 @@ package com.example.mindStreamApplication.Repository;
 
 
 import com.example.mindStreamApplication.Domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -20,4 +27,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Check if email exists
     boolean existsByEmail(String email);
+
+    // Username and email of one user, without the rest of the row
+    interface AccountKeys {
+        Long getId();
+
+        String getUsername();
+
+        String getEmail();
+    }
+
+    // Usernames and emails in id order, one page after the given id (loads the availability filter)
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u " +
+            "WHERE u.id > :afterId ORDER BY u.id")
+    List<AccountKeys> findAccountKeysAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Replace a password hash only if it is still the one that was checked (a concurrent change wins)
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
@@ -0,0 +1,247 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bloom filter of taken usernames and emails, so GET /auth/availability answers most free names without
+// a query. A Bloom filter never misses a name it was given, only reports some free names as taken; those
+// (and every taken name) are confirmed against the database. Names are lower-cased, matching the
+// case-insensitive unique keys, which can only add false positives. The filter is loaded from the users
+// table on first use, sized for the names already taken plus min-capacity more, and reloaded once
+// registrations fill it.
+// It is only given the registrations made on this node. With several instances, a name registered on
+// another one is reported free until the next scheduled reload (auth.availability.reload-interval);
+// registering it still fails on the unique keys, so the filter can never let a duplicate in.
+@Component
+public class AccountAvailabilityFilter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountAvailabilityFilter.class);
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private static final String USERNAME = "username:";
+    private static final String EMAIL = "email:";
+
+    // Names the filter has room for beyond those taken when it is loaded
+    @Value("${auth.availability.min-capacity:100000}")
+    private int minCapacity = 100_000;
+
+    // Share of free names that still need a query
+    @Value("${auth.availability.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private volatile Bloom filter;
+
+    // Filter being loaded; registrations during the load go into it too
+    private Bloom loading;
+
+    // Held while loading, so registrations (which lock this) are not held up by a load
+    private final Object loadLock = new Object();
+
+    private final LongAdder answeredByFilter = new LongAdder();
+    private final LongAdder databaseChecks = new LongAdder();
+
+    public boolean isUsernameAvailable(String username) {
+        if (!filter().mightContain(USERNAME + normalize(username))) {
+            answeredByFilter.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        if (!filter().mightContain(EMAIL + normalize(email))) {
+            answeredByFilter.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        return !userRepository.existsByEmail(email);
+    }
+
+    // Record a registered user (before the filter is loaded this is a no-op; the load reads the user)
+    public synchronized void add(String username, String email) {
+        Bloom current = filter;
+        for (Bloom target : new Bloom[]{current, loading}) {
+            if (target != null) {
+                target.add(USERNAME + normalize(username));
+                target.add(EMAIL + normalize(email));
+            }
+        }
+        if (current != null && current.isFull()) {
+            filter = null;
+        }
+    }
+
+    // Rebuild a loaded filter from the users table, picking up names registered on other nodes;
+    // the current filter keeps answering until the new one is swapped in
+    @Scheduled(initialDelayString = "${auth.availability.reload-interval:PT5M}",
+            fixedDelayString = "${auth.availability.reload-interval:PT5M}")
+    public void scheduledReload() {
+        if (filter == null) {
+            return;
+        }
+        try {
+            synchronized (loadLock) {
+                loadPages();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Reloading the account availability filter failed: {}", e.getMessage());
+        }
+    }
+
+    // Names held by the loaded filter (0 before it is loaded)
+    public long size() {
+        Bloom current = filter;
+        return current == null ? 0 : current.count.get();
+    }
+
+    private Bloom filter() {
+        Bloom current = filter;
+        return current != null ? current : load();
+    }
+
+    // Page through the users table by id; concurrent callers wait for one load
+    private Bloom load() {
+        synchronized (loadLock) {
+            Bloom current = filter;
+            return current != null ? current : loadPages();
+        }
+    }
+
+    private Bloom loadPages() {
+        // A username and an email per user
+        long names = 2 * userRepository.count();
+        Bloom next = new Bloom(names + minCapacity, falsePositiveRate);
+        synchronized (this) {
+            loading = next;
+        }
+        try {
+            long afterId = 0;
+            while (true) {
+                List<UserRepository.AccountKeys> page =
+                        userRepository.findAccountKeysAfter(afterId, Limit.of(LOAD_PAGE_SIZE));
+                for (UserRepository.AccountKeys keys : page) {
+                    next.add(USERNAME + normalize(keys.getUsername()));
+                    next.add(EMAIL + normalize(keys.getEmail()));
+                    afterId = keys.getId();
+                }
+                if (page.size() < LOAD_PAGE_SIZE) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            loading = null;
+            filter = next;
+        }
+        return next;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Fixed-size Bloom filter over AtomicLongArray words, so lookups never lock
+    static final class Bloom {
+
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+        private final long capacity;
+        private final AtomicLong count = new AtomicLong();
+
+        Bloom(long capacity, double falsePositiveRate) {
+            double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+            long m = (long) Math.ceil(-capacity * Math.log(p) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.bits = (long) wordCount * 64;
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        void add(String key) {
+            long hash = hash64(key);
+            long h1 = hash;
+            long h2 = (hash >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bits);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value;
+                while (((value = words.get(word)) & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+                    // Another bit of this word was set concurrently; retry
+                }
+            }
+            count.incrementAndGet();
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash64(key);
+            long h1 = hash;
+            long h2 = (hash >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Past its capacity the false-positive rate climbs above the configured one
+        boolean isFull() {
+            return count.get() >= capacity;
+        }
+
+        // 64-bit FNV-1a over the UTF-16 chars, finished with the murmur3 mixer
+        private static long hash64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.availability.filtered", answeredByFilter, LongAdder::sum)
+                .description("Availability checks answered by the Bloom filter alone").register(registry);
+        FunctionCounter.builder("auth.availability.database-checks", databaseChecks, LongAdder::sum)
+                .description("Availability checks confirmed with a query").register(registry);
+        Gauge.builder("auth.availability.entries", this, AccountAvailabilityFilter::size)
+                .description("Usernames and emails held by the availability filter").register(registry);
+    }
+}
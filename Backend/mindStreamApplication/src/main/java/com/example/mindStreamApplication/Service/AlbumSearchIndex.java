@@ -0,0 +1,453 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory trigram index over TvShow.album.
+// Replaces LIKE '%q%' scans: candidates come from intersecting trigram posting lists,
+// are verified with a substring check and ranked exact > prefix > word prefix > substring.
+// Queries of one or two characters match album and word prefixes only, answered from posting lists
+// of the first one and two characters of every word.
+// The index is append-only: a writer appends rows and posting entries in place (an updated show is
+// tombstoned and appended again) and then publishes a read view of the first `count` rows, so an
+// add costs only the new rows. Readers never lock and ignore anything past their view.
+@Component
+public class AlbumSearchIndex {
+
+    // Match tiers used for ranking (lower is better)
+    static final int TIER_EXACT = 0;
+    static final int TIER_PREFIX = 1;
+    static final int TIER_WORD_PREFIX = 2;
+    static final int TIER_SUBSTRING = 3;
+
+    private static final int GRAM = 3;
+
+    // Word prefix grams are tagged so they never collide with a packed trigram
+    private static final long WORD_PREFIX_TAG = 1L << 62;
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    // Compact once tombstones outnumber live rows
+    private static final int MIN_COMPACT_ROWS = 1024;
+
+    private static final Slice EMPTY_POSTINGS = new Slice(new int[0], 0);
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    private volatile View view;
+
+    // A ranked search hit with the keyset sort key (tier, album length, id)
+    public static final class Hit {
+
+        private final TvShow show;
+        private final int tier;
+        private final int length;
+
+        Hit(TvShow show, int tier, int length) {
+            this.show = show;
+            this.tier = tier;
+            this.length = length;
+        }
+
+        public TvShow getShow() {
+            return show;
+        }
+
+        public long[] sortKey() {
+            return new long[]{tier, length, show.getId()};
+        }
+
+        // Compare this hit's sort key with a (tier, length, id) key
+        int compareTo(long[] key) {
+            int cmp = Long.compare(tier, key[0]);
+            if (cmp == 0) {
+                cmp = Long.compare(length, key[1]);
+            }
+            if (cmp == 0) {
+                cmp = Long.compare(show.getId(), key[2]);
+            }
+            return cmp;
+        }
+    }
+
+    // Writer-side index state, only changed under the AlbumSearchIndex lock. Rows live in fixed-size
+    // chunks and posting lists grow in place, so appending never copies the catalog
+    private static final class Index {
+
+        private final Map<Long, Postings> postings = new ConcurrentHashMap<>();
+        private final IdPositions positions = new IdPositions();
+        private TvShow[][] shows = new TvShow[0][];
+        private String[][] albums = new String[0][];
+        private int count;
+        private int dead;
+
+        // Append (or replace) rows, then return the view readers should switch to
+        View append(Collection<TvShow> rows) {
+            for (TvShow show : rows) {
+                int previous = positions.put(show.getId(), count);
+                if (previous >= 0) {
+                    // Tombstone the old row; readers skip null rows
+                    shows[previous >>> CHUNK_BITS][previous & (CHUNK_SIZE - 1)] = null;
+                    dead++;
+                }
+                int chunk = count >>> CHUNK_BITS;
+                if (chunk == shows.length) {
+                    shows = Arrays.copyOf(shows, chunk + 1);
+                    albums = Arrays.copyOf(albums, chunk + 1);
+                    shows[chunk] = new TvShow[CHUNK_SIZE];
+                    albums[chunk] = new String[CHUNK_SIZE];
+                }
+                String album = normalize(show.getAlbum());
+                shows[chunk][count & (CHUNK_SIZE - 1)] = show;
+                albums[chunk][count & (CHUNK_SIZE - 1)] = album;
+                for (Long gram : grams(album)) {
+                    postings.computeIfAbsent(gram, key -> new Postings()).add(count);
+                }
+                count++;
+            }
+            return new View(this, count, shows, albums);
+        }
+
+        boolean needsCompaction() {
+            return dead >= MIN_COMPACT_ROWS && dead > count - dead;
+        }
+    }
+
+    // What a reader sees: rows [0, count) of an index, published after they were written
+    private static final class View {
+
+        private final Index index;
+        private final int count;
+        private final TvShow[][] shows;
+        private final String[][] albums;
+
+        View(Index index, int count, TvShow[][] shows, String[][] albums) {
+            this.index = index;
+            this.count = count;
+            this.shows = shows;
+            this.albums = albums;
+        }
+
+        TvShow show(int position) {
+            return shows[position >>> CHUNK_BITS][position & (CHUNK_SIZE - 1)];
+        }
+
+        String album(int position) {
+            return albums[position >>> CHUNK_BITS][position & (CHUNK_SIZE - 1)];
+        }
+
+        // The part of a posting list covered by this view
+        Slice postings(Long gram) {
+            Postings list = index.postings.get(gram);
+            return list == null ? null : list.upTo(count);
+        }
+    }
+
+    // Sorted row positions, appended by the writer. Unused slots hold -1, so a reader can find where
+    // its view ends even while the writer appends past it
+    private static final class Postings {
+
+        private volatile int[] data = unused(new int[4], 0);
+        private int size;
+
+        void add(int position) {
+            if (size == data.length) {
+                data = unused(Arrays.copyOf(data, size * 2), size);
+            }
+            data[size++] = position;
+        }
+
+        // Entries below count form a prefix: they were written before the view was published
+        Slice upTo(int count) {
+            int[] current = data;
+            int low = 0;
+            int high = current.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int position = current[mid];
+                if (position >= 0 && position < count) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return new Slice(current, low);
+        }
+
+        private static int[] unused(int[] array, int from) {
+            Arrays.fill(array, from, array.length, -1);
+            return array;
+        }
+    }
+
+    // Open-addressing id -> row position map (a boxed HashMap would cost ~70 bytes per show)
+    private static final class IdPositions {
+
+        private long[] ids = new long[16];
+        private int[] positions = new int[16];
+        private int size;
+
+        // Store the position and return the previous one, or -1
+        int put(long id, int position) {
+            if (2 * (size + 1) > ids.length) {
+                grow();
+            }
+            int slot = slot(ids, positions, id);
+            int previous = positions[slot] - 1;
+            if (previous < 0) {
+                ids[slot] = id;
+                size++;
+            }
+            positions[slot] = position + 1;
+            return previous;
+        }
+
+        private void grow() {
+            long[] oldIds = ids;
+            int[] oldPositions = positions;
+            ids = new long[oldIds.length * 2];
+            positions = new int[oldPositions.length * 2];
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldPositions[i] != 0) {
+                    int slot = slot(ids, positions, oldIds[i]);
+                    ids[slot] = oldIds[i];
+                    positions[slot] = oldPositions[i];
+                }
+            }
+        }
+
+        // Slot holding the id, or the empty slot it would go into (positions are stored +1, 0 = empty)
+        private static int slot(long[] ids, int[] positions, long id) {
+            int mask = ids.length - 1;
+            int slot = (int) (id * 0x9E3779B97F4A7C15L >>> 32) & mask;
+            while (positions[slot] != 0 && ids[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    // The first `length` entries of a posting array
+    private record Slice(int[] positions, int length) {
+    }
+
+    // Rank all shows whose album contains the query (case-insensitive)
+    public List<TvShow> search(String query) {
+        List<Hit> hits = rank(query);
+        List<TvShow> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            result.add(hit.getShow());
+        }
+        return result;
+    }
+
+    // Rank all matching shows and return them with their sort keys
+    public List<Hit> rank(String query) {
+        View current = ensureLoaded();
+        String needle = normalize(query);
+
+        List<Hit> hits = new ArrayList<>();
+        if (needle.isEmpty()) {
+            for (int position = 0; position < current.count; position++) {
+                addIfMatches(current, position, needle, hits);
+            }
+        } else {
+            Slice candidates = candidates(current, needle);
+            for (int i = 0; i < candidates.length(); i++) {
+                addIfMatches(current, candidates.positions()[i], needle, hits);
+            }
+        }
+
+        hits.sort(Comparator.<Hit>comparingInt(hit -> hit.tier)
+                .thenComparingInt(hit -> hit.length)
+                .thenComparingLong(hit -> hit.show.getId()));
+        return hits;
+    }
+
+    // Add or replace one show in the index
+    public void add(TvShow show) {
+        addAll(Collections.singletonList(show));
+    }
+
+    // Add or replace several shows in the index with a single view swap
+    public synchronized void addAll(Collection<TvShow> newShows) {
+        View current = view;
+        if (current == null || newShows.isEmpty()) {
+            // Not loaded yet: the first search will read the rows from the database
+            return;
+        }
+
+        Map<Long, TvShow> byId = new TreeMap<>();
+        for (TvShow show : newShows) {
+            byId.put(show.getId(), show);
+        }
+        Index index = current.index;
+        View next = index.append(byId.values());
+        if (index.needsCompaction()) {
+            // Rare: drop the tombstoned rows by rebuilding from the live ones
+            List<TvShow> live = new ArrayList<>(next.count - index.dead);
+            for (int position = 0; position < next.count; position++) {
+                TvShow show = next.show(position);
+                if (show != null) {
+                    live.add(show);
+                }
+            }
+            next = build(live);
+        }
+        view = next;
+    }
+
+    // Replace the whole index content
+    public synchronized void rebuild(Collection<TvShow> shows) {
+        view = build(shows);
+    }
+
+    // Drop the index so the next search reloads it from the database
+    public synchronized void invalidate() {
+        view = null;
+    }
+
+    // Number of indexed shows (0 when not loaded)
+    public synchronized int size() {
+        View current = view;
+        return current == null ? 0 : current.count - current.index.dead;
+    }
+
+    private View ensureLoaded() {
+        View current = view;
+        if (current == null) {
+            synchronized (this) {
+                current = view;
+                if (current == null) {
+                    current = build(tvShowRepository.findAll());
+                    view = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Posting list of a short query, or the intersection of the query trigrams' lists, smallest first
+    private Slice candidates(View current, String needle) {
+        if (needle.length() < GRAM) {
+            Slice list = current.postings(wordPrefix(needle, 0, needle.length()));
+            return list == null ? EMPTY_POSTINGS : list;
+        }
+        Set<Long> grams = trigrams(needle);
+        List<Slice> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            Slice list = current.postings(gram);
+            if (list == null) {
+                return EMPTY_POSTINGS;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Slice::length));
+
+        Slice result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length() > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private void addIfMatches(View current, int position, String needle, List<Hit> hits) {
+        TvShow show = current.show(position);
+        if (show == null) {
+            return;
+        }
+        String album = current.album(position);
+        int index = album.indexOf(needle);
+        if (index < 0) {
+            return;
+        }
+
+        int tier;
+        if (album.length() == needle.length()) {
+            tier = TIER_EXACT;
+        } else if (index == 0) {
+            tier = TIER_PREFIX;
+        } else if (isWordStart(album, needle)) {
+            tier = TIER_WORD_PREFIX;
+        } else {
+            tier = TIER_SUBSTRING;
+        }
+        hits.add(new Hit(show, tier, album.length()));
+    }
+
+    // True when the needle occurs right after a non-alphanumeric character
+    private static boolean isWordStart(String album, String needle) {
+        for (int index = album.indexOf(needle); index >= 0; index = album.indexOf(needle, index + 1)) {
+            if (index == 0 || !Character.isLetterOrDigit(album.charAt(index - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static View build(Collection<TvShow> rows) {
+        List<TvShow> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(TvShow::getId));
+        return new Index().append(sorted);
+    }
+
+    private static Slice intersect(Slice left, Slice right) {
+        int[] result = new int[Math.min(left.length(), right.length())];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length() && j < right.length()) {
+            int l = left.positions()[i];
+            int r = right.positions()[j];
+            if (l < r) {
+                i++;
+            } else if (l > r) {
+                j++;
+            } else {
+                result[size++] = l;
+                i++;
+                j++;
+            }
+        }
+        return new Slice(result, size);
+    }
+
+    // Trigrams of an album plus the one- and two-character prefixes of each of its words
+    private static Set<Long> grams(String album) {
+        Set<Long> grams = trigrams(album);
+        for (int i = 0; i < album.length(); i++) {
+            if (i == 0 || !Character.isLetterOrDigit(album.charAt(i - 1))) {
+                grams.add(wordPrefix(album, i, 1));
+                if (i + 2 <= album.length()) {
+                    grams.add(wordPrefix(album, i, 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static long wordPrefix(String text, int from, int length) {
+        long gram = WORD_PREFIX_TAG | ((long) length << 48) | text.charAt(from);
+        return length == 1 ? gram : gram | ((long) text.charAt(from + 1) << 16);
+    }
+
+    // Distinct trigrams packed as three 16-bit chars
+    private static Set<Long> trigrams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
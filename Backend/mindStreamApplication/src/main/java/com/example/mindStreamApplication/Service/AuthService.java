@@ -1,17 +1,21 @@
 package com.example.mindStreamApplication.Service;
 
+import com.example.mindStreamApplication.DTO.AuthResponse;
+import com.example.mindStreamApplication.DTO.AvailabilityResponse;
+import com.example.mindStreamApplication.DTO.UserResponse;
 import com.example.mindStreamApplication.Domain.User;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
 import com.example.mindStreamApplication.Exception.InvalidCredentialsException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
 import com.example.mindStreamApplication.Repository.UserRepository;
 import com.example.mindStreamApplication.JWT.JwtService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Locale;
+
 
 @Service
 public class AuthService {
@@ -20,49 +24,56 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private JwtService jwtService;
 
-    // Register a new user
-    public Map<String, Object> register(User user) {
-        Map<String, Object> response = new HashMap<>();
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
-        // Check if username already exists
-        if (userRepository.existsByUsername(user.getUsername())) {
+    @Autowired
+    private AccountAvailabilityFilter availabilityFilter;
+
+    // Register a new user
+    public AuthResponse register(User user) {
+        // Turn away names the availability filter knows are taken before spending a password hash;
+        // it answers most new names without a query
+        if (!availabilityFilter.isUsernameAvailable(user.getUsername())) {
             throw new DuplicateResourceException("User", "username", user.getUsername());
         }
-
-        // Check if email already exists
-        if (userRepository.existsByEmail(user.getEmail())) {
+        if (!availabilityFilter.isEmailAvailable(user.getEmail())) {
             throw new DuplicateResourceException("User", "email", user.getEmail());
         }
 
-        // Encode password
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        // Encode password (on the bounded hashing pool)
+        user.setPassword(passwordHasher.encode(user.getPassword()));
 
-        // Save user to database
-        User savedUser = userRepository.save(user);
+        // The request body may carry a role; registration never grants one
+        user.setRole(User.ROLE_USER);
+
+        // Save user in one insert; uk_users_username and uk_users_email reject a concurrent duplicate
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateUser(user, e);
+        }
+        availabilityFilter.add(savedUser.getUsername(), savedUser.getEmail());
 
         // Create response
-        response.put("success", true);
-        response.put("message", "Registration successful");
-        
-        Map<String, Object> userMap = new HashMap<>();
-        userMap.put("id", savedUser.getId());
-        userMap.put("username", savedUser.getUsername());
-        userMap.put("email", savedUser.getEmail());
-        userMap.put("fullName", savedUser.getFullName() != null ? savedUser.getFullName() : "");
-        response.put("user", userMap);
-
-        return response;
+        return new AuthResponse(true, "Registration successful", null, null, UserResponse.of(savedUser));
     }
 
-    // Login user - returns JWT token
-    public Map<String, Object> login(String username, String password) {
-        Map<String, Object> response = new HashMap<>();
+    // Whether a username and/or email can still be registered (null for the ones not asked about)
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        Boolean usernameAvailable = username != null ? availabilityFilter.isUsernameAvailable(username) : null;
+        Boolean emailAvailable = email != null ? availabilityFilter.isEmailAvailable(email) : null;
+        return new AvailabilityResponse(username, usernameAvailable, email, emailAvailable);
+    }
 
+    // Login user - returns JWT token
+    public AuthResponse login(String username, String password) {
         // Find user by username
         User user = userRepository.findByUsername(username);
 
@@ -70,27 +81,40 @@ public class AuthService {
             throw new InvalidCredentialsException("Invalid username or password");
         }
 
-        // Check password
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        // Check password (on the bounded hashing pool)
+        if (!passwordHasher.matches(password, user.getPassword())) {
             throw new InvalidCredentialsException("Invalid username or password");
         }
 
-        // Generate JWT token
-        String token = jwtService.generateToken(user.getUsername(), user.getId());
-
-        // Create response with token
-        response.put("success", true);
-        response.put("message", "Login successful");
-        response.put("token", token);
-        
-        Map<String, Object> userMap = new HashMap<>();
-        userMap.put("id", user.getId());
-        userMap.put("username", user.getUsername());
-        userMap.put("email", user.getEmail());
-        userMap.put("fullName", user.getFullName() != null ? user.getFullName() : "");
-        response.put("user", userMap);
-
-        return response;
+        // Upgrade a hash below the current policy without delaying the login
+        String storedHash = user.getPassword();
+        if (passwordHasher.upgradeEncoding(storedHash)) {
+            Long userId = user.getId();
+            passwordHasher.rehashInBackground(password,
+                    newHash -> userRepository.updatePasswordHash(userId, storedHash, newHash));
+        }
+
+        // Generate a short-lived JWT token and the refresh token that renews it
+        String token = jwtService.generateToken(user.getUsername(), user.getId(), user.isAdmin());
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        // Create response with tokens
+        return new AuthResponse(true, "Login successful", token, refreshToken, UserResponse.of(user));
+    }
+
+    // Renew the JWT token with a refresh token (rotated on every use, no password check)
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = userRepository.findById(rotation.userId())
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid or expired refresh token"));
+
+        String token = jwtService.generateToken(user.getUsername(), user.getId(), user.isAdmin());
+        return new AuthResponse(true, "Token refreshed", token, rotation.refreshToken(), UserResponse.of(user));
+    }
+
+    // Logout user - revokes the refresh token (the JWT token expires on its own)
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
     }
 
     // Get user by ID
@@ -108,4 +132,30 @@ public class AuthService {
     public boolean validateToken(String token) {
         return jwtService.validateToken(token);
     }
+
+    // Map a rejected insert to the field whose unique key it broke
+    private DuplicateResourceException duplicateUser(User user, DataIntegrityViolationException e) {
+        String constraint = violatedConstraint(e);
+        if (constraint.contains(User.UK_USERNAME)) {
+            return new DuplicateResourceException("User", "username", user.getUsername());
+        }
+        if (constraint.contains(User.UK_EMAIL)) {
+            return new DuplicateResourceException("User", "email", user.getEmail());
+        }
+        // Constraint not recognised (e.g. a schema with generated key names): one query tells which
+        return userRepository.existsByUsername(user.getUsername())
+                ? new DuplicateResourceException("User", "username", user.getUsername())
+                : new DuplicateResourceException("User", "email", user.getEmail());
+    }
+
+    // Name of the violated constraint as reported by Hibernate, else the driver's message (lower-cased)
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
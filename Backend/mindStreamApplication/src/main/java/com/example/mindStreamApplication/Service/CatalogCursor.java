@@ -0,0 +1,45 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset cursor for catalog pagination.
+// Encodes the sort key of the last row returned so the next page starts strictly after it.
+public final class CatalogCursor {
+
+    private static final String VERSION = "v1";
+
+    private CatalogCursor() {
+    }
+
+    // Encode the sort key values of the last row into an opaque URL-safe token
+    public static String encode(long... keys) {
+        StringBuilder raw = new StringBuilder(VERSION);
+        for (long key : keys) {
+            raw.append(':').append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Decode a token produced by encode, expecting exactly keyCount sort key values
+    public static long[] decode(String cursor, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != keyCount + 1 || !VERSION.equals(parts[0])) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+
+            long[] keys = new long[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = Long.parseLong(parts[i + 1]);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
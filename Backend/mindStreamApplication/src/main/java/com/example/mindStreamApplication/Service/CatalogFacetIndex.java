@@ -0,0 +1,437 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.CatalogFacets;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// Columnar in-memory index of the catalog for faceted browse (GET /tvshows/browse).
+// Rows are kept sorted by (year, id) as parallel primitive arrays, shows without a year last, with a
+// second int[] ordering the rows by normalized album for prefix lookups. A year range is a contiguous
+// slice found by binary search and per-year counts are precomputed run lengths of the year column, so
+// neither filtering nor facet counts need a GROUP BY. Readers use an immutable snapshot; service writes
+// merge the changed rows into a new one (copy-on-write) and bulk writers invalidate it.
+@Component
+public class CatalogFacetIndex {
+
+    // Sort value of shows without a year (after every real year)
+    static final int NO_YEAR = Integer.MAX_VALUE;
+
+    @Autowired
+    private TvShowBatchRepository tvShowBatchRepository;
+
+    private volatile Snapshot snapshot;
+
+    // One browse result: page ids in (year, id) order, the (year, id) key to continue after (null on the
+    // last page), the number of shows matching every filter and the facet counts for the album prefix
+    public record Browse(long[] ids, long[] nextKey, int total, CatalogFacets facets) {
+    }
+
+    // Immutable index state; row r is (years[r], ids[r], albums[r])
+    private static final class Snapshot {
+
+        private final int[] years;
+        private final long[] ids;
+        private final String[] albums;
+        private final int[] rowsByAlbum;
+        private final int[] facetYears;
+        private final int[] facetCounts;
+        private final int unknownYear;
+
+        Snapshot(int[] years, long[] ids, String[] albums, int[] rowsByAlbum) {
+            this.years = years;
+            this.ids = ids;
+            this.albums = albums;
+            this.rowsByAlbum = rowsByAlbum;
+
+            // Run lengths of the sorted year column
+            int distinct = 0;
+            int unknown = 0;
+            for (int row = 0; row < years.length; row++) {
+                if (years[row] == NO_YEAR) {
+                    unknown++;
+                } else if (row == 0 || years[row] != years[row - 1]) {
+                    distinct++;
+                }
+            }
+            this.facetYears = new int[distinct];
+            this.facetCounts = new int[distinct];
+            int facet = -1;
+            for (int row = 0; row < years.length && years[row] != NO_YEAR; row++) {
+                if (row == 0 || years[row] != years[row - 1]) {
+                    facetYears[++facet] = years[row];
+                }
+                facetCounts[facet]++;
+            }
+            this.unknownYear = unknown;
+        }
+
+        int size() {
+            return years.length;
+        }
+    }
+
+    // Shows matching a year range (inclusive, either end open; any bound leaves out shows without a year)
+    // and an album prefix, continuing after the given (year, id) key. Facet counts cover the album prefix
+    // only, so every year stays selectable while a range is applied.
+    public Browse browse(Integer fromYear, Integer toYear, String prefix, long[] afterKey, int limit) {
+        Snapshot current = ensureLoaded();
+        String needle = normalize(prefix);
+
+        int from = 0;
+        int to = current.size();
+        if (fromYear != null || toYear != null) {
+            from = fromYear != null ? lowerBound(current.years, fromYear) : 0;
+            to = lowerBound(current.years, toYear != null ? Math.min((long) toYear + 1, NO_YEAR) : NO_YEAR);
+        }
+        int start = afterKey != null ? Math.max(from, after(current, afterKey)) : from;
+
+        int[] rows;
+        int total;
+        CatalogFacets facets;
+        if (needle.isEmpty()) {
+            total = Math.max(0, to - from);
+            rows = new int[Math.max(0, Math.min(to, start + limit + 1) - start)];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = start + i;
+            }
+            facets = facets(current.facetYears, current.facetCounts, current.unknownYear);
+        } else {
+            // Every row with the prefix is visited once: for the facets, the total and the page
+            int first = prefixStart(current, needle);
+            int end = prefixEnd(current, needle, first);
+            int[] prefixYears = new int[end - first];
+            int[] matches = new int[end - first];
+            int matchCount = 0;
+            total = 0;
+            for (int i = first; i < end; i++) {
+                int row = current.rowsByAlbum[i];
+                prefixYears[i - first] = current.years[row];
+                if (row >= from && row < to) {
+                    total++;
+                    if (row >= start) {
+                        matches[matchCount++] = row;
+                    }
+                }
+            }
+            Arrays.sort(matches, 0, matchCount);
+            rows = Arrays.copyOf(matches, Math.min(matchCount, limit + 1));
+            facets = facets(prefixYears);
+        }
+
+        boolean hasMore = rows.length > limit;
+        int size = Math.min(rows.length, limit);
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = current.ids[rows[i]];
+        }
+        long[] nextKey = hasMore ? new long[]{current.years[rows[size - 1]], ids[size - 1]} : null;
+        return new Browse(ids, nextKey, total, facets);
+    }
+
+    // Facet counts of the whole catalog
+    public CatalogFacets facets() {
+        Snapshot current = ensureLoaded();
+        return facets(current.facetYears, current.facetCounts, current.unknownYear);
+    }
+
+    // Add or replace several shows with a single snapshot swap.
+    // Unchanged rows keep their order, so both orderings are merged in linear time instead of re-sorted
+    public synchronized void addAll(Collection<TvShow> shows) {
+        Snapshot current = snapshot;
+        if (current == null || shows.isEmpty()) {
+            // Not loaded yet: the first browse reads the rows from the database
+            return;
+        }
+
+        Map<Long, TvShow> changed = new HashMap<>();
+        for (TvShow show : shows) {
+            if (show.getId() != null) {
+                changed.put(show.getId(), show);
+            }
+        }
+        int addedCount = changed.size();
+        int[] addedYears = new int[addedCount];
+        long[] addedIds = new long[addedCount];
+        String[] addedAlbums = new String[addedCount];
+        Integer[] addedOrder = new Integer[addedCount];
+        int k = 0;
+        for (TvShow show : changed.values()) {
+            addedYears[k] = yearKey(show.getYear());
+            addedIds[k] = show.getId();
+            addedAlbums[k] = normalize(show.getAlbum());
+            addedOrder[k] = k;
+            k++;
+        }
+        Arrays.sort(addedOrder, (a, b) -> compareRows(addedYears[a], addedIds[a], addedYears[b], addedIds[b]));
+
+        // Merge by (year, id), remembering where every kept and added row ends up
+        int size = current.size() - countChanged(current, changed) + addedCount;
+        int[] years = new int[size];
+        long[] ids = new long[size];
+        String[] albums = new String[size];
+        int[] keptRow = new int[current.size()];
+        int[] addedRow = new int[addedCount];
+        int row = 0;
+        int next = 0;
+        for (int old = 0; old <= current.size(); old++) {
+            boolean kept = old < current.size() && !changed.containsKey(current.ids[old]);
+            while (next < addedCount && (old == current.size() || kept && compareRows(
+                    addedYears[addedOrder[next]], addedIds[addedOrder[next]], current.years[old], current.ids[old]) < 0)) {
+                int added = addedOrder[next++];
+                years[row] = addedYears[added];
+                ids[row] = addedIds[added];
+                albums[row] = addedAlbums[added];
+                addedRow[added] = row++;
+            }
+            if (old < current.size()) {
+                keptRow[old] = kept ? row : -1;
+                if (kept) {
+                    years[row] = current.years[old];
+                    ids[row] = current.ids[old];
+                    albums[row] = current.albums[old];
+                    row++;
+                }
+            }
+        }
+
+        // Merge the album ordering the same way
+        Integer[] addedByAlbum = new Integer[addedCount];
+        for (int i = 0; i < addedCount; i++) {
+            addedByAlbum[i] = addedRow[i];
+        }
+        Arrays.sort(addedByAlbum, (a, b) -> compareAlbums(albums, a, b));
+        int[] rowsByAlbum = new int[size];
+        int position = 0;
+        next = 0;
+        for (int oldRow : current.rowsByAlbum) {
+            int mapped = keptRow[oldRow];
+            if (mapped < 0) {
+                continue;
+            }
+            while (next < addedCount && compareAlbums(albums, addedByAlbum[next], mapped) < 0) {
+                rowsByAlbum[position++] = addedByAlbum[next++];
+            }
+            rowsByAlbum[position++] = mapped;
+        }
+        while (next < addedCount) {
+            rowsByAlbum[position++] = addedByAlbum[next++];
+        }
+
+        snapshot = new Snapshot(years, ids, albums, rowsByAlbum);
+    }
+
+    // Drop the index so the next browse reloads it from the database
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    // Number of indexed shows (0 when not loaded)
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Read the catalog through a cursor and sort it into both orderings
+    private Snapshot load() {
+        ShowCollector collector = new ShowCollector();
+        tvShowBatchRepository.forEachShow(collector);
+        int size = collector.size;
+
+        // Rows arrive in id order, so sorting on (year, arrival index) gives (year, id); the signed
+        // year in the high half keeps negative years first and NO_YEAR last
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) collector.years[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] years = new int[size];
+        long[] ids = new long[size];
+        String[] albums = new String[size];
+        for (int row = 0; row < size; row++) {
+            int source = (int) keys[row];
+            years[row] = collector.years[source];
+            ids[row] = collector.ids[source];
+            albums[row] = collector.albums[source];
+        }
+
+        Integer[] byAlbum = new Integer[size];
+        for (int row = 0; row < size; row++) {
+            byAlbum[row] = row;
+        }
+        Arrays.sort(byAlbum, (a, b) -> compareAlbums(albums, a, b));
+        int[] rowsByAlbum = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowsByAlbum[i] = byAlbum[i];
+        }
+        return new Snapshot(years, ids, albums, rowsByAlbum);
+    }
+
+    // First row whose (year, id) is greater than the key
+    private static int after(Snapshot current, long[] key) {
+        int low = 0;
+        int high = current.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareRows(current.years[mid], current.ids[mid], key[0], key[1]) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First row whose year is at least the given value
+    private static int lowerBound(int[] years, long year) {
+        int low = 0;
+        int high = years.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (years[mid] < year) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First album position not sorting before the prefix
+    private static int prefixStart(Snapshot current, String prefix) {
+        int low = 0;
+        int high = current.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (current.albums[current.rowsByAlbum[mid]].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First album position after the contiguous run of albums starting with the prefix
+    private static int prefixEnd(Snapshot current, String prefix, int from) {
+        int low = from;
+        int high = current.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (current.albums[current.rowsByAlbum[mid]].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int countChanged(Snapshot current, Map<Long, TvShow> changed) {
+        int count = 0;
+        for (long id : current.ids) {
+            if (changed.containsKey(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int compareRows(long year, long id, long otherYear, long otherId) {
+        int cmp = Long.compare(year, otherYear);
+        return cmp != 0 ? cmp : Long.compare(id, otherId);
+    }
+
+    private static int compareAlbums(String[] albums, int row, int otherRow) {
+        int cmp = albums[row].compareTo(albums[otherRow]);
+        return cmp != 0 ? cmp : Integer.compare(row, otherRow);
+    }
+
+    // Facets from per-year run lengths
+    private static CatalogFacets facets(int[] facetYears, int[] facetCounts, int unknownYear) {
+        List<CatalogFacets.FacetCount> years = new ArrayList<>(facetYears.length);
+        List<CatalogFacets.FacetCount> decades = new ArrayList<>();
+        for (int i = 0; i < facetYears.length; i++) {
+            years.add(new CatalogFacets.FacetCount(facetYears[i], facetCounts[i]));
+            int decade = Math.floorDiv(facetYears[i], 10) * 10;
+            int last = decades.size() - 1;
+            if (last >= 0 && decades.get(last).value() == decade) {
+                decades.set(last, new CatalogFacets.FacetCount(decade, decades.get(last).count() + facetCounts[i]));
+            } else {
+                decades.add(new CatalogFacets.FacetCount(decade, facetCounts[i]));
+            }
+        }
+        return new CatalogFacets(years, decades, unknownYear);
+    }
+
+    // Facets from an unsorted year column (the rows matching an album prefix)
+    private static CatalogFacets facets(int[] years) {
+        Arrays.sort(years);
+        int distinct = 0;
+        int unknown = 0;
+        for (int i = 0; i < years.length; i++) {
+            if (years[i] == NO_YEAR) {
+                unknown++;
+            } else if (i == 0 || years[i] != years[i - 1]) {
+                distinct++;
+            }
+        }
+        int[] facetYears = new int[distinct];
+        int[] facetCounts = new int[distinct];
+        int facet = -1;
+        for (int i = 0; i < years.length && years[i] != NO_YEAR; i++) {
+            if (i == 0 || years[i] != years[i - 1]) {
+                facetYears[++facet] = years[i];
+            }
+            facetCounts[facet]++;
+        }
+        return facets(facetYears, facetCounts, unknown);
+    }
+
+    private static int yearKey(Integer year) {
+        return year != null ? year : NO_YEAR;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Collects the id-ordered show stream into growable arrays
+    private static final class ShowCollector implements TvShowBatchRepository.ShowHandler {
+
+        private long[] ids = new long[1024];
+        private int[] years = new int[1024];
+        private String[] albums = new String[1024];
+        private int size;
+
+        @Override
+        public void accept(long id, String album, Integer year, Integer chartRank) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                years = Arrays.copyOf(years, size * 2);
+                albums = Arrays.copyOf(albums, size * 2);
+            }
+            ids[size] = id;
+            years[size] = yearKey(year);
+            albums[size] = normalize(album);
+            size++;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.FeedSyncResult;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Incremental catalog sync from the JSON feed at json.server.url (a JSON array of shows).
+// Requests are conditional (If-None-Match / If-Modified-Since from the last applied response), so an
+// unchanged feed costs one 304. A changed feed is parsed as a stream and applied in batches keyed on
+// album (ignoring case): unknown albums are inserted, known ones are updated only when year or chart
+// position differ.
+// Shows missing from the feed are left alone.
+@Component
+public class CatalogFeedSync implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogFeedSync.class);
+
+    @Value("${json.server.url:}")
+    private String feedUrl = "";
+
+    @Value("${tvshows.feed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${tvshows.feed.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${tvshows.feed.timeout:30s}")
+    private Duration timeout = Duration.ofSeconds(30);
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    @Autowired
+    private TvShowBatchRepository tvShowBatchRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AlbumSearchIndex albumSearchIndex;
+
+    @Autowired
+    private CatalogFacetIndex facetIndex;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    // Validators of the last feed response that was applied completely
+    private volatile String etag;
+    private volatile String lastModified;
+
+    private final LongAdder inserted = new LongAdder();
+    private final LongAdder updated = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long lastSuccessEpochSecond;
+
+    // Scheduled run; failures are logged and retried on the next run
+    @Scheduled(initialDelayString = "${tvshows.feed.initial-delay:PT30S}",
+            fixedDelayString = "${tvshows.feed.interval:PT5M}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Catalog feed sync from {} failed: {}", feedUrl, e.getMessage());
+        }
+    }
+
+    // Pull the feed once and apply it (one sync at a time)
+    public FeedSyncResult sync() {
+        if (feedUrl == null || feedUrl.isBlank()) {
+            return FeedSyncResult.of("disabled");
+        }
+        if (!syncLock.tryLock()) {
+            return FeedSyncResult.of("busy");
+        }
+        try {
+            return fetchAndApply();
+        } catch (IOException e) {
+            failures.increment();
+            throw new UncheckedIOException("Catalog feed sync failed", e);
+        } catch (InterruptedException e) {
+            failures.increment();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Catalog feed sync interrupted", e);
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private FeedSyncResult fetchAndApply() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(feedUrl))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        Applier applier = new Applier(Math.max(1, batchSize));
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == 304) {
+                lastSuccessEpochSecond = System.currentTimeMillis() / 1000;
+                return new FeedSyncResult("not-modified", 0, 0, 0, 0, 0, elapsedMillis(start));
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Catalog feed returned HTTP " + response.statusCode());
+            }
+
+            JsonParser parser = objectMapper.getFactory().createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Catalog feed is not a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    applier.accept(TvShowImportService.fromJson(objectMapper.readTree(parser)));
+                } else {
+                    parser.skipChildren();
+                    applier.accept(null);
+                }
+            }
+            applier.flush();
+        } finally {
+            if (applier.inserted + applier.updated > 0) {
+                catalogCache.clear();
+                albumSearchIndex.invalidate();
+                facetIndex.invalidate();
+            }
+        }
+
+        // Only remember validators once the whole response has been applied
+        etag = response.headers().firstValue("ETag").orElse(null);
+        lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        lastSuccessEpochSecond = System.currentTimeMillis() / 1000;
+        return new FeedSyncResult("updated", applier.received, applier.inserted, applier.updated,
+                applier.unchanged, applier.invalid, elapsedMillis(start));
+    }
+
+    // Buffers feed rows by album key and upserts them once a batch is full
+    private final class Applier {
+
+        private final int batchSize;
+        private final Map<String, TvShow> pending = new LinkedHashMap<>();
+
+        private long received;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long invalid;
+
+        Applier(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        // Take one feed row (null for a row that could not be parsed); a repeated album keeps the last row
+        void accept(TvShow show) {
+            received++;
+            if (show == null) {
+                invalid++;
+                return;
+            }
+            if (pending.put(TvShowImportService.albumKey(show.getAlbum()), show) != null) {
+                unchanged++;
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        // Look the batch up with one query, then insert new albums and update changed ones
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<String> albums = new ArrayList<>(pending.size());
+            for (TvShow show : pending.values()) {
+                albums.add(show.getAlbum());
+            }
+            // Stored rows keep their own spelling, so both sides are matched on the album key
+            Map<String, TvShow> existing = new HashMap<>();
+            for (TvShow show : tvShowRepository.findByAlbumIn(albums)) {
+                existing.put(TvShowImportService.albumKey(show.getAlbum()), show);
+            }
+
+            List<TvShow> inserts = new ArrayList<>();
+            List<TvShow> updates = new ArrayList<>();
+            for (Map.Entry<String, TvShow> entry : pending.entrySet()) {
+                TvShow show = entry.getValue();
+                TvShow current = existing.get(entry.getKey());
+                if (current == null) {
+                    inserts.add(show);
+                } else if (!Objects.equals(current.getYear(), show.getYear())
+                        || !Objects.equals(current.getChartPosition(), show.getChartPosition())) {
+                    show.setId(current.getId());
+                    updates.add(show);
+                } else {
+                    unchanged++;
+                }
+            }
+            tvShowBatchRepository.insertAll(inserts);
+            tvShowBatchRepository.updateAll(updates);
+
+            inserted += inserts.size();
+            updated += updates.size();
+            CatalogFeedSync.this.inserted.add(inserts.size());
+            CatalogFeedSync.this.updated.add(updates.size());
+            pending.clear();
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tvshows.feed.inserted", inserted, LongAdder::sum)
+                .description("TV shows inserted by the catalog feed sync").register(registry);
+        FunctionCounter.builder("tvshows.feed.updated", updated, LongAdder::sum)
+                .description("TV shows updated by the catalog feed sync").register(registry);
+        FunctionCounter.builder("tvshows.feed.failures", failures, LongAdder::sum)
+                .description("Failed catalog feed syncs").register(registry);
+        Gauge.builder("tvshows.feed.last-success", this, sync -> sync.lastSuccessEpochSecond)
+                .description("Epoch second of the last successful catalog feed sync").register(registry);
+    }
+}
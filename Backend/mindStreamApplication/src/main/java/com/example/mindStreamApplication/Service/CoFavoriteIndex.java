@@ -0,0 +1,484 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Repository.FavoriteBatchRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// "Users who favorited X also favorited Y": how many users favorited both shows of every pair,
+// with the top neighbors of each show kept in memory for GET /tvshows/{id}/recommendations.
+// Shows are mapped to dense int indexes and each matrix row is a primitive SparseCountRow. A rebuild
+// scans favorites once (ordered by user) and computes the rows on a fork/join pool; favorite writes then
+// adjust the affected rows. Lookups read an immutable neighbor list and take no lock.
+@Component
+public class CoFavoriteIndex implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CoFavoriteIndex.class);
+
+    // Neighbors kept per show
+    @Value("${recommendations.top-k:20}")
+    private int topK = 20;
+
+    // Fork/join threads used by a rebuild (0 means one per processor)
+    @Value("${recommendations.parallelism:0}")
+    private int parallelism;
+
+    @Autowired
+    private FavoriteBatchRepository favoriteBatchRepository;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Writer state (guarded by this): show id <-> row index and the matrix rows
+    private Map<Long, Integer> indexById = new HashMap<>();
+    private long[] idByIndex = new long[0];
+    private SparseCountRow[] rows = new SparseCountRow[0];
+    private int showCount;
+
+    private volatile Map<Long, Neighbors> neighborsById = new ConcurrentHashMap<>();
+
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private volatile long lastRebuildMillis;
+
+    // Top neighbors of one show, most shared favorites first (ties by lower show id)
+    public record Neighbors(long[] tvShowIds, int[] sharedFavorites) {
+
+        public static final Neighbors EMPTY = new Neighbors(new long[0], new int[0]);
+
+        public int size() {
+            return tvShowIds.length;
+        }
+    }
+
+    // Neighbors of a show (empty when nobody favorited it together with another show)
+    public Neighbors neighbors(Long tvShowId) {
+        Neighbors neighbors = neighborsById.get(tvShowId);
+        return neighbors != null ? neighbors : Neighbors.EMPTY;
+    }
+
+    // Scheduled full rebuild; corrects anything the incremental updates missed
+    @Scheduled(initialDelayString = "${recommendations.initial-delay:PT10S}",
+            fixedDelayString = "${recommendations.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding co-favorite recommendations failed: {}", e.getMessage());
+        }
+    }
+
+    // Recompute every row from the favorites table, swap the result in and return the number of shows.
+    // Favorite writes made while a rebuild runs still update the old rows and reach the new ones with
+    // the next rebuild.
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            BasketCollector collector = new BasketCollector();
+            favoriteBatchRepository.forEachFavorite(collector);
+            List<long[]> baskets = collector.finish();
+
+            long[] ids = baskets.stream().flatMapToLong(Arrays::stream).sorted().distinct().toArray();
+            Map<Long, Integer> index = new HashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                index.put(ids[i], i);
+            }
+
+            int[][] showsByUser = new int[baskets.size()][];
+            int[] usersPerShow = new int[ids.length];
+            for (int user = 0; user < showsByUser.length; user++) {
+                long[] basket = baskets.get(user);
+                int[] shows = new int[basket.length];
+                for (int k = 0; k < basket.length; k++) {
+                    shows[k] = index.get(basket[k]);
+                    usersPerShow[shows[k]]++;
+                }
+                showsByUser[user] = shows;
+            }
+            int[][] usersByShow = new int[ids.length][];
+            for (int show = 0; show < ids.length; show++) {
+                usersByShow[show] = new int[usersPerShow[show]];
+            }
+            int[] fill = new int[ids.length];
+            for (int user = 0; user < showsByUser.length; user++) {
+                for (int show : showsByUser[user]) {
+                    usersByShow[show][fill[show]++] = user;
+                }
+            }
+
+            SparseCountRow[] newRows = new SparseCountRow[ids.length];
+            Neighbors[] newNeighbors = new Neighbors[ids.length];
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                // About eight leaf tasks per thread, each reusing one scratch array for its rows
+                int rowsPerTask = Math.max(16, ids.length / (threads * 8));
+                pool.invoke(new RowTask(showsByUser, usersByShow, ids, newRows, newNeighbors,
+                        Math.max(1, topK), rowsPerTask, 0, ids.length));
+            } finally {
+                pool.shutdown();
+            }
+
+            Map<Long, Neighbors> published = new ConcurrentHashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                if (newNeighbors[i].size() > 0) {
+                    published.put(ids[i], newNeighbors[i]);
+                }
+            }
+            synchronized (this) {
+                indexById = index;
+                idByIndex = ids;
+                rows = newRows;
+                showCount = ids.length;
+                neighborsById = published;
+            }
+            rebuilds.increment();
+            lastRebuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return ids.length;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // A user favorited tvShowId; otherFavorites are the user's other favorited shows
+    public synchronized void favoriteAdded(long tvShowId, long[] otherFavorites) {
+        adjust(tvShowId, otherFavorites, 1);
+    }
+
+    // A user unfavorited tvShowId; otherFavorites are the user's remaining favorited shows
+    public synchronized void favoriteRemoved(long tvShowId, long[] otherFavorites) {
+        adjust(tvShowId, otherFavorites, -1);
+    }
+
+    // Change both cells of every (tvShowId, other) pair and republish the neighbors of the touched rows
+    private void adjust(long tvShowId, long[] otherFavorites, int delta) {
+        boolean create = delta > 0;
+        int row = indexOf(tvShowId, create);
+        if (row < 0) {
+            return;
+        }
+        boolean changed = false;
+        for (long other : otherFavorites) {
+            int column = other != tvShowId ? indexOf(other, create) : -1;
+            if (column < 0) {
+                continue;
+            }
+            rows[row].add(column, delta);
+            publishCell(column, row, rows[column].add(row, delta), delta > 0);
+            changed = true;
+        }
+        if (changed) {
+            publish(row);
+            updates.increment();
+        }
+    }
+
+    private int indexOf(long tvShowId, boolean create) {
+        Integer index = indexById.get(tvShowId);
+        if (index != null) {
+            return index;
+        }
+        if (!create) {
+            return -1;
+        }
+        if (showCount == rows.length) {
+            int capacity = Math.max(16, rows.length * 2);
+            rows = Arrays.copyOf(rows, capacity);
+            idByIndex = Arrays.copyOf(idByIndex, capacity);
+        }
+        int created = showCount++;
+        rows[created] = new SparseCountRow(4);
+        idByIndex[created] = tvShowId;
+        indexById.put(tvShowId, created);
+        return created;
+    }
+
+    // Republish a row after one of its cells changed. The kept neighbors are the top K of the row, so an
+    // increase only needs a comparison with the last kept entry; a decrease needs a rescan only when the
+    // list was full and the cell was in it.
+    private void publishCell(int row, int column, int count, boolean increased) {
+        int k = Math.max(1, topK);
+        long id = idByIndex[row];
+        long columnId = idByIndex[column];
+        Neighbors current = neighbors(id);
+        int position = -1;
+        for (int i = 0; i < current.size(); i++) {
+            if (current.tvShowIds()[i] == columnId) {
+                position = i;
+                break;
+            }
+        }
+
+        if (increased) {
+            int last = current.size() - 1;
+            if (position < 0 && current.size() == k && (count < current.sharedFavorites()[last]
+                    || count == current.sharedFavorites()[last] && columnId > current.tvShowIds()[last])) {
+                return;
+            }
+        } else if (position < 0) {
+            return;
+        } else if (current.size() == k) {
+            publish(row);
+            return;
+        }
+
+        Neighbors updated = withEntry(current, columnId, count, k);
+        if (updated.size() > 0) {
+            neighborsById.put(id, updated);
+        } else {
+            neighborsById.remove(id);
+        }
+    }
+
+    // Copy of a neighbor list with one show set to the given count (dropped at zero), re-sorted and cut to k
+    private static Neighbors withEntry(Neighbors current, long tvShowId, int count, int k) {
+        long[] ids = new long[current.size() + 1];
+        int[] shared = new int[current.size() + 1];
+        int size = 0;
+        boolean placed = count <= 0;
+        for (int i = 0; i < current.size(); i++) {
+            long otherId = current.tvShowIds()[i];
+            int otherCount = current.sharedFavorites()[i];
+            if (otherId == tvShowId) {
+                continue;
+            }
+            if (!placed && (count > otherCount || count == otherCount && tvShowId < otherId)) {
+                ids[size] = tvShowId;
+                shared[size++] = count;
+                placed = true;
+            }
+            ids[size] = otherId;
+            shared[size++] = otherCount;
+        }
+        if (!placed) {
+            ids[size] = tvShowId;
+            shared[size++] = count;
+        }
+        size = Math.min(size, k);
+        return size == 0 ? Neighbors.EMPTY : new Neighbors(Arrays.copyOf(ids, size), Arrays.copyOf(shared, size));
+    }
+
+    private void publish(int index) {
+        Neighbors top = topNeighbors(rows[index], idByIndex, Math.max(1, topK));
+        if (top.size() > 0) {
+            neighborsById.put(idByIndex[index], top);
+        } else {
+            neighborsById.remove(idByIndex[index]);
+        }
+    }
+
+    // Pick the k best columns of a row (higher count, then lower show id) with a bounded min-heap
+    static Neighbors topNeighbors(SparseCountRow row, long[] idByIndex, int k) {
+        TopK top = new TopK(Math.min(k, row.size()), idByIndex);
+        row.forEach(top::offer);
+        return top.toNeighbors();
+    }
+
+    // Min-heap of (column, count) whose root is the worst entry kept so far
+    private static final class TopK {
+
+        private final int[] columns;
+        private final int[] counts;
+        private final long[] idByIndex;
+        private int size;
+
+        TopK(int capacity, long[] idByIndex) {
+            this.columns = new int[capacity];
+            this.counts = new int[capacity];
+            this.idByIndex = idByIndex;
+        }
+
+        void offer(int column, int count) {
+            if (size < columns.length) {
+                columns[size] = column;
+                counts[size] = count;
+                siftUp(size++);
+            } else if (size > 0 && better(column, count, columns[0], counts[0])) {
+                columns[0] = column;
+                counts[0] = count;
+                siftDown(0);
+            }
+        }
+
+        Neighbors toNeighbors() {
+            if (size == 0) {
+                return Neighbors.EMPTY;
+            }
+            // Popping the root yields the worst entry first, so fill from the back
+            long[] tvShowIds = new long[size];
+            int[] shared = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                tvShowIds[i] = idByIndex[columns[0]];
+                shared[i] = counts[0];
+                size--;
+                columns[0] = columns[size];
+                counts[0] = counts[size];
+                siftDown(0);
+            }
+            return new Neighbors(tvShowIds, shared);
+        }
+
+        private boolean better(int column, int count, int otherColumn, int otherCount) {
+            return count != otherCount ? count > otherCount : idByIndex[column] < idByIndex[otherColumn];
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!better(columns[parent], counts[parent], columns[i], counts[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int worst = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (better(columns[worst], counts[worst], columns[child], counts[child])) {
+                        worst = child;
+                    }
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int column = columns[a];
+            columns[a] = columns[b];
+            columns[b] = column;
+            int count = counts[a];
+            counts[a] = counts[b];
+            counts[b] = count;
+        }
+    }
+
+    // Computes the rows [from, to) of the matrix, splitting until a range fits one leaf task
+    private static final class RowTask extends RecursiveAction {
+
+        private final int[][] showsByUser;
+        private final int[][] usersByShow;
+        private final long[] ids;
+        private final SparseCountRow[] rows;
+        private final Neighbors[] neighbors;
+        private final int topK;
+        private final int rowsPerTask;
+        private final int from;
+        private final int to;
+
+        RowTask(int[][] showsByUser, int[][] usersByShow, long[] ids, SparseCountRow[] rows,
+                Neighbors[] neighbors, int topK, int rowsPerTask, int from, int to) {
+            this.showsByUser = showsByUser;
+            this.usersByShow = usersByShow;
+            this.ids = ids;
+            this.rows = rows;
+            this.neighbors = neighbors;
+            this.topK = topK;
+            this.rowsPerTask = rowsPerTask;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > rowsPerTask) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowTask(showsByUser, usersByShow, ids, rows, neighbors, topK, rowsPerTask, from, middle),
+                        new RowTask(showsByUser, usersByShow, ids, rows, neighbors, topK, rowsPerTask, middle, to));
+                return;
+            }
+
+            // Dense scratch counts for one row at a time; touched remembers which cells to reset
+            int[] scratch = new int[ids.length];
+            int[] touched = new int[ids.length];
+            for (int show = from; show < to; show++) {
+                int touchedCount = 0;
+                for (int user : usersByShow[show]) {
+                    for (int other : showsByUser[user]) {
+                        if (other != show && scratch[other]++ == 0) {
+                            touched[touchedCount++] = other;
+                        }
+                    }
+                }
+                SparseCountRow row = new SparseCountRow(touchedCount);
+                for (int i = 0; i < touchedCount; i++) {
+                    row.add(touched[i], scratch[touched[i]]);
+                    scratch[touched[i]] = 0;
+                }
+                rows[show] = row;
+                neighbors[show] = topNeighbors(row, ids, topK);
+            }
+        }
+    }
+
+    // Groups the (user, show) stream into one show array per user; input is ordered by user
+    private static final class BasketCollector implements FavoriteBatchRepository.FavoriteHandler {
+
+        private final List<long[]> baskets = new ArrayList<>();
+        private long[] current = new long[16];
+        private int currentSize;
+        private long currentUser;
+
+        @Override
+        public void accept(long userId, long tvShowId) {
+            if (currentSize > 0 && userId != currentUser) {
+                closeBasket();
+            }
+            currentUser = userId;
+            if (currentSize == current.length) {
+                current = Arrays.copyOf(current, currentSize * 2);
+            }
+            current[currentSize++] = tvShowId;
+        }
+
+        List<long[]> finish() {
+            if (currentSize > 0) {
+                closeBasket();
+            }
+            return baskets;
+        }
+
+        private void closeBasket() {
+            baskets.add(Arrays.copyOf(current, currentSize));
+            currentSize = 0;
+        }
+    }
+
+    // Number of shows with at least one neighbor
+    public int size() {
+        return neighborsById.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("recommendations.rebuilds", rebuilds, LongAdder::sum)
+                .description("Full rebuilds of the co-favorite index").register(registry);
+        FunctionCounter.builder("recommendations.updates", updates, LongAdder::sum)
+                .description("Favorite writes applied to the co-favorite index").register(registry);
+        Gauge.builder("recommendations.shows", this, CoFavoriteIndex::size)
+                .description("Shows with recommendations").register(registry);
+        Gauge.builder("recommendations.last-rebuild-millis", this, index -> index.lastRebuildMillis)
+                .description("Duration of the last co-favorite index rebuild").register(registry);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Repository.TvShowStatsBatchRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Favorite count deltas per TV show, kept in memory and flushed to tv_show_stats in the background.
+// Favorite writes only bump a LongAdder (striped, so concurrent writers to the same show do not contend);
+// the flush drains every adder and applies the non-zero deltas in JDBC batches. Readers of tv_show_stats
+// lag favorite writes by at most one flush interval. Adders are kept after a flush, so the map holds at
+// most one entry per favorited show.
+@Component
+public class FavoriteCountAggregator implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(FavoriteCountAggregator.class);
+
+    @Value("${tvshows.stats.batch-size:500}")
+    private int batchSize = 500;
+
+    @Autowired
+    private TvShowStatsBatchRepository statsBatchRepository;
+
+    private final ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    // Count a favorite added (+1) or removed (-1) for a show
+    public void record(Long tvShowId, long delta) {
+        if (tvShowId == null || delta == 0) {
+            return;
+        }
+        deltas.computeIfAbsent(tvShowId, id -> new LongAdder()).add(delta);
+    }
+
+    // Delta of one show that has not been flushed yet
+    public long pending(Long tvShowId) {
+        LongAdder adder = deltas.get(tvShowId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // Scheduled flush; a failed batch is put back and retried on the next run
+    @Scheduled(initialDelayString = "${tvshows.stats.flush-interval:PT10S}",
+            fixedDelayString = "${tvshows.stats.flush-interval:PT10S}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Flushing favorite counts failed: {}", e.getMessage());
+        }
+    }
+
+    // Write what is pending on shutdown so counted favorites are not lost
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+
+    // Drain all pending deltas into tv_show_stats and return the number of shows written
+    public int flush() {
+        flushLock.lock();
+        try {
+            int written = 0;
+            Map<Long, Long> batch = new LinkedHashMap<>();
+            for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+                // Increments that race with the reset stay in the adder for the next flush
+                long delta = entry.getValue().sumThenReset();
+                if (delta != 0) {
+                    batch.put(entry.getKey(), delta);
+                }
+                if (batch.size() >= Math.max(1, batchSize)) {
+                    written += write(batch);
+                }
+            }
+            return written + write(batch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int write(Map<Long, Long> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            statsBatchRepository.addAll(batch);
+        } catch (RuntimeException e) {
+            failures.increment();
+            batch.forEach(this::record);
+            throw e;
+        }
+        int rows = batch.size();
+        flushedRows.add(rows);
+        batch.clear();
+        return rows;
+    }
+
+    // Number of shows with a delta waiting to be flushed
+    public long pendingShows() {
+        return deltas.values().stream().filter(adder -> adder.sum() != 0).count();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tvshows.stats.flushed", flushedRows, LongAdder::sum)
+                .description("TV show favorite counts written to tv_show_stats").register(registry);
+        FunctionCounter.builder("tvshows.stats.failures", failures, LongAdder::sum)
+                .description("Failed favorite count flushes").register(registry);
+        Gauge.builder("tvshows.stats.pending", this, FavoriteCountAggregator::pendingShows)
+                .description("TV shows with favorite count changes not yet flushed").register(registry);
+    }
+}
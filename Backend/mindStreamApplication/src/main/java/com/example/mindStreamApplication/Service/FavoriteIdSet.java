@@ -0,0 +1,115 @@
+package com.example.mindStreamApplication.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Immutable set of favorited TV show ids backed by primitive arrays.
+// Dense id ranges are stored as a bitmap (O(1) contains), sparse ones as a sorted long[]
+// (binary search); whichever uses fewer words is chosen on every copy.
+public final class FavoriteIdSet {
+
+    public static final FavoriteIdSet EMPTY = new FavoriteIdSet(new long[0]);
+
+    // Sorted ids (sparse form) or null when the bitmap form is used
+    private final long[] ids;
+
+    // Bitmap form: bit (id - base) is set for every member
+    private final long[] words;
+    private final long base;
+
+    private final int size;
+
+    private FavoriteIdSet(long[] sortedIds) {
+        this.size = sortedIds.length;
+        long span = size == 0 ? 0 : sortedIds[size - 1] - sortedIds[0];
+        if (size > 0 && span >= 0 && span / 64 + 1 < size) {
+            this.base = sortedIds[0];
+            this.words = new long[(int) (span / 64) + 1];
+            for (long id : sortedIds) {
+                long offset = id - base;
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+            this.ids = null;
+        } else {
+            this.base = 0;
+            this.words = null;
+            this.ids = sortedIds;
+        }
+    }
+
+    // Build a set from any collection of ids (nulls are ignored)
+    public static FavoriteIdSet of(Collection<Long> tvShowIds) {
+        long[] sorted = tvShowIds.stream()
+                .filter(id -> id != null)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return sorted.length == 0 ? EMPTY : new FavoriteIdSet(sorted);
+    }
+
+    public boolean contains(Long tvShowId) {
+        if (tvShowId == null || size == 0) {
+            return false;
+        }
+        if (ids != null) {
+            return Arrays.binarySearch(ids, tvShowId) >= 0;
+        }
+        long offset = tvShowId - base;
+        if (offset < 0 || (offset >>> 6) >= words.length) {
+            return false;
+        }
+        return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    // Copy of this set with the id added
+    public FavoriteIdSet with(Long tvShowId) {
+        if (tvShowId == null || contains(tvShowId)) {
+            return this;
+        }
+        long[] current = toArray();
+        long[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = tvShowId;
+        Arrays.sort(next);
+        return new FavoriteIdSet(next);
+    }
+
+    // Copy of this set with the id removed
+    public FavoriteIdSet without(Long tvShowId) {
+        if (!contains(tvShowId)) {
+            return this;
+        }
+        long[] next = Arrays.stream(toArray()).filter(id -> id != tvShowId).toArray();
+        return next.length == 0 ? EMPTY : new FavoriteIdSet(next);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Sorted ids
+    public long[] toArray() {
+        if (ids != null) {
+            return ids.clone();
+        }
+        long[] result = new long[size];
+        int index = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                result[index++] = base + ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    // Approximate heap footprint, used for the cache memory budget
+    public long sizeInBytes() {
+        return 40 + 16 + 8L * (ids != null ? ids.length : words.length);
+    }
+
+    boolean isBitmap() {
+        return words != null;
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.mindStreamApplication.Service;
 
+import com.example.mindStreamApplication.DTO.FavoriteBatchRequest;
+import com.example.mindStreamApplication.DTO.FavoriteBatchResult;
+import com.example.mindStreamApplication.DTO.FavoriteResponse;
 import com.example.mindStreamApplication.Domain.Favorite;
+import com.example.mindStreamApplication.Domain.FavoriteTvShowView;
 import com.example.mindStreamApplication.Domain.TvShow;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
+import com.example.mindStreamApplication.Repository.FavoriteBatchRepository;
 import com.example.mindStreamApplication.Repository.FavoriteRepository;
 import com.example.mindStreamApplication.Repository.TvShowRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -21,6 +32,24 @@ public class FavoriteService {
     @Autowired
     private TvShowRepository tvShowRepository;
 
+    @Autowired
+    private FavoriteBatchRepository favoriteBatchRepository;
+
+    @Autowired
+    private UserFavoritesCache favoritesCache;
+
+    @Autowired
+    private FavoriteCountAggregator favoriteCounts;
+
+    @Autowired
+    private CoFavoriteIndex coFavoriteIndex;
+
+    @Value("${favorites.batch.max-operations:500}")
+    private int maxBatchOperations = 500;
+
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+
     // Add TV show to favorites
     public Map<String, Object> addToFavorites(Long userId, Long tvShowId) {
         Map<String, Object> response = new HashMap<>();
@@ -29,15 +58,17 @@ public class FavoriteService {
         TvShow tvShow = tvShowRepository.findById(tvShowId)
                 .orElseThrow(() -> new ResourceNotFoundException("TV show", "id", tvShowId));
 
-        // Check if already favorited
-        if (favoriteRepository.existsByUserIdAndTvShowId(userId, tvShowId)) {
-            throw new DuplicateResourceException("Favorite already exists");
-        }
-
-        // Create and save favorite
+        // Create and save favorite; uk_favorites_user_show rejects a repeat, so no lookup is needed first
         Favorite favorite = new Favorite(userId, tvShowId);
         favorite.setAddedAt(LocalDateTime.now());
-        favoriteRepository.save(favorite);
+        try {
+            favoriteRepository.saveAndFlush(favorite);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("Favorite already exists");
+        }
+        favoritesCache.onAdded(userId, tvShowId);
+        favoriteCounts.record(tvShowId, 1);
+        coFavoriteIndex.favoriteAdded(tvShowId, getFavoriteIds(userId).toArray());
 
         response.put("success", true);
         response.put("message", "Added to favorites");
@@ -46,6 +77,100 @@ public class FavoriteService {
         return response;
     }
 
+    // Apply add/remove operations for one user in a single transaction.
+    // Operations run in order against the user's current favorites; only the net difference is written,
+    // as one batch insert and one delete. Outcomes describe the resulting state, so a retried batch
+    // reports "unchanged" instead of failing.
+    @Transactional
+    public FavoriteBatchResult applyBatch(Long userId, List<FavoriteBatchRequest.Operation> operations) {
+        if (userId == null) {
+            throw new InvalidRequestException("userId is required");
+        }
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidRequestException("operations are required");
+        }
+        if (operations.size() > maxBatchOperations) {
+            throw new InvalidRequestException("At most " + maxBatchOperations + " operations per batch");
+        }
+
+        // One lookup for the shows to add and one for the user's current favorites
+        Set<Long> addIds = new HashSet<>();
+        for (FavoriteBatchRequest.Operation operation : operations) {
+            if (operation != null && ADD.equals(operation.action()) && operation.tvShowId() != null) {
+                addIds.add(operation.tvShowId());
+            }
+        }
+        Set<Long> knownShows = addIds.isEmpty() ? Set.of() : tvShowRepository.findIdsIn(addIds);
+        Set<Long> before = new HashSet<>(favoriteRepository.findTvShowIdsByUserId(userId));
+        Set<Long> after = new LinkedHashSet<>(before);
+
+        List<FavoriteBatchResult.Item> results = new ArrayList<>(operations.size());
+        for (FavoriteBatchRequest.Operation operation : operations) {
+            String action = operation != null ? operation.action() : null;
+            Long tvShowId = operation != null ? operation.tvShowId() : null;
+            String outcome;
+            if (tvShowId == null || !(ADD.equals(action) || REMOVE.equals(action))) {
+                outcome = "invalid";
+            } else if (ADD.equals(action)) {
+                outcome = !knownShows.contains(tvShowId) ? "not-found" : after.add(tvShowId) ? "added" : "unchanged";
+            } else {
+                outcome = after.remove(tvShowId) ? "removed" : "unchanged";
+            }
+            results.add(new FavoriteBatchResult.Item(action, tvShowId, outcome));
+        }
+
+        List<Long> inserts = after.stream().filter(id -> !before.contains(id)).toList();
+        List<Long> deletes = before.stream().filter(id -> !after.contains(id)).toList();
+        if (!deletes.isEmpty()) {
+            favoriteRepository.deleteByUserIdAndTvShowIdIn(userId, deletes);
+        }
+        try {
+            favoriteBatchRepository.insertAll(userId, inserts, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent write added one of the shows first; the transaction rolls back and a retry is safe
+            throw new DuplicateResourceException("Favorites changed while the batch was applied, retry the batch");
+        }
+        if (!inserts.isEmpty() || !deletes.isEmpty()) {
+            // Evict now and again after commit, so a load that ran in between cannot keep the old set
+            favoritesCache.invalidate(userId);
+            afterCommit(() -> {
+                favoritesCache.invalidate(userId);
+                inserts.forEach(tvShowId -> favoriteCounts.record(tvShowId, 1));
+                deletes.forEach(tvShowId -> favoriteCounts.record(tvShowId, -1));
+                updateCoFavorites(before, deletes, inserts);
+            });
+        }
+
+        return new FavoriteBatchResult(userId, inserts.size(), deletes.size(), results);
+    }
+
+    // Replay a batch on the co-favorite index one show at a time, so every pair is counted once
+    private void updateCoFavorites(Set<Long> before, List<Long> deletes, List<Long> inserts) {
+        Set<Long> current = new HashSet<>(before);
+        for (Long tvShowId : deletes) {
+            current.remove(tvShowId);
+            coFavoriteIndex.favoriteRemoved(tvShowId, current.stream().mapToLong(Long::longValue).toArray());
+        }
+        for (Long tvShowId : inserts) {
+            coFavoriteIndex.favoriteAdded(tvShowId, current.stream().mapToLong(Long::longValue).toArray());
+            current.add(tvShowId);
+        }
+    }
+
+    // Run the action once the current transaction commits (right away when there is none)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     // Remove TV show from favorites
     public Map<String, Object> removeFromFavorites(Long userId, Long tvShowId) {
         Map<String, Object> response = new HashMap<>();
@@ -59,6 +184,9 @@ public class FavoriteService {
 
         // Delete favorite
         favoriteRepository.delete(favorite);
+        favoritesCache.onRemoved(userId, tvShowId);
+        favoriteCounts.record(tvShowId, -1);
+        coFavoriteIndex.favoriteRemoved(tvShowId, getFavoriteIds(userId).toArray());
 
         response.put("success", true);
         response.put("message", "Removed from favorites");
@@ -66,38 +194,37 @@ public class FavoriteService {
         return response;
     }
 
-    // Get user's favorites
-    public List<Map<String, Object>> getUserFavorites(Long userId) {
-        List<Favorite> favorites = favoriteRepository.findByUserId(userId);
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        for (Favorite favorite : favorites) {
-            // Get TV show details
-            TvShow tvShow = tvShowRepository.findById(favorite.getTvShowId())
-                    .orElseThrow(() -> new ResourceNotFoundException("TV show", "id", favorite.getTvShowId()));
-
-            Map<String, Object> favoriteMap = new HashMap<>();
-            favoriteMap.put("id", favorite.getId());
-            
-            Map<String, Object> tvShowMap = new HashMap<>();
-            tvShowMap.put("id", tvShow.getId());
-            tvShowMap.put("album", tvShow.getAlbum() != null ? tvShow.getAlbum() : "");
-            tvShowMap.put("year", tvShow.getYear() != null ? tvShow.getYear() : 0);
-            tvShowMap.put("chartPosition", tvShow.getChartPosition() != null ? tvShow.getChartPosition() : "-");
-            favoriteMap.put("tvShow", tvShowMap);
-            
-            favoriteMap.put("addedAt", favorite.getAddedAt());
-            favoriteMap.put("isFavorite", true);
-
-            result.add(favoriteMap);
+    // Get user's favorites (favorite and TV show columns come from a single join query)
+    public List<FavoriteResponse> getUserFavorites(Long userId) {
+        List<FavoriteTvShowView> favorites = favoriteRepository.findFavoriteViewsByUserId(userId);
+        List<FavoriteResponse> result = new ArrayList<>(favorites.size());
+
+        for (FavoriteTvShowView favorite : favorites) {
+            // Album is NOT NULL, so a null album means the TV show row is missing
+            if (favorite.getAlbum() == null) {
+                throw new ResourceNotFoundException("TV show", "id", favorite.getTvShowId());
+            }
+
+            FavoriteResponse.TvShowSummary tvShow = new FavoriteResponse.TvShowSummary(
+                    favorite.getTvShowId(),
+                    favorite.getAlbum(),
+                    favorite.getYear() != null ? favorite.getYear() : 0,
+                    favorite.getChartPosition() != null ? favorite.getChartPosition() : "-");
+
+            result.add(new FavoriteResponse(favorite.getId(), tvShow, favorite.getAddedAt(), true));
         }
 
         return result;
     }
 
-    // Check if TV show is favorited by user
+    // Check if TV show is favorited by user (answered from the per-user favorites cache)
     public boolean isFavorite(Long userId, Long tvShowId) {
-        return favoriteRepository.existsByUserIdAndTvShowId(userId, tvShowId);
+        return getFavoriteIds(userId).contains(tvShowId);
+    }
+
+    // Get the IDs of all TV shows favorited by user
+    public FavoriteIdSet getFavoriteIds(Long userId) {
+        return favoritesCache.get(userId, favoriteRepository::findTvShowIdsByUserId);
     }
 
     // Count user's favorites
@@ -0,0 +1,469 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.FeedItemResponse;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import com.example.mindStreamApplication.Repository.FavoriteRepository;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Personalized feed for GET /feed/{userId}: shows the user has not favorited, ranked by a weighted blend
+// of favorite co-occurrence, year recency and chart position.
+// Nothing on the request path scans the catalog. Candidates are the co-favorite neighbors of the user's
+// favorites plus a small global pool of popular and recent shows; their ranking attributes come from a
+// primitive snapshot of tv_shows (loaded when the application is ready, then on a schedule) and the best
+// MAX_LIMIT are kept with a bounded heap. Until the first load succeeds the feed is the most favorited shows.
+// The ranked list is cached per user and reused until the user's favorites version, the snapshot or the TTL
+// change, so a repeat request only hydrates the first `limit` rows, with one query for those not cached.
+@Service
+public class FeedService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedService.class);
+
+    // Feed size when no limit is given, and its upper bound (also the length of a cached ranking)
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    static final String REASON_CO_FAVORITE = "co-favorite";
+    static final String REASON_POPULAR = "popular";
+
+    @Value("${feed.weights.co-favorite:0.6}")
+    private double coFavoriteWeight = 0.6;
+
+    @Value("${feed.weights.recency:0.25}")
+    private double recencyWeight = 0.25;
+
+    @Value("${feed.weights.chart:0.15}")
+    private double chartWeight = 0.15;
+
+    // Most favorited and best ranked recent shows offered to every user, so small baskets still fill a feed
+    @Value("${feed.fallback-size:200}")
+    private int fallbackSize = 200;
+
+    @Value("${feed.rankings.max-users:10000}")
+    private int maxUsers = 10000;
+
+    @Value("${feed.rankings.ttl:PT5M}")
+    private Duration ttl = Duration.ofMinutes(5);
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    @Autowired
+    private TvShowBatchRepository tvShowBatchRepository;
+
+    @Autowired
+    private TvShowStatsRepository tvShowStatsRepository;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    @Autowired
+    private UserFavoritesCache favoritesCache;
+
+    @Autowired
+    private CoFavoriteIndex coFavoriteIndex;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // Ranking attributes of every show; null until the first refresh
+    private volatile Snapshot snapshot;
+
+    private final LinkedHashMap<Long, Ranking> rankingsByUser = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Ranking> eldest) {
+            if (size() > maxUsers) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long lastRefreshMillis;
+
+    // Sorted show ids with their normalized recency and chart scores (0..1), and the fallback pool
+    private record Snapshot(long[] ids, float[] recency, float[] chart, long[] fallbackIds) {
+
+        int indexOf(long tvShowId) {
+            return Arrays.binarySearch(ids, tvShowId);
+        }
+    }
+
+    // Best MAX_LIMIT candidates of one user, best first, with the inputs they were computed from
+    private record Ranking(long[] ids, double[] scores, boolean[] coFavorite,
+                           long favoritesVersion, Snapshot snapshot, long builtAtNanos) {
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    // Get the feed of a user, best first
+    public List<FeedItemResponse> getFeed(Long userId, Integer limit) {
+        int size = limit != null ? limit : DEFAULT_LIMIT;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        requests.increment();
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            return fallbackFeed(userId, size);
+        }
+        Ranking ranking = ranking(userId, current);
+        List<FeedItemResponse> result = new ArrayList<>(Math.min(size, ranking.size()));
+        int next = 0;
+        while (result.size() < size && next < ranking.size()) {
+            // One query for the rows of the page that are not cached; shows deleted since the last
+            // refresh are skipped, and only then does another (smaller) round fill their places
+            int end = Math.min(ranking.size(), next + size - result.size());
+            List<Long> ids = new ArrayList<>(end - next);
+            for (int i = next; i < end; i++) {
+                ids.add(ranking.ids()[i]);
+            }
+            Map<Long, TvShow> shows = catalogCache.getAllById(ids, tvShowRepository::findAllById);
+            for (int i = next; i < end; i++) {
+                TvShow show = shows.get(ranking.ids()[i]);
+                if (show != null) {
+                    String reason = ranking.coFavorite()[i] ? REASON_CO_FAVORITE : REASON_POPULAR;
+                    result.add(new FeedItemResponse(show.getId(), show.getAlbum(), show.getYear(),
+                            show.getChartPosition(), ranking.scores()[i], reason));
+                }
+            }
+            next = end;
+        }
+        return result;
+    }
+
+    // Load the snapshot before requests depend on it, instead of on the first request
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledRefresh();
+    }
+
+    // Scheduled snapshot refresh; picks up catalog changes and the current most favorited shows
+    @Scheduled(initialDelayString = "${feed.initial-delay:${feed.refresh-interval:PT10M}}",
+            fixedDelayString = "${feed.refresh-interval:PT10M}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Refreshing the feed snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    // Reload the ranking attributes of every show, swap them in and return the number of shows.
+    // Cached rankings were computed from the old snapshot and are rebuilt on their next request.
+    public int refresh() {
+        refreshLock.lock();
+        try {
+            return load().ids().length;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Drop every cached ranking
+    public void clear() {
+        synchronized (rankingsByUser) {
+            rankingsByUser.clear();
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.nanoTime();
+        ShowCollector shows = new ShowCollector();
+        tvShowBatchRepository.forEachShow(shows);
+
+        int count = shows.size;
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            if (shows.years[i] != ShowCollector.NO_YEAR) {
+                minYear = Math.min(minYear, shows.years[i]);
+                maxYear = Math.max(maxYear, shows.years[i]);
+            }
+        }
+        float[] recency = new float[count];
+        float[] chart = new float[count];
+        for (int i = 0; i < count; i++) {
+            int year = shows.years[i];
+            if (year != ShowCollector.NO_YEAR) {
+                recency[i] = maxYear > minYear ? (float) (year - minYear) / (maxYear - minYear) : 1f;
+            }
+            int rank = shows.ranks[i];
+            chart[i] = rank > 0 ? (float) (1 / Math.sqrt(rank)) : 0f;
+        }
+
+        // Fallback pool: the most favorited shows, then the best scored shows on recency and chart alone
+        int poolSize = Math.max(0, fallbackSize);
+        Set<Long> pool = new LinkedHashSet<>();
+        if (poolSize > 0) {
+            for (PopularTvShowResponse popular : tvShowStatsRepository.findMostFavorited(Limit.of(poolSize))) {
+                pool.add(popular.id());
+            }
+            TopK recent = new TopK(poolSize);
+            for (int i = 0; i < count; i++) {
+                recent.offer(shows.ids[i], recencyWeight * recency[i] + chartWeight * chart[i], false);
+            }
+            for (long id : recent.drain().ids()) {
+                pool.add(id);
+            }
+        }
+
+        Snapshot loaded = new Snapshot(Arrays.copyOf(shows.ids, count), recency, chart,
+                pool.stream().mapToLong(Long::longValue).toArray());
+        snapshot = loaded;
+        lastRefreshMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return loaded;
+    }
+
+    // Most favorited shows the user has not favorited, served until the first snapshot is loaded
+    private List<FeedItemResponse> fallbackFeed(Long userId, int size) {
+        FavoriteIdSet favorites = favoritesCache.get(userId, favoriteRepository::findTvShowIdsByUserId);
+        List<FeedItemResponse> result = new ArrayList<>(size);
+        for (PopularTvShowResponse popular :
+                tvShowStatsRepository.findMostFavorited(Limit.of(size + favorites.size()))) {
+            if (result.size() < size && !favorites.contains(popular.id())) {
+                result.add(new FeedItemResponse(popular.id(), popular.album(), popular.year(),
+                        popular.chartPosition(), 0, REASON_POPULAR));
+            }
+        }
+        return result;
+    }
+
+    // Cached ranking of a user, rebuilt when the user's favorites version, the snapshot or the TTL changed
+    private Ranking ranking(Long userId, Snapshot current) {
+        // Read before the favorites, so a write racing the load leaves the ranking stale, never wrong
+        long favoritesVersion = favoritesCache.versionOf(userId);
+        long now = System.nanoTime();
+        synchronized (rankingsByUser) {
+            Ranking cached = rankingsByUser.get(userId);
+            if (cached != null && cached.favoritesVersion() == favoritesVersion && cached.snapshot() == current
+                    && now - cached.builtAtNanos() < ttl.toNanos()) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        FavoriteIdSet favorites = favoritesCache.get(userId, favoriteRepository::findTvShowIdsByUserId);
+        Ranking built = rank(favorites, favoritesVersion, current, now);
+        synchronized (rankingsByUser) {
+            rankingsByUser.put(userId, built);
+        }
+        return built;
+    }
+
+    // Score the candidates of one user and keep the best MAX_LIMIT
+    private Ranking rank(FavoriteIdSet favorites, long favoritesVersion, Snapshot current, long now) {
+        // Shared favorites per neighbor, summed over every show the user favorited
+        Map<Long, int[]> sharedById = new HashMap<>();
+        int maxShared = 0;
+        for (long favoriteId : favorites.toArray()) {
+            CoFavoriteIndex.Neighbors neighbors = coFavoriteIndex.neighbors(favoriteId);
+            for (int i = 0; i < neighbors.size(); i++) {
+                long neighborId = neighbors.tvShowIds()[i];
+                if (favorites.contains(neighborId)) {
+                    continue;
+                }
+                int[] shared = sharedById.computeIfAbsent(neighborId, id -> new int[1]);
+                shared[0] += neighbors.sharedFavorites()[i];
+                maxShared = Math.max(maxShared, shared[0]);
+            }
+        }
+
+        TopK top = new TopK(MAX_LIMIT);
+        for (Map.Entry<Long, int[]> candidate : sharedById.entrySet()) {
+            int index = current.indexOf(candidate.getKey());
+            if (index >= 0) {
+                double coFavorite = (double) candidate.getValue()[0] / maxShared;
+                top.offer(candidate.getKey(), score(current, index, coFavorite), true);
+            }
+        }
+        for (long fallbackId : current.fallbackIds()) {
+            int index = current.indexOf(fallbackId);
+            if (index >= 0 && !sharedById.containsKey(fallbackId) && !favorites.contains(fallbackId)) {
+                top.offer(fallbackId, score(current, index, 0), false);
+            }
+        }
+
+        Ranking ranked = top.drain();
+        return new Ranking(ranked.ids(), ranked.scores(), ranked.coFavorite(), favoritesVersion, current, now);
+    }
+
+    private double score(Snapshot current, int index, double coFavorite) {
+        return coFavoriteWeight * coFavorite + recencyWeight * current.recency()[index]
+                + chartWeight * current.chart()[index];
+    }
+
+    // Min-heap of (show, score) whose root is the worst entry kept so far (ties go to the lower show id)
+    private static final class TopK {
+
+        private final long[] ids;
+        private final double[] scores;
+        private final boolean[] coFavorite;
+        private int size;
+
+        TopK(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new double[capacity];
+            this.coFavorite = new boolean[capacity];
+        }
+
+        void offer(long id, double score, boolean fromCoFavorite) {
+            if (size < ids.length) {
+                set(size, id, score, fromCoFavorite);
+                siftUp(size++);
+            } else if (size > 0 && better(id, score, ids[0], scores[0])) {
+                set(0, id, score, fromCoFavorite);
+                siftDown(0);
+            }
+        }
+
+        // Empty the heap into a best-first ranking (inputs are filled in by the caller)
+        Ranking drain() {
+            long[] rankedIds = new long[size];
+            double[] rankedScores = new double[size];
+            boolean[] rankedCoFavorite = new boolean[size];
+            for (int i = size - 1; i >= 0; i--) {
+                rankedIds[i] = ids[0];
+                rankedScores[i] = scores[0];
+                rankedCoFavorite[i] = coFavorite[0];
+                size--;
+                set(0, ids[size], scores[size], coFavorite[size]);
+                siftDown(0);
+            }
+            return new Ranking(rankedIds, rankedScores, rankedCoFavorite, 0, null, 0);
+        }
+
+        private static boolean better(long id, double score, long otherId, double otherScore) {
+            return score != otherScore ? score > otherScore : id < otherId;
+        }
+
+        private void set(int i, long id, double score, boolean fromCoFavorite) {
+            ids[i] = id;
+            scores[i] = score;
+            coFavorite[i] = fromCoFavorite;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!better(ids[parent], scores[parent], ids[i], scores[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int worst = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (better(ids[worst], scores[worst], ids[child], scores[child])) {
+                        worst = child;
+                    }
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            double score = scores[a];
+            boolean fromCoFavorite = coFavorite[a];
+            set(a, ids[b], scores[b], coFavorite[b]);
+            set(b, id, score, fromCoFavorite);
+        }
+    }
+
+    // Collects the id-ordered show stream into growable primitive arrays
+    private static final class ShowCollector implements TvShowBatchRepository.ShowHandler {
+
+        static final int NO_YEAR = Integer.MIN_VALUE;
+
+        private long[] ids = new long[1024];
+        private int[] years = new int[1024];
+        private int[] ranks = new int[1024];
+        private int size;
+
+        @Override
+        public void accept(long id, String album, Integer year, Integer chartRank) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                years = Arrays.copyOf(years, size * 2);
+                ranks = Arrays.copyOf(ranks, size * 2);
+            }
+            ids[size] = id;
+            years[size] = year != null ? year : NO_YEAR;
+            ranks[size] = chartRank != null ? chartRank : 0;
+            size++;
+        }
+    }
+
+    // Number of users with a cached ranking
+    public int size() {
+        synchronized (rankingsByUser) {
+            return rankingsByUser.size();
+        }
+    }
+
+    // Number of shows in the current snapshot
+    public int snapshotSize() {
+        Snapshot current = snapshot;
+        return current != null ? current.ids().length : 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("feed.requests", requests, LongAdder::sum)
+                .description("Feed requests served").register(registry);
+        FunctionCounter.builder("feed.rankings.hits", hits, LongAdder::sum)
+                .description("Feed requests answered from a cached ranking").register(registry);
+        FunctionCounter.builder("feed.rankings.misses", misses, LongAdder::sum)
+                .description("Feed requests that ranked the user's candidates").register(registry);
+        FunctionCounter.builder("feed.rankings.evictions", evictions, LongAdder::sum)
+                .description("Cached feed rankings evicted").register(registry);
+        Gauge.builder("feed.rankings.users", this, FeedService::size)
+                .description("Users with a cached feed ranking").register(registry);
+        Gauge.builder("feed.shows", this, FeedService::snapshotSize)
+                .description("Shows in the feed snapshot").register(registry);
+        Gauge.builder("feed.last-refresh-millis", this, service -> service.lastRefreshMillis)
+                .description("Duration of the last feed snapshot refresh").register(registry);
+    }
+}
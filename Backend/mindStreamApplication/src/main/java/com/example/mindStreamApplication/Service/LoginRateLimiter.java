@@ -0,0 +1,289 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.LoginLimitState;
+import com.example.mindStreamApplication.DTO.LoginLimiterStats;
+import com.example.mindStreamApplication.Exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Sliding-window limit on login attempts per username and per client IP, checked before the user lookup
+// and the password hash, so a credential-stuffing burst costs a map lookup per rejected attempt.
+// Each key is one AtomicLong packing (window number, attempts in the previous window, attempts in the
+// current one); the previous window counts in proportion to how much of it the sliding window still
+// covers, and every update is a compare-and-set on that long. Memory is bounded: idle keys are swept on a
+// schedule and, once a table holds max-keys entries, new keys share hashed overflow counters (a collision
+// can only make the limit stricter, never let an attempt through).
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    public static final String TYPE_USERNAME = "username";
+    public static final String TYPE_IP = "ip";
+
+    // Counters shared by keys that arrive while a table is full
+    private static final int OVERFLOW_SLOTS = 1024;
+
+    // Largest attempt count a packed counter holds
+    private static final int MAX_COUNT = 0xFFFF;
+
+    // Blocked keys listed by stats()
+    private static final int BLOCKED_SAMPLE = 100;
+
+    @Value("${auth.login-limit.window:PT1M}")
+    private Duration window = Duration.ofMinutes(1);
+
+    @Value("${auth.login-limit.per-username:10}")
+    private int perUsername = 10;
+
+    @Value("${auth.login-limit.per-ip:50}")
+    private int perIp = 50;
+
+    // Keys tracked individually per table (usernames and IPs each)
+    @Value("${auth.login-limit.max-keys:100000}")
+    private int maxKeys = 100_000;
+
+    private final Table usernames = new Table();
+    private final Table ips = new Table();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder blockedByUsername = new LongAdder();
+    private final LongAdder blockedByIp = new LongAdder();
+
+    // Count one attempt, or reject it uncounted with TooManyRequestsException when a limit is reached
+    public void acquire(String username, String ip) {
+        acquire(username, ip, System.currentTimeMillis());
+    }
+
+    void acquire(String username, String ip, long nowMillis) {
+        long windowMillis = windowMillis();
+        // The IP is checked first: one address trying many usernames is stopped without touching them
+        long wait = tryAcquire(ips.counter(ipKey(ip), maxKeys), perIp, nowMillis, windowMillis);
+        if (wait > 0) {
+            blockedByIp.increment();
+            throw tooMany(wait);
+        }
+        wait = tryAcquire(usernames.counter(usernameKey(username), maxKeys), perUsername, nowMillis, windowMillis);
+        if (wait > 0) {
+            blockedByUsername.increment();
+            throw tooMany(wait);
+        }
+        allowed.increment();
+    }
+
+    // A successful login clears its username's attempts (the IP keeps counting)
+    public void onSuccess(String username) {
+        usernames.keys.remove(usernameKey(username));
+    }
+
+    // Current state of one username or IP
+    public LoginLimitState state(String type, String key) {
+        return state(type, key, System.currentTimeMillis());
+    }
+
+    LoginLimitState state(String type, String key, long nowMillis) {
+        boolean ip = TYPE_IP.equals(type);
+        String normalized = ip ? ipKey(key) : usernameKey(key);
+        AtomicLong counter = (ip ? ips : usernames).find(normalized);
+        return toState(type, normalized, counter != null ? counter.get() : 0, ip ? perIp : perUsername,
+                nowMillis, windowMillis());
+    }
+
+    // Forget one username or IP; returns whether it was tracked
+    public boolean reset(String type, String key) {
+        return TYPE_IP.equals(type)
+                ? ips.keys.remove(ipKey(key)) != null
+                : usernames.keys.remove(usernameKey(key)) != null;
+    }
+
+    // Settings, counters and a sample of the keys blocked right now
+    public LoginLimiterStats stats() {
+        long nowMillis = System.currentTimeMillis();
+        long windowMillis = windowMillis();
+        List<LoginLimitState> blocked = new ArrayList<>();
+        collectBlocked(TYPE_IP, ips, perIp, nowMillis, windowMillis, blocked);
+        collectBlocked(TYPE_USERNAME, usernames, perUsername, nowMillis, windowMillis, blocked);
+        return new LoginLimiterStats(window.toSeconds(), perUsername, perIp, usernames.keys.mappingCount(),
+                ips.keys.mappingCount(), allowed.sum(), blockedByUsername.sum(), blockedByIp.sum(), blocked);
+    }
+
+    // Drop keys with no attempts left in the sliding window. An attempt racing with the removal of its
+    // key may go uncounted, which at worst lets one extra attempt through
+    @Scheduled(initialDelayString = "${auth.login-limit.sweep-interval:PT1M}",
+            fixedDelayString = "${auth.login-limit.sweep-interval:PT1M}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long nowMillis) {
+        long windowMillis = windowMillis();
+        usernames.keys.values().removeIf(counter -> estimate(counter.get(), nowMillis, windowMillis) == 0);
+        ips.keys.values().removeIf(counter -> estimate(counter.get(), nowMillis, windowMillis) == 0);
+    }
+
+    // Add one attempt unless the window is full; returns 0 when counted, else the milliseconds to wait
+    private static long tryAcquire(AtomicLong counter, int limit, long nowMillis, long windowMillis) {
+        long windowNumber = nowMillis / windowMillis;
+        while (true) {
+            long state = counter.get();
+            long rolled = roll(state, windowNumber);
+            if (estimate(rolled, nowMillis, windowMillis) >= limit) {
+                return retryAfterMillis(rolled, limit, nowMillis, windowMillis);
+            }
+            long next = current(rolled) < MAX_COUNT ? rolled + 1 : rolled;
+            if (counter.compareAndSet(state, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Attempts over the sliding window ending now
+    static double estimate(long state, long nowMillis, long windowMillis) {
+        long windowNumber = nowMillis / windowMillis;
+        long rolled = roll(state, windowNumber);
+        double remaining = 1 - (double) (nowMillis % windowMillis) / windowMillis;
+        return previous(rolled) * remaining + current(rolled);
+    }
+
+    // Milliseconds until the estimate drops below the limit (for Retry-After)
+    static long retryAfterMillis(long state, int limit, long nowMillis, long windowMillis) {
+        long windowNumber = nowMillis / windowMillis;
+        long rolled = roll(state, windowNumber);
+        int previous = previous(rolled);
+        int current = current(rolled);
+        long elapsed = nowMillis % windowMillis;
+        long wait;
+        if (current < limit) {
+            // Still in this window, once enough of the previous one has slid out
+            double elapsedNeeded = (1 - (double) (limit - current) / previous) * windowMillis;
+            wait = (long) Math.ceil(elapsedNeeded) + 1 - elapsed;
+        } else {
+            // In the next window, once enough of this one has slid out
+            double elapsedNeeded = (1 - (double) limit / current) * windowMillis;
+            wait = windowMillis - elapsed + (long) Math.ceil(elapsedNeeded) + 1;
+        }
+        return Math.max(1, wait);
+    }
+
+    // Counter moved forward to the given window: the current count becomes the previous one
+    private static long roll(long state, long windowNumber) {
+        int stateWindow = (int) (state >>> 32);
+        if (stateWindow == (int) windowNumber) {
+            return state;
+        }
+        int carried = stateWindow == (int) (windowNumber - 1) ? current(state) : 0;
+        return pack(windowNumber, carried, 0);
+    }
+
+    private static long pack(long windowNumber, int previous, int current) {
+        return (windowNumber << 32) | ((long) previous << 16) | current;
+    }
+
+    private static int previous(long state) {
+        return (int) (state >>> 16) & MAX_COUNT;
+    }
+
+    private static int current(long state) {
+        return (int) state & MAX_COUNT;
+    }
+
+    private void collectBlocked(String type, Table table, int limit, long nowMillis, long windowMillis,
+                                List<LoginLimitState> blocked) {
+        for (Map.Entry<String, AtomicLong> entry : table.keys.entrySet()) {
+            if (blocked.size() >= BLOCKED_SAMPLE) {
+                return;
+            }
+            long state = entry.getValue().get();
+            if (estimate(state, nowMillis, windowMillis) >= limit) {
+                blocked.add(toState(type, entry.getKey(), state, limit, nowMillis, windowMillis));
+            }
+        }
+    }
+
+    private static LoginLimitState toState(String type, String key, long state, int limit, long nowMillis,
+                                           long windowMillis) {
+        double attempts = estimate(state, nowMillis, windowMillis);
+        boolean blocked = attempts >= limit;
+        long retryAfter = blocked ? toSeconds(retryAfterMillis(state, limit, nowMillis, windowMillis)) : 0;
+        return new LoginLimitState(type, key, attempts, limit, blocked, retryAfter);
+    }
+
+    private static TooManyRequestsException tooMany(long waitMillis) {
+        return new TooManyRequestsException("Too many login attempts, please try again later", toSeconds(waitMillis));
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private long windowMillis() {
+        return Math.max(1, window.toMillis());
+    }
+
+    private static String usernameKey(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String ip) {
+        return ip == null ? "" : ip;
+    }
+
+    // Counters of one kind of key, with the shared overflow slots
+    private static final class Table {
+
+        private final ConcurrentHashMap<String, AtomicLong> keys = new ConcurrentHashMap<>();
+        private final AtomicLong[] overflow = new AtomicLong[OVERFLOW_SLOTS];
+
+        Table() {
+            for (int i = 0; i < overflow.length; i++) {
+                overflow[i] = new AtomicLong();
+            }
+        }
+
+        AtomicLong counter(String key, int maxKeys) {
+            AtomicLong counter = keys.get(key);
+            if (counter != null) {
+                return counter;
+            }
+            if (keys.mappingCount() >= maxKeys) {
+                return overflow[Math.floorMod(key.hashCode(), overflow.length)];
+            }
+            return keys.computeIfAbsent(key, k -> new AtomicLong());
+        }
+
+        // Counter of a key tracked on its own (null for unknown and overflow keys)
+        AtomicLong find(String key) {
+            return keys.get(key);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.login-limit.allowed", allowed, LongAdder::sum)
+                .description("Login attempts let through by the limiter").register(registry);
+        FunctionCounter.builder("auth.login-limit.blocked", blockedByUsername, LongAdder::sum)
+                .tag("key", TYPE_USERNAME)
+                .description("Login attempts rejected by the limiter").register(registry);
+        FunctionCounter.builder("auth.login-limit.blocked", blockedByIp, LongAdder::sum)
+                .tag("key", TYPE_IP)
+                .description("Login attempts rejected by the limiter").register(registry);
+        Gauge.builder("auth.login-limit.keys", usernames.keys, Map::size)
+                .tag("key", TYPE_USERNAME)
+                .description("Keys tracked by the login limiter").register(registry);
+        Gauge.builder("auth.login-limit.keys", ips.keys, Map::size)
+                .tag("key", TYPE_IP)
+                .description("Keys tracked by the login limiter").register(registry);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Runs password hashing (BCrypt encode and matches, about 100 ms of CPU each) on a small dedicated pool,
+// so a burst of logins cannot take the CPU from every other request. Both the pool and its queue are
+// bounded: when they are full a call fails fast with ServiceUnavailableException (503 with Retry-After)
+// instead of queueing without limit, and a caller never waits longer than auth.hashing.timeout.
+// Stored hashes below the current policy are upgraded on spare pool capacity after a successful login.
+@Component
+public class PasswordHasher implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    // Hashing threads (0 means half the processors, at least one, leaving the rest to other requests)
+    @Value("${auth.hashing.threads:0}")
+    private int threads;
+
+    // Hashes allowed to wait for a thread before new ones are rejected
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    // Longest a request waits for its hash, queue time included
+    @Value("${auth.hashing.timeout:PT5S}")
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // Retry-After sent with a rejection
+    @Value("${auth.hashing.retry-after:PT1S}")
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rehashes = new LongAdder();
+    private final LongAdder rehashesSkipped = new LongAdder();
+
+    // Hash a new password
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // Check a password against its stored hash
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Whether a stored hash is below the current policy (older format or lower cost) and should be replaced
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // Hash a password again under the current policy without waiting, handing the new hash to store.
+    // Best effort: it only runs when no hash is queued, otherwise the next login retries it
+    public void rehashInBackground(CharSequence rawPassword, Consumer<String> store) {
+        ThreadPoolExecutor current = executor();
+        if (!current.getQueue().isEmpty()) {
+            rehashesSkipped.increment();
+            return;
+        }
+        long queuedAt = System.nanoTime();
+        try {
+            current.execute(() -> {
+                try {
+                    store.accept(timed(queuedAt, () -> passwordEncoder.encode(rawPassword)));
+                    rehashes.increment();
+                } catch (Exception e) {
+                    log.warn("Rehashing a password failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rehashesSkipped.increment();
+        }
+    }
+
+    // Hashing threads currently busy
+    public int activeCount() {
+        ThreadPoolExecutor current = currentExecutor();
+        return current == null ? 0 : current.getActiveCount();
+    }
+
+    // Hashes waiting for a thread
+    public int queueDepth() {
+        ThreadPoolExecutor current = currentExecutor();
+        return current == null ? 0 : current.getQueue().size();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T run(Callable<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor().submit(() -> timed(queuedAt, hash));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // A hash still queued is dropped; one already running finishes and is discarded
+            future.cancel(true);
+            timeouts.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Run a hash on a pool thread, recording its queue wait and duration
+    private <T> T timed(long queuedAt, Callable<T> hash) throws Exception {
+        long startedAt = System.nanoTime();
+        queueWaitNanos.add(startedAt - queuedAt);
+        try {
+            return hash.call();
+        } finally {
+            hashNanos.add(System.nanoTime() - startedAt);
+            hashes.increment();
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        return new ServiceUnavailableException("Too many authentication requests, please retry shortly",
+                Math.max(1, retryAfter.toSeconds()));
+    }
+
+    private synchronized ThreadPoolExecutor currentExecutor() {
+        return executor;
+    }
+
+    // Pool created on first use so the configured sizes are already injected
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor == null) {
+            int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            AtomicInteger counter = new AtomicInteger();
+            executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "password-hasher-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+        return executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("auth.hashing.duration", this, hasher -> hasher.hashes.sum(),
+                        hasher -> hasher.hashNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time spent hashing or checking passwords").register(registry);
+        FunctionTimer.builder("auth.hashing.queue-wait", this, hasher -> hasher.hashes.sum(),
+                        hasher -> hasher.queueWaitNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time password hashes waited for a hashing thread").register(registry);
+        FunctionCounter.builder("auth.hashing.rejected", rejected, LongAdder::sum)
+                .description("Hashes rejected because the hashing queue was full").register(registry);
+        FunctionCounter.builder("auth.hashing.timeouts", timeouts, LongAdder::sum)
+                .description("Hashes abandoned after waiting longer than the timeout").register(registry);
+        FunctionCounter.builder("auth.hashing.rehashes", rehashes, LongAdder::sum)
+                .description("Stored hashes upgraded to the current policy on login").register(registry);
+        FunctionCounter.builder("auth.hashing.rehashes-skipped", rehashesSkipped, LongAdder::sum)
+                .description("Upgrades left for a later login because the pool was busy").register(registry);
+        Gauge.builder("auth.hashing.queue-depth", this, PasswordHasher::queueDepth)
+                .description("Hashes waiting for a hashing thread").register(registry);
+        Gauge.builder("auth.hashing.active", this, PasswordHasher::activeCount)
+                .description("Hashing threads currently busy").register(registry);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.RefreshToken;
+import com.example.mindStreamApplication.Exception.InvalidCredentialsException;
+import com.example.mindStreamApplication.Repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+// Opaque refresh tokens that renew the short-lived access JWT without a password check.
+// A token is 32 random bytes; only its SHA-256 is stored. Every refresh rotates it: the presented token is
+// revoked and a new one issued in the same transaction. A revoked token presented again means it was
+// copied, so every session of that user is revoked.
+@Service
+public class RefreshTokenService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Value("${jwt.refresh-token-ttl:P30D}")
+    private Duration refreshTokenTtl = Duration.ofDays(30);
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder rotated = new LongAdder();
+    private final LongAdder reuseDetected = new LongAdder();
+
+    // The user a token belonged to and the token replacing it
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    // Issue a new refresh token for a user
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(hash(token), userId, LocalDateTime.now().plus(refreshTokenTtl)));
+        issued.increment();
+        return token;
+    }
+
+    // Exchange a live refresh token for a new one. A rejection must not roll back the revocation of a
+    // reused token's sessions, so InvalidCredentialsException commits
+    @Transactional(noRollbackFor = InvalidCredentialsException.class)
+    public Rotation rotate(String token) {
+        byte[] tokenHash = hashOrReject(token);
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken stored = refreshTokenRepository.findById(tokenHash)
+                .orElseThrow(RefreshTokenService::invalid);
+
+        if (stored.isRevoked()) {
+            reuseDetected.increment();
+            int revoked = refreshTokenRepository.revokeAllByUserId(stored.getUserId());
+            log.warn("Revoked refresh token reused for user {}; revoked {} sessions", stored.getUserId(), revoked);
+            throw invalid();
+        }
+
+        // A concurrent refresh with the same token loses here instead of getting a second token
+        if (refreshTokenRepository.revokeIfActive(tokenHash, now) == 0) {
+            throw invalid();
+        }
+        rotated.increment();
+        return new Rotation(stored.getUserId(), issue(stored.getUserId()));
+    }
+
+    // Revoke one refresh token (logout); unknown tokens are ignored
+    @Transactional
+    public void revoke(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.revokeIfActive(hash(token), LocalDateTime.now());
+    }
+
+    // Drop expired tokens; revoked ones are kept until then to detect reuse
+    @Scheduled(initialDelayString = "${jwt.refresh-token-purge-interval:PT1H}",
+            fixedDelayString = "${jwt.refresh-token-purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private static byte[] hashOrReject(String token) {
+        if (token == null || token.isBlank()) {
+            throw invalid();
+        }
+        return hash(token);
+    }
+
+    static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static InvalidCredentialsException invalid() {
+        return new InvalidCredentialsException("Invalid or expired refresh token");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.refresh-tokens.issued", issued, LongAdder::sum)
+                .description("Refresh tokens issued on login or rotation").register(registry);
+        FunctionCounter.builder("auth.refresh-tokens.rotated", rotated, LongAdder::sum)
+                .description("Access tokens renewed with a refresh token").register(registry);
+        FunctionCounter.builder("auth.refresh-tokens.reuse-detected", reuseDetected, LongAdder::sum)
+                .description("Revoked refresh tokens presented again").register(registry);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.mindStreamApplication.Service;
+
+// One row of the co-occurrence matrix: an open-addressing map from int column to int count.
+// Keys are stored as column + 1 so 0 marks an empty slot; removal shifts the following entries back
+// instead of leaving tombstones, so rows that shrink stay as fast as rows that only grow.
+final class SparseCountRow {
+
+    private int[] keys;
+    private int[] counts;
+    private int size;
+
+    SparseCountRow(int expectedSize) {
+        int capacity = 8;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        counts = new int[capacity];
+    }
+
+    // Number of non-zero columns
+    int size() {
+        return size;
+    }
+
+    // Count of one column (0 when absent)
+    int get(int column) {
+        int mask = keys.length - 1;
+        int stored = column + 1;
+        for (int slot = mix(column) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == stored) {
+                return counts[slot];
+            }
+        }
+        return 0;
+    }
+
+    // Add delta to one column and return the new count; a column that drops to zero is removed
+    int add(int column, int delta) {
+        int mask = keys.length - 1;
+        int stored = column + 1;
+        int slot = mix(column) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == stored) {
+                int count = counts[slot] + delta;
+                if (count <= 0) {
+                    removeAt(slot);
+                    return 0;
+                }
+                counts[slot] = count;
+                return count;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (delta <= 0) {
+            return 0;
+        }
+        keys[slot] = stored;
+        counts[slot] = delta;
+        if (++size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        return delta;
+    }
+
+    // Visit every non-zero column (in no particular order)
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                visitor.accept(keys[slot] - 1, counts[slot]);
+            }
+        }
+    }
+
+    interface Visitor {
+        void accept(int column, int count);
+    }
+
+    // Empty a slot and move back later entries of the same probe run whose home slot allows it
+    private void removeAt(int slot) {
+        int mask = keys.length - 1;
+        keys[slot] = 0;
+        counts[slot] = 0;
+        size--;
+        for (int next = (slot + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = mix(keys[next] - 1) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                counts[slot] = counts[next];
+                keys[next] = 0;
+                counts[next] = 0;
+                slot = next;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[capacity];
+        counts = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = mix(oldKeys[i] - 1) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Bounded, versioned read-through cache of TvShow rows used by TvShowService.
+// Every write bumps the version under the cache lock; a loader result is only stored
+// if no write happened while it was loading, so a read after a write on this node
+// never sees the pre-write rows.
+@Component
+public class TvShowCatalogCache implements MeterBinder {
+
+    @Value("${tvshows.cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    // Rows held by all cached year lists together; a year with more rows is not cached
+    @Value("${tvshows.cache.max-year-rows:10000}")
+    private int maxYearRows = 10000;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private long version;
+
+    // Full catalog snapshot (only kept while it fits in maxEntries)
+    private List<TvShow> allShows;
+
+    private final Map<Long, TvShow> showsById = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TvShow> eldest) {
+            return evictIfOver(size(), maxEntries);
+        }
+    };
+
+    // Least recently used first; evicted by putYear once yearRows exceeds maxYearRows
+    private final LinkedHashMap<Integer, List<TvShow>> showsByYear = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long yearRows;
+
+    // Get the whole catalog, loading it on a miss
+    public List<TvShow> getAll(Supplier<List<TvShow>> loader) {
+        long loadVersion;
+        synchronized (this) {
+            if (allShows != null) {
+                hits.increment();
+                return allShows;
+            }
+            misses.increment();
+            loadVersion = version;
+        }
+
+        List<TvShow> loaded = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        synchronized (this) {
+            if (version == loadVersion && loaded.size() <= maxEntries) {
+                allShows = loaded;
+                for (TvShow show : loaded) {
+                    showsById.put(show.getId(), show);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // Get one show by id, loading it on a miss
+    public Optional<TvShow> getById(Long id, Function<Long, Optional<TvShow>> loader) {
+        long loadVersion;
+        synchronized (this) {
+            TvShow cached = showsById.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            misses.increment();
+            loadVersion = version;
+        }
+
+        Optional<TvShow> loaded = loader.apply(id);
+        synchronized (this) {
+            if (version == loadVersion) {
+                loaded.ifPresent(show -> showsById.put(id, show));
+            }
+        }
+        return loaded;
+    }
+
+    // Get several shows by id with one loader call for all misses; ids that do not exist are left out
+    public Map<Long, TvShow> getAllById(Collection<Long> ids,
+                                        Function<Collection<Long>, ? extends Iterable<TvShow>> loader) {
+        Map<Long, TvShow> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long loadVersion;
+        synchronized (this) {
+            for (Long id : ids) {
+                TvShow cached = showsById.get(id);
+                if (cached != null) {
+                    hits.increment();
+                    found.put(id, cached);
+                } else {
+                    misses.increment();
+                    missing.add(id);
+                }
+            }
+            loadVersion = version;
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        List<TvShow> loaded = new ArrayList<>(missing.size());
+        loader.apply(missing).forEach(loaded::add);
+        synchronized (this) {
+            for (TvShow show : loaded) {
+                found.put(show.getId(), show);
+                if (version == loadVersion) {
+                    showsById.put(show.getId(), show);
+                }
+            }
+        }
+        return found;
+    }
+
+    // Get the shows of one year, loading them on a miss
+    public List<TvShow> getByYear(Integer year, Function<Integer, List<TvShow>> loader) {
+        long loadVersion;
+        synchronized (this) {
+            List<TvShow> cached = showsByYear.get(year);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            loadVersion = version;
+        }
+
+        List<TvShow> loaded = Collections.unmodifiableList(new ArrayList<>(loader.apply(year)));
+        synchronized (this) {
+            if (version == loadVersion && loaded.size() <= maxYearRows) {
+                putYear(year, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // Write-through after shows were inserted or updated: patch rows, drop affected lists
+    public synchronized void onShowsSaved(Collection<TvShow> savedShows) {
+        version++;
+        allShows = null;
+        for (TvShow show : savedShows) {
+            if (showsById.containsKey(show.getId())) {
+                // An update may have moved the show to another year
+                clearYears();
+            }
+            showsById.put(show.getId(), show);
+            removeYear(show.getYear());
+        }
+    }
+
+    // Drop everything (used after bulk writes that bypass the service)
+    public synchronized void clear() {
+        version++;
+        allShows = null;
+        showsById.clear();
+        clearYears();
+    }
+
+    // Version of the cached data; incremented by every write
+    public synchronized long version() {
+        return version;
+    }
+
+    // Number of cached rows
+    public synchronized int size() {
+        return showsById.size();
+    }
+
+    // Snapshot of cache counters
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("size", size());
+        stats.put("version", version);
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tvshows.cache.hits", hits, LongAdder::sum)
+                .description("TV show catalog cache hits").register(registry);
+        FunctionCounter.builder("tvshows.cache.misses", misses, LongAdder::sum)
+                .description("TV show catalog cache misses").register(registry);
+        FunctionCounter.builder("tvshows.cache.evictions", evictions, LongAdder::sum)
+                .description("TV show catalog cache evictions").register(registry);
+        Gauge.builder("tvshows.cache.size", this, TvShowCatalogCache::size)
+                .description("Cached TV show rows").register(registry);
+    }
+
+    // Put a year list and evict the least recently used years until the row bound holds again
+    private void putYear(Integer year, List<TvShow> shows) {
+        removeYear(year);
+        showsByYear.put(year, shows);
+        yearRows += shows.size();
+
+        Iterator<Map.Entry<Integer, List<TvShow>>> eldest = showsByYear.entrySet().iterator();
+        while (yearRows > maxYearRows && eldest.hasNext()) {
+            yearRows -= eldest.next().getValue().size();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void removeYear(Integer year) {
+        List<TvShow> removed = showsByYear.remove(year);
+        if (removed != null) {
+            yearRows -= removed.size();
+        }
+    }
+
+    private void clearYears() {
+        showsByYear.clear();
+        yearRows = 0;
+    }
+
+    private boolean evictIfOver(int size, int limit) {
+        if (size > limit) {
+            evictions.increment();
+            return true;
+        }
+        return false;
+    }
+}
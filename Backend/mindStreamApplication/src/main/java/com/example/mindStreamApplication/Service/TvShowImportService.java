@@ -0,0 +1,272 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.TvShowImportResult;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Bulk TV show import from CSV (album,year,chartPosition) or a JSON array of shows.
+// The upload is parsed as a stream and written in JDBC batches through TvShowBatchRepository.
+// Albums are deduplicated case-insensitively in memory across the upload and against the table with
+// one IN query per batch, replacing the per-row existsByAlbum check. Each batch commits on its own, so a failed upload
+// keeps the batches written before the failure.
+@Service
+public class TvShowImportService {
+
+    @Value("${tvshows.import.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Autowired
+    private TvShowBatchRepository tvShowBatchRepository;
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AlbumSearchIndex albumSearchIndex;
+
+    @Autowired
+    private CatalogFacetIndex facetIndex;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    // Import CSV lines; a first line starting with "album" is treated as a header
+    public TvShowImportResult importCsv(InputStream input) {
+        return run(importer -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            boolean firstRecord = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseCsvLine(line);
+                if (firstRecord && "album".equalsIgnoreCase(fields.get(0).trim())) {
+                    firstRecord = false;
+                    continue;
+                }
+                firstRecord = false;
+                importer.accept(fromCsv(fields));
+            }
+        });
+    }
+
+    // Import a JSON array of {"album", "year", "chartPosition"} objects
+    public TvShowImportResult importJson(InputStream input) {
+        return run(importer -> {
+            JsonParser parser = objectMapper.getFactory().createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("Expected a JSON array of TV shows");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    importer.accept(fromJson(objectMapper.readTree(parser)));
+                } else {
+                    parser.skipChildren();
+                    importer.accept(null);
+                }
+            }
+        });
+    }
+
+    // Source of parsed rows for one upload
+    @FunctionalInterface
+    private interface RowSource {
+        void readInto(Importer importer) throws IOException;
+    }
+
+    // Helper method to run an import and refresh the read caches for whatever was written
+    private TvShowImportResult run(RowSource source) {
+        Importer importer = new Importer(Math.max(1, batchSize));
+        try {
+            source.readInto(importer);
+            importer.flush();
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Generated ids are not read back, so drop the cache and index instead of patching them
+            if (importer.inserted > 0) {
+                catalogCache.clear();
+                albumSearchIndex.invalidate();
+                facetIndex.invalidate();
+            }
+        }
+        return importer.result();
+    }
+
+    // Dedupe key for an album, matching the case-insensitive collation of the album column
+    static String albumKey(String album) {
+        return album.toLowerCase(Locale.ROOT);
+    }
+
+    // Buffers unique rows and writes them once a batch is full
+    private final class Importer {
+
+        private final int batchSize;
+        private final long startedAt = System.nanoTime();
+        private final Set<String> seenAlbums = new HashSet<>();
+        private final List<TvShow> pending;
+        private final List<TvShowImportResult.Batch> batches = new ArrayList<>();
+
+        private long received;
+        private long inserted;
+        private long duplicates;
+        private long invalid;
+
+        Importer(int batchSize) {
+            this.batchSize = batchSize;
+            this.pending = new ArrayList<>(batchSize);
+        }
+
+        // Take one parsed row (null for a row that could not be parsed)
+        void accept(TvShow show) {
+            received++;
+            if (show == null) {
+                invalid++;
+                return;
+            }
+            if (!seenAlbums.add(albumKey(show.getAlbum()))) {
+                duplicates++;
+                return;
+            }
+            pending.add(show);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        // Drop albums already in the table and insert the rest as one JDBC batch
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+
+            List<String> albums = new ArrayList<>(pending.size());
+            for (TvShow show : pending) {
+                albums.add(show.getAlbum());
+            }
+            // The case-insensitive column collation can return a stored album in a different case
+            Set<String> existing = new HashSet<>();
+            for (String album : tvShowRepository.findAlbumsIn(albums)) {
+                existing.add(albumKey(album));
+            }
+
+            List<TvShow> rows = new ArrayList<>(pending.size());
+            for (TvShow show : pending) {
+                if (!existing.contains(albumKey(show.getAlbum()))) {
+                    rows.add(show);
+                }
+            }
+            tvShowBatchRepository.insertAll(rows);
+
+            long elapsed = System.nanoTime() - start;
+            duplicates += pending.size() - rows.size();
+            inserted += rows.size();
+            batches.add(new TvShowImportResult.Batch(batches.size() + 1, pending.size(), rows.size(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), rowsPerSecond(rows.size(), elapsed)));
+            pending.clear();
+        }
+
+        TvShowImportResult result() {
+            long elapsed = System.nanoTime() - startedAt;
+            return new TvShowImportResult(received, inserted, duplicates, invalid,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), rowsPerSecond(inserted, elapsed), batches);
+        }
+    }
+
+    private static long rowsPerSecond(long rows, long nanos) {
+        return nanos <= 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    // Helper method to map CSV fields to a show (null when the album is missing or the year is not a number)
+    static TvShow fromCsv(List<String> fields) {
+        String album = fields.get(0).trim();
+        if (album.isEmpty()) {
+            return null;
+        }
+        Integer year = null;
+        if (fields.size() > 1 && !fields.get(1).isBlank()) {
+            try {
+                year = Integer.valueOf(fields.get(1).trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        String chartPosition = fields.size() > 2 && !fields.get(2).isBlank() ? fields.get(2).trim() : null;
+        return new TvShow(album, year, chartPosition);
+    }
+
+    // Helper method to map a JSON object to a show (null when the album is missing or the year is not a number).
+    // "title" is accepted in place of "album", as used by the json-server catalog feed
+    static TvShow fromJson(JsonNode node) {
+        JsonNode album = node.hasNonNull("album") ? node.get("album") : node.get("title");
+        if (album == null || !album.isTextual() || album.asText().isBlank()) {
+            return null;
+        }
+        Integer year = null;
+        JsonNode yearNode = node.get("year");
+        if (yearNode != null && !yearNode.isNull()) {
+            if (yearNode.isIntegralNumber() && yearNode.canConvertToInt()) {
+                year = yearNode.intValue();
+            } else if (yearNode.isTextual() && yearNode.asText().trim().matches("-?\\d{1,9}")) {
+                year = Integer.valueOf(yearNode.asText().trim());
+            } else {
+                return null;
+            }
+        }
+        JsonNode chartPosition = node.get("chartPosition");
+        return new TvShow(album.asText().trim(), year,
+                chartPosition == null || chartPosition.isNull() ? null : chartPosition.asText());
+    }
+
+    // Split one CSV line; fields may be quoted and "" inside quotes is a literal quote
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -1,59 +1,257 @@
 package com.example.mindStreamApplication.Service;
 
+import com.example.mindStreamApplication.DTO.CatalogBrowse;
+import com.example.mindStreamApplication.DTO.CatalogPage;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.DTO.RecommendedTvShowResponse;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
 import com.example.mindStreamApplication.Domain.TvShow;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
 import com.example.mindStreamApplication.Repository.TvShowRepository;
 import com.example.mindStreamApplication.Repository.FavoriteRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TvShowService {
 
+    // Page size used when a paginated request does not specify a limit
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    // Upper bound for a single page
+    static final int MAX_PAGE_SIZE = 500;
+
+    // Size of the most favorited list when no limit is given, and its upper bound
+    static final int DEFAULT_TOP_LIMIT = 10;
+    static final int MAX_TOP_LIMIT = 100;
+
+    // Number of recommendations when no limit is given, and its upper bound
+    static final int DEFAULT_RECOMMENDATION_LIMIT = 10;
+    static final int MAX_RECOMMENDATION_LIMIT = 50;
+
     @Autowired
     private TvShowRepository tvShowRepository;
 
     @Autowired
     private FavoriteRepository favoriteRepository;
 
+    @Autowired
+    private TvShowStatsRepository tvShowStatsRepository;
+
     @Autowired
     @Lazy
     private FavoriteService favoriteService;
 
+    @Autowired
+    private AlbumSearchIndex albumSearchIndex;
+
+    @Autowired
+    private CatalogFacetIndex facetIndex;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    @Autowired
+    private UserFavoritesCache favoritesCache;
+
+    @Autowired
+    private CoFavoriteIndex coFavoriteIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     // Get all TV shows
-    public List<Map<String, Object>> getAllTvShows(Long userId) {
-        List<TvShow> tvShows = tvShowRepository.findAll();
-        return tvShows.stream()
-                .map(show -> convertToMap(show, userId))
-                .collect(Collectors.toList());
+    public List<TvShowResponse> getAllTvShows(Long userId) {
+        List<TvShow> tvShows = catalogCache.getAll(tvShowRepository::findAll);
+        return toResponses(tvShows, userId);
+    }
+
+    // Stream the whole catalog in id order to the given action and return the number of rows.
+    // Rows are read through a database cursor and detached once handed over, so memory stays flat
+    // regardless of catalog size (the catalog cache is bypassed on purpose)
+    @Transactional(readOnly = true)
+    public long streamAllTvShows(Long userId, Consumer<TvShowResponse> action) {
+        FavoriteIdSet favoriteIds = userId != null ? favoriteIds(userId) : FavoriteIdSet.EMPTY;
+
+        long count = 0;
+        try (Stream<TvShow> rows = tvShowRepository.streamAllByOrderByIdAsc()) {
+            Iterator<TvShow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TvShow show = iterator.next();
+                action.accept(TvShowResponse.of(show, favoriteIds.contains(show.getId())));
+                entityManager.detach(show);
+                count++;
+            }
+        }
+        return count;
     }
 
     // Get TV show by ID
-    public Map<String, Object> getTvShowById(Long id, Long userId) {
-        TvShow show = tvShowRepository.findById(id)
+    public TvShowResponse getTvShowById(Long id, Long userId) {
+        TvShow show = catalogCache.getById(id, tvShowRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("TV show", "id", id));
-        return convertToMap(show, userId);
+        boolean isFavorite = userId != null && favoriteIds(userId).contains(show.getId());
+        return TvShowResponse.of(show, isFavorite);
     }
 
-    // Search TV shows by album name
-    public List<Map<String, Object>> searchTvShows(String query, Long userId) {
-        List<TvShow> tvShows = tvShowRepository.findByAlbumContaining(query);
-        return tvShows.stream()
-                .map(show -> convertToMap(show, userId))
-                .collect(Collectors.toList());
+    // Search TV shows by album name (ranked results from the in-memory album index)
+    public List<TvShowResponse> searchTvShows(String query, Long userId) {
+        List<TvShow> tvShows = albumSearchIndex.search(query);
+        return toResponses(tvShows, userId);
     }
 
     // Get TV shows by year
-    public List<Map<String, Object>> getTvShowsByYear(Integer year, Long userId) {
-        List<TvShow> tvShows = tvShowRepository.findByYear(year);
-        return tvShows.stream()
-                .map(show -> convertToMap(show, userId))
-                .collect(Collectors.toList());
+    public List<TvShowResponse> getTvShowsByYear(Integer year, Long userId) {
+        List<TvShow> tvShows = catalogCache.getByYear(year, tvShowRepository::findByYear);
+        return toResponses(tvShows, userId);
+    }
+
+    // Get TV shows by chart rank, best first: the top `limit` ranked shows, or only ranks from..to
+    // when a range is given (either end may be left open)
+    public List<TvShowResponse> getChartTvShows(Integer from, Integer to, Integer limit, Long userId) {
+        int size = resolvePageSize(limit);
+        if ((from != null && from < 1) || (to != null && to < 1)) {
+            throw new InvalidRequestException("chart ranks start at 1");
+        }
+        if (from != null && to != null && from > to) {
+            throw new InvalidRequestException("from must not be greater than to");
+        }
+
+        List<TvShow> tvShows = from == null && to == null
+                ? tvShowRepository.findByChartRankNotNullOrderByChartRankAscIdAsc(Limit.of(size))
+                : tvShowRepository.findByChartRankBetweenOrderByChartRankAscIdAsc(
+                        from != null ? from : 1, to != null ? to : Integer.MAX_VALUE, Limit.of(size));
+        return toResponses(tvShows, userId);
+    }
+
+    // Get the most favorited TV shows from the aggregated counts in tv_show_stats
+    // (kept up to date by FavoriteCountAggregator, so recent favorites may not be counted yet)
+    public List<PopularTvShowResponse> getTopTvShows(Integer limit) {
+        int size = limit != null ? limit : DEFAULT_TOP_LIMIT;
+        if (size < 1 || size > MAX_TOP_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+        return tvShowStatsRepository.findMostFavorited(Limit.of(size));
+    }
+
+    // Get shows often favorited together with the given one (served from the in-memory co-favorite index).
+    // With a userId, shows that user already favorited are left out
+    public List<RecommendedTvShowResponse> getRecommendations(Long id, Integer limit, Long userId) {
+        int size = limit != null ? limit : DEFAULT_RECOMMENDATION_LIMIT;
+        if (size < 1 || size > MAX_RECOMMENDATION_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_RECOMMENDATION_LIMIT);
+        }
+        catalogCache.getById(id, tvShowRepository::findById)
+                .orElseThrow(() -> new ResourceNotFoundException("TV show", "id", id));
+
+        FavoriteIdSet favoriteIds = userId != null ? favoriteIds(userId) : FavoriteIdSet.EMPTY;
+        CoFavoriteIndex.Neighbors neighbors = coFavoriteIndex.neighbors(id);
+        List<RecommendedTvShowResponse> result = new ArrayList<>(Math.min(size, neighbors.size()));
+        for (int i = 0; i < neighbors.size() && result.size() < size; i++) {
+            long neighborId = neighbors.tvShowIds()[i];
+            if (favoriteIds.contains(neighborId)) {
+                continue;
+            }
+            // Shows deleted since the last rebuild are skipped
+            int shared = neighbors.sharedFavorites()[i];
+            catalogCache.getById(neighborId, tvShowRepository::findById).ifPresent(show ->
+                    result.add(new RecommendedTvShowResponse(show.getId(), show.getAlbum(), show.getYear(),
+                            show.getChartPosition(), shared)));
+        }
+        return result;
+    }
+
+    // Get one keyset page of the catalog ordered by id
+    public CatalogPage getTvShowsPage(Integer limit, String after, boolean includeCount, Long userId) {
+        int pageSize = resolvePageSize(limit);
+        List<TvShow> rows = tvShowRepository.findByIdGreaterThanOrderByIdAsc(
+                decodeAfterId(after), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize, userId, includeCount ? tvShowRepository.count() : null);
+    }
+
+    // Get one keyset page of ranked search results, keyed on (match tier, album length, id)
+    public CatalogPage searchTvShowsPage(String query, Integer limit, String after,
+                                                 boolean includeCount, Long userId) {
+        int pageSize = resolvePageSize(limit);
+        List<AlbumSearchIndex.Hit> hits = albumSearchIndex.rank(query);
+
+        // Hits are sorted by their key, so binary search for the first one after the cursor
+        int start = 0;
+        if (after != null && !after.isEmpty()) {
+            long[] afterKey = CatalogCursor.decode(after, 3);
+            int low = 0;
+            int high = hits.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (hits.get(mid).compareTo(afterKey) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            start = low;
+        }
+
+        int end = Math.min(start + pageSize, hits.size());
+        List<TvShow> pageRows = new ArrayList<>(end - start);
+        for (AlbumSearchIndex.Hit hit : hits.subList(start, end)) {
+            pageRows.add(hit.getShow());
+        }
+
+        boolean hasMore = end < hits.size();
+        String nextCursor = hasMore ? CatalogCursor.encode(hits.get(end - 1).sortKey()) : null;
+        return toPage(pageRows, hasMore, nextCursor, userId, includeCount ? (long) hits.size() : null);
+    }
+
+    // Get one keyset page of TV shows from a year ordered by id
+    public CatalogPage getTvShowsByYearPage(Integer year, Integer limit, String after,
+                                                    boolean includeCount, Long userId) {
+        int pageSize = resolvePageSize(limit);
+        List<TvShow> rows = tvShowRepository.findByYearAndIdGreaterThanOrderByIdAsc(
+                year, decodeAfterId(after), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize, userId, includeCount ? tvShowRepository.countByYear(year) : null);
+    }
+
+    // Get one keyset page of a faceted browse, keyed on (year, id), with year and decade counts.
+    // Filtering, counting and paging run on the in-memory facet index; only the page rows are read
+    public CatalogBrowse browseTvShows(Integer fromYear, Integer toYear, String prefix, Integer limit,
+                                       String after, Long userId) {
+        int pageSize = resolvePageSize(limit);
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new InvalidRequestException("fromYear must not be greater than toYear");
+        }
+        long[] afterKey = after == null || after.isEmpty() ? null : CatalogCursor.decode(after, 2);
+        CatalogFacetIndex.Browse browse = facetIndex.browse(fromYear, toYear, prefix, afterKey, pageSize);
+
+        // One query for the page, put back into index order (shows deleted since are skipped)
+        List<Long> ids = Arrays.stream(browse.ids()).boxed().toList();
+        Map<Long, TvShow> byId = new HashMap<>();
+        for (TvShow show : tvShowRepository.findAllById(ids)) {
+            byId.put(show.getId(), show);
+        }
+        List<TvShow> pageRows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TvShow show = byId.get(id);
+            if (show != null) {
+                pageRows.add(show);
+            }
+        }
+
+        String nextCursor = browse.nextKey() != null ? CatalogCursor.encode(browse.nextKey()) : null;
+        CatalogPage page = toPage(pageRows, nextCursor != null, nextCursor, userId, (long) browse.total());
+        return new CatalogBrowse(page, browse.facets());
     }
 
     // Add a new TV show (manual method to add data)
@@ -68,6 +266,7 @@ public class TvShowService {
         // Create and save TV show
         TvShow tvShow = new TvShow(album, year, chartPosition);
         TvShow savedShow = tvShowRepository.save(tvShow);
+        onCatalogChanged(Collections.singletonList(savedShow));
 
         response.put("success", true);
         response.put("message", "TV show added successfully");
@@ -102,25 +301,64 @@ public class TvShowService {
                 new TvShow("The Mandalorian", 2019, "10")
         );
 
-        tvShowRepository.saveAll(sampleShows);
+        onCatalogChanged(tvShowRepository.saveAll(sampleShows));
+    }
+
+    // Helper method to push saved rows into the read cache and the in-memory indexes
+    private void onCatalogChanged(List<TvShow> savedShows) {
+        catalogCache.onShowsSaved(savedShows);
+        albumSearchIndex.addAll(savedShows);
+        facetIndex.addAll(savedShows);
     }
 
-    // Helper method to convert TvShow to Map with favorite status
-    private Map<String, Object> convertToMap(TvShow show, Long userId) {
-        Map<String, Object> showMap = new HashMap<>();
-        showMap.put("id", show.getId());
-        showMap.put("album", show.getAlbum());
-        showMap.put("year", show.getYear());
-        showMap.put("chartPosition", show.getChartPosition());
+    // Helper method to validate the requested page size
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
 
-        // Check if favorited by user
-        if (userId != null) {
-            boolean isFavorite = favoriteRepository.existsByUserIdAndTvShowId(userId, show.getId());
-            showMap.put("isFavorite", isFavorite);
-        } else {
-            showMap.put("isFavorite", false);
+    // Helper method to turn the after cursor into the last seen id (0 means first page)
+    private Long decodeAfterId(String after) {
+        if (after == null || after.isEmpty()) {
+            return 0L;
         }
+        return CatalogCursor.decode(after, 1)[0];
+    }
 
-        return showMap;
+    // Helper method to build an id-keyed page from rows fetched with one extra look-ahead row
+    private CatalogPage toIdPage(List<TvShow> rows, int pageSize, Long userId, Long totalCount) {
+        boolean hasMore = rows.size() > pageSize;
+        List<TvShow> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? CatalogCursor.encode(pageRows.get(pageSize - 1).getId()) : null;
+        return toPage(pageRows, hasMore, nextCursor, userId, totalCount);
+    }
+
+    // Helper method to build a page response (total count is only computed when the caller asks for it)
+    private CatalogPage toPage(List<TvShow> pageRows, boolean hasMore, String nextCursor,
+                               Long userId, Long totalCount) {
+        return new CatalogPage(toResponses(pageRows, userId), nextCursor, hasMore, totalCount);
+    }
+
+    // Helper method to get a user's favorite IDs (cached; at most one query on a miss)
+    private FavoriteIdSet favoriteIds(Long userId) {
+        return favoritesCache.get(userId, favoriteRepository::findTvShowIdsByUserId);
+    }
+
+    // Helper method to convert a list of TvShows, resolving favorite status from the favorites cache
+    private List<TvShowResponse> toResponses(List<TvShow> tvShows, Long userId) {
+        FavoriteIdSet favoriteIds = userId != null && !tvShows.isEmpty()
+                ? favoriteIds(userId)
+                : FavoriteIdSet.EMPTY;
+
+        List<TvShowResponse> responses = new ArrayList<>(tvShows.size());
+        for (TvShow show : tvShows) {
+            responses.add(TvShowResponse.of(show, favoriteIds.contains(show.getId())));
+        }
+        return responses;
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.example.mindStreamApplication.Service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Per-user cache of favorited TV show ids used for isFavorite checks.
+// Sets are loaded lazily, patched by favorite writes and evicted least recently used
+// first once either the user count or the memory budget is exceeded.
+// versionOf(userId) changes whenever that user's favorites change, whether or not their set is cached,
+// so data derived from a user's favorites can be checked for staleness without holding the set.
+@Component
+public class UserFavoritesCache implements MeterBinder {
+
+    @Value("${favorites.cache.max-users:10000}")
+    private int maxUsers = 10000;
+
+    @Value("${favorites.cache.max-bytes:16777216}")
+    private long maxBytes = 16 * 1024 * 1024;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Incremented by every write; a load is only stored if no write happened meanwhile
+    private long version;
+
+    private long totalBytes;
+
+    private final LinkedHashMap<Long, FavoriteIdSet> setsByUser = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Version of each user's last write, oldest write first (bounded by maxUsers)
+    private final LinkedHashMap<Long, Long> writesByUser = new LinkedHashMap<>();
+
+    // Not below the version of any write that is no longer in writesByUser
+    private long forgottenWrites;
+
+    // Get the favorite ids of a user, loading them on a miss
+    public FavoriteIdSet get(Long userId, Function<Long, ? extends Collection<Long>> loader) {
+        long loadVersion;
+        synchronized (this) {
+            FavoriteIdSet cached = setsByUser.get(userId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            loadVersion = version;
+        }
+
+        FavoriteIdSet loaded = FavoriteIdSet.of(loader.apply(userId));
+        synchronized (this) {
+            if (version == loadVersion) {
+                store(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // Version of a user's favorites: it grows with every write to them (and may grow without one)
+    public synchronized long versionOf(Long userId) {
+        Long written = writesByUser.get(userId);
+        return written != null ? written : forgottenWrites;
+    }
+
+    // Write-through after a favorite was saved
+    public synchronized void onAdded(Long userId, Long tvShowId) {
+        recordWrite(userId);
+        FavoriteIdSet cached = setsByUser.get(userId);
+        if (cached != null) {
+            store(userId, cached.with(tvShowId));
+        }
+    }
+
+    // Write-through after a favorite was deleted
+    public synchronized void onRemoved(Long userId, Long tvShowId) {
+        recordWrite(userId);
+        FavoriteIdSet cached = setsByUser.get(userId);
+        if (cached != null) {
+            store(userId, cached.without(tvShowId));
+        }
+    }
+
+    // Drop one user's set (next check reloads it)
+    public synchronized void invalidate(Long userId) {
+        recordWrite(userId);
+        FavoriteIdSet removed = setsByUser.remove(userId);
+        if (removed != null) {
+            totalBytes -= removed.sizeInBytes();
+        }
+    }
+
+    // Drop every cached set
+    public synchronized void clear() {
+        version++;
+        forgottenWrites = version;
+        writesByUser.clear();
+        setsByUser.clear();
+        totalBytes = 0;
+    }
+
+    // Number of cached users
+    public synchronized int size() {
+        return setsByUser.size();
+    }
+
+    // Approximate memory held by cached sets
+    public synchronized long sizeInBytes() {
+        return totalBytes;
+    }
+
+    // Snapshot of cache counters
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("users", setsByUser.size());
+        stats.put("bytes", totalBytes);
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("favorites.cache.hits", hits, LongAdder::sum)
+                .description("Favorites cache hits").register(registry);
+        FunctionCounter.builder("favorites.cache.misses", misses, LongAdder::sum)
+                .description("Favorites cache misses").register(registry);
+        FunctionCounter.builder("favorites.cache.evictions", evictions, LongAdder::sum)
+                .description("Favorites cache evictions").register(registry);
+        Gauge.builder("favorites.cache.users", this, UserFavoritesCache::size)
+                .description("Users with cached favorites").register(registry);
+        Gauge.builder("favorites.cache.bytes", this, UserFavoritesCache::sizeInBytes)
+                .description("Approximate memory held by cached favorites").register(registry);
+    }
+
+    private void recordWrite(Long userId) {
+        version++;
+        writesByUser.remove(userId);
+        writesByUser.put(userId, version);
+        Iterator<Map.Entry<Long, Long>> eldest = writesByUser.entrySet().iterator();
+        while (writesByUser.size() > maxUsers && eldest.hasNext()) {
+            forgottenWrites = Math.max(forgottenWrites, eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    // Put a set and evict the eldest users until both bounds hold again
+    private void store(Long userId, FavoriteIdSet set) {
+        FavoriteIdSet previous = setsByUser.put(userId, set);
+        totalBytes += set.sizeInBytes() - (previous != null ? previous.sizeInBytes() : 0);
+
+        Iterator<Map.Entry<Long, FavoriteIdSet>> eldest = setsByUser.entrySet().iterator();
+        while ((setsByUser.size() > maxUsers || totalBytes > maxBytes) && eldest.hasNext()) {
+            Map.Entry<Long, FavoriteIdSet> entry = eldest.next();
+            totalBytes -= entry.getValue().sizeInBytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate),
+-- so this script only runs against an empty schema.
+
+CREATE TABLE IF NOT EXISTS users (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    username  VARCHAR(255) NOT NULL,
+    email     VARCHAR(255) NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS tv_shows (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    album          VARCHAR(255) NOT NULL,
+    `year`         INTEGER,
+    chart_position VARCHAR(255),
+    PRIMARY KEY (id),
+    INDEX idx_tv_shows_album (album)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS favorites (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT,
+    tv_show_id BIGINT,
+    added_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
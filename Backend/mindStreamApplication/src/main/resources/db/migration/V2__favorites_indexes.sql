@@ -0,0 +1,31 @@
+-- Favorites lookups (by user, by user and show, by show) scanned the whole table,
+-- and the check-then-insert in addToFavorites could store the same favorite twice.
+
+-- Keep the oldest row of every duplicated (user_id, tv_show_id) pair
+DELETE newer
+FROM favorites newer
+         JOIN favorites older
+              ON older.user_id = newer.user_id
+                  AND older.tv_show_id = newer.tv_show_id
+                  AND older.id < newer.id;
+
+-- Serves findByUserId, countByUserId (leading column) and existsByUserIdAndTvShowId,
+-- and makes a duplicate insert fail instead of racing the existence check
+ALTER TABLE favorites
+    ADD CONSTRAINT uk_favorites_user_show UNIQUE (user_id, tv_show_id);
+
+-- Serves lookups of who favorited a show
+CREATE INDEX idx_favorites_tv_show ON favorites (tv_show_id);
+
+-- The album index was added to the entity before migrations existed; databases created by
+-- ddl-auto=update may already have it, and MySQL has no CREATE INDEX IF NOT EXISTS
+SET @ddl = IF((SELECT COUNT(*)
+               FROM information_schema.statistics
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'tv_shows'
+                 AND index_name = 'idx_tv_shows_album') = 0,
+              'CREATE INDEX idx_tv_shows_album ON tv_shows (album)',
+              'DO 0');
+PREPARE add_album_index FROM @ddl;
+EXECUTE add_album_index;
+DEALLOCATE PREPARE add_album_index;
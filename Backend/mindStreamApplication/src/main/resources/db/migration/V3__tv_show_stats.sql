@@ -0,0 +1,16 @@
+-- Favorite count per TV show for GET /tvshows/top.
+-- The application adds to these counts in batches instead of counting favorites per request.
+CREATE TABLE tv_show_stats
+(
+    tv_show_id     BIGINT NOT NULL,
+    favorite_count BIGINT NOT NULL,
+    PRIMARY KEY (tv_show_id),
+    KEY idx_tv_show_stats_favorite_count (favorite_count)
+) ENGINE = InnoDB;
+
+-- Start from the favorites stored so far
+INSERT INTO tv_show_stats (tv_show_id, favorite_count)
+SELECT tv_show_id, COUNT(*)
+FROM favorites
+WHERE tv_show_id IS NOT NULL
+GROUP BY tv_show_id;
@@ -0,0 +1,12 @@
+-- Numeric chart rank next to the free-text chart_position, for sorted top-N and rank range queries.
+-- chart_position stays as entered and is still what the API returns.
+ALTER TABLE tv_shows
+    ADD COLUMN chart_rank INT NULL;
+
+-- Same rule as TvShow.parseChartRank: a positive whole number of at most 9 digits, anything else stays NULL
+UPDATE tv_shows
+SET chart_rank = CAST(TRIM(chart_position) AS UNSIGNED)
+WHERE TRIM(chart_position) REGEXP '^[0-9]{1,9}$'
+  AND CAST(TRIM(chart_position) AS UNSIGNED) > 0;
+
+CREATE INDEX idx_tv_shows_chart_rank ON tv_shows (chart_rank, id);
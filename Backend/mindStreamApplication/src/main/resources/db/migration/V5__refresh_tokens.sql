@@ -0,0 +1,12 @@
+-- Refresh tokens for POST /auth/refresh, stored as the SHA-256 of the token (32 bytes) rather than the token.
+-- A rotated token stays as revoked until it expires so that presenting it again can be detected.
+CREATE TABLE refresh_tokens
+(
+    token_hash BINARY(32)  NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked    BIT(1)      NOT NULL,
+    PRIMARY KEY (token_hash),
+    KEY idx_refresh_tokens_user (user_id),
+    KEY idx_refresh_tokens_expires_at (expires_at)
+) ENGINE = InnoDB;
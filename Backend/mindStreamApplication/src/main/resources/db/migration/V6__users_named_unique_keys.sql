@@ -0,0 +1,44 @@
+-- Registration maps a duplicate-key error to the field by constraint name (uk_users_username, uk_users_email).
+-- V1 creates them with these names; databases baselined from spring.jpa.hibernate.ddl-auto=update have
+-- generated names instead, so their single-column unique index on each column is renamed here
+-- (skipped when the named index already exists).
+
+SET @old_username_key := (SELECT s.index_name
+                          FROM information_schema.statistics s
+                          WHERE s.table_schema = DATABASE()
+                            AND s.table_name = 'users'
+                            AND s.column_name = 'username'
+                            AND s.non_unique = 0
+                            AND s.index_name <> 'PRIMARY'
+                            AND (SELECT COUNT(*)
+                                 FROM information_schema.statistics c
+                                 WHERE c.table_schema = s.table_schema
+                                   AND c.table_name = s.table_name
+                                   AND c.index_name = s.index_name) = 1
+                          ORDER BY s.index_name = 'uk_users_username' DESC
+                          LIMIT 1);
+SET @rename_username_key := IF(@old_username_key IS NULL OR @old_username_key = 'uk_users_username', 'DO 0',
+                               CONCAT('ALTER TABLE users RENAME INDEX `', @old_username_key, '` TO uk_users_username'));
+PREPARE rename_username_key FROM @rename_username_key;
+EXECUTE rename_username_key;
+DEALLOCATE PREPARE rename_username_key;
+
+SET @old_email_key := (SELECT s.index_name
+                       FROM information_schema.statistics s
+                       WHERE s.table_schema = DATABASE()
+                         AND s.table_name = 'users'
+                         AND s.column_name = 'email'
+                         AND s.non_unique = 0
+                         AND s.index_name <> 'PRIMARY'
+                         AND (SELECT COUNT(*)
+                              FROM information_schema.statistics c
+                              WHERE c.table_schema = s.table_schema
+                                AND c.table_name = s.table_name
+                                AND c.index_name = s.index_name) = 1
+                       ORDER BY s.index_name = 'uk_users_email' DESC
+                       LIMIT 1);
+SET @rename_email_key := IF(@old_email_key IS NULL OR @old_email_key = 'uk_users_email', 'DO 0',
+                            CONCAT('ALTER TABLE users RENAME INDEX `', @old_email_key, '` TO uk_users_email'));
+PREPARE rename_email_key FROM @rename_email_key;
+EXECUTE rename_email_key;
+DEALLOCATE PREPARE rename_email_key;
@@ -0,0 +1,5 @@
+-- Server-side role of each user. ROLE_ADMIN (the /admin/** endpoints and catalog imports) is granted from
+-- this column, never from the username, so registering a particular name cannot make anyone an admin.
+-- Admins are promoted directly in the database, e.g. UPDATE users SET role = 'ADMIN' WHERE id = ...;
+ALTER TABLE users
+    ADD COLUMN role VARCHAR(32) NOT NULL DEFAULT 'USER';
@@ -0,0 +1,145 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Service.AlbumSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares album search through the in-memory trigram index with the
+ * LIKE '%q%' query that TvShowRepository.findByAlbumContaining issues,
+ * on an H2 in-memory tv_shows table of 100k and 1M rows, plus the cost of
+ * indexing one new show into a loaded index of that size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AlbumSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "night", "blue", "river", "city", "breaking", "dawn", "empire", "shadow", "house", "dragon",
+            "crown", "wire", "office", "mirror", "stranger", "things", "lost", "world", "saul", "better"
+    };
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    // Selective multi-word queries, typical of what the search box sends after a few keystrokes,
+    // and a first keystroke answered from the word prefix lists
+    @Param({"dragon cr", "mirro", "dr"})
+    private String query;
+
+    private Connection connection;
+    private PreparedStatement likeStatement;
+    private AlbumSearchIndex index;
+
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:album_search_" + rows + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tv_shows");
+            statement.execute("CREATE TABLE tv_shows (id BIGINT PRIMARY KEY, album VARCHAR(255) NOT NULL, "
+                    + "\"year\" INT, chart_position VARCHAR(255))");
+        }
+
+        List<TvShow> shows = generateCatalog(rows);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO tv_shows (id, album, \"year\", chart_position) VALUES (?, ?, ?, ?)")) {
+            for (TvShow show : shows) {
+                insert.setLong(1, show.getId());
+                insert.setString(2, show.getAlbum());
+                insert.setInt(3, show.getYear());
+                insert.setString(4, show.getChartPosition());
+                insert.addBatch();
+                if (show.getId() % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        likeStatement = connection.prepareStatement(
+                "SELECT id, album, \"year\", chart_position FROM tv_shows WHERE album LIKE ?");
+
+        index = new AlbumSearchIndex();
+        index.rebuild(shows);
+        nextId = rows + 1L;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE tv_shows");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void likeQuery(Blackhole blackhole) throws SQLException {
+        likeStatement.setString(1, "%" + query + "%");
+        try (ResultSet resultSet = likeStatement.executeQuery()) {
+            while (resultSet.next()) {
+                TvShow show = new TvShow(resultSet.getString(2), resultSet.getInt(3), resultSet.getString(4));
+                show.setId(resultSet.getLong(1));
+                blackhole.consume(show);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<TvShow> trigramIndex() {
+        return index.search(query);
+    }
+
+    // One addTvShow: appends the row and its posting entries to the loaded index
+    @Benchmark
+    public void addShow() {
+        TvShow show = new TvShow("Dragon crown empire " + nextId, 2024, "1");
+        show.setId(nextId++);
+        index.add(show);
+    }
+
+    // Deterministic synthetic catalog of three-word album titles
+    static List<TvShow> generateCatalog(int size) {
+        Random random = new Random(42);
+        List<TvShow> shows = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            String album = capitalize(WORDS[random.nextInt(WORDS.length)]) + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            TvShow show = new TvShow(album, 1950 + random.nextInt(75), String.valueOf(1 + random.nextInt(200)));
+            show.setId((long) i);
+            shows.add(show);
+        }
+        return shows;
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AlbumSearchBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
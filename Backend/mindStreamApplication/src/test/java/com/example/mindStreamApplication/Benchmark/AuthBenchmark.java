@@ -0,0 +1,94 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.DTO.AuthResponse;
+import com.example.mindStreamApplication.JWT.JwtService;
+import com.example.mindStreamApplication.Service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auth hot paths against the embedded H2 database: token generation, token validation
+ * (with and without the verified token cache) and a full AuthService.login,
+ * which is dominated by the password hash check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AuthBenchmark {
+
+    @Param({"1000"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private String token;
+
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedUsers(context, users);
+
+        authService = context.getBean(AuthService.class);
+        jwtService = context.getBean(JwtService.class);
+        token = jwtService.generateToken("user1", 1L);
+
+        uncachedJwtService = new JwtService();
+        ReflectionTestUtils.setField(uncachedJwtService, "jwtSecret",
+                context.getEnvironment().getProperty("jwt.secret"));
+        ReflectionTestUtils.setField(uncachedJwtService, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(uncachedJwtService, "tokenCacheMaxEntries", 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextUserId() {
+        userId = userId % users + 1;
+        return userId;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        long id = nextUserId();
+        return jwtService.generateToken("user" + id, id);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public Boolean validateTokenUncached() {
+        return uncachedJwtService.validateToken(token);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public AuthResponse login() {
+        return authService.login("user" + nextUserId(), BenchmarkContext.PASSWORD);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AuthBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
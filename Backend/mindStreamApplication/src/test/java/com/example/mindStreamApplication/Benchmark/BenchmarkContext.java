@@ -0,0 +1,77 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.MindStreamApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application against the embedded H2 database of the "benchmark" profile
+ * and seeds it with a synthetic catalog, users and favorites.
+ */
+final class BenchmarkContext {
+
+    static final String PASSWORD = "benchmark-password";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private BenchmarkContext() {
+    }
+
+    // Start the application context without a web server
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(MindStreamApplication.class)
+                .profiles("benchmark")
+                .run();
+    }
+
+    // Insert the given number of shows (ids 1..rows) using the AlbumSearchBenchmark catalog generator
+    static void seedCatalog(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<TvShow> shows = AlbumSearchBenchmark.generateCatalog(rows);
+        for (int from = 0; from < shows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (TvShow show : shows.subList(from, Math.min(from + BATCH_SIZE, shows.size()))) {
+                batch.add(new Object[]{show.getId(), show.getAlbum(), show.getYear(), show.getChartPosition(),
+                        show.getChartRank()});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO tv_shows (id, album, \"year\", chart_position, chart_rank) "
+                    + "VALUES (?, ?, ?, ?, ?)", batch);
+        }
+    }
+
+    // Insert users user1..userN (ids 1..N) sharing one encoded password
+    static void seedUsers(ConfigurableApplicationContext context, int users) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Object[]> batch = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            batch.add(new Object[]{id, "user" + id, "user" + id + "@bench.local", encoded, "User " + id});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, username, email, password, full_name, role) VALUES (?, ?, ?, ?, ?, 'USER')", batch);
+    }
+
+    // Give each user favoritesPerUser distinct shows spread over the catalog
+    static void seedFavorites(ConfigurableApplicationContext context, int users, int favoritesPerUser, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp addedAt = Timestamp.valueOf(LocalDateTime.now());
+        int perUser = Math.min(favoritesPerUser, rows);
+        int stride = Math.max(1, rows / Math.max(1, perUser));
+        List<Object[]> batch = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            for (int i = 0; i < perUser; i++) {
+                long tvShowId = 1 + (userId + (long) i * stride) % rows;
+                batch.add(new Object[]{userId, tvShowId, addedAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO favorites (user_id, tv_show_id, added_at) VALUES (?, ?, ?)", batch);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.DTO.CatalogPage;
+import com.example.mindStreamApplication.DTO.FavoriteResponse;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
+import com.example.mindStreamApplication.Service.FavoriteService;
+import com.example.mindStreamApplication.Service.TvShowCatalogCache;
+import com.example.mindStreamApplication.Service.TvShowService;
+import com.example.mindStreamApplication.Service.UserFavoritesCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TvShowService list endpoints (one TvShowResponse per row), the streaming catalog export
+ * and FavoriteService.getUserFavorites
+ * against the embedded H2 database, with the read caches warm and cold.
+ * Catalog and favorite sizes are JMH params, e.g. -p rows=50000 -p favoritesPerUser=200.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CatalogServiceBenchmark {
+
+    private static final int USERS = 100;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    @Param({"50"})
+    private int favoritesPerUser;
+
+    private ConfigurableApplicationContext context;
+    private TvShowService tvShowService;
+    private FavoriteService favoriteService;
+    private TvShowCatalogCache catalogCache;
+    private UserFavoritesCache favoritesCache;
+
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedCatalog(context, rows);
+        BenchmarkContext.seedUsers(context, USERS);
+        BenchmarkContext.seedFavorites(context, USERS, favoritesPerUser, rows);
+
+        tvShowService = context.getBean(TvShowService.class);
+        favoriteService = context.getBean(FavoriteService.class);
+        catalogCache = context.getBean(TvShowCatalogCache.class);
+        favoritesCache = context.getBean(UserFavoritesCache.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Rotate over users so the favorites lookup is not always the same row set
+    private long nextUserId() {
+        userId = userId % USERS + 1;
+        return userId;
+    }
+
+    @Benchmark
+    public List<TvShowResponse> getAllTvShows() {
+        return tvShowService.getAllTvShows(nextUserId());
+    }
+
+    @Benchmark
+    public List<TvShowResponse> getAllTvShowsColdCache() {
+        catalogCache.clear();
+        favoritesCache.clear();
+        return tvShowService.getAllTvShows(nextUserId());
+    }
+
+    @Benchmark
+    public long streamAllTvShows(Blackhole blackhole) {
+        return tvShowService.streamAllTvShows(nextUserId(), blackhole::consume);
+    }
+
+    @Benchmark
+    public CatalogPage getTvShowsFirstPage() {
+        return tvShowService.getTvShowsPage(50, null, false, nextUserId());
+    }
+
+    @Benchmark
+    public TvShowResponse getTvShowById() {
+        long user = nextUserId();
+        return tvShowService.getTvShowById(1 + user * 7 % rows, user);
+    }
+
+    @Benchmark
+    public List<TvShowResponse> getTvShowsByYear() {
+        return tvShowService.getTvShowsByYear(2000, nextUserId());
+    }
+
+    @Benchmark
+    public List<TvShowResponse> searchTvShows() {
+        return tvShowService.searchTvShows("dragon", nextUserId());
+    }
+
+    @Benchmark
+    public List<FavoriteResponse> getUserFavorites() {
+        return favoriteService.getUserFavorites(nextUserId());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CatalogServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.DTO.FeedItemResponse;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.FavoriteRepository;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsRepository;
+import com.example.mindStreamApplication.Service.CoFavoriteIndex;
+import com.example.mindStreamApplication.Service.FeedService;
+import com.example.mindStreamApplication.Service.TvShowCatalogCache;
+import com.example.mindStreamApplication.Service.UserFavoritesCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Load-test fixture for GET /feed/{userId}: latency distribution (read p0.99 from the output) of
+ * FeedService at catalog scale, 1M shows and 10M favorites by default.
+ * Everything is generated in memory so the fixture fits a laptop: the catalog is streamed by a
+ * TvShowBatchRepository stand-in, each user's favorites are derived from the user id (so 10M
+ * favorites are never held at once) and every show gets a full top-K neighbor list shaped like the
+ * ones CoFavoriteIndex publishes, with skewed popularity. coldFeed picks users from the whole
+ * population, so nearly every request misses both per-user caches and ranks from scratch; warmFeed
+ * stays within a small set of active users. The repository stand-ins pause for dbRoundTripMicros per
+ * call, so the favorites lookup and the one-query page hydration (catalog cache misses) are part of
+ * the numbers. main() fails when the p99 of either feed benchmark exceeds the 20 ms budget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class FeedBenchmark {
+
+    private static final int FAVORITES_PER_USER = 20;
+
+    private static final int TOP_K = 20;
+
+    private static final int ACTIVE_USERS = 1_000;
+
+    // Latency budget of GET /feed/{userId}
+    private static final double P99_BUDGET_MICROS = 20_000;
+
+    @Param({"1000000"})
+    private int shows;
+
+    @Param({"10000000"})
+    private long favorites;
+
+    // Simulated database round trip of each repository call on the request path
+    @Param({"500"})
+    private long dbRoundTripMicros;
+
+    private int users;
+    private FeedService feedService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = (int) (favorites / FAVORITES_PER_USER);
+
+        // Neighbor lists for every show, most shared favorites first like the real index
+        CoFavoriteIndex.Neighbors[] neighborsById = new CoFavoriteIndex.Neighbors[shows + 1];
+        Random random = new Random(7);
+        for (int id = 1; id <= shows; id++) {
+            Set<Long> picked = new LinkedHashSet<>();
+            while (picked.size() < TOP_K) {
+                long other = skewedShow(random, shows);
+                if (other != id) {
+                    picked.add(other);
+                }
+            }
+            long[] ids = picked.stream().mapToLong(Long::longValue).toArray();
+            int[] shared = new int[TOP_K];
+            int top = 1 + (int) (favorites / shows / Math.max(1, id / 100 + 1)) + random.nextInt(50);
+            for (int i = 0; i < TOP_K; i++) {
+                shared[i] = Math.max(1, top / (i + 1));
+            }
+            neighborsById[id] = new CoFavoriteIndex.Neighbors(ids, shared);
+        }
+        CoFavoriteIndex coFavoriteIndex = new CoFavoriteIndex() {
+            @Override
+            public Neighbors neighbors(Long tvShowId) {
+                return tvShowId > 0 && tvShowId <= shows ? neighborsById[tvShowId.intValue()] : Neighbors.EMPTY;
+            }
+        };
+
+        TvShowBatchRepository catalog = new TvShowBatchRepository() {
+            @Override
+            public void forEachShow(ShowHandler handler) {
+                for (long id = 1; id <= shows; id++) {
+                    handler.accept(id, album(id), year(id), TvShow.parseChartRank(chartPosition(id)));
+                }
+            }
+        };
+
+        List<PopularTvShowResponse> popular = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            popular.add(new PopularTvShowResponse(id, album(id), year(id), chartPosition(id), 100_000 - id));
+        }
+
+        feedService = new FeedService();
+        ReflectionTestUtils.setField(feedService, "coFavoriteIndex", coFavoriteIndex);
+        ReflectionTestUtils.setField(feedService, "tvShowBatchRepository", catalog);
+        ReflectionTestUtils.setField(feedService, "tvShowStatsRepository",
+                stub(TvShowStatsRepository.class, "findMostFavorited", args -> popular));
+        ReflectionTestUtils.setField(feedService, "tvShowRepository",
+                stub(TvShowRepository.class, "findAllById", args -> roundTrip(shows((Iterable<?>) args[0]))));
+        ReflectionTestUtils.setField(feedService, "favoriteRepository",
+                stub(FavoriteRepository.class, "findTvShowIdsByUserId", args -> roundTrip(basket((Long) args[0]))));
+        ReflectionTestUtils.setField(feedService, "catalogCache", new TvShowCatalogCache());
+        ReflectionTestUtils.setField(feedService, "favoritesCache", new UserFavoritesCache());
+        feedService.refresh();
+    }
+
+    // Show id in 1..shows where low ids are far more popular (roughly Zipf-like)
+    private static long skewedShow(Random random, int shows) {
+        double u = random.nextDouble();
+        return 1 + (long) (Math.pow(u, 3) * (shows - 1));
+    }
+
+    // Favorites of one user, the same on every call
+    private Set<Long> basket(long userId) {
+        Random random = new Random(userId * 0x9E3779B97F4A7C15L);
+        Set<Long> basket = new HashSet<>();
+        while (basket.size() < FAVORITES_PER_USER) {
+            basket.add(skewedShow(random, shows));
+        }
+        return basket;
+    }
+
+    // Pause for one database round trip, then answer
+    private <T> T roundTrip(T answer) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbRoundTripMicros));
+        return answer;
+    }
+
+    private static List<TvShow> shows(Iterable<?> ids) {
+        List<TvShow> found = new ArrayList<>();
+        for (Object id : ids) {
+            found.add(show((Long) id));
+        }
+        return found;
+    }
+
+    private static TvShow show(long id) {
+        TvShow show = new TvShow(album(id), year(id), chartPosition(id));
+        show.setId(id);
+        return show;
+    }
+
+    private static String album(long id) {
+        return "Show " + id;
+    }
+
+    private static Integer year(long id) {
+        return id % 50 == 0 ? null : 1950 + (int) (id * 7919 % 75);
+    }
+
+    private static String chartPosition(long id) {
+        return id % 10 == 0 ? null : String.valueOf(1 + id * 31 % 200);
+    }
+
+    // Repository stand-in answering one method (a proxy, so no mock bookkeeping is measured)
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String method, Function<Object[], Object> answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            if (invoked.getName().equals(method)) {
+                return answer.apply(args);
+            }
+            throw new UnsupportedOperationException(invoked.getName());
+        });
+    }
+
+    // A user from the whole population: rankings and favorites are almost never cached
+    @Benchmark
+    public List<FeedItemResponse> coldFeed() {
+        return feedService.getFeed(1 + (long) ThreadLocalRandom.current().nextInt(users), null);
+    }
+
+    // One of a small set of active users: served from the cached ranking
+    @Benchmark
+    public List<FeedItemResponse> warmFeed() {
+        return feedService.getFeed(1 + (long) ThreadLocalRandom.current().nextInt(ACTIVE_USERS), null);
+    }
+
+    // Full snapshot reload (runs on the refresh schedule, never on the request path)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int refresh() {
+        return feedService.refresh();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FeedBenchmark.class.getSimpleName())
+                .build();
+        for (RunResult result : new Runner(options).run()) {
+            String benchmark = result.getParams().getBenchmark();
+            if (!benchmark.endsWith("Feed")) {
+                continue;
+            }
+            double p99 = result.getPrimaryResult().getStatistics().getPercentile(99);
+            if (p99 > P99_BUDGET_MICROS) {
+                throw new IllegalStateException(String.format("%s p99 %.0f us exceeds the %.0f us budget",
+                        benchmark, p99, P99_BUDGET_MICROS));
+            }
+        }
+    }
+}
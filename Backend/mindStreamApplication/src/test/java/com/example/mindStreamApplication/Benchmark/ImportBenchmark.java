@@ -0,0 +1,79 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.DTO.TvShowImportResult;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Service.TvShowImportService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk CSV import into an empty tv_shows table on the embedded H2 database.
+ * batchSize=1 approximates the previous row-at-a-time path (one dedupe query and one insert per show).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ImportBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"1", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TvShowImportService importService;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        importService = context.getBean(TvShowImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        ReflectionTestUtils.setField(importService, "batchSize", batchSize);
+
+        StringBuilder builder = new StringBuilder("album,year,chartPosition\n");
+        for (TvShow show : AlbumSearchBenchmark.generateCatalog(rows)) {
+            builder.append('"').append(show.getAlbum()).append("\",")
+                    .append(show.getYear()).append(',')
+                    .append(show.getChartPosition()).append('\n');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        jdbcTemplate.update("DELETE FROM tv_shows");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TvShowImportResult importCsv() {
+        return importService.importCsv(new ByteArrayInputStream(csv));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ImportBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.JWT.JwtAuthFilter;
+import com.example.mindStreamApplication.JWT.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JwtAuthFilter token handling:
+ * the previous extractUsername + validateToken path (key derivation, parser build and HMAC check twice),
+ * the single-parse path with the verified token cache disabled, and the cached path.
+ * The user lookup is an in-memory stub so only token work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTEncryptionThatIsLongEnough1234567890";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private final UserDetails user = new User("benchmark-user", "password", Collections.emptyList());
+
+    private final UserDetailsService userDetailsService = username -> user;
+
+    private String token;
+    private JwtAuthFilter singleParseFilter;
+    private JwtAuthFilter cachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtService uncachedService = jwtService(0);
+        JwtService cachedService = jwtService(10_000);
+        token = cachedService.generateToken("benchmark-user", 1L);
+
+        singleParseFilter = filter(uncachedService);
+        cachedFilter = filter(cachedService);
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        // Drop the authentication and OncePerRequestFilter's "already filtered" marker
+        SecurityContextHolder.clearContext();
+        request.clearAttributes();
+    }
+
+    @Benchmark
+    public Object legacyParseTwice() {
+        // What the filter did before: extractUsername, loadUserByUsername, validateToken -> extractExpiration
+        String username = legacyClaims(token).getSubject();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        boolean valid = !legacyClaims(token).getExpiration().before(new Date());
+        return valid ? userDetails : null;
+    }
+
+    @Benchmark
+    public Object singleParse() throws ServletException, IOException {
+        singleParseFilter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object cachedVerification() throws ServletException, IOException {
+        cachedFilter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    private static JwtService jwtService(int cacheEntries) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(service, "tokenCacheMaxEntries", cacheEntries);
+        return service;
+    }
+
+    private JwtAuthFilter filter(JwtService service) {
+        JwtAuthFilter filter = new JwtAuthFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", service);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        return filter;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.Repository.FavoriteBatchRepository;
+import com.example.mindStreamApplication.Service.CoFavoriteIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.*;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Also favorited" lookups from the in-memory CoFavoriteIndex against the self-join over
+ * favorites that computes the same answer per request, plus the cost of a full index rebuild
+ * and of one incremental update, on an H2 in-memory favorites table.
+ * Show popularity is skewed (a few shows appear in most baskets), like real favorites.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RecommendationBenchmark {
+
+    private static final int SHOWS = 5_000;
+
+    private static final int FAVORITES_PER_USER = 20;
+
+    @Param({"10000", "50000"})
+    private int users;
+
+    private Connection connection;
+    private PreparedStatement selfJoin;
+    private CoFavoriteIndex index;
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:recommendations_" + users + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS favorites");
+            statement.execute("CREATE TABLE favorites (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, "
+                    + "tv_show_id BIGINT, added_at TIMESTAMP, "
+                    + "CONSTRAINT uk_favorites_user_show UNIQUE (user_id, tv_show_id))");
+            statement.execute("CREATE INDEX idx_favorites_tv_show ON favorites (tv_show_id)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO favorites (user_id, tv_show_id) VALUES (?, ?)")) {
+            Random seed = new Random(7);
+            for (long user = 1; user <= users; user++) {
+                Set<Long> picked = new HashSet<>();
+                while (picked.size() < FAVORITES_PER_USER) {
+                    picked.add(skewedShow(seed));
+                }
+                for (long show : picked) {
+                    insert.setLong(1, user);
+                    insert.setLong(2, show);
+                    insert.addBatch();
+                }
+                if (user % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        selfJoin = connection.prepareStatement(
+                "SELECT f2.tv_show_id, COUNT(*) AS shared FROM favorites f1 "
+                        + "JOIN favorites f2 ON f2.user_id = f1.user_id AND f2.tv_show_id <> f1.tv_show_id "
+                        + "WHERE f1.tv_show_id = ? GROUP BY f2.tv_show_id "
+                        + "ORDER BY shared DESC, f2.tv_show_id LIMIT 20");
+
+        FavoriteBatchRepository repository = new FavoriteBatchRepository();
+        ReflectionTestUtils.setField(repository, "jdbcTemplate",
+                new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+        index = new CoFavoriteIndex();
+        ReflectionTestUtils.setField(index, "favoriteBatchRepository", repository);
+        index.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // Show id in 1..SHOWS where low ids are far more popular (roughly Zipf-like)
+    private static long skewedShow(Random random) {
+        double u = random.nextDouble();
+        return 1 + (long) (Math.pow(u, 3) * (SHOWS - 1));
+    }
+
+    @Benchmark
+    public CoFavoriteIndex.Neighbors indexLookup() {
+        return index.neighbors(skewedShow(random));
+    }
+
+    @Benchmark
+    public void selfJoinQuery(Blackhole blackhole) throws SQLException {
+        selfJoin.setLong(1, skewedShow(random));
+        try (ResultSet resultSet = selfJoin.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getInt(2));
+            }
+        }
+    }
+
+    // One favorite added and removed again against a basket of typical size
+    @Benchmark
+    public void incrementalUpdate() {
+        long show = skewedShow(random);
+        long[] others = new long[FAVORITES_PER_USER - 1];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = skewedShow(random);
+        }
+        index.favoriteAdded(show, others);
+        index.favoriteRemoved(show, others);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int rebuild() {
+        return index.rebuild();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RecommendationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
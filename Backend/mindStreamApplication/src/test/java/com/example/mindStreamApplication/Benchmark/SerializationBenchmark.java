@@ -0,0 +1,81 @@
+package com.example.mindStreamApplication.Benchmark;
+
+import com.example.mindStreamApplication.DTO.ApiResponse;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing a /tvshows listing: one HashMap per row inside a Map envelope
+ * (the previous response shape) against TvShowResponse records inside an ApiResponse.
+ * Run with -prof gc to compare gc.alloc.rate.norm (bytes per listing).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<TvShow> catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = AlbumSearchBenchmark.generateCatalog(rows);
+    }
+
+    @Benchmark
+    public byte[] mapRows() throws JsonProcessingException {
+        List<Map<String, Object>> data = new ArrayList<>(catalog.size());
+        for (TvShow show : catalog) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", show.getId());
+            row.put("album", show.getAlbum());
+            row.put("year", show.getYear());
+            row.put("chartPosition", show.getChartPosition());
+            row.put("isFavorite", show.getId() % 10 == 0);
+            data.add(row);
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "TV shows retrieved successfully");
+        response.put("data", data);
+        response.put("count", data.size());
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] recordRows() throws JsonProcessingException {
+        List<TvShowResponse> data = new ArrayList<>(catalog.size());
+        for (TvShow show : catalog) {
+            data.add(TvShowResponse.of(show, show.getId() % 10 == 0));
+        }
+        return objectMapper.writeValueAsBytes(ApiResponse.list("TV shows retrieved successfully", data));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SerializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.mindStreamApplication.Config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("SecurityConfig Tests")
+class SecurityConfigTest {
+
+    private static PasswordEncoder encoderWithStrength(int strength) {
+        SecurityConfig config = new SecurityConfig();
+        ReflectionTestUtils.setField(config, "hashStrength", strength);
+        return config.passwordEncoder();
+    }
+
+    @Nested
+    @DisplayName("Password Encoder Tests")
+    class PasswordEncoderTests {
+
+        @Test
+        @DisplayName("Should store the algorithm and cost with each hash")
+        void passwordEncoder_ShouldPrefixAlgorithmAndCost() {
+            // Act
+            String hash = encoderWithStrength(5).encode("secret");
+
+            // Assert
+            assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+            assertTrue(encoderWithStrength(5).matches("secret", hash));
+        }
+
+        @Test
+        @DisplayName("Should still match hashes written before the prefix and flag them for upgrade")
+        void passwordEncoder_WithLegacyHash_ShouldMatchAndRequestUpgrade() {
+            // Arrange
+            String legacy = new BCryptPasswordEncoder(4).encode("secret");
+            PasswordEncoder encoder = encoderWithStrength(4);
+
+            // Act & Assert
+            assertTrue(encoder.matches("secret", legacy));
+            assertFalse(encoder.matches("wrong", legacy));
+            assertTrue(encoder.upgradeEncoding(legacy));
+        }
+
+        @Test
+        @DisplayName("Should request an upgrade only for hashes below the current strength")
+        void passwordEncoder_ShouldRequestUpgradeBelowStrength() {
+            // Arrange
+            String weak = encoderWithStrength(4).encode("secret");
+            String current = encoderWithStrength(5).encode("secret");
+            PasswordEncoder encoder = encoderWithStrength(5);
+
+            // Act & Assert
+            assertTrue(encoder.upgradeEncoding(weak));
+            assertFalse(encoder.upgradeEncoding(current));
+            assertTrue(encoder.matches("secret", weak));
+        }
+    }
+
+    @Nested
+    @DisplayName("Strength Calibration Tests")
+    class StrengthCalibrationTests {
+
+        @Test
+        @DisplayName("Should pick the highest strength that stays within the target time")
+        void calibrate_ShouldDoubleUntilTarget() {
+            // 10 ms at strength 10: 11 takes 20 ms, 12 takes 40 ms, 13 takes 80 ms, 14 takes 160 ms
+            assertEquals(13, BCryptStrengthCalibrator.calibrate(Duration.ofMillis(100), 10, 16,
+                    strength -> 10_000_000L));
+            assertEquals(12, BCryptStrengthCalibrator.calibrate(Duration.ofMillis(79), 10, 16,
+                    strength -> 10_000_000L));
+        }
+
+        @Test
+        @DisplayName("Should stay within the configured and supported bounds")
+        void calibrate_ShouldClampToBounds() {
+            assertEquals(10, BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 10, 14,
+                    strength -> 50_000_000L));
+            assertEquals(14, BCryptStrengthCalibrator.calibrate(Duration.ofSeconds(10), 10, 14,
+                    strength -> 1_000L));
+            assertEquals(BCryptStrengthCalibrator.MIN_STRENGTH, BCryptStrengthCalibrator.calibrate(
+                    Duration.ofMillis(1), 1, 2, strength -> 1_000_000L));
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.mindStreamApplication.Controller;
 
+import com.example.mindStreamApplication.DTO.AuthResponse;
+import com.example.mindStreamApplication.DTO.AvailabilityResponse;
+import com.example.mindStreamApplication.DTO.UserResponse;
 import com.example.mindStreamApplication.Domain.User;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
 import com.example.mindStreamApplication.Exception.GlobalExceptionHandler;
 import com.example.mindStreamApplication.Exception.InvalidCredentialsException;
+import com.example.mindStreamApplication.Exception.TooManyRequestsException;
+import com.example.mindStreamApplication.JWT.JwtService;
 import com.example.mindStreamApplication.Service.AuthService;
+import com.example.mindStreamApplication.Service.LoginRateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -23,8 +30,10 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,25 +49,26 @@ class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private User testUser;
-    private Map<String, Object> successResponse;
+    private UserResponse userResponse;
 
     @BeforeEach
     void setUp() {
         testUser = new User("testuser", "test@email.com", "password123", "Test User");
         
-        successResponse = new HashMap<>();
-        successResponse.put("success", true);
-        successResponse.put("message", "Operation successful");
-        successResponse.put("user", Map.of(
-            "id", 1L,
-            "username", "testuser",
-            "email", "test@email.com",
-            "fullName", "Test User"
-        ));
+        userResponse = new UserResponse(1L, "testuser", "test@email.com", "Test User");
     }
 
     @Nested
@@ -70,8 +80,8 @@ class AuthControllerTest {
         @DisplayName("Should register user successfully")
         void register_WithValidUser_ShouldReturnSuccess() throws Exception {
             // Arrange
-            successResponse.put("message", "Registration successful");
-            when(authService.register(any(User.class))).thenReturn(successResponse);
+            when(authService.register(any(User.class)))
+                    .thenReturn(new AuthResponse(true, "Registration successful", null, null, userResponse));
 
             // Act & Assert
             mockMvc.perform(post("/auth/register")
@@ -127,9 +137,8 @@ class AuthControllerTest {
         @DisplayName("Should login successfully with valid credentials")
         void login_WithValidCredentials_ShouldReturnSuccess() throws Exception {
             // Arrange
-            successResponse.put("message", "Login successful");
-            successResponse.put("token", "jwt-token-here");
-            when(authService.login("testuser", "password123")).thenReturn(successResponse);
+            when(authService.login("testuser", "password123"))
+                    .thenReturn(new AuthResponse(true, "Login successful", "jwt-token-here", "refresh-token", userResponse));
 
             Map<String, String> loginRequest = new HashMap<>();
             loginRequest.put("username", "testuser");
@@ -218,6 +227,162 @@ class AuthControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 429 with Retry-After when login attempts are throttled")
+        void login_WhenThrottled_ShouldReturnTooManyRequests() throws Exception {
+            // Arrange
+            doThrow(new TooManyRequestsException("Too many login attempts", 42))
+                    .when(loginRateLimiter).acquire(eq("testuser"), anyString());
+
+            Map<String, String> loginRequest = new HashMap<>();
+            loginRequest.put("username", "testuser");
+            loginRequest.put("password", "password123");
+
+            // Act & Assert
+            mockMvc.perform(post("/auth/login")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "42"))
+                    .andExpect(jsonPath("$.success").value(false));
+            verify(authService, never()).login(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /auth/refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return a new token pair for a valid refresh token")
+        void refresh_WithValidToken_ShouldReturnNewTokens() throws Exception {
+            // Arrange
+            when(authService.refresh("refresh-token"))
+                    .thenReturn(new AuthResponse(true, "Token refreshed", "new-jwt", "new-refresh", userResponse));
+
+            // Act & Assert
+            mockMvc.perform(post("/auth/refresh")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("refreshToken", "refresh-token"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.token").value("new-jwt"))
+                    .andExpect(jsonPath("$.refreshToken").value("new-refresh"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return unauthorized for a revoked or reused refresh token")
+        void refresh_WithRejectedToken_ShouldReturnUnauthorized() throws Exception {
+            // Arrange
+            when(authService.refresh("reused-token"))
+                    .thenThrow(new InvalidCredentialsException("Invalid refresh token"));
+
+            // Act & Assert
+            mockMvc.perform(post("/auth/refresh")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("refreshToken", "reused-token"))))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return bad request when the refresh token is missing")
+        void refresh_WithoutToken_ShouldReturnBadRequest() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/auth/refresh")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Refresh token is required"));
+            verifyNoInteractions(authService);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /auth/logout Tests")
+    class LogoutTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should revoke the refresh token on logout")
+        void logout_WithRefreshToken_ShouldRevokeIt() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/auth/logout")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("refreshToken", "refresh-token"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true));
+            verify(authService).logout("refresh-token");
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should succeed without a request body")
+        void logout_WithoutBody_ShouldSucceed() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/auth/logout").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Logout successful"));
+            verifyNoInteractions(authService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /auth/availability Tests")
+    class AvailabilityTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should report username and email availability")
+        void availability_WithUsernameAndEmail_ShouldReturnBoth() throws Exception {
+            // Arrange
+            when(authService.checkAvailability("testuser", "test@email.com"))
+                    .thenReturn(new AvailabilityResponse("testuser", false, "test@email.com", true));
+
+            // Act & Assert
+            mockMvc.perform(get("/auth/availability")
+                    .param("username", "testuser")
+                    .param("email", "test@email.com"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable").value(false))
+                    .andExpect(jsonPath("$.emailAvailable").value(true));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should only report the field that was asked about")
+        void availability_WithUsernameOnly_ShouldOmitEmail() throws Exception {
+            // Arrange
+            when(authService.checkAvailability("newuser", null))
+                    .thenReturn(new AvailabilityResponse("newuser", true, null, null));
+
+            // Act & Assert
+            mockMvc.perform(get("/auth/availability").param("username", "newuser").param("email", " "))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable").value(true))
+                    .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return bad request when neither username nor email is given")
+        void availability_WithoutParams_ShouldReturnBadRequest() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/auth/availability"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+            verifyNoInteractions(authService);
+        }
     }
 
     @Nested
@@ -229,9 +394,8 @@ class AuthControllerTest {
         @DisplayName("Should handle special characters in username")
         void login_WithSpecialCharactersInUsername_ShouldWork() throws Exception {
             // Arrange
-            successResponse.put("message", "Login successful");
-            successResponse.put("token", "jwt-token");
-            when(authService.login("user@special#123", "password")).thenReturn(successResponse);
+            when(authService.login("user@special#123", "password"))
+                    .thenReturn(new AuthResponse(true, "Login successful", "jwt-token", "refresh-token", userResponse));
 
             Map<String, String> loginRequest = new HashMap<>();
             loginRequest.put("username", "user@special#123");
@@ -255,8 +419,8 @@ class AuthControllerTest {
             loginRequest.put("username", "testuser");
             loginRequest.put("password", longPassword);
 
-            successResponse.put("message", "Login successful");
-            when(authService.login("testuser", longPassword)).thenReturn(successResponse);
+            when(authService.login("testuser", longPassword))
+                    .thenReturn(new AuthResponse(true, "Login successful", null, null, userResponse));
 
             // Act & Assert
             mockMvc.perform(post("/auth/login")
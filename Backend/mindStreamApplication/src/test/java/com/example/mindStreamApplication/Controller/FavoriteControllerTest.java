@@ -1,8 +1,13 @@
 package com.example.mindStreamApplication.Controller;
 
+import com.example.mindStreamApplication.DTO.FavoriteBatchRequest;
+import com.example.mindStreamApplication.DTO.FavoriteBatchResult;
+import com.example.mindStreamApplication.DTO.FavoriteResponse;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
 import com.example.mindStreamApplication.Exception.GlobalExceptionHandler;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
+import com.example.mindStreamApplication.JWT.JwtService;
 import com.example.mindStreamApplication.Service.FavoriteService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +27,8 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,11 +46,17 @@ class FavoriteControllerTest {
     @MockBean
     private FavoriteService favoriteService;
 
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private Map<String, Object> successResponse;
-    private List<Map<String, Object>> favoritesList;
+    private List<FavoriteResponse> favoritesList;
 
     @BeforeEach
     void setUp() {
@@ -50,16 +64,9 @@ class FavoriteControllerTest {
         successResponse.put("success", true);
         successResponse.put("message", "Operation successful");
 
-        Map<String, Object> favoriteItem = new HashMap<>();
-        favoriteItem.put("id", 1L);
-        favoriteItem.put("tvShow", Map.of(
-            "id", 10L,
-            "album", "Breaking Bad",
-            "year", 2008,
-            "chartPosition", "1"
-        ));
-        favoriteItem.put("addedAt", LocalDateTime.now().toString());
-        favoriteItem.put("isFavorite", true);
+        FavoriteResponse favoriteItem = new FavoriteResponse(1L,
+                new FavoriteResponse.TvShowSummary(10L, "Breaking Bad", 2008, "1"),
+                LocalDateTime.now(), true);
 
         favoritesList = Arrays.asList(favoriteItem);
     }
@@ -74,14 +81,17 @@ class FavoriteControllerTest {
         void getUserFavorites_ShouldReturnFavorites() throws Exception {
             // Arrange
             when(favoriteService.getUserFavorites(1L)).thenReturn(favoritesList);
-            when(favoriteService.countUserFavorites(1L)).thenReturn(1L);
 
             // Act & Assert
             mockMvc.perform(get("/favorites/user/1"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.count").value(1))
-                    .andExpect(jsonPath("$.data").isArray());
+                    .andExpect(jsonPath("$.data").isArray())
+                    .andExpect(jsonPath("$.data[0].tvShow.album").value("Breaking Bad"))
+                    .andExpect(jsonPath("$.data[0].isFavorite").value(true));
+
+            verify(favoriteService, never()).countUserFavorites(anyLong());
         }
 
         @Test
@@ -90,7 +100,6 @@ class FavoriteControllerTest {
         void getUserFavorites_WhenNoFavorites_ShouldReturnEmptyList() throws Exception {
             // Arrange
             when(favoriteService.getUserFavorites(999L)).thenReturn(Collections.emptyList());
-            when(favoriteService.countUserFavorites(999L)).thenReturn(0L);
 
             // Act & Assert
             mockMvc.perform(get("/favorites/user/999"))
@@ -270,6 +279,53 @@ class FavoriteControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /favorites/batch Tests")
+    class BatchTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should apply the operations and return per-item outcomes")
+        void applyBatch_ShouldReturnOutcomes() throws Exception {
+            // Arrange
+            List<FavoriteBatchRequest.Operation> operations = List.of(
+                    new FavoriteBatchRequest.Operation("add", 10L),
+                    new FavoriteBatchRequest.Operation("remove", 20L));
+            when(favoriteService.applyBatch(1L, operations)).thenReturn(new FavoriteBatchResult(1L, 1, 0, List.of(
+                    new FavoriteBatchResult.Item("add", 10L, "added"),
+                    new FavoriteBatchResult.Item("remove", 20L, "unchanged"))));
+
+            // Act & Assert
+            mockMvc.perform(post("/favorites/batch")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new FavoriteBatchRequest(1L, operations))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.added").value(1))
+                    .andExpect(jsonPath("$.removed").value(0))
+                    .andExpect(jsonPath("$.results[0].outcome").value("added"))
+                    .andExpect(jsonPath("$.results[1].tvShowId").value(20))
+                    .andExpect(jsonPath("$.results[1].outcome").value("unchanged"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return bad request for an invalid batch")
+        void applyBatch_WhenInvalid_ShouldReturnBadRequest() throws Exception {
+            // Arrange
+            when(favoriteService.applyBatch(1L, null))
+                    .thenThrow(new InvalidRequestException("operations are required"));
+
+            // Act & Assert
+            mockMvc.perform(post("/favorites/batch")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"userId\":1}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("operations are required"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /favorites/check Tests")
     class CheckFavoriteTests {
@@ -317,7 +373,6 @@ class FavoriteControllerTest {
         void getUserFavorites_WithLargeUserId_ShouldWork() throws Exception {
             // Arrange
             when(favoriteService.getUserFavorites(anyLong())).thenReturn(Collections.emptyList());
-            when(favoriteService.countUserFavorites(anyLong())).thenReturn(0L);
 
             // Act & Assert
             mockMvc.perform(get("/favorites/user/" + Long.MAX_VALUE))
@@ -0,0 +1,99 @@
+package com.example.mindStreamApplication.Controller;
+
+import com.example.mindStreamApplication.Config.SecurityConfig;
+import com.example.mindStreamApplication.DTO.FeedItemResponse;
+import com.example.mindStreamApplication.Exception.GlobalExceptionHandler;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import com.example.mindStreamApplication.JWT.JwtService;
+import com.example.mindStreamApplication.Service.FeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+@WebMvcTest(FeedController.class)
+@Import({GlobalExceptionHandler.class, SecurityConfig.class})
+@TestPropertySource(properties = "auth.hashing.strength=4")
+@DisplayName("FeedController Tests")
+class FeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FeedService feedService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @Nested
+    @DisplayName("GET /feed/{userId} Tests")
+    class GetFeedTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return the ranked feed")
+        void getFeed_ShouldReturnItems() throws Exception {
+            // Arrange
+            when(feedService.getFeed(1L, 5)).thenReturn(List.of(
+                    new FeedItemResponse(3L, "The Wire", 2002, "3", 0.75, "co-favorite"),
+                    new FeedItemResponse(2L, "Game of Thrones", 2011, "2", 0.25, "popular")));
+
+            // Act & Assert
+            mockMvc.perform(get("/feed/1").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.count").value(2))
+                    .andExpect(jsonPath("$.data[0].id").value(3))
+                    .andExpect(jsonPath("$.data[0].reason").value("co-favorite"))
+                    .andExpect(jsonPath("$.data[1].score").value(0.25));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for an invalid limit")
+        void getFeed_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+            // Arrange
+            when(feedService.getFeed(1L, 0)).thenThrow(new InvalidRequestException("limit must be between 1 and 100"));
+
+            // Act & Assert
+            mockMvc.perform(get("/feed/1").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should require authentication")
+        void getFeed_WithoutAuthentication_ShouldBeRejected() throws Exception {
+            mockMvc.perform(get("/feed/1"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should answer 401 (not 403) for an expired token so the client refreshes it")
+        void getFeed_WithExpiredToken_ShouldReturnUnauthorized() throws Exception {
+            // Arrange: the filter leaves the request anonymous when verification fails
+            when(jwtService.verifyToken("expired.jwt.token")).thenReturn(null);
+
+            // Act & Assert
+            mockMvc.perform(get("/feed/1").header("Authorization", "Bearer expired.jwt.token"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+}
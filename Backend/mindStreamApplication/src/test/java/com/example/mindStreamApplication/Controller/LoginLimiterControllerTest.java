@@ -0,0 +1,132 @@
+package com.example.mindStreamApplication.Controller;
+
+import com.example.mindStreamApplication.Config.SecurityConfig;
+import com.example.mindStreamApplication.DTO.LoginLimitState;
+import com.example.mindStreamApplication.DTO.LoginLimiterStats;
+import com.example.mindStreamApplication.Exception.GlobalExceptionHandler;
+import com.example.mindStreamApplication.JWT.JwtService;
+import com.example.mindStreamApplication.Service.LoginRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+@WebMvcTest(LoginLimiterController.class)
+@Import({GlobalExceptionHandler.class, SecurityConfig.class})
+@TestPropertySource(properties = "auth.hashing.strength=4")
+@DisplayName("LoginLimiterController Tests")
+class LoginLimiterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @Nested
+    @DisplayName("GET /admin/login-limiter Tests")
+    class GetStatsTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return settings, counters and blocked keys")
+        void getStats_ShouldReturnLimiterState() throws Exception {
+            // Arrange
+            when(loginRateLimiter.stats()).thenReturn(new LoginLimiterStats(60, 10, 50, 2, 1, 40, 3, 0,
+                    List.of(new LoginLimitState("username", "alice", 10, 10, true, 12))));
+
+            // Act & Assert
+            mockMvc.perform(get("/admin/login-limiter"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.perUsername").value(10))
+                    .andExpect(jsonPath("$.data.blockedByUsername").value(3))
+                    .andExpect(jsonPath("$.data.blocked[0].key").value("alice"))
+                    .andExpect(jsonPath("$.data.blocked[0].retryAfterSeconds").value(12));
+        }
+
+        @Test
+        @DisplayName("Should require authentication")
+        void getStats_WithoutAuthentication_ShouldBeRejected() throws Exception {
+            mockMvc.perform(get("/admin/login-limiter"))
+                    .andExpect(status().isUnauthorized());
+            verifyNoInteractions(loginRateLimiter);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should forbid users without the admin role")
+        void getStatsAndReset_WithoutAdminRole_ShouldBeForbidden() throws Exception {
+            mockMvc.perform(get("/admin/login-limiter"))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(delete("/admin/login-limiter/username/alice").with(csrf()))
+                    .andExpect(status().isForbidden());
+            verifyNoInteractions(loginRateLimiter);
+        }
+    }
+
+    @Nested
+    @DisplayName("Single Key Tests")
+    class SingleKeyTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return the state of one IP")
+        void getState_ShouldReturnKeyState() throws Exception {
+            // Arrange
+            when(loginRateLimiter.state("ip", "10.0.0.7"))
+                    .thenReturn(new LoginLimitState("ip", "10.0.0.7", 4.5, 50, false, 0));
+
+            // Act & Assert
+            mockMvc.perform(get("/admin/login-limiter/ip/10.0.0.7"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.attempts").value(4.5))
+                    .andExpect(jsonPath("$.data.blocked").value(false));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should clear one username")
+        void reset_ShouldClearKey() throws Exception {
+            // Arrange
+            when(loginRateLimiter.reset("username", "alice")).thenReturn(true);
+
+            // Act & Assert
+            mockMvc.perform(delete("/admin/login-limiter/username/alice").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Login limiter entry cleared"));
+            verify(loginRateLimiter).reset("username", "alice");
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return 400 for an unknown key type")
+        void getState_WithUnknownType_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(get("/admin/login-limiter/email/alice"))
+                    .andExpect(status().isBadRequest());
+            verify(loginRateLimiter, never()).state(any(), any());
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.example.mindStreamApplication.Controller;
 
+import com.example.mindStreamApplication.Config.SecurityConfig;
+import com.example.mindStreamApplication.DTO.CatalogBrowse;
+import com.example.mindStreamApplication.DTO.CatalogFacets;
+import com.example.mindStreamApplication.DTO.CatalogPage;
+import com.example.mindStreamApplication.DTO.FeedSyncResult;
+import com.example.mindStreamApplication.DTO.TvShowImportResult;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.DTO.RecommendedTvShowResponse;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
 import com.example.mindStreamApplication.Exception.GlobalExceptionHandler;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
+import com.example.mindStreamApplication.JWT.JwtService;
+import com.example.mindStreamApplication.Service.CatalogFeedSync;
+import com.example.mindStreamApplication.Service.TvShowImportService;
 import com.example.mindStreamApplication.Service.TvShowService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,10 +27,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -27,7 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 
 @WebMvcTest(TvShowController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, SecurityConfig.class})
+@TestPropertySource(properties = "auth.hashing.strength=4")
 @DisplayName("TvShowController Tests")
 class TvShowControllerTest {
 
@@ -37,29 +55,30 @@ class TvShowControllerTest {
     @MockBean
     private TvShowService tvShowService;
 
+    @MockBean
+    private TvShowImportService tvShowImportService;
+
+    @MockBean
+    private CatalogFeedSync catalogFeedSync;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
-    private Map<String, Object> tvShowMap;
-    private List<Map<String, Object>> tvShowsList;
+    private TvShowResponse tvShow;
+    private List<TvShowResponse> tvShowsList;
 
     @BeforeEach
     void setUp() {
-        tvShowMap = new HashMap<>();
-        tvShowMap.put("id", 1L);
-        tvShowMap.put("album", "Breaking Bad");
-        tvShowMap.put("year", 2008);
-        tvShowMap.put("chartPosition", "1");
-        tvShowMap.put("isFavorite", false);
-
-        Map<String, Object> tvShowMap2 = new HashMap<>();
-        tvShowMap2.put("id", 2L);
-        tvShowMap2.put("album", "Game of Thrones");
-        tvShowMap2.put("year", 2011);
-        tvShowMap2.put("chartPosition", "2");
-        tvShowMap2.put("isFavorite", false);
-
-        tvShowsList = Arrays.asList(tvShowMap, tvShowMap2);
+        tvShow = new TvShowResponse(1L, "Breaking Bad", 2008, "1", false);
+        TvShowResponse tvShow2 = new TvShowResponse(2L, "Game of Thrones", 2011, "2", false);
+
+        tvShowsList = Arrays.asList(tvShow, tvShow2);
     }
 
     @Nested
@@ -87,8 +106,8 @@ class TvShowControllerTest {
         @DisplayName("Should return TV shows with user favorite status")
         void getAllTvShows_WithUserId_ShouldIncludeFavoriteStatus() throws Exception {
             // Arrange
-            tvShowMap.put("isFavorite", true);
-            when(tvShowService.getAllTvShows(1L)).thenReturn(Arrays.asList(tvShowMap));
+            tvShow = new TvShowResponse(1L, "Breaking Bad", 2008, "1", true);
+            when(tvShowService.getAllTvShows(1L)).thenReturn(Arrays.asList(tvShow));
 
             // Act & Assert
             mockMvc.perform(get("/tvshows")
@@ -113,6 +132,204 @@ class TvShowControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Keyset Pagination Tests")
+    class PaginationTests {
+
+        private CatalogPage page(String nextCursor) {
+            return new CatalogPage(tvShowsList, nextCursor, nextCursor != null, null);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return a page with next cursor when limit is given")
+        void getAllTvShows_WithLimit_ShouldReturnPage() throws Exception {
+            // Arrange
+            when(tvShowService.getTvShowsPage(2, null, false, null)).thenReturn(page("next"));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows").param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.hasMore").value(true))
+                    .andExpect(jsonPath("$.count").doesNotExist());
+            verify(tvShowService, never()).getAllTvShows(any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should pass cursor and count flag to the service")
+        void getAllTvShows_WithCursorAndCount_ShouldForwardParameters() throws Exception {
+            // Arrange
+            CatalogPage lastPage = new CatalogPage(tvShowsList, null, false, 12L);
+            when(tvShowService.getTvShowsPage(null, "abc", true, 1L)).thenReturn(lastPage);
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows")
+                    .param("after", "abc")
+                    .param("includeCount", "true")
+                    .param("userId", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(12))
+                    .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should page search results")
+        void searchTvShows_WithLimit_ShouldReturnPage() throws Exception {
+            // Arrange
+            when(tvShowService.searchTvShowsPage("Bad", 1, null, false, null)).thenReturn(page("next"));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/search").param("query", "Bad").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should page TV shows by year")
+        void getTvShowsByYear_WithLimit_ShouldReturnPage() throws Exception {
+            // Arrange
+            when(tvShowService.getTvShowsByYearPage(2011, 1, null, false, null)).thenReturn(page(null));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/year/2011").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for an invalid cursor")
+        void getAllTvShows_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+            // Arrange
+            when(tvShowService.getTvShowsPage(any(), eq("bad"), anyBoolean(), any()))
+                    .thenThrow(new InvalidRequestException("Invalid cursor: bad"));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows").param("after", "bad"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /tvshows/browse Tests")
+    class BrowseTvShowsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return the page with its cursor, total and facet counts")
+        void browseTvShows_ShouldReturnPageAndFacets() throws Exception {
+            // Arrange
+            CatalogFacets facets = new CatalogFacets(
+                    List.of(new CatalogFacets.FacetCount(2008, 1), new CatalogFacets.FacetCount(2011, 1)),
+                    List.of(new CatalogFacets.FacetCount(2000, 1), new CatalogFacets.FacetCount(2010, 1)), 3);
+            CatalogPage page = new CatalogPage(
+                    List.of(new TvShowResponse(1L, "Breaking Bad", 2008, "1", false)), "next", true, 2L);
+            when(tvShowService.browseTvShows(2000, 2015, "b", 1, null, null))
+                    .thenReturn(new CatalogBrowse(page, facets));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/browse")
+                            .param("fromYear", "2000").param("toYear", "2015")
+                            .param("prefix", "b").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].album").value("Breaking Bad"))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.count").value(2))
+                    .andExpect(jsonPath("$.facets.years[1].value").value(2011))
+                    .andExpect(jsonPath("$.facets.decades[0].value").value(2000))
+                    .andExpect(jsonPath("$.facets.unknownYear").value(3));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for an inverted year range")
+        void browseTvShows_WithInvertedRange_ShouldReturnBadRequest() throws Exception {
+            // Arrange
+            when(tvShowService.browseTvShows(2020, 2000, null, null, null, null))
+                    .thenThrow(new InvalidRequestException("fromYear must not be greater than toYear"));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/browse").param("fromYear", "2020").param("toYear", "2000"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /tvshows/chart Tests")
+    class GetChartTvShowsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return shows within the rank range")
+        void getChartTvShows_ShouldReturnShows() throws Exception {
+            // Arrange
+            when(tvShowService.getChartTvShows(1, 2, null, null)).thenReturn(List.of(
+                    new TvShowResponse(1L, "Breaking Bad", 2008, "1", false),
+                    new TvShowResponse(2L, "Game of Thrones", 2011, "2", false)));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/chart").param("from", "1").param("to", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(2))
+                    .andExpect(jsonPath("$.data[1].chartPosition").value("2"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return bad request for an inverted range")
+        void getChartTvShows_WithInvertedRange_ShouldReturnBadRequest() throws Exception {
+            // Arrange
+            when(tvShowService.getChartTvShows(5, 2, null, null))
+                    .thenThrow(new InvalidRequestException("from must not be greater than to"));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/chart").param("from", "5").param("to", "2"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /tvshows/top Tests")
+    class GetTopTvShowsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return the most favorited shows with their counts")
+        void getTopTvShows_ShouldReturnShows() throws Exception {
+            // Arrange
+            when(tvShowService.getTopTvShows(5)).thenReturn(List.of(
+                    new PopularTvShowResponse(2L, "Game of Thrones", 2011, "2", 12),
+                    new PopularTvShowResponse(1L, "Breaking Bad", 2008, "1", 9)));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/top").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.count").value(2))
+                    .andExpect(jsonPath("$.data[0].album").value("Game of Thrones"))
+                    .andExpect(jsonPath("$.data[0].favoriteCount").value(12));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return bad request for an invalid limit")
+        void getTopTvShows_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+            // Arrange
+            when(tvShowService.getTopTvShows(0)).thenThrow(new InvalidRequestException("limit must be between 1 and 100"));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/top").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /tvshows/{id} Tests")
     class GetTvShowByIdTests {
@@ -122,7 +339,7 @@ class TvShowControllerTest {
         @DisplayName("Should return TV show by id")
         void getTvShowById_WhenExists_ShouldReturnShow() throws Exception {
             // Arrange
-            when(tvShowService.getTvShowById(1L, null)).thenReturn(tvShowMap);
+            when(tvShowService.getTvShowById(1L, null)).thenReturn(tvShow);
 
             // Act & Assert
             mockMvc.perform(get("/tvshows/1"))
@@ -150,8 +367,8 @@ class TvShowControllerTest {
         @DisplayName("Should include favorite status when userId provided")
         void getTvShowById_WithUserId_ShouldIncludeFavoriteStatus() throws Exception {
             // Arrange
-            tvShowMap.put("isFavorite", true);
-            when(tvShowService.getTvShowById(1L, 1L)).thenReturn(tvShowMap);
+            tvShow = new TvShowResponse(1L, "Breaking Bad", 2008, "1", true);
+            when(tvShowService.getTvShowById(1L, 1L)).thenReturn(tvShow);
 
             // Act & Assert
             mockMvc.perform(get("/tvshows/1")
@@ -161,6 +378,40 @@ class TvShowControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /tvshows/{id}/recommendations Tests")
+    class GetRecommendationsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return recommended shows with shared favorite counts")
+        void getRecommendations_ShouldReturnShows() throws Exception {
+            // Arrange
+            when(tvShowService.getRecommendations(1L, 5, 7L)).thenReturn(List.of(
+                    new RecommendedTvShowResponse(2L, "Game of Thrones", 2011, "2", 4)));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/1/recommendations").param("limit", "5").param("userId", "7"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(1))
+                    .andExpect(jsonPath("$.data[0].id").value(2))
+                    .andExpect(jsonPath("$.data[0].sharedFavorites").value(4));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return not found for an unknown show")
+        void getRecommendations_WhenShowMissing_ShouldReturnNotFound() throws Exception {
+            // Arrange
+            when(tvShowService.getRecommendations(999L, null, null))
+                    .thenThrow(new ResourceNotFoundException("TV show", "id", 999L));
+
+            // Act & Assert
+            mockMvc.perform(get("/tvshows/999/recommendations"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("GET /tvshows/search Tests")
     class SearchTvShowsTests {
@@ -170,7 +421,7 @@ class TvShowControllerTest {
         @DisplayName("Should search TV shows by query")
         void searchTvShows_ShouldReturnMatchingShows() throws Exception {
             // Arrange
-            when(tvShowService.searchTvShows("Breaking", null)).thenReturn(Arrays.asList(tvShowMap));
+            when(tvShowService.searchTvShows("Breaking", null)).thenReturn(Arrays.asList(tvShow));
 
             // Act & Assert
             mockMvc.perform(get("/tvshows/search")
@@ -206,7 +457,7 @@ class TvShowControllerTest {
         @DisplayName("Should return TV shows by year")
         void getTvShowsByYear_ShouldReturnShowsFromYear() throws Exception {
             // Arrange
-            when(tvShowService.getTvShowsByYear(2008, null)).thenReturn(Arrays.asList(tvShowMap));
+            when(tvShowService.getTvShowsByYear(2008, null)).thenReturn(Arrays.asList(tvShow));
 
             // Act & Assert
             mockMvc.perform(get("/tvshows/year/2008"))
@@ -231,6 +482,160 @@ class TvShowControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /tvshows/stream Tests")
+    class StreamTvShowsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should write one JSON object per line")
+        void streamTvShows_ShouldWriteNdjson() throws Exception {
+            // Arrange
+            when(tvShowService.streamAllTvShows(eq(1L), any())).thenAnswer(invocation -> {
+                Consumer<TvShowResponse> action = invocation.getArgument(1);
+                tvShowsList.forEach(action);
+                return (long) tvShowsList.size();
+            });
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/tvshows/stream").param("userId", "1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(
+                            "{\"id\":1,\"album\":\"Breaking Bad\",\"year\":2008,\"chartPosition\":\"1\",\"isFavorite\":false}\n"
+                            + "{\"id\":2,\"album\":\"Game of Thrones\",\"year\":2011,\"chartPosition\":\"2\",\"isFavorite\":false}\n"));
+            verify(tvShowService, never()).getAllTvShows(any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return an empty body for an empty catalog")
+        void streamTvShows_WhenNoShows_ShouldWriteNothing() throws Exception {
+            // Arrange
+            when(tvShowService.streamAllTvShows(isNull(), any())).thenReturn(0L);
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/tvshows/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /tvshows/import Tests")
+    class ImportTvShowsTests {
+
+        private TvShowImportResult importResult() {
+            return new TvShowImportResult(3, 2, 1, 0, 5, 400,
+                    Arrays.asList(new TvShowImportResult.Batch(1, 2, 2, 5, 400)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should import a CSV body")
+        void importTvShows_WithCsv_ShouldUseCsvImport() throws Exception {
+            // Arrange
+            when(tvShowImportService.importCsv(any())).thenReturn(importResult());
+
+            // Act & Assert
+            mockMvc.perform(post("/tvshows/import")
+                    .with(csrf())
+                    .contentType("text/csv")
+                    .content("The Wire,2002,3\nFriends,1994,5\nFriends,1994,5\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.message").value("Imported 2 of 3 TV shows"))
+                    .andExpect(jsonPath("$.data.duplicates").value(1))
+                    .andExpect(jsonPath("$.data.batches[0].rowsPerSecond").value(400));
+            verify(tvShowImportService, never()).importJson(any());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should import a JSON array body")
+        void importTvShows_WithJson_ShouldUseJsonImport() throws Exception {
+            // Arrange
+            when(tvShowImportService.importJson(any())).thenReturn(importResult());
+
+            // Act & Assert
+            mockMvc.perform(post("/tvshows/import")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{\"album\":\"The Wire\"}]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.inserted").value(2));
+            verify(tvShowImportService, never()).importCsv(any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should forbid imports by users without the admin role")
+        void importTvShows_WithoutAdminRole_ShouldBeForbidden() throws Exception {
+            mockMvc.perform(post("/tvshows/import")
+                    .contentType("text/csv")
+                    .content("The Wire,2002,3\n"))
+                    .andExpect(status().isForbidden());
+            verifyNoInteractions(tvShowImportService);
+        }
+
+        @Test
+        @DisplayName("Should require authentication for imports")
+        void importTvShows_WithoutAuthentication_ShouldBeRejected() throws Exception {
+            mockMvc.perform(post("/tvshows/import")
+                    .contentType("text/csv")
+                    .content("The Wire,2002,3\n"))
+                    .andExpect(status().isUnauthorized());
+            verifyNoInteractions(tvShowImportService);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /tvshows/sync Tests")
+    class SyncTvShowsTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should run the feed sync and return its outcome")
+        void syncTvShows_ShouldReturnResult() throws Exception {
+            // Arrange
+            when(catalogFeedSync.sync()).thenReturn(new FeedSyncResult("updated", 3, 2, 1, 0, 0, 12));
+
+            // Act & Assert
+            mockMvc.perform(post("/tvshows/sync").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Catalog feed sync: updated"))
+                    .andExpect(jsonPath("$.data.inserted").value(2))
+                    .andExpect(jsonPath("$.data.updated").value(1));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should forbid a sync by users without the admin role")
+        void syncTvShows_WithoutAdminRole_ShouldBeForbidden() throws Exception {
+            mockMvc.perform(post("/tvshows/sync"))
+                    .andExpect(status().isForbidden());
+            verifyNoInteractions(catalogFeedSync);
+        }
+
+        @Test
+        @DisplayName("Should require authentication for a sync")
+        void syncTvShows_WithoutAuthentication_ShouldBeRejected() throws Exception {
+            mockMvc.perform(post("/tvshows/sync"))
+                    .andExpect(status().isUnauthorized());
+            verifyNoInteractions(catalogFeedSync);
+        }
+    }
+
     @Nested
     @DisplayName("POST /tvshows Tests")
     class AddTvShowTests {
@@ -243,7 +648,7 @@ class TvShowControllerTest {
             Map<String, Object> successResponse = new HashMap<>();
             successResponse.put("success", true);
             successResponse.put("message", "TV show added successfully");
-            successResponse.put("tvShow", tvShowMap);
+            successResponse.put("tvShow", tvShow);
 
             when(tvShowService.addTvShow("New Show", 2020, "10")).thenReturn(successResponse);
 
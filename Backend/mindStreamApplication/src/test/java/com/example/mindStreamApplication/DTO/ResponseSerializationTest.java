@@ -0,0 +1,108 @@
+package com.example.mindStreamApplication.DTO;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Response DTO Serialization Tests")
+class ResponseSerializationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Nested
+    @DisplayName("TvShowResponse Tests")
+    class TvShowResponseTests {
+
+        @Test
+        @DisplayName("Should keep the field names of the previous map response")
+        void serialize_ShouldWriteAllFields() throws Exception {
+            // Act
+            JsonNode json = objectMapper.valueToTree(new TvShowResponse(1L, "Breaking Bad", 2008, "1", true));
+
+            // Assert
+            assertEquals(1L, json.get("id").asLong());
+            assertEquals("Breaking Bad", json.get("album").asText());
+            assertEquals(2008, json.get("year").asInt());
+            assertEquals("1", json.get("chartPosition").asText());
+            assertTrue(json.get("isFavorite").asBoolean());
+            assertEquals(5, json.size());
+        }
+
+        @Test
+        @DisplayName("Should write null fields explicitly")
+        void serialize_WithNullFields_ShouldWriteNulls() throws Exception {
+            // Act
+            JsonNode json = objectMapper.valueToTree(new TvShowResponse(2L, "No Year", null, null, false));
+
+            // Assert
+            assertTrue(json.get("year").isNull());
+            assertTrue(json.get("chartPosition").isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("Envelope Tests")
+    class EnvelopeTests {
+
+        @Test
+        @DisplayName("Should include the count for lists")
+        void list_ShouldWriteCount() throws Exception {
+            // Act
+            JsonNode json = objectMapper.valueToTree(ApiResponse.list("ok", Arrays.asList(
+                    new TvShowResponse(1L, "Breaking Bad", 2008, "1", false))));
+
+            // Assert
+            assertTrue(json.get("success").asBoolean());
+            assertEquals(1, json.get("count").asInt());
+            assertEquals("Breaking Bad", json.get("data").get(0).get("album").asText());
+        }
+
+        @Test
+        @DisplayName("Should omit count on pages unless requested")
+        void page_WithoutCount_ShouldOmitCountButKeepCursor() throws Exception {
+            // Act
+            JsonNode json = objectMapper.valueToTree(
+                    PageResponse.of("ok", new CatalogPage(Arrays.asList(), null, false, null)));
+
+            // Assert
+            assertFalse(json.has("count"));
+            assertTrue(json.has("nextCursor"));
+            assertFalse(json.get("hasMore").asBoolean());
+        }
+
+        @Test
+        @DisplayName("Should omit token and user on failure")
+        void authFailure_ShouldOmitEmptyFields() throws Exception {
+            // Act
+            JsonNode json = objectMapper.valueToTree(AuthResponse.failure("Invalid credentials"));
+
+            // Assert
+            assertFalse(json.get("success").asBoolean());
+            assertFalse(json.has("token"));
+            assertFalse(json.has("user"));
+        }
+
+        @Test
+        @DisplayName("Should nest the show summary in favorites")
+        void favorite_ShouldNestTvShow() throws Exception {
+            // Act
+            JsonNode json = objectMapper.valueToTree(new FavoriteResponse(1L,
+                    new FavoriteResponse.TvShowSummary(10L, "Breaking Bad", 2008, "1"),
+                    LocalDateTime.of(2024, 1, 1, 12, 0), true));
+
+            // Assert
+            assertEquals(10L, json.get("tvShow").get("id").asLong());
+            assertTrue(json.get("isFavorite").asBoolean());
+            assertTrue(json.has("addedAt"));
+        }
+    }
+}
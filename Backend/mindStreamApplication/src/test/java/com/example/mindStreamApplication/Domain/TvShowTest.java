@@ -99,6 +99,35 @@ class TvShowTest {
         }
     }
 
+    @Nested
+    @DisplayName("Chart Rank Tests")
+    class ChartRankTests {
+
+        @Test
+        @DisplayName("Should derive the rank from a numeric chart position")
+        void setChartPosition_ShouldSetChartRank() {
+            tvShow.setChartPosition(" 10 ");
+            assertEquals(10, tvShow.getChartRank());
+            assertEquals(" 10 ", tvShow.getChartPosition());
+
+            tvShow.setChartPosition(null);
+            assertNull(tvShow.getChartRank());
+            assertEquals(3, new TvShow("The Wire", 2002, "3").getChartRank());
+        }
+
+        @Test
+        @DisplayName("Should leave non-numeric and out of range positions without a rank")
+        void parseChartRank_WithoutNumber_ShouldReturnNull() {
+            assertNull(TvShow.parseChartRank("-"));
+            assertNull(TvShow.parseChartRank("12 (new)"));
+            assertNull(TvShow.parseChartRank("0"));
+            assertNull(TvShow.parseChartRank("-3"));
+            assertNull(TvShow.parseChartRank("1234567890"));
+            assertNull(TvShow.parseChartRank("\u0663"));
+            assertEquals(999_999_999, TvShow.parseChartRank("999999999"));
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case Tests")
     class EdgeCaseTests {
@@ -146,6 +146,31 @@ class CustomExceptionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("InvalidRequestException Tests")
+    class InvalidRequestExceptionTests {
+
+        @Test
+        @DisplayName("Should create exception with message")
+        void constructor_WithMessage_ShouldWork() {
+            // Act
+            InvalidRequestException exception = new InvalidRequestException("Invalid cursor");
+
+            // Assert
+            assertEquals("Invalid cursor", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should extend RuntimeException")
+        void shouldExtendRuntimeException() {
+            // Act
+            InvalidRequestException exception = new InvalidRequestException("Test");
+
+            // Assert
+            assertTrue(exception instanceof RuntimeException);
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case Tests")
     class EdgeCaseTests {
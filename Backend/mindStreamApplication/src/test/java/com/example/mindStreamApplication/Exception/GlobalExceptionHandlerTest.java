@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -145,6 +146,70 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("InvalidRequestException Handler Tests")
+    class InvalidRequestExceptionTests {
+
+        @Test
+        @DisplayName("Should return BAD_REQUEST status")
+        void handleInvalidRequestException_ShouldReturnBadRequest() {
+            // Arrange
+            InvalidRequestException exception = new InvalidRequestException("Invalid cursor: abc");
+
+            // Act
+            ResponseEntity<Map<String, Object>> response = exceptionHandler.handleInvalidRequestException(exception);
+
+            // Assert
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertFalse((Boolean) response.getBody().get("success"));
+            assertEquals("Invalid cursor: abc", response.getBody().get("message"));
+            assertEquals(HttpStatus.BAD_REQUEST.value(), response.getBody().get("status"));
+        }
+    }
+
+    @Nested
+    @DisplayName("TooManyRequestsException Handler Tests")
+    class TooManyRequestsExceptionTests {
+
+        @Test
+        @DisplayName("Should return TOO_MANY_REQUESTS status with Retry-After")
+        void handleTooManyRequestsException_ShouldReturnTooManyRequests() {
+            // Arrange
+            TooManyRequestsException exception = new TooManyRequestsException("Slow down", 30);
+
+            // Act
+            ResponseEntity<Map<String, Object>> response = exceptionHandler.handleTooManyRequestsException(exception);
+
+            // Assert
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+            assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertEquals("Slow down", response.getBody().get("message"));
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getBody().get("status"));
+        }
+    }
+
+    @Nested
+    @DisplayName("ServiceUnavailableException Handler Tests")
+    class ServiceUnavailableExceptionTests {
+
+        @Test
+        @DisplayName("Should return SERVICE_UNAVAILABLE status with Retry-After")
+        void handleServiceUnavailableException_ShouldReturnServiceUnavailable() {
+            // Arrange
+            ServiceUnavailableException exception = new ServiceUnavailableException("Busy", 2);
+
+            // Act
+            ResponseEntity<Map<String, Object>> response = exceptionHandler.handleServiceUnavailableException(exception);
+
+            // Assert
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertFalse((Boolean) response.getBody().get("success"));
+            assertEquals("Busy", response.getBody().get("message"));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getBody().get("status"));
+        }
+    }
+
     @Nested
     @DisplayName("MethodArgumentNotValidException Handler Tests")
     class ValidationExceptionTests {
@@ -1,5 +1,6 @@
 package com.example.mindStreamApplication.Integration;
 
+import com.example.mindStreamApplication.DTO.AuthResponse;
 import com.example.mindStreamApplication.Domain.User;
 import com.example.mindStreamApplication.Repository.UserRepository;
 import com.example.mindStreamApplication.Service.AuthService;
@@ -9,8 +10,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -42,11 +41,11 @@ class AuthenticationIntegrationTest {
             User newUser = new User("integrationuser", "integration@test.com", "password123", "Integration Test User");
 
             // Act
-            Map<String, Object> result = authService.register(newUser);
+            AuthResponse result = authService.register(newUser);
 
             // Assert
-            assertTrue((Boolean) result.get("success"));
-            assertEquals("Registration successful", result.get("message"));
+            assertTrue(result.success());
+            assertEquals("Registration successful", result.message());
 
             // Verify user exists in database
             User savedUser = userRepository.findByUsername("integrationuser");
@@ -69,15 +68,15 @@ class AuthenticationIntegrationTest {
             authService.register(newUser);
 
             // Act - Login with registered user
-            Map<String, Object> loginResult = authService.login("loginuser", "password123");
+            AuthResponse loginResult = authService.login("loginuser", "password123");
 
             // Assert
-            assertTrue((Boolean) loginResult.get("success"));
-            assertEquals("Login successful", loginResult.get("message"));
-            assertNotNull(loginResult.get("token"));
+            assertTrue(loginResult.success());
+            assertEquals("Login successful", loginResult.message());
+            assertNotNull(loginResult.token());
 
             // Verify token is valid
-            String token = (String) loginResult.get("token");
+            String token = loginResult.token();
             assertTrue(authService.validateToken(token));
         }
 
@@ -86,15 +85,12 @@ class AuthenticationIntegrationTest {
         void login_ShouldReturnTokenWithCorrectUserId() {
             // Arrange
             User newUser = new User("tokenuser", "token@test.com", "password123", "Token Test User");
-            Map<String, Object> registerResult = authService.register(newUser);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> userMap = (Map<String, Object>) registerResult.get("user");
-            Long expectedUserId = (Long) userMap.get("id");
+            AuthResponse registerResult = authService.register(newUser);
+            Long expectedUserId = registerResult.user().id();
 
             // Act
-            Map<String, Object> loginResult = authService.login("tokenuser", "password123");
-            String token = (String) loginResult.get("token");
+            AuthResponse loginResult = authService.login("tokenuser", "password123");
+            String token = loginResult.token();
             Long extractedUserId = authService.getUserIdFromToken(token);
 
             // Assert
@@ -111,11 +107,8 @@ class AuthenticationIntegrationTest {
         void getUserById_AfterRegistration_ShouldWork() {
             // Arrange
             User newUser = new User("retrieveuser", "retrieve@test.com", "password123", "Retrieve Test User");
-            Map<String, Object> registerResult = authService.register(newUser);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> userMap = (Map<String, Object>) registerResult.get("user");
-            Long userId = (Long) userMap.get("id");
+            AuthResponse registerResult = authService.register(newUser);
+            Long userId = registerResult.user().id();
 
             // Act
             User retrievedUser = authService.getUserById(userId);
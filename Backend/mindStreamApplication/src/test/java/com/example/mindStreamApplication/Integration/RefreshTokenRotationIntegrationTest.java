@@ -0,0 +1,58 @@
+package com.example.mindStreamApplication.Integration;
+
+import com.example.mindStreamApplication.Exception.InvalidCredentialsException;
+import com.example.mindStreamApplication.Repository.RefreshTokenRepository;
+import com.example.mindStreamApplication.Service.RefreshTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// Not @Transactional: each rotate() commits or rolls back on its own, as in production
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Refresh Token Rotation Integration Tests")
+class RefreshTokenRotationIntegrationTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("Reuse Detection")
+    class ReuseDetectionTests {
+
+        @Test
+        @DisplayName("Should keep the revocation of every session after rejecting a reused token")
+        void rotate_WithReusedToken_ShouldRevokeOtherSessions() {
+            // Arrange: a rotated token and another live session of the same user
+            String stolen = refreshTokenService.issue(1L);
+            String otherSession = refreshTokenService.issue(1L);
+            String otherUser = refreshTokenService.issue(2L);
+            String rotated = refreshTokenService.rotate(stolen).refreshToken();
+
+            // Act
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate(stolen));
+
+            // Assert
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate(rotated));
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate(otherSession));
+            assertEquals(2L, refreshTokenService.rotate(otherUser).userId());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.mindStreamApplication.JWT;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,13 +14,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -48,6 +55,10 @@ class JwtAuthFilterTest {
 
     private UserDetails testUserDetails;
 
+    private static Claims claimsFor(String username) {
+        return Jwts.claims().subject(username).add("userId", 1L).build();
+    }
+
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
@@ -92,9 +103,8 @@ class JwtAuthFilterTest {
             // Arrange
             String token = "valid.jwt.token";
             when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-            when(jwtService.extractUsername(token)).thenReturn("testuser");
+            when(jwtService.verifyToken(token)).thenReturn(claimsFor("testuser"));
             when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUserDetails);
-            when(jwtService.validateToken(token)).thenReturn(true);
 
             // Act
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
@@ -103,6 +113,9 @@ class JwtAuthFilterTest {
             verify(filterChain).doFilter(request, response);
             assertNotNull(SecurityContextHolder.getContext().getAuthentication());
             assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+            verify(jwtService, times(1)).verifyToken(token);
+            verify(jwtService, never()).extractUsername(any());
+            verify(jwtService, never()).validateToken(any());
         }
 
         @Test
@@ -111,9 +124,7 @@ class JwtAuthFilterTest {
             // Arrange
             String token = "invalid.jwt.token";
             when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-            when(jwtService.extractUsername(token)).thenReturn("testuser");
-            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUserDetails);
-            when(jwtService.validateToken(token)).thenReturn(false);
+            when(jwtService.verifyToken(token)).thenReturn(null);
 
             // Act
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
@@ -121,6 +132,7 @@ class JwtAuthFilterTest {
             // Assert
             verify(filterChain).doFilter(request, response);
             assertNull(SecurityContextHolder.getContext().getAuthentication());
+            verify(userDetailsService, never()).loadUserByUsername(any());
         }
 
         @Test
@@ -129,7 +141,7 @@ class JwtAuthFilterTest {
             // Arrange
             String token = "token.with.null.username";
             when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-            when(jwtService.extractUsername(token)).thenReturn(null);
+            when(jwtService.verifyToken(token)).thenReturn(claimsFor(null));
 
             // Act
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
@@ -146,9 +158,8 @@ class JwtAuthFilterTest {
             // Arrange
             String token = "valid.jwt.token";
             when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-            when(jwtService.extractUsername(token)).thenReturn("testuser");
+            when(jwtService.verifyToken(token)).thenReturn(claimsFor("testuser"));
             when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUserDetails);
-            when(jwtService.validateToken(token)).thenReturn(true);
 
             // First call to set authentication
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
@@ -164,6 +175,137 @@ class JwtAuthFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Stateless Mode Tests")
+    class StatelessModeTests {
+
+        @BeforeEach
+        void enableStateless() {
+            ReflectionTestUtils.setField(jwtAuthFilter, "stateless", true);
+        }
+
+        @Test
+        @DisplayName("Should build the principal from claims without loading the user")
+        void doFilterInternal_Stateless_ShouldNotLoadUser() throws ServletException, IOException {
+            // Arrange
+            String token = "valid.jwt.token";
+            when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+            when(jwtService.verifyToken(token)).thenReturn(claimsFor("testuser"));
+
+            // Act
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // Assert
+            Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertInstanceOf(JwtUserPrincipal.class, principal);
+            assertEquals("testuser", ((JwtUserPrincipal) principal).getUsername());
+            assertEquals(1L, ((JwtUserPrincipal) principal).getUserId());
+            verifyNoInteractions(userDetailsService);
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should still reject invalid tokens")
+        void doFilterInternal_StatelessWithInvalidToken_ShouldNotAuthenticate() throws ServletException, IOException {
+            // Arrange
+            when(request.getHeader("Authorization")).thenReturn("Bearer forged.jwt.token");
+            when(jwtService.verifyToken("forged.jwt.token")).thenReturn(null);
+
+            // Act
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // Assert
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    @Nested
+    @DisplayName("User Cache Tests")
+    class UserCacheTests {
+
+        @Test
+        @DisplayName("Should reuse a loaded user within the TTL")
+        void doFilterInternal_WithUserCacheTtl_ShouldLoadUserOnce() throws ServletException, IOException {
+            // Arrange
+            ReflectionTestUtils.setField(jwtAuthFilter, "userCacheTtl", Duration.ofMinutes(1));
+            when(request.getHeader("Authorization")).thenReturn("Bearer valid.jwt.token");
+            when(jwtService.verifyToken("valid.jwt.token")).thenReturn(claimsFor("testuser"));
+            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUserDetails);
+
+            // Act
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+            SecurityContextHolder.clearContext();
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // Assert
+            assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+            verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+        }
+
+        @Test
+        @DisplayName("Should load the user on every request without a TTL")
+        void doFilterInternal_WithoutUserCacheTtl_ShouldLoadUserEachTime() throws ServletException, IOException {
+            // Arrange
+            when(request.getHeader("Authorization")).thenReturn("Bearer valid.jwt.token");
+            when(jwtService.verifyToken("valid.jwt.token")).thenReturn(claimsFor("testuser"));
+            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUserDetails);
+
+            // Act
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+            SecurityContextHolder.clearContext();
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // Assert
+            verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+        }
+    }
+
+    @Nested
+    @DisplayName("Admin Role Tests")
+    class AdminRoleTests {
+
+        @Test
+        @DisplayName("Should grant ROLE_ADMIN from the token's admin claim, not from the username")
+        void doFilterInternal_WithAdminClaim_ShouldGrantAdminRole() throws ServletException, IOException {
+            // Arrange
+            ReflectionTestUtils.setField(jwtAuthFilter, "stateless", true);
+            when(request.getHeader("Authorization")).thenReturn("Bearer admin.jwt.token", "Bearer user.jwt.token");
+            when(jwtService.verifyToken("admin.jwt.token")).thenReturn(
+                    Jwts.claims().subject("operator").add("userId", 2L).add(JwtService.ADMIN_CLAIM, true).build());
+            when(jwtService.verifyToken("user.jwt.token")).thenReturn(claimsFor("admin"));
+
+            // Act
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+            Collection<? extends GrantedAuthority> admin =
+                    SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+            SecurityContextHolder.clearContext();
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+            Collection<? extends GrantedAuthority> user =
+                    SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+
+            // Assert
+            assertEquals(List.of("ROLE_ADMIN"), admin.stream().map(GrantedAuthority::getAuthority).toList());
+            assertTrue(user.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should take ROLE_ADMIN from the loaded user when not stateless")
+        void doFilterInternal_WithLoadedAdmin_ShouldGrantAdminRole() throws ServletException, IOException {
+            // Arrange
+            when(request.getHeader("Authorization")).thenReturn("Bearer admin.jwt.token");
+            when(jwtService.verifyToken("admin.jwt.token")).thenReturn(claimsFor("operator"));
+            when(userDetailsService.loadUserByUsername("operator"))
+                    .thenReturn(new User("operator", "password", JwtUserPrincipal.ADMIN_AUTHORITIES));
+
+            // Act
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // Assert
+            assertEquals(List.of("ROLE_ADMIN"), SecurityContextHolder.getContext().getAuthentication()
+                    .getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case Tests")
     class EdgeCaseTests {
@@ -173,20 +315,14 @@ class JwtAuthFilterTest {
         void doFilterInternal_EmptyBearerToken_ShouldHandleGracefully() throws ServletException, IOException {
             // Arrange
             when(request.getHeader("Authorization")).thenReturn("Bearer ");
-            
-            // This might throw an exception when extracting username from empty token
-            // Adjust based on actual implementation behavior
-            try {
-                when(jwtService.extractUsername("")).thenThrow(new RuntimeException("Invalid token"));
-            } catch (Exception e) {
-                // Expected
-            }
+            when(jwtService.verifyToken("")).thenReturn(null);
 
             // Act
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
             // Assert
             verify(filterChain).doFilter(request, response);
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
         }
 
         @Test
@@ -195,7 +331,7 @@ class JwtAuthFilterTest {
             // Arrange
             when(request.getHeader("Authorization")).thenReturn("Bearer   token.with.spaces");
             // Note: The actual token would be "  token.with.spaces" (with leading spaces)
-            when(jwtService.extractUsername("  token.with.spaces")).thenReturn(null);
+            when(jwtService.verifyToken("  token.with.spaces")).thenReturn(null);
 
             // Act
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
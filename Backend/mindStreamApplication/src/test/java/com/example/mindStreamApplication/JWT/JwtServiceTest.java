@@ -1,5 +1,7 @@
 package com.example.mindStreamApplication.JWT;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -241,6 +243,109 @@ class JwtServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("VerifyToken Tests")
+    class VerifyTokenTests {
+
+        @Test
+        @DisplayName("Should return subject and userId from a single verification")
+        void verifyToken_WithValidToken_ShouldReturnClaims() {
+            // Arrange
+            String token = jwtService.generateToken("testuser", 42L);
+
+            // Act
+            Claims claims = jwtService.verifyToken(token);
+
+            // Assert
+            assertNotNull(claims);
+            assertEquals("testuser", claims.getSubject());
+            assertEquals(42L, claims.get("userId", Long.class));
+        }
+
+        @Test
+        @DisplayName("Should carry the admin claim only for admin tokens")
+        void verifyToken_ShouldReturnAdminClaimOfAdminTokens() {
+            // Act
+            Claims admin = jwtService.verifyToken(jwtService.generateToken("operator", 2L, true));
+            Claims user = jwtService.verifyToken(jwtService.generateToken("testuser", 1L));
+
+            // Assert
+            assertEquals(Boolean.TRUE, admin.get(JwtService.ADMIN_CLAIM, Boolean.class));
+            assertNull(user.get(JwtService.ADMIN_CLAIM));
+        }
+
+        @Test
+        @DisplayName("Should return null for malformed, empty and null tokens")
+        void verifyToken_WithInvalidToken_ShouldReturnNull() {
+            assertNull(jwtService.verifyToken("not.a.token"));
+            assertNull(jwtService.verifyToken(""));
+            assertNull(jwtService.verifyToken(null));
+        }
+
+        @Test
+        @DisplayName("Should reject a token signed with another secret")
+        void verifyToken_WithForeignSignature_ShouldReturnNull() {
+            // Arrange
+            JwtService otherService = new JwtService();
+            ReflectionTestUtils.setField(otherService, "jwtSecret", TEST_SECRET.replace('1', '9'));
+            ReflectionTestUtils.setField(otherService, "jwtExpiration", TEST_EXPIRATION);
+            String token = otherService.generateToken("testuser", 1L);
+
+            // Act & Assert
+            assertNull(jwtService.verifyToken(token));
+        }
+
+        @Test
+        @DisplayName("Should serve repeated verifications from the cache")
+        void verifyToken_Repeated_ShouldHitCache() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            jwtService.bindTo(registry);
+            String token = jwtService.generateToken("testuser", 1L);
+
+            // Act
+            Claims first = jwtService.verifyToken(token);
+            Claims second = jwtService.verifyToken(token);
+
+            // Assert
+            assertSame(first, second);
+            assertEquals(1.0, registry.get("jwt.cache.hits").functionCounter().count());
+            assertEquals(1.0, registry.get("jwt.cache.misses").functionCounter().count());
+            assertEquals(1.0, registry.get("jwt.cache.size").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should not serve a cached token after it expires")
+        void verifyToken_AfterExpiry_ShouldReturnNull() throws InterruptedException {
+            // Arrange
+            ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1000L);
+            String token = jwtService.generateToken("testuser", 1L);
+            assertNotNull(jwtService.verifyToken(token));
+
+            // Act
+            Thread.sleep(1100);
+
+            // Assert
+            assertNull(jwtService.verifyToken(token));
+        }
+
+        @Test
+        @DisplayName("Should verify every time when the cache is disabled")
+        void verifyToken_WithCacheDisabled_ShouldNotCache() {
+            // Arrange
+            ReflectionTestUtils.setField(jwtService, "tokenCacheMaxEntries", 0);
+            String token = jwtService.generateToken("testuser", 1L);
+
+            // Act
+            Claims first = jwtService.verifyToken(token);
+            Claims second = jwtService.verifyToken(token);
+
+            // Assert
+            assertNotSame(first, second);
+            assertEquals(first.getSubject(), second.getSubject());
+        }
+    }
+
     @Nested
     @DisplayName("GetTokenFromHeader Tests")
     class GetTokenFromHeaderTests {
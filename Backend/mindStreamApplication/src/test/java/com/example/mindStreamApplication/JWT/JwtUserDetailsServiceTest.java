@@ -10,9 +10,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
@@ -85,6 +88,21 @@ class JwtUserDetailsServiceTest {
             assertTrue(userDetails.getAuthorities().isEmpty());
         }
 
+        @Test
+        @DisplayName("Should grant ROLE_ADMIN from the stored role")
+        void loadUserByUsername_WithAdminRole_ShouldGrantAdminAuthority() {
+            // Arrange
+            testUser.setRole(User.ROLE_ADMIN);
+            when(userRepository.findByUsername("testuser")).thenReturn(testUser);
+
+            // Act
+            UserDetails userDetails = jwtUserDetailsService.loadUserByUsername("testuser");
+
+            // Assert
+            assertEquals(List.of("ROLE_ADMIN"),
+                    userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        }
+
         @Test
         @DisplayName("Should handle special characters in username")
         void loadUserByUsername_WithSpecialCharacters_ShouldWork() {
@@ -1,6 +1,8 @@
 package com.example.mindStreamApplication.Repository;
 
 import com.example.mindStreamApplication.Domain.Favorite;
+import com.example.mindStreamApplication.Domain.FavoriteTvShowView;
+import com.example.mindStreamApplication.Domain.TvShow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,10 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,6 +33,9 @@ class FavoriteRepositoryTest {
     @Autowired
     private FavoriteRepository favoriteRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Favorite favorite1;
     private Favorite favorite2;
     private Favorite favorite3;
@@ -78,6 +87,65 @@ class FavoriteRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("FindFavoriteViewsByUserId Tests")
+    class FindFavoriteViewsByUserIdTests {
+
+        @Test
+        @DisplayName("Should return favorites joined with TV show columns")
+        void findFavoriteViewsByUserId_ShouldJoinTvShow() {
+            TvShow show = entityManager.persist(new TvShow("Breaking Bad", 2008, "1"));
+            Favorite favorite = entityManager.persist(new Favorite(3L, show.getId()));
+            entityManager.flush();
+            entityManager.clear();
+
+            List<FavoriteTvShowView> views = favoriteRepository.findFavoriteViewsByUserId(3L);
+
+            assertEquals(1, views.size());
+            assertEquals(favorite.getId(), views.get(0).getId());
+            assertEquals(show.getId(), views.get(0).getTvShowId());
+            assertEquals("Breaking Bad", views.get(0).getAlbum());
+            assertEquals(2008, views.get(0).getYear());
+            assertEquals("1", views.get(0).getChartPosition());
+        }
+
+        @Test
+        @DisplayName("Should keep favorites whose TV show is missing")
+        void findFavoriteViewsByUserId_WhenTvShowMissing_ShouldReturnNullColumns() {
+            List<FavoriteTvShowView> views = favoriteRepository.findFavoriteViewsByUserId(1L);
+
+            assertEquals(2, views.size());
+            assertNull(views.get(0).getAlbum());
+        }
+
+        @Test
+        @DisplayName("Should return empty list for user with no favorites")
+        void findFavoriteViewsByUserId_WhenNoFavorites_ShouldReturnEmptyList() {
+            assertTrue(favoriteRepository.findFavoriteViewsByUserId(999L).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("FindTvShowIdsByUserId Tests")
+    class FindTvShowIdsByUserIdTests {
+
+        @Test
+        @DisplayName("Should return favorited TV show IDs for user")
+        void findTvShowIdsByUserId_ShouldReturnIds() {
+            Set<Long> ids = favoriteRepository.findTvShowIdsByUserId(1L);
+
+            assertEquals(Set.of(10L, 20L), ids);
+        }
+
+        @Test
+        @DisplayName("Should return empty set for user with no favorites")
+        void findTvShowIdsByUserId_WhenNoFavorites_ShouldReturnEmptySet() {
+            Set<Long> ids = favoriteRepository.findTvShowIdsByUserId(999L);
+
+            assertTrue(ids.isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("FindByUserIdAndTvShowId Tests")
     class FindByUserIdAndTvShowIdTests {
@@ -194,6 +262,22 @@ class FavoriteRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("DeleteByUserIdAndTvShowIdIn Tests")
+    class DeleteByUserIdAndTvShowIdInTests {
+
+        @Test
+        @DisplayName("Should delete only the given shows of the given user")
+        void deleteByUserIdAndTvShowIdIn_ShouldDeleteMatchingRows() {
+            int deleted = favoriteRepository.deleteByUserIdAndTvShowIdIn(1L, List.of(10L, 20L, 30L));
+            entityManager.clear();
+
+            assertEquals(2, deleted);
+            assertEquals(0, favoriteRepository.countByUserId(1L));
+            assertTrue(favoriteRepository.existsByUserIdAndTvShowId(2L, 10L));
+        }
+    }
+
     @Nested
     @DisplayName("CRUD Operations Tests")
     class CrudOperationsTests {
@@ -232,7 +316,8 @@ class FavoriteRepositoryTest {
         @Test
         @DisplayName("Should update favorite")
         void update_ShouldModifyFavorite() {
-            LocalDateTime newTime = LocalDateTime.now().plusDays(1);
+            // The column keeps microseconds, so a nanosecond clock value would not round-trip
+            LocalDateTime newTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MICROS);
             favorite1.setAddedAt(newTime);
             
             favoriteRepository.save(favorite1);
@@ -288,4 +373,45 @@ class FavoriteRepositoryTest {
             assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), saved.getAddedAt());
         }
     }
+
+    @Nested
+    @DisplayName("Index Tests")
+    class IndexTests {
+
+        private String explain(String sql) {
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)).toUpperCase();
+        }
+
+        @Test
+        @DisplayName("Should look up a user's favorite through the unique key")
+        void findByUserIdAndTvShowId_ShouldUseUniqueKey() {
+            String plan = explain("SELECT id FROM favorites WHERE user_id = 1 AND tv_show_id = 10");
+
+            assertTrue(plan.contains("UK_FAVORITES_USER_SHOW"), plan);
+        }
+
+        @Test
+        @DisplayName("Should look up favorites by user through the unique key prefix")
+        void findByUserId_ShouldUseUniqueKeyPrefix() {
+            String plan = explain("SELECT tv_show_id FROM favorites WHERE user_id = 1");
+
+            assertTrue(plan.contains("UK_FAVORITES_USER_SHOW"), plan);
+        }
+
+        @Test
+        @DisplayName("Should look up favorites by TV show through its own index")
+        void findByTvShowId_ShouldUseTvShowIndex() {
+            String plan = explain("SELECT user_id FROM favorites WHERE tv_show_id = 10");
+
+            assertTrue(plan.contains("IDX_FAVORITES_TV_SHOW"), plan);
+        }
+
+        @Test
+        @DisplayName("Should reject a second favorite for the same user and TV show")
+        void saveAndFlush_WhenDuplicate_ShouldViolateUniqueKey() {
+            Favorite duplicate = new Favorite(1L, 10L);
+
+            assertThrows(DataIntegrityViolationException.class, () -> favoriteRepository.saveAndFlush(duplicate));
+        }
+    }
 }
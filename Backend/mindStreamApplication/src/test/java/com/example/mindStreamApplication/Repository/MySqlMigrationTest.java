@@ -0,0 +1,156 @@
+package com.example.mindStreamApplication.Repository;
+
+import com.example.mindStreamApplication.Domain.Favorite;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Domain.User;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the Flyway migrations against a real MySQL and lets Hibernate validate the result,
+// which the H2 tests (create-drop, Flyway disabled) cannot do. Skipped where Docker is unavailable.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@DisplayName("MySQL Migration Tests")
+class MySqlMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("Schema Tests")
+    class SchemaTests {
+
+        @Test
+        @DisplayName("Should apply every migration")
+        void migrate_ShouldApplyAllMigrations() {
+            // Act
+            MigrationInfo[] applied = flyway.info().applied();
+
+            // Assert
+            assertEquals(0, flyway.info().pending().length);
+            assertTrue(applied.length >= 7);
+            for (MigrationInfo migration : applied) {
+                assertTrue(migration.getState().isApplied() && !migration.getState().isFailed(),
+                        migration.getVersion() + " " + migration.getState());
+            }
+        }
+
+        @Test
+        @DisplayName("Should pass Flyway validation of the applied migrations")
+        void validate_ShouldPass() {
+            // Act & Assert
+            assertDoesNotThrow(() -> flyway.validate());
+        }
+
+        @Test
+        @DisplayName("Should map every entity onto the migrated schema")
+        void entities_ShouldRoundTripOnMigratedSchema() {
+            // Arrange: the context only starts if ddl-auto=validate accepted the schema
+            User user = new User("migrated", "migrated@example.com", "hash", "Migrated User");
+            TvShow show = new TvShow("Breaking Bad", 2008, "3");
+
+            // Act
+            entityManager.persist(user);
+            entityManager.persist(show);
+            favoriteRepository.save(new Favorite(user.getId(), show.getId()));
+            entityManager.flush();
+            entityManager.clear();
+
+            // Assert
+            assertEquals(3, entityManager.find(TvShow.class, show.getId()).getChartRank());
+            assertTrue(favoriteRepository.existsByUserIdAndTvShowId(user.getId(), show.getId()));
+        }
+
+        @Test
+        @DisplayName("Should name the users unique keys the way registration expects")
+        void users_ShouldHaveNamedUniqueKeys() {
+            // Act
+            List<String> keys = jdbcTemplate.queryForList(
+                    "SELECT index_name FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'users' AND non_unique = 0",
+                    String.class);
+
+            // Assert
+            assertTrue(keys.contains("uk_users_username"), keys.toString());
+            assertTrue(keys.contains("uk_users_email"), keys.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Tests")
+    class IndexTests {
+
+        @BeforeEach
+        void setUp() {
+            // Enough rows that a plan on an index is a choice, not a formality of an empty table
+            List<Object[]> rows = new ArrayList<>();
+            for (long user = 1; user <= 50; user++) {
+                for (long show = 1; show <= 20; show++) {
+                    rows.add(new Object[]{user, show});
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO favorites (user_id, tv_show_id, added_at) VALUES (?, ?, NOW(6))", rows);
+        }
+
+        private String keyOf(String sql) {
+            return String.valueOf(jdbcTemplate.queryForMap("EXPLAIN " + sql).get("key"));
+        }
+
+        @Test
+        @DisplayName("Should look up a user's favorite through the unique key")
+        void findByUserIdAndTvShowId_ShouldUseUniqueKey() {
+            assertEquals("uk_favorites_user_show",
+                    keyOf("SELECT id FROM favorites WHERE user_id = 1 AND tv_show_id = 10"));
+        }
+
+        @Test
+        @DisplayName("Should look up favorites by user through the unique key prefix")
+        void findByUserId_ShouldUseUniqueKeyPrefix() {
+            assertEquals("uk_favorites_user_show", keyOf("SELECT tv_show_id FROM favorites WHERE user_id = 1"));
+        }
+
+        @Test
+        @DisplayName("Should look up favorites by TV show through its own index")
+        void findByTvShowId_ShouldUseTvShowIndex() {
+            assertEquals("idx_favorites_tv_show", keyOf("SELECT user_id FROM favorites WHERE tv_show_id = 10"));
+        }
+    }
+}
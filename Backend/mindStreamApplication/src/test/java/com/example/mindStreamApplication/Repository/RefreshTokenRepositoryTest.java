@@ -0,0 +1,102 @@
+package com.example.mindStreamApplication.Repository;
+
+import com.example.mindStreamApplication.Domain.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("RefreshTokenRepository Tests")
+class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private static byte[] hash(int seed) {
+        byte[] hash = new byte[32];
+        Arrays.fill(hash, (byte) seed);
+        return hash;
+    }
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.save(new RefreshToken(hash(1), 1L, now.plusDays(30)));
+        refreshTokenRepository.save(new RefreshToken(hash(2), 1L, now.plusDays(30)));
+        refreshTokenRepository.save(new RefreshToken(hash(3), 2L, now.minusMinutes(1)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("Rotation Tests")
+    class RotationTests {
+
+        @Test
+        @DisplayName("Should find a stored token by its hash")
+        void findById_ShouldMatchHashBytes() {
+            // Act & Assert
+            RefreshToken token = refreshTokenRepository.findById(hash(1)).orElseThrow();
+            assertEquals(1L, token.getUserId());
+            assertFalse(token.isRevoked());
+            assertTrue(refreshTokenRepository.findById(hash(9)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should revoke a live token exactly once and never an expired one")
+        void revokeIfActive_ShouldOnlySucceedOnce() {
+            // Act
+            int first = refreshTokenRepository.revokeIfActive(hash(1), now);
+            int second = refreshTokenRepository.revokeIfActive(hash(1), now);
+            int expired = refreshTokenRepository.revokeIfActive(hash(3), now);
+            entityManager.clear();
+
+            // Assert
+            assertEquals(1, first);
+            assertEquals(0, second);
+            assertEquals(0, expired);
+            assertTrue(refreshTokenRepository.findById(hash(1)).orElseThrow().isRevoked());
+            assertFalse(refreshTokenRepository.findById(hash(2)).orElseThrow().isRevoked());
+        }
+
+        @Test
+        @DisplayName("Should revoke every live token of a user")
+        void revokeAllByUserId_ShouldRevokeUserTokens() {
+            // Act
+            int revoked = refreshTokenRepository.revokeAllByUserId(1L);
+            entityManager.clear();
+
+            // Assert
+            assertEquals(2, revoked);
+            assertTrue(refreshTokenRepository.findById(hash(2)).orElseThrow().isRevoked());
+            assertFalse(refreshTokenRepository.findById(hash(3)).orElseThrow().isRevoked());
+        }
+
+        @Test
+        @DisplayName("Should delete only expired tokens")
+        void deleteExpired_ShouldKeepLiveTokens() {
+            // Act
+            int deleted = refreshTokenRepository.deleteExpired(now);
+
+            // Assert
+            assertEquals(1, deleted);
+            assertEquals(2, refreshTokenRepository.count());
+        }
+    }
+}
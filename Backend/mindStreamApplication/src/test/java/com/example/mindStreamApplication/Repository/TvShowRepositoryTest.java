@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -27,6 +29,9 @@ class TvShowRepositoryTest {
     @Autowired
     private TvShowRepository tvShowRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private TvShow testShow1;
     private TvShow testShow2;
     private TvShow testShow3;
@@ -252,6 +257,85 @@ class TvShowRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Keyset Pagination Tests")
+    class KeysetPaginationTests {
+
+        @Test
+        @DisplayName("Should return rows after the given id in id order")
+        void findByIdGreaterThan_ShouldReturnNextRows() {
+            List<TvShow> firstPage = tvShowRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+            List<TvShow> secondPage = tvShowRepository.findByIdGreaterThanOrderByIdAsc(
+                    firstPage.get(1).getId(), Limit.of(2));
+
+            assertEquals(2, firstPage.size());
+            assertEquals(testShow1.getId(), firstPage.get(0).getId());
+            assertEquals(1, secondPage.size());
+            assertEquals(testShow3.getId(), secondPage.get(0).getId());
+        }
+
+        @Test
+        @DisplayName("Should page TV shows within a year")
+        void findByYearAndIdGreaterThan_ShouldFilterByYear() {
+            List<TvShow> page = tvShowRepository.findByYearAndIdGreaterThanOrderByIdAsc(
+                    2011, testShow2.getId(), Limit.of(10));
+
+            assertEquals(1, page.size());
+            assertEquals("Breaking Dawn", page.get(0).getAlbum());
+        }
+
+        @Test
+        @DisplayName("Should count TV shows by year")
+        void countByYear_ShouldReturnMatchingCount() {
+            assertEquals(2, tvShowRepository.countByYear(2011));
+        }
+    }
+
+    @Nested
+    @DisplayName("Chart Rank Tests")
+    class ChartRankTests {
+
+        @BeforeEach
+        void addRankedShows() {
+            entityManager.persist(new TvShow("The Wire", 2002, "10"));
+            entityManager.persist(new TvShow("Friends", 1994, "2"));
+            entityManager.persist(new TvShow("Unranked", 2020, "-"));
+            entityManager.flush();
+        }
+
+        private List<String> albums(List<TvShow> shows) {
+            return shows.stream().map(TvShow::getAlbum).toList();
+        }
+
+        @Test
+        @DisplayName("Should return the best ranked shows in numeric order")
+        void findByChartRankNotNull_ShouldSortNumerically() {
+            List<TvShow> top = tvShowRepository.findByChartRankNotNullOrderByChartRankAscIdAsc(Limit.of(10));
+
+            // "10" sorts after "3" and shows without a numeric rank are left out
+            assertEquals(List.of("Breaking Bad", "Game of Thrones", "Friends", "Breaking Dawn", "The Wire"),
+                    albums(top));
+        }
+
+        @Test
+        @DisplayName("Should return the shows within a rank range")
+        void findByChartRankBetween_ShouldFilterRange() {
+            List<TvShow> range = tvShowRepository.findByChartRankBetweenOrderByChartRankAscIdAsc(2, 10, Limit.of(3));
+
+            assertEquals(List.of("Game of Thrones", "Friends", "Breaking Dawn"), albums(range));
+        }
+
+        @Test
+        @DisplayName("Should read chart listings through the chart rank index")
+        void chartQueries_ShouldUseChartRankIndex() {
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT id FROM tv_shows WHERE chart_rank BETWEEN 2 AND 10 ORDER BY chart_rank, id",
+                    String.class)).toUpperCase();
+
+            assertTrue(plan.contains("IDX_TV_SHOWS_CHART_RANK"), plan);
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case Tests")
     class EdgeCaseTests {
@@ -0,0 +1,83 @@
+package com.example.mindStreamApplication.Repository;
+
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Domain.TvShowStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("TvShowStatsRepository Tests")
+class TvShowStatsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TvShowStatsRepository tvShowStatsRepository;
+
+    private TvShow breakingBad;
+    private TvShow theWire;
+    private TvShow friends;
+
+    @BeforeEach
+    void setUp() {
+        breakingBad = entityManager.persist(new TvShow("Breaking Bad", 2008, "1"));
+        theWire = entityManager.persist(new TvShow("The Wire", 2002, "3"));
+        friends = entityManager.persist(new TvShow("Friends", 1994, "5"));
+
+        entityManager.persist(new TvShowStats(breakingBad.getId(), 4));
+        entityManager.persist(new TvShowStats(theWire.getId(), 9));
+        entityManager.persist(new TvShowStats(friends.getId(), 0));
+        entityManager.flush();
+    }
+
+    @Nested
+    @DisplayName("FindMostFavorited Tests")
+    class FindMostFavoritedTests {
+
+        @Test
+        @DisplayName("Should return shows by favorite count, highest first")
+        void findMostFavorited_ShouldOrderByCount() {
+            List<PopularTvShowResponse> top = tvShowStatsRepository.findMostFavorited(Limit.of(10));
+
+            assertEquals(List.of("The Wire", "Breaking Bad"), top.stream().map(PopularTvShowResponse::album).toList());
+            assertEquals(9, top.get(0).favoriteCount());
+            assertEquals(2002, top.get(0).year());
+        }
+
+        @Test
+        @DisplayName("Should stop at the limit")
+        void findMostFavorited_ShouldApplyLimit() {
+            List<PopularTvShowResponse> top = tvShowStatsRepository.findMostFavorited(Limit.of(1));
+
+            assertEquals(1, top.size());
+            assertEquals(theWire.getId(), top.get(0).id());
+        }
+
+        @Test
+        @DisplayName("Should skip counts of shows that no longer exist")
+        void findMostFavorited_WithoutShowRow_ShouldSkipIt() {
+            entityManager.persist(new TvShowStats(999L, 50));
+            entityManager.flush();
+
+            List<PopularTvShowResponse> top = tvShowStatsRepository.findMostFavorited(Limit.of(10));
+
+            assertEquals(breakingBad.getId(), top.get(1).id());
+            assertEquals(2, top.size());
+        }
+    }
+}
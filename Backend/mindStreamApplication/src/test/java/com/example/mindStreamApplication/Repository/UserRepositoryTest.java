@@ -1,6 +1,7 @@
 package com.example.mindStreamApplication.Repository;
 
 import com.example.mindStreamApplication.Domain.User;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,8 +9,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -189,6 +194,69 @@ class UserRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("UpdatePasswordHash Tests")
+    class UpdatePasswordHashTests {
+
+        @Test
+        @DisplayName("Should replace the hash only while it is still the checked one")
+        void updatePasswordHash_ShouldRequireCurrentHash() {
+            // Act
+            int stale = userRepository.updatePasswordHash(testUser.getId(), "outdated", "{bcrypt}new");
+            int updated = userRepository.updatePasswordHash(testUser.getId(), "password123", "{bcrypt}new");
+            entityManager.clear();
+
+            // Assert
+            assertEquals(0, stale);
+            assertEquals(1, updated);
+            assertEquals("{bcrypt}new", userRepository.findByUsername("testuser").getPassword());
+        }
+    }
+
+    @Nested
+    @DisplayName("Unique Key Tests")
+    class UniqueKeyTests {
+
+        @Test
+        @DisplayName("Should name the violated unique key when a duplicate is inserted")
+        void saveAndFlush_WithDuplicate_ShouldReportConstraintName() {
+            // Act
+            DataIntegrityViolationException username = assertThrows(DataIntegrityViolationException.class,
+                    () -> userRepository.saveAndFlush(new User("testuser", "other@email.com", "pass", "Other")));
+            entityManager.clear();
+            DataIntegrityViolationException email = assertThrows(DataIntegrityViolationException.class,
+                    () -> userRepository.saveAndFlush(new User("other", "test@email.com", "pass", "Other")));
+
+            // Assert
+            assertTrue(constraintName(username).contains(User.UK_USERNAME));
+            assertTrue(constraintName(email).contains(User.UK_EMAIL));
+        }
+
+        @Test
+        @DisplayName("Should page usernames and emails in id order")
+        void findAccountKeysAfter_ShouldPageById() {
+            // Arrange
+            entityManager.persist(new User("second", "second@email.com", "pass", "Second"));
+            entityManager.persist(new User("third", "third@email.com", "pass", "Third"));
+            entityManager.flush();
+
+            // Act
+            List<UserRepository.AccountKeys> first = userRepository.findAccountKeysAfter(0L, Limit.of(2));
+            List<UserRepository.AccountKeys> rest =
+                    userRepository.findAccountKeysAfter(first.get(1).getId(), Limit.of(2));
+
+            // Assert
+            assertEquals(List.of("testuser", "second"), first.stream().map(UserRepository.AccountKeys::getUsername).toList());
+            assertEquals("test@email.com", first.get(0).getEmail());
+            assertEquals(List.of("third"), rest.stream().map(UserRepository.AccountKeys::getUsername).toList());
+        }
+
+        private String constraintName(DataIntegrityViolationException e) {
+            ConstraintViolationException violation = (ConstraintViolationException) e.getCause();
+            return violation.getConstraintName().toLowerCase(Locale.ROOT);
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case Tests")
     class EdgeCaseTests {
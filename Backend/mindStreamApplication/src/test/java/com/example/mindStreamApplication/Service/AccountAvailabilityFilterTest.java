@@ -0,0 +1,231 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountAvailabilityFilter Tests")
+class AccountAvailabilityFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AccountAvailabilityFilter availabilityFilter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(availabilityFilter, "minCapacity", 1000);
+    }
+
+    private static UserRepository.AccountKeys keys(long id, String username, String email) {
+        return new UserRepository.AccountKeys() {
+            public Long getId() {
+                return id;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    // Two stored users
+    private void stubUsers() {
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.findAccountKeysAfter(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(keys(1L, "alice", "alice@email.com"), keys(2L, "Bob", "bob@email.com")));
+    }
+
+    @Nested
+    @DisplayName("Availability Tests")
+    class AvailabilityTests {
+
+        @Test
+        @DisplayName("Should answer free names from the filter without a query")
+        void isUsernameAvailable_WhenNotInFilter_ShouldSkipDatabase() {
+            // Arrange
+            stubUsers();
+
+            // Act
+            boolean username = availabilityFilter.isUsernameAvailable("carol");
+            boolean email = availabilityFilter.isEmailAvailable("carol@email.com");
+
+            // Assert
+            assertTrue(username);
+            assertTrue(email);
+            verify(userRepository, never()).existsByUsername(any());
+            verify(userRepository, never()).existsByEmail(any());
+            verify(userRepository, times(1)).findAccountKeysAfter(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Should confirm names the filter may hold with the database")
+        void isUsernameAvailable_WhenInFilter_ShouldConfirmWithDatabase() {
+            // Arrange
+            stubUsers();
+            when(userRepository.existsByUsername("BOB")).thenReturn(true);
+            when(userRepository.existsByEmail("alice@email.com")).thenReturn(true);
+
+            // Act & Assert: names match case-insensitively
+            assertFalse(availabilityFilter.isUsernameAvailable("BOB"));
+            assertFalse(availabilityFilter.isEmailAvailable("alice@email.com"));
+            assertTrue(availabilityFilter.isUsernameAvailable("alice@email.com"));
+        }
+
+        @Test
+        @DisplayName("Should include users registered after the load")
+        void add_ShouldMarkNamesTaken() {
+            // Arrange
+            stubUsers();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            availabilityFilter.bindTo(registry);
+            availabilityFilter.isUsernameAvailable("carol");
+
+            // Act
+            availabilityFilter.add("carol", "carol@email.com");
+            availabilityFilter.isUsernameAvailable("carol");
+
+            // Assert
+            verify(userRepository).existsByUsername("carol");
+            assertEquals(6, registry.get("auth.availability.entries").gauge().value());
+            assertEquals(1, registry.get("auth.availability.filtered").functionCounter().count());
+            assertEquals(1, registry.get("auth.availability.database-checks").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should reload once registrations fill the filter")
+        void add_WhenFull_ShouldReload() {
+            // Arrange
+            ReflectionTestUtils.setField(availabilityFilter, "minCapacity", 4);
+            stubUsers();
+            availabilityFilter.isUsernameAvailable("carol");
+
+            // Act: sized for the 4 loaded names plus min-capacity (4) more
+            availabilityFilter.add("carol", "carol@email.com");
+            availabilityFilter.add("dave", "dave@email.com");
+            availabilityFilter.isUsernameAvailable("erin");
+
+            // Assert
+            verify(userRepository, times(2)).findAccountKeysAfter(eq(0L), any());
+        }
+
+        @Test
+        @DisplayName("Should size the filter for the loaded names plus the minimum capacity")
+        void load_ShouldLeaveMinCapacityOfRoom() {
+            // Arrange
+            ReflectionTestUtils.setField(availabilityFilter, "minCapacity", 4);
+            stubUsers();
+            availabilityFilter.isUsernameAvailable("carol");
+
+            // Act: two more names leave room for two
+            availabilityFilter.add("carol", "carol@email.com");
+            availabilityFilter.isUsernameAvailable("erin");
+
+            // Assert
+            verify(userRepository, times(1)).findAccountKeysAfter(eq(0L), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Scheduled Reload Tests")
+    class ScheduledReloadTests {
+
+        @Test
+        @DisplayName("Should pick up names registered on another node")
+        void scheduledReload_ShouldAddNamesFromDatabase() {
+            // Arrange
+            stubUsers();
+            assertTrue(availabilityFilter.isUsernameAvailable("carol"));
+            when(userRepository.findAccountKeysAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+                    keys(1L, "alice", "alice@email.com"), keys(2L, "Bob", "bob@email.com"),
+                    keys(3L, "carol", "carol@email.com")));
+            when(userRepository.existsByUsername("carol")).thenReturn(true);
+
+            // Act
+            availabilityFilter.scheduledReload();
+
+            // Assert
+            assertFalse(availabilityFilter.isUsernameAvailable("carol"));
+            assertEquals(6, availabilityFilter.size());
+        }
+
+        @Test
+        @DisplayName("Should not load a filter nobody has used yet")
+        void scheduledReload_BeforeFirstUse_ShouldSkip() {
+            // Act
+            availabilityFilter.scheduledReload();
+
+            // Assert
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should keep the current filter when a reload fails")
+        void scheduledReload_WhenLoadFails_ShouldKeepFilter() {
+            // Arrange
+            stubUsers();
+            availabilityFilter.isUsernameAvailable("carol");
+            when(userRepository.findAccountKeysAfter(eq(0L), any(Limit.class)))
+                    .thenThrow(new IllegalStateException("database down"));
+
+            // Act
+            assertDoesNotThrow(() -> availabilityFilter.scheduledReload());
+
+            // Assert
+            assertEquals(4, availabilityFilter.size());
+            assertTrue(availabilityFilter.isUsernameAvailable("carol"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bloom Filter Tests")
+    class BloomTests {
+
+        @Test
+        @DisplayName("Should never miss an added key and stay near the configured false-positive rate")
+        void bloom_ShouldHaveNoFalseNegatives() {
+            // Arrange
+            AccountAvailabilityFilter.Bloom bloom = new AccountAvailabilityFilter.Bloom(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                bloom.add("user" + i);
+            }
+
+            // Act
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(bloom.mightContain("user" + i));
+                if (bloom.mightContain("other" + i)) {
+                    falsePositives++;
+                }
+            }
+
+            // Assert
+            assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+            assertTrue(bloom.isFull());
+        }
+    }
+}
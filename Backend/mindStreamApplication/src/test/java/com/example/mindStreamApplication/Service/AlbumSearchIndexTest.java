@@ -0,0 +1,201 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlbumSearchIndex Tests")
+class AlbumSearchIndexTest {
+
+    @Mock
+    private TvShowRepository tvShowRepository;
+
+    @InjectMocks
+    private AlbumSearchIndex albumSearchIndex;
+
+    private List<TvShow> catalog;
+
+    private static TvShow show(long id, String album) {
+        TvShow show = new TvShow(album, 2000, String.valueOf(id));
+        show.setId(id);
+        return show;
+    }
+
+    private static List<String> albums(List<TvShow> shows) {
+        return shows.stream().map(TvShow::getAlbum).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        catalog = Arrays.asList(
+                show(1L, "Breaking Bad"),
+                show(2L, "Game of Thrones"),
+                show(3L, "Breaking Dawn"),
+                show(4L, "Heartbreaking"),
+                show(5L, "Break")
+        );
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @BeforeEach
+        void load() {
+            albumSearchIndex.rebuild(catalog);
+        }
+
+        @Test
+        @DisplayName("Should rank exact, prefix, word prefix and substring matches")
+        void search_ShouldRankMatches() {
+            assertEquals(
+                    Arrays.asList("Break", "Breaking Bad", "Breaking Dawn", "Heartbreaking"),
+                    albums(albumSearchIndex.search("break")));
+        }
+
+        @Test
+        @DisplayName("Should rank word prefix matches above inner substrings")
+        void search_ShouldPreferWordPrefix() {
+            assertEquals(
+                    Arrays.asList("Game of Thrones"),
+                    albums(albumSearchIndex.search("thr")));
+            assertEquals(
+                    Arrays.asList("Breaking Dawn"),
+                    albums(albumSearchIndex.search("dawn")));
+        }
+
+        @Test
+        @DisplayName("Should be case-insensitive and ignore surrounding whitespace")
+        void search_ShouldNormalizeQuery() {
+            assertEquals(Arrays.asList("Game of Thrones"), albums(albumSearchIndex.search("  GAME OF ")));
+        }
+
+        @Test
+        @DisplayName("Should answer short queries from album and word prefixes")
+        void search_WithShortQuery_ShouldMatchWordPrefixes() {
+            assertEquals(Arrays.asList("Break", "Breaking Bad", "Breaking Dawn"),
+                    albums(albumSearchIndex.search("br")));
+            assertEquals(Arrays.asList("Breaking Dawn"), albums(albumSearchIndex.search("d")));
+            assertEquals(Arrays.asList("Game of Thrones"), albums(albumSearchIndex.search("o")));
+        }
+
+        @Test
+        @DisplayName("Should return every show for an empty query")
+        void search_WithEmptyQuery_ShouldReturnAll() {
+            assertEquals(5, albumSearchIndex.search("").size());
+        }
+
+        @Test
+        @DisplayName("Should return nothing when a trigram is unknown")
+        void search_WhenNoMatch_ShouldReturnEmptyList() {
+            assertTrue(albumSearchIndex.search("xyz").isEmpty());
+            assertTrue(albumSearchIndex.search("bad dawn").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not query the database once loaded")
+        void search_WhenLoaded_ShouldNotHitRepository() {
+            albumSearchIndex.search("break");
+
+            verifyNoInteractions(tvShowRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Maintenance Tests")
+    class MaintenanceTests {
+
+        @Test
+        @DisplayName("Should load lazily from the repository on first search")
+        void search_WhenNotLoaded_ShouldLoadFromRepository() {
+            when(tvShowRepository.findAll()).thenReturn(catalog);
+
+            albumSearchIndex.search("break");
+            albumSearchIndex.search("bad");
+
+            verify(tvShowRepository, times(1)).findAll();
+            assertEquals(5, albumSearchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should make newly added shows searchable")
+        void add_ShouldIndexNewShow() {
+            albumSearchIndex.rebuild(catalog);
+
+            albumSearchIndex.add(show(6L, "Better Call Saul"));
+
+            assertEquals(Arrays.asList("Better Call Saul"), albums(albumSearchIndex.search("call s")));
+            assertEquals(6, albumSearchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should replace an updated show instead of duplicating it")
+        void addAll_WithExistingId_ShouldReplaceShow() {
+            albumSearchIndex.rebuild(catalog);
+
+            albumSearchIndex.addAll(Arrays.asList(show(2L, "House of the Dragon"), show(7L, "Dragon Ball")));
+
+            assertTrue(albumSearchIndex.search("thrones").isEmpty());
+            assertEquals(Arrays.asList("Dragon Ball", "House of the Dragon"), albums(albumSearchIndex.search("dragon")));
+            assertEquals(6, albumSearchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should make added shows reachable by short queries")
+        void add_ShouldIndexWordPrefixes() {
+            albumSearchIndex.rebuild(catalog);
+
+            albumSearchIndex.add(show(6L, "Better Call Saul"));
+
+            assertEquals(Arrays.asList("Better Call Saul"), albums(albumSearchIndex.search("ca")));
+        }
+
+        @Test
+        @DisplayName("Should drop replaced rows once they outnumber the live ones")
+        void addAll_WithManyUpdates_ShouldCompact() {
+            albumSearchIndex.rebuild(catalog);
+
+            for (int i = 0; i < 3000; i++) {
+                albumSearchIndex.add(show(2L, "Game of Thrones " + i));
+            }
+
+            assertEquals(5, albumSearchIndex.size());
+            assertEquals(Arrays.asList("Game of Thrones 2999"), albums(albumSearchIndex.search("thrones")));
+        }
+
+        @Test
+        @DisplayName("Should ignore writes before the index is loaded")
+        void add_WhenNotLoaded_ShouldDeferToFirstSearch() {
+            albumSearchIndex.add(show(6L, "Better Call Saul"));
+
+            assertEquals(0, albumSearchIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should reload after invalidation")
+        void invalidate_ShouldReloadOnNextSearch() {
+            albumSearchIndex.rebuild(catalog);
+            when(tvShowRepository.findAll()).thenReturn(Arrays.asList(show(9L, "Severance")));
+
+            albumSearchIndex.invalidate();
+
+            assertEquals(Arrays.asList("Severance"), albums(albumSearchIndex.search("sever")));
+        }
+    }
+}
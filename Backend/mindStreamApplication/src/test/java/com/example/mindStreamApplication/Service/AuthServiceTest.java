@@ -1,11 +1,14 @@
 package com.example.mindStreamApplication.Service;
 
+import com.example.mindStreamApplication.DTO.AuthResponse;
+import com.example.mindStreamApplication.DTO.AvailabilityResponse;
 import com.example.mindStreamApplication.Domain.User;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
 import com.example.mindStreamApplication.Exception.InvalidCredentialsException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
 import com.example.mindStreamApplication.JWT.JwtService;
 import com.example.mindStreamApplication.Repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,14 +17,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.Map;
+import java.sql.SQLException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -33,11 +38,17 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private AccountAvailabilityFilter availabilityFilter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -53,36 +64,50 @@ class AuthServiceTest {
     @DisplayName("Register Tests")
     class RegisterTests {
 
+        // Names the availability filter reports free, and an insert that assigns an id
+        private void stubFreshInsert(String username, String email) {
+            when(availabilityFilter.isUsernameAvailable(username)).thenReturn(true);
+            when(availabilityFilter.isEmailAvailable(email)).thenReturn(true);
+            when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+                User saved = invocation.getArgument(0);
+                saved.setId(1L);
+                return saved;
+            });
+        }
+
+        // Duplicate-key failure as Spring translates it from Hibernate
+        private DataIntegrityViolationException duplicateKey(String constraintName, String message) {
+            return new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException(message, new SQLException(message, "23000"), constraintName));
+        }
+
         @Test
         @DisplayName("Should register new user successfully")
         void register_WhenValidUser_ShouldReturnSuccessResponse() {
             // Arrange
             User newUser = new User("newuser", "new@email.com", "password", "New User");
-            when(userRepository.existsByUsername("newuser")).thenReturn(false);
-            when(userRepository.existsByEmail("new@email.com")).thenReturn(false);
-            when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-                User saved = invocation.getArgument(0);
-                saved.setId(1L);
-                return saved;
-            });
+            stubFreshInsert("newuser", "new@email.com");
+            when(passwordHasher.encode("password")).thenReturn("encodedPassword");
 
             // Act
-            Map<String, Object> result = authService.register(newUser);
-
-            // Assert
-            assertTrue((Boolean) result.get("success"));
-            assertEquals("Registration successful", result.get("message"));
-            assertNotNull(result.get("user"));
-            verify(userRepository).save(any(User.class));
-            verify(passwordEncoder).encode("password");
+            AuthResponse result = authService.register(newUser);
+
+            // Assert: one insert, no lookups
+            assertTrue(result.success());
+            assertEquals("Registration successful", result.message());
+            assertNotNull(result.user());
+            verify(userRepository).saveAndFlush(any(User.class));
+            verify(userRepository, never()).existsByUsername(any());
+            verify(userRepository, never()).existsByEmail(any());
+            verify(passwordHasher).encode("password");
+            verify(availabilityFilter).add("newuser", "new@email.com");
         }
 
         @Test
         @DisplayName("Should throw exception when username already exists")
         void register_WhenUsernameExists_ShouldThrowException() {
             // Arrange
-            when(userRepository.existsByUsername("testuser")).thenReturn(true);
+            when(availabilityFilter.isUsernameAvailable("testuser")).thenReturn(false);
 
             // Act & Assert
             DuplicateResourceException exception = assertThrows(
@@ -90,15 +115,16 @@ class AuthServiceTest {
                 () -> authService.register(testUser)
             );
             assertTrue(exception.getMessage().contains("username"));
-            verify(userRepository, never()).save(any());
+            verify(userRepository, never()).saveAndFlush(any());
+            verifyNoInteractions(passwordHasher);
         }
 
         @Test
         @DisplayName("Should throw exception when email already exists")
         void register_WhenEmailExists_ShouldThrowException() {
             // Arrange
-            when(userRepository.existsByUsername("testuser")).thenReturn(false);
-            when(userRepository.existsByEmail("test@email.com")).thenReturn(true);
+            when(availabilityFilter.isUsernameAvailable("testuser")).thenReturn(true);
+            when(availabilityFilter.isEmailAvailable("test@email.com")).thenReturn(false);
 
             // Act & Assert
             DuplicateResourceException exception = assertThrows(
@@ -106,7 +132,49 @@ class AuthServiceTest {
                 () -> authService.register(testUser)
             );
             assertTrue(exception.getMessage().contains("email"));
-            verify(userRepository, never()).save(any());
+            verify(userRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("Should map a concurrent duplicate to the field of the violated unique key")
+        void register_WhenInsertViolatesNamedKey_ShouldReportField() {
+            // Arrange
+            when(availabilityFilter.isUsernameAvailable(anyString())).thenReturn(true);
+            when(availabilityFilter.isEmailAvailable(anyString())).thenReturn(true);
+            when(passwordHasher.encode(any())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(duplicateKey("users.UK_USERS_EMAIL", "Duplicate entry"))
+                    .thenThrow(duplicateKey(null, "Duplicate entry 'testuser' for key 'users.uk_users_username'"));
+
+            // Act
+            DuplicateResourceException email = assertThrows(DuplicateResourceException.class,
+                    () -> authService.register(testUser));
+            DuplicateResourceException username = assertThrows(DuplicateResourceException.class,
+                    () -> authService.register(testUser));
+
+            // Assert
+            assertTrue(email.getMessage().contains("email"));
+            assertTrue(username.getMessage().contains("username"));
+            verify(userRepository, never()).existsByUsername(any());
+            verify(availabilityFilter, never()).add(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should look up which field is taken when the key name is not recognised")
+        void register_WhenInsertViolatesUnknownKey_ShouldQueryUsername() {
+            // Arrange
+            when(availabilityFilter.isUsernameAvailable(anyString())).thenReturn(true);
+            when(availabilityFilter.isEmailAvailable(anyString())).thenReturn(true);
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(duplicateKey("UK_6DOTKOTT2KJSP8VW4D0M25FB7", "Duplicate entry"));
+            when(userRepository.existsByUsername("testuser")).thenReturn(false);
+
+            // Act
+            DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
+                    () -> authService.register(testUser));
+
+            // Assert
+            assertTrue(exception.getMessage().contains("email"));
         }
 
         @Test
@@ -114,20 +182,45 @@ class AuthServiceTest {
         void register_ShouldEncodePassword() {
             // Arrange
             User newUser = new User("newuser", "new@email.com", "plainPassword", "New User");
-            when(userRepository.existsByUsername(anyString())).thenReturn(false);
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
-            when(passwordEncoder.encode("plainPassword")).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-                User saved = invocation.getArgument(0);
-                saved.setId(1L);
-                return saved;
-            });
+            stubFreshInsert("newuser", "new@email.com");
+            when(passwordHasher.encode("plainPassword")).thenReturn("encodedPassword");
+
+            // Act
+            authService.register(newUser);
+
+            // Assert
+            verify(passwordHasher).encode("plainPassword");
+        }
+
+        @Test
+        @DisplayName("Should store a new user with the USER role whatever the request carried")
+        void register_WithRequestedAdminRole_ShouldSaveUserRole() {
+            // Arrange
+            User newUser = new User("newuser", "new@email.com", "plainPassword", "New User");
+            newUser.setRole(User.ROLE_ADMIN);
+            stubFreshInsert("newuser", "new@email.com");
+            when(passwordHasher.encode("plainPassword")).thenReturn("encodedPassword");
 
             // Act
             authService.register(newUser);
 
             // Assert
-            verify(passwordEncoder).encode("plainPassword");
+            verify(userRepository).saveAndFlush(argThat(saved -> User.ROLE_USER.equals(saved.getRole())));
+        }
+
+        @Test
+        @DisplayName("Should report availability only for the names asked about")
+        void checkAvailability_ShouldAskFilterPerName() {
+            // Arrange
+            when(availabilityFilter.isUsernameAvailable("newuser")).thenReturn(true);
+
+            // Act
+            AvailabilityResponse result = authService.checkAvailability("newuser", null);
+
+            // Assert
+            assertTrue(result.usernameAvailable());
+            assertNull(result.emailAvailable());
+            verify(availabilityFilter, never()).isEmailAvailable(any());
         }
     }
 
@@ -141,17 +234,55 @@ class AuthServiceTest {
             // Arrange
             testUser.setPassword("encodedPassword");
             when(userRepository.findByUsername("testuser")).thenReturn(testUser);
-            when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
-            when(jwtService.generateToken("testuser", 1L)).thenReturn("jwt-token");
+            when(passwordHasher.matches("password123", "encodedPassword")).thenReturn(true);
+            when(jwtService.generateToken("testuser", 1L, false)).thenReturn("jwt-token");
+
+            // Act
+            AuthResponse result = authService.login("testuser", "password123");
+
+            // Assert
+            assertTrue(result.success());
+            assertEquals("Login successful", result.message());
+            assertEquals("jwt-token", result.token());
+            assertNotNull(result.user());
+        }
+
+        @Test
+        @DisplayName("Should upgrade a hash below policy in the background after a successful login")
+        void login_WithOutdatedHash_ShouldRehashInBackground() {
+            // Arrange
+            testUser.setPassword("oldHash");
+            when(userRepository.findByUsername("testuser")).thenReturn(testUser);
+            when(passwordHasher.matches("password123", "oldHash")).thenReturn(true);
+            when(passwordHasher.upgradeEncoding("oldHash")).thenReturn(true);
+            doAnswer(invocation -> {
+                invocation.<Consumer<String>>getArgument(1).accept("newHash");
+                return null;
+            }).when(passwordHasher).rehashInBackground(eq("password123"), any());
+
+            // Act
+            AuthResponse result = authService.login("testuser", "password123");
+
+            // Assert
+            assertTrue(result.success());
+            verify(userRepository).updatePasswordHash(1L, "oldHash", "newHash");
+        }
+
+        @Test
+        @DisplayName("Should leave hashes that meet the policy alone")
+        void login_WithCurrentHash_ShouldNotRehash() {
+            // Arrange
+            testUser.setPassword("encodedPassword");
+            when(userRepository.findByUsername("testuser")).thenReturn(testUser);
+            when(passwordHasher.matches("password123", "encodedPassword")).thenReturn(true);
+            when(passwordHasher.upgradeEncoding("encodedPassword")).thenReturn(false);
 
             // Act
-            Map<String, Object> result = authService.login("testuser", "password123");
+            authService.login("testuser", "password123");
 
             // Assert
-            assertTrue((Boolean) result.get("success"));
-            assertEquals("Login successful", result.get("message"));
-            assertEquals("jwt-token", result.get("token"));
-            assertNotNull(result.get("user"));
+            verify(passwordHasher, never()).rehashInBackground(any(), any());
+            verify(userRepository, never()).updatePasswordHash(any(), any(), any());
         }
 
         @Test
@@ -174,7 +305,7 @@ class AuthServiceTest {
             // Arrange
             testUser.setPassword("encodedPassword");
             when(userRepository.findByUsername("testuser")).thenReturn(testUser);
-            when(passwordEncoder.matches("wrongPassword", "encodedPassword")).thenReturn(false);
+            when(passwordHasher.matches("wrongPassword", "encodedPassword")).thenReturn(false);
 
             // Act & Assert
             InvalidCredentialsException exception = assertThrows(
@@ -190,14 +321,80 @@ class AuthServiceTest {
             // Arrange
             testUser.setPassword("encodedPassword");
             when(userRepository.findByUsername("testuser")).thenReturn(testUser);
-            when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-            when(jwtService.generateToken("testuser", 1L)).thenReturn("jwt-token");
+            when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
+            when(jwtService.generateToken("testuser", 1L, false)).thenReturn("jwt-token");
 
             // Act
             authService.login("testuser", "password");
 
             // Assert
-            verify(jwtService).generateToken("testuser", 1L);
+            verify(jwtService).generateToken("testuser", 1L, false);
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should issue a refresh token with the JWT token on login")
+        void login_ShouldIssueRefreshToken() {
+            // Arrange
+            testUser.setPassword("encodedPassword");
+            when(userRepository.findByUsername("testuser")).thenReturn(testUser);
+            when(passwordHasher.matches("password123", "encodedPassword")).thenReturn(true);
+            when(jwtService.generateToken("testuser", 1L, false)).thenReturn("jwt-token");
+            when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
+
+            // Act
+            AuthResponse result = authService.login("testuser", "password123");
+
+            // Assert
+            assertEquals("jwt-token", result.token());
+            assertEquals("refresh-token", result.refreshToken());
+        }
+
+        @Test
+        @DisplayName("Should renew both tokens without checking a password")
+        void refresh_WithValidToken_ShouldRotateTokens() {
+            // Arrange
+            when(refreshTokenService.rotate("old-refresh"))
+                    .thenReturn(new RefreshTokenService.Rotation(1L, "new-refresh"));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(jwtService.generateToken("testuser", 1L, false)).thenReturn("new-jwt");
+
+            // Act
+            AuthResponse result = authService.refresh("old-refresh");
+
+            // Assert
+            assertTrue(result.success());
+            assertEquals("new-jwt", result.token());
+            assertEquals("new-refresh", result.refreshToken());
+            assertEquals("testuser", result.user().username());
+            verifyNoInteractions(passwordHasher);
+        }
+
+        @Test
+        @DisplayName("Should reject a refresh token whose user no longer exists")
+        void refresh_WhenUserDeleted_ShouldThrowException() {
+            // Arrange
+            when(refreshTokenService.rotate("old-refresh"))
+                    .thenReturn(new RefreshTokenService.Rotation(1L, "new-refresh"));
+            when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(InvalidCredentialsException.class, () -> authService.refresh("old-refresh"));
+            verify(jwtService, never()).generateToken(anyString(), any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should revoke the refresh token on logout")
+        void logout_ShouldRevokeRefreshToken() {
+            // Act
+            authService.logout("refresh-token");
+
+            // Assert
+            verify(refreshTokenService).revoke("refresh-token");
         }
     }
 
@@ -300,7 +497,7 @@ class AuthServiceTest {
             // Arrange
             testUser.setPassword("encodedPassword");
             when(userRepository.findByUsername("testuser")).thenReturn(testUser);
-            when(passwordEncoder.matches("", "encodedPassword")).thenReturn(false);
+            when(passwordHasher.matches("", "encodedPassword")).thenReturn(false);
 
             // Act & Assert
             assertThrows(
@@ -0,0 +1,36 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("CatalogCursor Tests")
+class CatalogCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip sort keys")
+    void encodeDecode_ShouldRoundTrip() {
+        String cursor = CatalogCursor.encode(2011L, 42L);
+
+        assertArrayEquals(new long[]{2011L, 42L}, CatalogCursor.decode(cursor, 2));
+    }
+
+    @Test
+    @DisplayName("Should produce URL-safe tokens")
+    void encode_ShouldBeUrlSafe() {
+        String cursor = CatalogCursor.encode(Long.MAX_VALUE);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or mismatched cursors")
+    void decode_WithInvalidCursor_ShouldThrowException() {
+        assertThrows(InvalidRequestException.class, () -> CatalogCursor.decode("%%%", 1));
+        assertThrows(InvalidRequestException.class, () -> CatalogCursor.decode(CatalogCursor.encode(1L, 2L), 1));
+        assertThrows(InvalidRequestException.class, () -> CatalogCursor.decode("djE6YWJj", 1));
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.CatalogFacets;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogFacetIndex Tests")
+class CatalogFacetIndexTest {
+
+    @Mock
+    private TvShowBatchRepository tvShowBatchRepository;
+
+    @InjectMocks
+    private CatalogFacetIndex facetIndex;
+
+    private final List<TvShow> catalog = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        catalog.add(show(1L, "Breaking Bad", 2008));
+        catalog.add(show(2L, "Game of Thrones", 2011));
+        catalog.add(show(3L, "The Wire", 2002));
+        catalog.add(show(4L, "Friends", 1994));
+        catalog.add(show(5L, "Better Call Saul", 2015));
+        catalog.add(show(6L, "Black Mirror", 2011));
+        catalog.add(show(7L, "Untitled Pilot", null));
+    }
+
+    private static TvShow show(long id, String album, Integer year) {
+        TvShow show = new TvShow(album, year, null);
+        show.setId(id);
+        return show;
+    }
+
+    // Stream the catalog the way the batch repository does (id order)
+    private void stubCatalog() {
+        doAnswer(invocation -> {
+            TvShowBatchRepository.ShowHandler handler = invocation.getArgument(0);
+            catalog.stream()
+                    .sorted(Comparator.comparing(TvShow::getId))
+                    .forEach(show -> handler.accept(show.getId(), show.getAlbum(), show.getYear(), show.getChartRank()));
+            return null;
+        }).when(tvShowBatchRepository).forEachShow(any());
+    }
+
+    private static List<Long> ids(CatalogFacetIndex.Browse browse) {
+        return Arrays.stream(browse.ids()).boxed().toList();
+    }
+
+    private static List<CatalogFacets.FacetCount> counts(int... valueCountPairs) {
+        List<CatalogFacets.FacetCount> counts = new ArrayList<>();
+        for (int i = 0; i < valueCountPairs.length; i += 2) {
+            counts.add(new CatalogFacets.FacetCount(valueCountPairs[i], valueCountPairs[i + 1]));
+        }
+        return counts;
+    }
+
+    @Nested
+    @DisplayName("Browse Tests")
+    class BrowseTests {
+
+        @BeforeEach
+        void load() {
+            stubCatalog();
+        }
+
+        @Test
+        @DisplayName("Should count shows per year and per decade, with shows without a year apart")
+        void facets_ShouldCountYearsAndDecades() {
+            // Act
+            CatalogFacets facets = facetIndex.facets();
+
+            // Assert
+            assertEquals(counts(1994, 1, 2002, 1, 2008, 1, 2011, 2, 2015, 1), facets.years());
+            assertEquals(counts(1990, 1, 2000, 2, 2010, 3), facets.decades());
+            assertEquals(1, facets.unknownYear());
+        }
+
+        @Test
+        @DisplayName("Should list the whole catalog by year then id, shows without a year last")
+        void browse_WithoutFilters_ShouldOrderByYearAndId() {
+            // Act
+            CatalogFacetIndex.Browse browse = facetIndex.browse(null, null, null, null, 50);
+
+            // Assert
+            assertEquals(List.of(4L, 3L, 1L, 2L, 6L, 5L, 7L), ids(browse));
+            assertEquals(7, browse.total());
+            assertNull(browse.nextKey());
+        }
+
+        @Test
+        @DisplayName("Should order negative years before positive ones and shows without a year last")
+        void browse_WithNegativeYear_ShouldSortItFirst() {
+            // Arrange
+            catalog.add(show(8L, "Ancient Epics", -50));
+
+            // Act
+            CatalogFacetIndex.Browse browse = facetIndex.browse(null, null, null, null, 50);
+            CatalogFacets facets = facetIndex.facets();
+
+            // Assert
+            assertEquals(List.of(8L, 4L, 3L, 1L, 2L, 6L, 5L, 7L), ids(browse));
+            assertEquals(counts(-50, 1, 1994, 1, 2002, 1, 2008, 1, 2011, 2, 2015, 1), facets.years());
+            assertEquals(1, facets.unknownYear());
+            assertEquals(List.of(8L), ids(facetIndex.browse(-100, 0, null, null, 50)));
+        }
+
+        @Test
+        @DisplayName("Should filter an inclusive year range and leave out shows without a year")
+        void browse_WithYearRange_ShouldReturnSlice() {
+            // Act
+            CatalogFacetIndex.Browse bounded = facetIndex.browse(2005, 2011, null, null, 50);
+            CatalogFacetIndex.Browse openEnded = facetIndex.browse(2011, null, null, null, 50);
+
+            // Assert: facets ignore the year range so other years stay selectable
+            assertEquals(List.of(1L, 2L, 6L), ids(bounded));
+            assertEquals(3, bounded.total());
+            assertEquals(5, bounded.facets().years().size());
+            assertEquals(List.of(2L, 6L, 5L), ids(openEnded));
+        }
+
+        @Test
+        @DisplayName("Should match album prefixes case-insensitively and count facets for the prefix only")
+        void browse_WithPrefix_ShouldFilterAndFacetPrefixMatches() {
+            // Act
+            CatalogFacetIndex.Browse browse = facetIndex.browse(null, null, "  B", null, 50);
+            CatalogFacetIndex.Browse ranged = facetIndex.browse(2010, 2012, "b", null, 50);
+
+            // Assert
+            assertEquals(List.of(1L, 6L, 5L), ids(browse));
+            assertEquals(counts(2008, 1, 2011, 1, 2015, 1), browse.facets().years());
+            assertEquals(counts(2000, 1, 2010, 2), browse.facets().decades());
+            assertEquals(0, browse.facets().unknownYear());
+            assertEquals(List.of(6L), ids(ranged));
+            assertEquals(1, ranged.total());
+            assertEquals(browse.facets(), ranged.facets());
+            assertTrue(ids(facetIndex.browse(null, null, "breaking bad!", null, 50)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should page with a (year, id) key until the last page")
+        void browse_WithKey_ShouldContinueAfterIt() {
+            // Act
+            CatalogFacetIndex.Browse first = facetIndex.browse(null, null, null, null, 3);
+            CatalogFacetIndex.Browse second = facetIndex.browse(null, null, null, first.nextKey(), 3);
+            CatalogFacetIndex.Browse last = facetIndex.browse(null, null, null, second.nextKey(), 3);
+
+            // Assert
+            assertEquals(List.of(4L, 3L, 1L), ids(first));
+            assertArrayEquals(new long[]{2008, 1L}, first.nextKey());
+            assertEquals(List.of(2L, 6L, 5L), ids(second));
+            assertEquals(List.of(7L), ids(last));
+            assertNull(last.nextKey());
+            assertEquals(7, last.total());
+        }
+
+        @Test
+        @DisplayName("Should page prefix matches in (year, id) order")
+        void browse_WithPrefixAndKey_ShouldContinueAfterIt() {
+            // Act
+            CatalogFacetIndex.Browse first = facetIndex.browse(null, null, "b", null, 2);
+            CatalogFacetIndex.Browse second = facetIndex.browse(null, null, "b", first.nextKey(), 2);
+
+            // Assert
+            assertEquals(List.of(1L, 6L), ids(first));
+            assertEquals(List.of(5L), ids(second));
+            assertNull(second.nextKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Update Tests")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("Should merge new and changed shows without reloading the catalog")
+        void addAll_ShouldMergeRowsIntoLoadedIndex() {
+            // Arrange
+            stubCatalog();
+            facetIndex.facets();
+
+            // Act
+            facetIndex.addAll(List.of(show(2L, "Dragon", 1990), show(8L, "Band of Brothers", 2001)));
+
+            // Assert
+            assertEquals(List.of(2L, 4L, 8L, 3L, 1L, 6L, 5L, 7L), ids(facetIndex.browse(null, null, null, null, 50)));
+            assertEquals(List.of(8L, 1L, 6L, 5L), ids(facetIndex.browse(null, null, "b", null, 50)));
+            assertTrue(ids(facetIndex.browse(null, null, "game", null, 50)).isEmpty());
+            assertEquals(List.of(2L), ids(facetIndex.browse(null, null, "dr", null, 50)));
+            assertEquals(counts(1990, 2, 2000, 3, 2010, 2), facetIndex.facets().decades());
+            assertEquals(8, facetIndex.size());
+            verify(tvShowBatchRepository, times(1)).forEachShow(any());
+        }
+
+        @Test
+        @DisplayName("Should ignore updates until the index is loaded")
+        void addAll_WhenNotLoaded_ShouldDoNothing() {
+            // Act
+            facetIndex.addAll(List.of(show(8L, "Band of Brothers", 2001)));
+
+            // Assert
+            assertEquals(0, facetIndex.size());
+            verifyNoInteractions(tvShowBatchRepository);
+        }
+
+        @Test
+        @DisplayName("Should reload from the database after invalidation")
+        void invalidate_ShouldReloadOnNextBrowse() {
+            // Arrange
+            stubCatalog();
+            facetIndex.facets();
+            catalog.add(show(8L, "Band of Brothers", 2001));
+
+            // Act
+            facetIndex.invalidate();
+            CatalogFacetIndex.Browse browse = facetIndex.browse(2001, 2001, null, null, 50);
+
+            // Assert
+            assertEquals(List.of(8L), ids(browse));
+            verify(tvShowBatchRepository, times(2)).forEachShow(any());
+        }
+    }
+}
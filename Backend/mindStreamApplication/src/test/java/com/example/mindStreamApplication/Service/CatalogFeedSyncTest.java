@@ -0,0 +1,271 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.FeedSyncResult;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CatalogFeedSync.class, TvShowBatchRepository.class, AlbumSearchIndex.class, CatalogFacetIndex.class,
+        TvShowCatalogCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("CatalogFeedSync Tests")
+class CatalogFeedSyncTest {
+
+    private static final String FEED = "["
+            + "{\"id\":1,\"title\":\"Breaking Bad\",\"year\":2008,\"chartPosition\":\"1\"},"
+            + "{\"id\":2,\"title\":\"The Wire\",\"year\":2002,\"chartPosition\":\"3\"},"
+            + "{\"id\":3,\"album\":\"Friends\",\"year\":1994,\"chartPosition\":\"5\"}"
+            + "]";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    @Autowired
+    private CatalogFeedSync feedSync;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    private HttpServer server;
+
+    // Stub feed state: response body, ETag and the conditional headers of each request
+    private volatile String feedBody = FEED;
+    private volatile String feedEtag = "\"v1\"";
+    private volatile int feedStatus = 200;
+    private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/tvshows", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(String.valueOf(ifNoneMatch));
+            if (feedStatus == 200 && feedEtag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = feedBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", feedEtag);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(feedStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        ReflectionTestUtils.setField(feedSync, "feedUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/tvshows");
+        ReflectionTestUtils.setField(feedSync, "batchSize", 500);
+        ReflectionTestUtils.setField(feedSync, "etag", null);
+        ReflectionTestUtils.setField(feedSync, "lastModified", null);
+
+        entityManager.persist(new TvShow("Breaking Bad", 2008, "2"));
+        entityManager.flush();
+        catalogCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("Upsert Tests")
+    class UpsertTests {
+
+        @Test
+        @DisplayName("Should insert new albums and update changed ones")
+        void sync_ShouldUpsertFeedRows() {
+            // Act
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals("updated", result.status());
+            assertEquals(3, result.received());
+            assertEquals(2, result.inserted());
+            assertEquals(1, result.updated());
+            assertEquals(3, tvShowRepository.count());
+            entityManager.clear();
+            assertEquals("1", tvShowRepository.findByAlbum("Breaking Bad").getChartPosition());
+            assertEquals(2002, tvShowRepository.findByAlbum("The Wire").getYear());
+        }
+
+        @Test
+        @DisplayName("Should leave unchanged rows alone")
+        void sync_WithSameFeedTwice_ShouldReportUnchanged() {
+            // Arrange
+            feedSync.sync();
+            entityManager.clear();
+            feedEtag = "\"v2\"";
+
+            // Act
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals(0, result.inserted());
+            assertEquals(0, result.updated());
+            assertEquals(3, result.unchanged());
+        }
+
+        @Test
+        @DisplayName("Should treat feed albums differing only in case as one show")
+        void sync_WithCaseVariants_ShouldInsertOnce() {
+            // Arrange
+            feedBody = "["
+                    + "{\"album\":\"The Wire\",\"year\":2002,\"chartPosition\":\"3\"},"
+                    + "{\"album\":\"THE WIRE\",\"year\":2002,\"chartPosition\":\"4\"}"
+                    + "]";
+
+            // Act
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals(1, result.inserted());
+            assertEquals(1, result.unchanged());
+            assertEquals(2, tvShowRepository.count());
+            entityManager.clear();
+            assertEquals("4", tvShowRepository.findByAlbumContaining("WIRE").get(0).getChartPosition());
+        }
+
+        @Test
+        @DisplayName("Should write in batches of the configured size")
+        void sync_WithSmallBatches_ShouldApplyEveryRow() {
+            // Arrange
+            ReflectionTestUtils.setField(feedSync, "batchSize", 1);
+
+            // Act
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals(2, result.inserted());
+            assertEquals(1, result.updated());
+            assertEquals(3, tvShowRepository.count());
+        }
+
+        @Test
+        @DisplayName("Should count entries without an album as invalid")
+        void sync_WithInvalidEntries_ShouldSkipThem() {
+            // Arrange
+            feedBody = "[{\"year\":2000}, \"oops\", {\"title\":\"Lost\",\"year\":2004}]";
+
+            // Act
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals(2, result.invalid());
+            assertEquals(1, result.inserted());
+        }
+
+        @Test
+        @DisplayName("Should drop the read cache when rows changed")
+        void sync_WithChanges_ShouldClearCatalogCache() {
+            // Arrange
+            catalogCache.getAll(tvShowRepository::findAll);
+            long version = catalogCache.version();
+
+            // Act
+            feedSync.sync();
+
+            // Assert
+            assertTrue(catalogCache.version() > version);
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional Request Tests")
+    class ConditionalRequestTests {
+
+        @Test
+        @DisplayName("Should send the stored ETag and skip an unchanged feed")
+        void sync_WhenNotModified_ShouldDoNothing() {
+            // Arrange
+            feedSync.sync();
+            long version = catalogCache.version();
+
+            // Act
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals("not-modified", result.status());
+            assertEquals(List.of("null", "\"v1\""), ifNoneMatchHeaders);
+            assertEquals(version, catalogCache.version());
+        }
+
+        @Test
+        @DisplayName("Should not keep validators from a failed response")
+        void sync_WhenFeedFails_ShouldRetryWithoutValidators() {
+            // Arrange
+            feedStatus = 500;
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            feedSync.bindTo(registry);
+            double failuresBefore = registry.get("tvshows.feed.failures").functionCounter().count();
+
+            // Act
+            assertThrows(IllegalStateException.class, () -> feedSync.sync());
+            feedStatus = 200;
+            FeedSyncResult result = feedSync.sync();
+
+            // Assert
+            assertEquals("updated", result.status());
+            assertEquals(List.of("null", "null"), ifNoneMatchHeaders);
+            assertEquals(failuresBefore + 1, registry.get("tvshows.feed.failures").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should reject a feed that is not a JSON array")
+        void sync_WithObjectFeed_ShouldFail() {
+            feedBody = "{\"tvshows\":[]}";
+
+            assertThrows(IllegalStateException.class, () -> feedSync.sync());
+        }
+
+        @Test
+        @DisplayName("Should fail when the feed cannot be reached")
+        void sync_WhenServerDown_ShouldThrow() {
+            server.stop(0);
+
+            assertThrows(UncheckedIOException.class, () -> feedSync.sync());
+        }
+
+        @Test
+        @DisplayName("Should do nothing without a feed url")
+        void sync_WithoutUrl_ShouldBeDisabled() {
+            ReflectionTestUtils.setField(feedSync, "feedUrl", "");
+
+            assertEquals("disabled", feedSync.sync().status());
+            assertTrue(ifNoneMatchHeaders.isEmpty());
+        }
+    }
+}
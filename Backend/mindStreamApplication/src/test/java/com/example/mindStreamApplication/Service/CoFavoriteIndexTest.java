@@ -0,0 +1,247 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Repository.FavoriteBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+
+@DisplayName("CoFavoriteIndex Tests")
+class CoFavoriteIndexTest {
+
+    private CoFavoriteIndex index;
+
+    // Favorites table seen by rebuild(): user id -> favorited show ids
+    private final SortedMap<Long, SortedSet<Long>> favorites = new TreeMap<>();
+
+    @BeforeEach
+    void setUp() {
+        FavoriteBatchRepository repository = mock(FavoriteBatchRepository.class);
+        doAnswer(invocation -> {
+            FavoriteBatchRepository.FavoriteHandler handler = invocation.getArgument(0);
+            favorites.forEach((userId, shows) -> shows.forEach(show -> handler.accept(userId, show)));
+            return null;
+        }).when(repository).forEachFavorite(any());
+
+        index = new CoFavoriteIndex();
+        ReflectionTestUtils.setField(index, "favoriteBatchRepository", repository);
+    }
+
+    private void favorite(long userId, long... tvShowIds) {
+        for (long tvShowId : tvShowIds) {
+            favorites.computeIfAbsent(userId, id -> new TreeSet<>()).add(tvShowId);
+        }
+    }
+
+    private long[] others(long userId, long tvShowId) {
+        return favorites.getOrDefault(userId, new TreeSet<>()).stream()
+                .filter(id -> id != tvShowId).mapToLong(Long::longValue).toArray();
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should rank neighbors by the number of users who favorited both shows")
+        void rebuild_ShouldCountSharedFavorites() {
+            // Arrange
+            favorite(1, 10, 20, 30);
+            favorite(2, 10, 20);
+            favorite(3, 10, 30, 40);
+            favorite(4, 10, 20);
+
+            // Act
+            int shows = index.rebuild();
+
+            // Assert
+            assertEquals(4, shows);
+            CoFavoriteIndex.Neighbors neighbors = index.neighbors(10L);
+            assertArrayEquals(new long[]{20, 30, 40}, neighbors.tvShowIds());
+            assertArrayEquals(new int[]{3, 2, 1}, neighbors.sharedFavorites());
+            assertArrayEquals(new long[]{10, 30}, index.neighbors(20L).tvShowIds());
+        }
+
+        @Test
+        @DisplayName("Should keep only the top K neighbors and break ties by show id")
+        void rebuild_ShouldKeepTopK() {
+            // Arrange
+            ReflectionTestUtils.setField(index, "topK", 2);
+            favorite(1, 1, 5, 7, 9);
+            favorite(2, 1, 9);
+
+            // Act
+            index.rebuild();
+
+            // Assert
+            assertArrayEquals(new long[]{9, 5}, index.neighbors(1L).tvShowIds());
+        }
+
+        @Test
+        @DisplayName("Should return no neighbors for unknown or solitary shows")
+        void neighbors_WithoutCoFavorites_ShouldBeEmpty() {
+            favorite(1, 10);
+            index.rebuild();
+
+            assertEquals(0, index.neighbors(10L).size());
+            assertEquals(0, index.neighbors(99L).size());
+        }
+
+        @Test
+        @DisplayName("Should give the same rows with any number of fork/join threads")
+        void rebuild_InParallel_ShouldMatchSingleThread() {
+            // Arrange
+            Random random = new Random(7);
+            for (long user = 1; user <= 300; user++) {
+                for (int i = 0; i < 8; i++) {
+                    favorite(user, 1 + random.nextInt(400));
+                }
+            }
+            ReflectionTestUtils.setField(index, "parallelism", 1);
+            index.rebuild();
+            Map<Long, List<Long>> single = snapshot(400);
+
+            // Act
+            ReflectionTestUtils.setField(index, "parallelism", 4);
+            index.rebuild();
+
+            // Assert
+            assertEquals(single, snapshot(400));
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Update Tests")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("Should count a new favorite against the user's other favorites")
+        void favoriteAdded_ShouldAddPairs() {
+            // Arrange
+            favorite(1, 10, 20);
+            index.rebuild();
+
+            // Act
+            index.favoriteAdded(30L, new long[]{10L, 20L});
+
+            // Assert
+            assertArrayEquals(new long[]{20, 30}, index.neighbors(10L).tvShowIds());
+            assertArrayEquals(new long[]{10, 20}, index.neighbors(30L).tvShowIds());
+        }
+
+        @Test
+        @DisplayName("Should drop a neighbor once no user shares it anymore")
+        void favoriteRemoved_ShouldRemovePairs() {
+            // Arrange
+            favorite(1, 10, 20, 30);
+            index.rebuild();
+
+            // Act
+            index.favoriteRemoved(30L, new long[]{10L, 20L});
+
+            // Assert
+            assertArrayEquals(new long[]{20}, index.neighbors(10L).tvShowIds());
+            assertEquals(0, index.neighbors(30L).size());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {20, 3})
+        @DisplayName("Should end up where a rebuild from the same favorites would")
+        void updates_ShouldMatchRebuild(int topK) {
+            // Arrange
+            ReflectionTestUtils.setField(index, "topK", topK);
+            Random random = new Random(11);
+            index.rebuild();
+
+            // Act: random adds and removes applied incrementally
+            for (int step = 0; step < 2000; step++) {
+                long user = 1 + random.nextInt(20);
+                long show = 1 + random.nextInt(30);
+                SortedSet<Long> shows = favorites.computeIfAbsent(user, id -> new TreeSet<>());
+                if (shows.contains(show)) {
+                    shows.remove(show);
+                    index.favoriteRemoved(show, others(user, show));
+                } else {
+                    index.favoriteAdded(show, others(user, show));
+                    shows.add(show);
+                }
+            }
+            Map<Long, List<Long>> incremental = snapshot(30);
+            index.rebuild();
+
+            // Assert
+            assertEquals(snapshot(30), incremental);
+        }
+    }
+
+    // Neighbor ids and counts of shows 1..maxId, for comparing two index states
+    private Map<Long, List<Long>> snapshot(long maxId) {
+        Map<Long, List<Long>> result = new TreeMap<>();
+        for (long id = 1; id <= maxId; id++) {
+            CoFavoriteIndex.Neighbors neighbors = index.neighbors(id);
+            List<Long> entries = new ArrayList<>();
+            for (int i = 0; i < neighbors.size(); i++) {
+                entries.add(neighbors.tvShowIds()[i]);
+                entries.add((long) neighbors.sharedFavorites()[i]);
+            }
+            if (!entries.isEmpty()) {
+                result.put(id, entries);
+            }
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("SparseCountRow Tests")
+    class SparseCountRowTests {
+
+        @Test
+        @DisplayName("Should add, read and remove counts")
+        void add_ShouldTrackCounts() {
+            SparseCountRow row = new SparseCountRow(0);
+
+            assertEquals(2, row.add(5, 2));
+            assertEquals(3, row.add(5, 1));
+            assertEquals(0, row.add(5, -3));
+            assertEquals(0, row.get(5));
+            assertEquals(0, row.size());
+            assertEquals(0, row.add(8, -1));
+        }
+
+        @Test
+        @DisplayName("Should agree with a HashMap under random updates")
+        void add_WithRandomUpdates_ShouldMatchHashMap() {
+            SparseCountRow row = new SparseCountRow(4);
+            Map<Integer, Integer> expected = new HashMap<>();
+            Random random = new Random(3);
+
+            for (int step = 0; step < 50_000; step++) {
+                int column = random.nextInt(500);
+                int delta = random.nextInt(3) == 0 ? -1 : 1;
+                int count = Math.max(0, expected.getOrDefault(column, 0) + delta);
+                if (count == 0) {
+                    expected.remove(column);
+                } else {
+                    expected.put(column, count);
+                }
+                assertEquals(count, row.add(column, delta));
+            }
+
+            Map<Integer, Integer> actual = new HashMap<>();
+            row.forEach(actual::put);
+            assertEquals(expected, actual);
+            assertEquals(expected.size(), row.size());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.TvShowStats;
+import com.example.mindStreamApplication.Repository.TvShowStatsBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({FavoriteCountAggregator.class, TvShowStatsBatchRepository.class})
+@DisplayName("FavoriteCountAggregator Tests")
+class FavoriteCountAggregatorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TvShowStatsRepository tvShowStatsRepository;
+
+    @Autowired
+    private TvShowStatsBatchRepository statsBatchRepository;
+
+    @Autowired
+    private FavoriteCountAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        // The aggregator is a context singleton; start every test with nothing pending
+        ReflectionTestUtils.setField(aggregator, "statsBatchRepository", statsBatchRepository);
+        ReflectionTestUtils.setField(aggregator, "batchSize", 500);
+        aggregator.flush();
+
+        entityManager.persist(new TvShowStats(10L, 5));
+        entityManager.flush();
+    }
+
+    private long storedCount(Long tvShowId) {
+        entityManager.clear();
+        return tvShowStatsRepository.findById(tvShowId).map(TvShowStats::getFavoriteCount).orElse(-1L);
+    }
+
+    @Nested
+    @DisplayName("Flush Tests")
+    class FlushTests {
+
+        @Test
+        @DisplayName("Should add deltas to existing rows and create missing ones")
+        void flush_ShouldUpdateAndInsertCounts() {
+            // Arrange
+            aggregator.record(10L, 1);
+            aggregator.record(10L, 1);
+            aggregator.record(20L, 1);
+
+            // Act
+            int written = aggregator.flush();
+
+            // Assert
+            assertEquals(2, written);
+            assertEquals(7, storedCount(10L));
+            assertEquals(1, storedCount(20L));
+            assertEquals(0, aggregator.pending(10L));
+        }
+
+        @Test
+        @DisplayName("Should skip shows whose adds and removes cancel out")
+        void flush_WithNetZeroDelta_ShouldWriteNothing() {
+            // Arrange
+            aggregator.record(10L, 1);
+            aggregator.record(10L, -1);
+
+            // Act & Assert
+            assertEquals(0, aggregator.flush());
+            assertEquals(5, storedCount(10L));
+        }
+
+        @Test
+        @DisplayName("Should write deltas in batches of the configured size")
+        void flush_WithSmallBatches_ShouldWriteEveryShow() {
+            // Arrange
+            ReflectionTestUtils.setField(aggregator, "batchSize", 2);
+            for (long id = 1; id <= 5; id++) {
+                aggregator.record(id, id);
+            }
+
+            // Act
+            int written = aggregator.flush();
+
+            // Assert
+            assertEquals(5, written);
+            assertEquals(3, storedCount(3L));
+            assertEquals(5, storedCount(5L));
+        }
+
+        @Test
+        @DisplayName("Should keep deltas from concurrent writers")
+        void record_FromManyThreads_ShouldNotLoseUpdates() throws InterruptedException {
+            // Arrange
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> aggregator.record(30L, 1));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            // Act
+            aggregator.flush();
+
+            // Assert
+            assertEquals(1000, storedCount(30L));
+        }
+
+        @Test
+        @DisplayName("Should put deltas back when a flush fails")
+        void flush_WhenWriteFails_ShouldKeepDeltas() {
+            // Arrange
+            TvShowStatsBatchRepository failing = mock(TvShowStatsBatchRepository.class);
+            doThrow(new DataAccessResourceFailureException("down")).when(failing).addAll(anyMap());
+            ReflectionTestUtils.setField(aggregator, "statsBatchRepository", failing);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            aggregator.bindTo(registry);
+            double failuresBefore = registry.get("tvshows.stats.failures").functionCounter().count();
+            aggregator.record(10L, 3);
+
+            // Act
+            assertThrows(DataAccessResourceFailureException.class, () -> aggregator.flush());
+            ReflectionTestUtils.setField(aggregator, "statsBatchRepository", statsBatchRepository);
+            aggregator.flush();
+
+            // Assert
+            assertEquals(8, storedCount(10L));
+            assertEquals(failuresBefore + 1, registry.get("tvshows.stats.failures").functionCounter().count());
+        }
+    }
+}
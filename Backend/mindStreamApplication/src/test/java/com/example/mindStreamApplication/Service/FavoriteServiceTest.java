@@ -1,9 +1,15 @@
 package com.example.mindStreamApplication.Service;
 
+import com.example.mindStreamApplication.DTO.FavoriteBatchRequest;
+import com.example.mindStreamApplication.DTO.FavoriteBatchResult;
+import com.example.mindStreamApplication.DTO.FavoriteResponse;
 import com.example.mindStreamApplication.Domain.Favorite;
+import com.example.mindStreamApplication.Domain.FavoriteTvShowView;
 import com.example.mindStreamApplication.Domain.TvShow;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
+import com.example.mindStreamApplication.Repository.FavoriteBatchRepository;
 import com.example.mindStreamApplication.Repository.FavoriteRepository;
 import com.example.mindStreamApplication.Repository.TvShowRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,9 +29,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -37,6 +47,18 @@ class FavoriteServiceTest {
     @Mock
     private TvShowRepository tvShowRepository;
 
+    @Mock
+    private FavoriteBatchRepository favoriteBatchRepository;
+
+    @Spy
+    private UserFavoritesCache favoritesCache = new UserFavoritesCache();
+
+    @Mock
+    private FavoriteCountAggregator favoriteCounts;
+
+    @Mock
+    private CoFavoriteIndex coFavoriteIndex;
+
     @InjectMocks
     private FavoriteService favoriteService;
 
@@ -53,6 +75,18 @@ class FavoriteServiceTest {
         testFavorite.setAddedAt(LocalDateTime.now());
     }
 
+    // Build the join projection the repository returns; a null show mimics a missing TV show row
+    private FavoriteTvShowView toView(Favorite favorite, TvShow tvShow) {
+        return new FavoriteTvShowView(
+                favorite.getId(),
+                favorite.getAddedAt(),
+                favorite.getTvShowId(),
+                tvShow != null ? tvShow.getAlbum() : null,
+                tvShow != null ? tvShow.getYear() : null,
+                tvShow != null ? tvShow.getChartPosition() : null
+        );
+    }
+
     @Nested
     @DisplayName("AddToFavorites Tests")
     class AddToFavoritesTests {
@@ -62,8 +96,7 @@ class FavoriteServiceTest {
         void addToFavorites_WhenValid_ShouldReturnSuccessResponse() {
             // Arrange
             when(tvShowRepository.findById(10L)).thenReturn(Optional.of(testTvShow));
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 10L)).thenReturn(false);
-            when(favoriteRepository.save(any(Favorite.class))).thenAnswer(invocation -> {
+            when(favoriteRepository.saveAndFlush(any(Favorite.class))).thenAnswer(invocation -> {
                 Favorite saved = invocation.getArgument(0);
                 saved.setId(100L);
                 return saved;
@@ -75,7 +108,9 @@ class FavoriteServiceTest {
             // Assert
             assertTrue((Boolean) result.get("success"));
             assertEquals("Added to favorites", result.get("message"));
-            verify(favoriteRepository).save(any(Favorite.class));
+            verify(favoriteRepository).saveAndFlush(any(Favorite.class));
+            verify(favoriteCounts).record(10L, 1);
+            verify(coFavoriteIndex).favoriteAdded(10L, new long[0]);
         }
 
         @Test
@@ -89,7 +124,7 @@ class FavoriteServiceTest {
                 ResourceNotFoundException.class,
                 () -> favoriteService.addToFavorites(1L, 999L)
             );
-            verify(favoriteRepository, never()).save(any());
+            verify(favoriteRepository, never()).saveAndFlush(any());
         }
 
         @Test
@@ -97,7 +132,8 @@ class FavoriteServiceTest {
         void addToFavorites_WhenAlreadyFavorited_ShouldThrowException() {
             // Arrange
             when(tvShowRepository.findById(10L)).thenReturn(Optional.of(testTvShow));
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 10L)).thenReturn(true);
+            when(favoriteRepository.saveAndFlush(any(Favorite.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_favorites_user_show"));
 
             // Act & Assert
             DuplicateResourceException exception = assertThrows(
@@ -105,7 +141,7 @@ class FavoriteServiceTest {
                 () -> favoriteService.addToFavorites(1L, 10L)
             );
             assertTrue(exception.getMessage().contains("already exists"));
-            verify(favoriteRepository, never()).save(any());
+            verifyNoInteractions(favoritesCache, favoriteCounts);
         }
 
         @Test
@@ -113,8 +149,7 @@ class FavoriteServiceTest {
         void addToFavorites_ShouldSetAddedAtTimestamp() {
             // Arrange
             when(tvShowRepository.findById(10L)).thenReturn(Optional.of(testTvShow));
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 10L)).thenReturn(false);
-            when(favoriteRepository.save(any(Favorite.class))).thenAnswer(invocation -> {
+            when(favoriteRepository.saveAndFlush(any(Favorite.class))).thenAnswer(invocation -> {
                 Favorite saved = invocation.getArgument(0);
                 assertNotNull(saved.getAddedAt());
                 saved.setId(100L);
@@ -125,7 +160,7 @@ class FavoriteServiceTest {
             favoriteService.addToFavorites(1L, 10L);
 
             // Assert
-            verify(favoriteRepository).save(any(Favorite.class));
+            verify(favoriteRepository).saveAndFlush(any(Favorite.class));
         }
     }
 
@@ -147,6 +182,8 @@ class FavoriteServiceTest {
             assertTrue((Boolean) result.get("success"));
             assertEquals("Removed from favorites", result.get("message"));
             verify(favoriteRepository).delete(testFavorite);
+            verify(favoriteCounts).record(10L, -1);
+            verify(coFavoriteIndex).favoriteRemoved(10L, new long[0]);
         }
 
         @Test
@@ -164,6 +201,110 @@ class FavoriteServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("ApplyBatch Tests")
+    class ApplyBatchTests {
+
+        private FavoriteBatchRequest.Operation add(Long tvShowId) {
+            return new FavoriteBatchRequest.Operation("add", tvShowId);
+        }
+
+        private FavoriteBatchRequest.Operation remove(Long tvShowId) {
+            return new FavoriteBatchRequest.Operation("remove", tvShowId);
+        }
+
+        private List<String> outcomes(FavoriteBatchResult result) {
+            return result.results().stream().map(FavoriteBatchResult.Item::outcome).toList();
+        }
+
+        @Test
+        @DisplayName("Should write only the net difference with one insert and one delete")
+        void applyBatch_ShouldInsertAndDeleteNetChanges() {
+            // Arrange
+            when(tvShowRepository.findIdsIn(Set.of(20L, 30L))).thenReturn(Set.of(20L, 30L));
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(10L));
+
+            // Act
+            FavoriteBatchResult result = favoriteService.applyBatch(1L,
+                    List.of(add(20L), remove(10L), add(30L), remove(30L)));
+
+            // Assert
+            assertEquals(List.of("added", "removed", "added", "removed"), outcomes(result));
+            assertEquals(1, result.added());
+            assertEquals(1, result.removed());
+            verify(favoriteBatchRepository).insertAll(eq(1L), eq(List.of(20L)), any(LocalDateTime.class));
+            verify(favoriteRepository).deleteByUserIdAndTvShowIdIn(1L, List.of(10L));
+            verify(favoritesCache, atLeastOnce()).invalidate(1L);
+            verify(favoriteCounts).record(20L, 1);
+            verify(favoriteCounts).record(10L, -1);
+            verifyNoMoreInteractions(favoriteCounts);
+            verify(coFavoriteIndex).favoriteRemoved(10L, new long[0]);
+            verify(coFavoriteIndex).favoriteAdded(20L, new long[0]);
+        }
+
+        @Test
+        @DisplayName("Should report unchanged items when a batch is retried")
+        void applyBatch_WhenRetried_ShouldReportUnchanged() {
+            // Arrange: the first attempt already added 20 and removed 10
+            when(tvShowRepository.findIdsIn(Set.of(20L))).thenReturn(Set.of(20L));
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(20L));
+
+            // Act
+            FavoriteBatchResult result = favoriteService.applyBatch(1L, List.of(add(20L), remove(10L)));
+
+            // Assert
+            assertEquals(List.of("unchanged", "unchanged"), outcomes(result));
+            assertEquals(0, result.added());
+            assertEquals(0, result.removed());
+            verify(favoriteRepository, never()).deleteByUserIdAndTvShowIdIn(any(), any());
+            verify(favoritesCache, never()).invalidate(any());
+            verifyNoInteractions(favoriteCounts);
+        }
+
+        @Test
+        @DisplayName("Should report unknown shows and malformed operations per item")
+        void applyBatch_WithBadItems_ShouldReportThem() {
+            // Arrange
+            when(tvShowRepository.findIdsIn(Set.of(999L))).thenReturn(Set.of());
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of());
+
+            // Act
+            FavoriteBatchResult result = favoriteService.applyBatch(1L, Arrays.asList(
+                    add(999L), new FavoriteBatchRequest.Operation("toggle", 10L), add(null), null));
+
+            // Assert
+            assertEquals(List.of("not-found", "invalid", "invalid", "invalid"), outcomes(result));
+            assertEquals(0, result.added());
+        }
+
+        @Test
+        @DisplayName("Should turn a concurrent insert into a duplicate error")
+        void applyBatch_WhenInsertConflicts_ShouldThrowDuplicate() {
+            // Arrange
+            when(tvShowRepository.findIdsIn(Set.of(20L))).thenReturn(Set.of(20L));
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of());
+            doThrow(new DataIntegrityViolationException("uk_favorites_user_show"))
+                    .when(favoriteBatchRepository).insertAll(eq(1L), eq(List.of(20L)), any(LocalDateTime.class));
+
+            // Act & Assert
+            assertThrows(DuplicateResourceException.class,
+                    () -> favoriteService.applyBatch(1L, List.of(add(20L))));
+        }
+
+        @Test
+        @DisplayName("Should reject missing user, empty and oversized batches")
+        void applyBatch_WithInvalidRequest_ShouldThrow() {
+            // Arrange
+            List<FavoriteBatchRequest.Operation> tooMany = Collections.nCopies(501, add(10L));
+
+            // Act & Assert
+            assertThrows(InvalidRequestException.class, () -> favoriteService.applyBatch(null, List.of(add(10L))));
+            assertThrows(InvalidRequestException.class, () -> favoriteService.applyBatch(1L, List.of()));
+            assertThrows(InvalidRequestException.class, () -> favoriteService.applyBatch(1L, tooMany));
+            verifyNoInteractions(favoriteRepository, favoriteBatchRepository);
+        }
+    }
+
     @Nested
     @DisplayName("GetUserFavorites Tests")
     class GetUserFavoritesTests {
@@ -172,29 +313,28 @@ class FavoriteServiceTest {
         @DisplayName("Should return user favorites with TV show details")
         void getUserFavorites_ShouldReturnFavoritesWithTvShowDetails() {
             // Arrange
-            List<Favorite> favorites = Arrays.asList(testFavorite);
-            when(favoriteRepository.findByUserId(1L)).thenReturn(favorites);
-            when(tvShowRepository.findById(10L)).thenReturn(Optional.of(testTvShow));
+            List<FavoriteTvShowView> favorites = Arrays.asList(toView(testFavorite, testTvShow));
+            when(favoriteRepository.findFavoriteViewsByUserId(1L)).thenReturn(favorites);
 
             // Act
-            List<Map<String, Object>> result = favoriteService.getUserFavorites(1L);
+            List<FavoriteResponse> result = favoriteService.getUserFavorites(1L);
 
             // Assert
             assertEquals(1, result.size());
-            Map<String, Object> favoriteMap = result.get(0);
-            assertEquals(100L, favoriteMap.get("id"));
-            assertTrue((Boolean) favoriteMap.get("isFavorite"));
-            assertNotNull(favoriteMap.get("tvShow"));
+            FavoriteResponse favorite = result.get(0);
+            assertEquals(100L, favorite.id());
+            assertTrue(favorite.isFavorite());
+            assertEquals("Breaking Bad", favorite.tvShow().album());
         }
 
         @Test
         @DisplayName("Should return empty list when user has no favorites")
         void getUserFavorites_WhenNoFavorites_ShouldReturnEmptyList() {
             // Arrange
-            when(favoriteRepository.findByUserId(999L)).thenReturn(Collections.emptyList());
+            when(favoriteRepository.findFavoriteViewsByUserId(999L)).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = favoriteService.getUserFavorites(999L);
+            List<FavoriteResponse> result = favoriteService.getUserFavorites(999L);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -204,9 +344,8 @@ class FavoriteServiceTest {
         @DisplayName("Should throw exception when TV show in favorite not found")
         void getUserFavorites_WhenTvShowNotFound_ShouldThrowException() {
             // Arrange
-            List<Favorite> favorites = Arrays.asList(testFavorite);
-            when(favoriteRepository.findByUserId(1L)).thenReturn(favorites);
-            when(tvShowRepository.findById(10L)).thenReturn(Optional.empty());
+            List<FavoriteTvShowView> favorites = Arrays.asList(toView(testFavorite, null));
+            when(favoriteRepository.findFavoriteViewsByUserId(1L)).thenReturn(favorites);
 
             // Act & Assert
             assertThrows(
@@ -226,16 +365,16 @@ class FavoriteServiceTest {
             favorite2.setId(200L);
             favorite2.setAddedAt(LocalDateTime.now());
 
-            List<Favorite> favorites = Arrays.asList(testFavorite, favorite2);
-            when(favoriteRepository.findByUserId(1L)).thenReturn(favorites);
-            when(tvShowRepository.findById(10L)).thenReturn(Optional.of(testTvShow));
-            when(tvShowRepository.findById(20L)).thenReturn(Optional.of(tvShow2));
+            List<FavoriteTvShowView> favorites = Arrays.asList(
+                    toView(testFavorite, testTvShow), toView(favorite2, tvShow2));
+            when(favoriteRepository.findFavoriteViewsByUserId(1L)).thenReturn(favorites);
 
             // Act
-            List<Map<String, Object>> result = favoriteService.getUserFavorites(1L);
+            List<FavoriteResponse> result = favoriteService.getUserFavorites(1L);
 
             // Assert
             assertEquals(2, result.size());
+            verify(tvShowRepository, never()).findById(any());
         }
     }
 
@@ -247,7 +386,7 @@ class FavoriteServiceTest {
         @DisplayName("Should return true when TV show is favorited")
         void isFavorite_WhenFavorited_ShouldReturnTrue() {
             // Arrange
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 10L)).thenReturn(true);
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(10L));
 
             // Act
             boolean result = favoriteService.isFavorite(1L, 10L);
@@ -260,7 +399,7 @@ class FavoriteServiceTest {
         @DisplayName("Should return false when TV show is not favorited")
         void isFavorite_WhenNotFavorited_ShouldReturnFalse() {
             // Arrange
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 999L)).thenReturn(false);
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(10L));
 
             // Act
             boolean result = favoriteService.isFavorite(1L, 999L);
@@ -268,6 +407,41 @@ class FavoriteServiceTest {
             // Assert
             assertFalse(result);
         }
+
+        @Test
+        @DisplayName("Should answer repeated checks without another lookup")
+        void isFavorite_WhenCached_ShouldNotQueryAgain() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(10L));
+
+            // Act
+            favoriteService.isFavorite(1L, 10L);
+            boolean result = favoriteService.isFavorite(1L, 20L);
+
+            // Assert
+            assertFalse(result);
+            verify(favoriteRepository, times(1)).findTvShowIdsByUserId(1L);
+            verify(favoriteRepository, never()).existsByUserIdAndTvShowId(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reflect added and removed favorites without reloading")
+        void isFavorite_AfterWrites_ShouldUseUpdatedSet() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(10L));
+            when(tvShowRepository.findById(20L)).thenReturn(Optional.of(testTvShow));
+            when(favoriteRepository.findByUserIdAndTvShowId(1L, 10L)).thenReturn(testFavorite);
+            favoriteService.isFavorite(1L, 10L);
+
+            // Act
+            favoriteService.addToFavorites(1L, 20L);
+            favoriteService.removeFromFavorites(1L, 10L);
+
+            // Assert
+            assertTrue(favoriteService.isFavorite(1L, 20L));
+            assertFalse(favoriteService.isFavorite(1L, 10L));
+            verify(favoriteRepository, times(1)).findTvShowIdsByUserId(1L);
+        }
     }
 
     @Nested
@@ -309,10 +483,10 @@ class FavoriteServiceTest {
         @DisplayName("Should handle null userId gracefully")
         void getUserFavorites_WithNullUserId_ShouldReturnEmptyList() {
             // Arrange
-            when(favoriteRepository.findByUserId(null)).thenReturn(Collections.emptyList());
+            when(favoriteRepository.findFavoriteViewsByUserId(null)).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = favoriteService.getUserFavorites(null);
+            List<FavoriteResponse> result = favoriteService.getUserFavorites(null);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -0,0 +1,359 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.FeedItemResponse;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import com.example.mindStreamApplication.Repository.FavoriteRepository;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedService Tests")
+class FeedServiceTest {
+
+    @Mock
+    private TvShowRepository tvShowRepository;
+
+    @Mock
+    private TvShowBatchRepository tvShowBatchRepository;
+
+    @Mock
+    private TvShowStatsRepository tvShowStatsRepository;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private CoFavoriteIndex coFavoriteIndex;
+
+    @Spy
+    private TvShowCatalogCache catalogCache = new TvShowCatalogCache();
+
+    @Spy
+    private UserFavoritesCache favoritesCache = new UserFavoritesCache();
+
+    @InjectMocks
+    private FeedService feedService;
+
+    private final Map<Long, TvShow> shows = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        addShow(1L, "Breaking Bad", 2008, "1");
+        addShow(2L, "Game of Thrones", 2011, "2");
+        addShow(3L, "The Wire", 2002, "3");
+        addShow(4L, "Friends", 1994, "5");
+        addShow(5L, "Severance", 2022, null);
+
+        // Shared fixture; not every test reaches each of these stubs
+        lenient().doAnswer(invocation -> {
+            TvShowBatchRepository.ShowHandler handler = invocation.getArgument(0);
+            shows.values().forEach(show -> handler.accept(show.getId(), show.getAlbum(), show.getYear(), show.getChartRank()));
+            return null;
+        }).when(tvShowBatchRepository).forEachShow(any());
+        lenient().when(tvShowRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<TvShow> found = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                if (shows.containsKey(id)) {
+                    found.add(shows.get(id));
+                }
+            }
+            return found;
+        });
+        lenient().when(tvShowStatsRepository.findMostFavorited(any())).thenReturn(List.of());
+        lenient().when(coFavoriteIndex.neighbors(any())).thenReturn(CoFavoriteIndex.Neighbors.EMPTY);
+        ReflectionTestUtils.setField(feedService, "fallbackSize", 0);
+    }
+
+    private void addShow(Long id, String album, Integer year, String chartPosition) {
+        TvShow show = new TvShow(album, year, chartPosition);
+        show.setId(id);
+        shows.put(id, show);
+    }
+
+    private static List<Long> ids(List<FeedItemResponse> feed) {
+        return feed.stream().map(FeedItemResponse::id).toList();
+    }
+
+    @Nested
+    @DisplayName("Ranking Tests")
+    class RankingTests {
+
+        @Test
+        @DisplayName("Should rank co-favorited shows the user has not favorited yet")
+        void getFeed_ShouldRankNeighborsOfFavorites() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L, 4L}, new int[]{9, 1}));
+
+            feedService.refresh();
+
+            // Act
+            List<FeedItemResponse> feed = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(List.of(3L, 4L), ids(feed));
+            assertEquals("The Wire", feed.get(0).album());
+            assertEquals(FeedService.REASON_CO_FAVORITE, feed.get(0).reason());
+            assertTrue(feed.get(0).score() > feed.get(1).score());
+        }
+
+        @Test
+        @DisplayName("Should sum shared favorites over every favorite of the user")
+        void getFeed_ShouldSumCoOccurrenceAcrossFavorites() {
+            // Arrange: show 4 is a weaker neighbor of each favorite but shared by both
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L, 2L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L, 4L}, new int[]{6, 5}));
+            when(coFavoriteIndex.neighbors(2L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{4L, 1L}, new int[]{5, 8}));
+
+            feedService.refresh();
+
+            // Act
+            List<FeedItemResponse> feed = feedService.getFeed(7L, null);
+
+            // Assert: favorited show 1 is never offered back
+            assertEquals(List.of(4L, 3L), ids(feed));
+        }
+
+        @Test
+        @DisplayName("Should break co-occurrence ties by recency and chart position")
+        void getFeed_WithEqualCoOccurrence_ShouldPreferRecentCharting() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{4L, 2L}, new int[]{3, 3}));
+
+            feedService.refresh();
+
+            // Act
+            List<FeedItemResponse> feed = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(List.of(2L, 4L), ids(feed));
+        }
+
+        @Test
+        @DisplayName("Should fill the feed from the fallback pool for users without favorites")
+        void getFeed_WithoutFavorites_ShouldUseFallbackPool() {
+            // Arrange
+            ReflectionTestUtils.setField(feedService, "fallbackSize", 2);
+            when(tvShowStatsRepository.findMostFavorited(any())).thenReturn(
+                    List.of(new PopularTvShowResponse(4L, "Friends", 1994, "5", 40)));
+
+            feedService.refresh();
+
+            // Act
+            List<FeedItemResponse> feed = feedService.getFeed(7L, null);
+
+            // Assert: the most favorited show plus the two best on recency and chart
+            assertEquals(Set.of(4L, 1L, 2L), new HashSet<>(ids(feed)));
+            assertEquals(1L, feed.get(0).id());
+            assertTrue(feed.stream().allMatch(item -> FeedService.REASON_POPULAR.equals(item.reason())));
+        }
+
+        @Test
+        @DisplayName("Should stop at the limit and skip shows deleted since the snapshot")
+        void getFeed_ShouldRespectLimitAndSkipMissingShows() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L, 2L, 4L, 99L}, new int[]{9, 8, 7, 6}));
+            feedService.refresh();
+            shows.remove(3L);
+
+            // Act
+            List<FeedItemResponse> feed = feedService.getFeed(7L, 2);
+
+            // Assert: 99 was never in the catalog, 3 was deleted after the refresh
+            assertEquals(List.of(2L, 4L), ids(feed));
+        }
+
+        @Test
+        @DisplayName("Should hydrate a page with one query and serve repeats from the catalog cache")
+        void getFeed_ShouldLoadPageRowsInOneQuery() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{2L, 3L, 4L, 5L}, new int[]{9, 8, 7, 6}));
+
+            feedService.refresh();
+
+            // Act
+            feedService.getFeed(7L, null);
+            List<FeedItemResponse> repeated = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(Set.of(2L, 3L, 4L, 5L), new HashSet<>(ids(repeated)));
+            verify(tvShowRepository, times(1)).findAllById(any());
+            verify(tvShowRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid limits")
+        void getFeed_WithInvalidLimit_ShouldThrow() {
+            assertThrows(InvalidRequestException.class, () -> feedService.getFeed(7L, 0));
+            assertThrows(InvalidRequestException.class,
+                    () -> feedService.getFeed(7L, FeedService.MAX_LIMIT + 1));
+            verifyNoInteractions(tvShowBatchRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Loading Tests")
+    class SnapshotLoadingTests {
+
+        @Test
+        @DisplayName("Should serve the most favorited shows without scanning the catalog before the first load")
+        void getFeed_BeforeFirstLoad_ShouldUseMostFavorited() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(4L));
+            when(tvShowStatsRepository.findMostFavorited(any())).thenReturn(List.of(
+                    new PopularTvShowResponse(4L, "Friends", 1994, "5", 40),
+                    new PopularTvShowResponse(2L, "Game of Thrones", 2011, "2", 30)));
+
+            // Act
+            List<FeedItemResponse> feed = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(List.of(2L), ids(feed));
+            assertEquals(FeedService.REASON_POPULAR, feed.get(0).reason());
+            verifyNoInteractions(tvShowBatchRepository);
+            assertEquals(0, feedService.snapshotSize());
+        }
+
+        @Test
+        @DisplayName("Should load the snapshot when the application is ready")
+        void warmUp_ShouldLoadSnapshot() {
+            // Act
+            feedService.warmUp();
+
+            // Assert
+            assertEquals(5, feedService.snapshotSize());
+        }
+
+        @Test
+        @DisplayName("Should keep serving when the warm-up load fails")
+        void warmUp_WhenLoadFails_ShouldNotThrow() {
+            // Arrange
+            doThrow(new IllegalStateException("database down")).when(tvShowBatchRepository).forEachShow(any());
+
+            // Act & Assert
+            assertDoesNotThrow(() -> feedService.warmUp());
+            assertEquals(0, feedService.snapshotSize());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cached Ranking Tests")
+    class CachedRankingTests {
+
+        @Test
+        @DisplayName("Should reuse a user's ranking until their favorites change")
+        void getFeed_ShouldReuseRankingUntilFavoritesChange() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L}, new int[]{2}));
+            when(coFavoriteIndex.neighbors(3L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{5L}, new int[]{4}));
+            feedService.refresh();
+            feedService.getFeed(7L, null);
+
+            // Act
+            List<FeedItemResponse> cached = feedService.getFeed(7L, null);
+            favoritesCache.onAdded(7L, 3L);
+            List<FeedItemResponse> changed = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(List.of(3L), ids(cached));
+            assertEquals(List.of(5L), ids(changed));
+            verify(coFavoriteIndex, times(2)).neighbors(1L);
+            verify(tvShowBatchRepository, times(1)).forEachShow(any());
+        }
+
+        @Test
+        @DisplayName("Should reuse a ranking even when the favorites cache does not keep the user's set")
+        void getFeed_WhenFavoritesNotCached_ShouldStillReuseRanking() {
+            // Arrange: a cache without room stores no set, so every lookup loads a new one
+            ReflectionTestUtils.setField(favoritesCache, "maxUsers", 0);
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L}, new int[]{2}));
+            feedService.refresh();
+
+            // Act
+            feedService.getFeed(7L, null);
+            List<FeedItemResponse> repeated = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(List.of(3L), ids(repeated));
+            verify(coFavoriteIndex, times(1)).neighbors(1L);
+            verify(favoriteRepository, times(1)).findTvShowIdsByUserId(7L);
+        }
+
+        @Test
+        @DisplayName("Should rebuild rankings after a snapshot refresh")
+        void refresh_ShouldInvalidateCachedRankings() {
+            // Arrange
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L, 4L}, new int[]{1, 1}));
+            feedService.refresh();
+            assertEquals(List.of(3L, 4L), ids(feedService.getFeed(7L, null)));
+            addShow(4L, "Friends", 2030, "1");
+
+            // Act
+            int refreshed = feedService.refresh();
+            catalogCache.clear();
+            List<FeedItemResponse> feed = feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(5, refreshed);
+            assertEquals(List.of(4L, 3L), ids(feed));
+        }
+
+        @Test
+        @DisplayName("Should publish request and cache counters")
+        void bindTo_ShouldPublishMeters() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            feedService.bindTo(registry);
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(1L));
+
+            feedService.refresh();
+
+            // Act
+            feedService.getFeed(7L, null);
+            feedService.getFeed(7L, null);
+
+            // Assert
+            assertEquals(2, registry.get("feed.requests").functionCounter().count());
+            assertEquals(1, registry.get("feed.rankings.hits").functionCounter().count());
+            assertEquals(1, registry.get("feed.rankings.misses").functionCounter().count());
+            assertEquals(5, registry.get("feed.shows").gauge().value());
+        }
+    }
+}
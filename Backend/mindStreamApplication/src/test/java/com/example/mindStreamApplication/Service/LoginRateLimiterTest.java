@@ -0,0 +1,167 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.LoginLimitState;
+import com.example.mindStreamApplication.Exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("LoginRateLimiter Tests")
+class LoginRateLimiterTest {
+
+    private static final long WINDOW = Duration.ofMinutes(1).toMillis();
+
+    // Start of a window
+    private static final long T = 1_000 * WINDOW;
+
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(limiter, "window", Duration.ofMillis(WINDOW));
+        ReflectionTestUtils.setField(limiter, "perUsername", 3);
+        ReflectionTestUtils.setField(limiter, "perIp", 5);
+    }
+
+    private void attempts(String username, String ip, int count, long nowMillis) {
+        for (int i = 0; i < count; i++) {
+            limiter.acquire(username, ip, nowMillis);
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit Tests")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should block a username over its limit with the time until the window frees up")
+        void acquire_OverUsernameLimit_ShouldThrowWithRetryAfter() {
+            // Arrange
+            attempts("alice", "10.0.0.1", 3, T);
+
+            // Act
+            TooManyRequestsException thrown = assertThrows(TooManyRequestsException.class,
+                    () -> limiter.acquire("ALICE ", "10.0.0.2", T));
+
+            // Assert: the 3 attempts only start sliding out at the next window
+            assertEquals(61, thrown.getRetryAfterSeconds());
+            assertDoesNotThrow(() -> limiter.acquire("bob", "10.0.0.1", T));
+        }
+
+        @Test
+        @DisplayName("Should block an IP trying many usernames")
+        void acquire_OverIpLimit_ShouldThrow() {
+            // Arrange
+            for (int i = 0; i < 5; i++) {
+                limiter.acquire("user" + i, "10.0.0.1", T);
+            }
+
+            // Act & Assert
+            assertThrows(TooManyRequestsException.class, () -> limiter.acquire("user9", "10.0.0.1", T));
+            assertDoesNotThrow(() -> limiter.acquire("user9", "10.0.0.2", T));
+            assertEquals(1.0, limiter.state(LoginRateLimiter.TYPE_USERNAME, "user9", T).attempts(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should weight the previous window by its overlap and not count blocked attempts")
+        void acquire_ShouldSlideOverPreviousWindow() {
+            // Arrange: full window plus rejected retries
+            attempts("alice", "10.0.0.1", 3, T);
+            for (int i = 0; i < 10; i++) {
+                assertThrows(TooManyRequestsException.class, () -> limiter.acquire("alice", "10.0.0.1", T + 1));
+            }
+            long halfIntoNext = T + WINDOW + WINDOW / 2;
+
+            // Act: half of the previous window still counts (1.5 attempts)
+            attempts("alice", "10.0.0.2", 1, halfIntoNext);
+            attempts("alice", "10.0.0.2", 1, halfIntoNext);
+
+            // Assert
+            assertThrows(TooManyRequestsException.class, () -> limiter.acquire("alice", "10.0.0.2", halfIntoNext));
+            LoginLimitState state = limiter.state(LoginRateLimiter.TYPE_USERNAME, "alice", halfIntoNext);
+            assertEquals(3.5, state.attempts(), 1e-9);
+            assertTrue(state.blocked());
+        }
+
+        @Test
+        @DisplayName("Should clear a username after a successful login")
+        void onSuccess_ShouldResetUsername() {
+            // Arrange
+            attempts("alice", "10.0.0.1", 3, T);
+
+            // Act
+            limiter.onSuccess("Alice");
+
+            // Assert
+            assertDoesNotThrow(() -> limiter.acquire("alice", "10.0.0.1", T));
+        }
+
+        @Test
+        @DisplayName("Should keep limiting new keys once the table is full")
+        void acquire_WhenTableFull_ShouldUseOverflowCounters() {
+            // Arrange
+            ReflectionTestUtils.setField(limiter, "maxKeys", 2);
+            limiter.acquire("alice", "10.0.0.1", T);
+            limiter.acquire("bob", "10.0.0.2", T);
+
+            // Act
+            attempts("eve", "10.0.0.3", 1, T);
+            attempts("eve", "10.0.0.4", 1, T);
+            attempts("eve", "10.0.0.5", 1, T);
+
+            // Assert
+            assertThrows(TooManyRequestsException.class, () -> limiter.acquire("eve", "10.0.0.6", T));
+            assertEquals(2, limiter.stats().trackedUsernames());
+        }
+    }
+
+    @Nested
+    @DisplayName("Inspection Tests")
+    class InspectionTests {
+
+        @Test
+        @DisplayName("Should forget idle keys on sweep and on reset")
+        void sweepAndReset_ShouldRemoveKeys() {
+            // Arrange
+            limiter.acquire("alice", "10.0.0.1", T);
+            limiter.acquire("bob", "10.0.0.2", T + WINDOW);
+
+            // Act
+            limiter.sweep(T + 2 * WINDOW);
+            boolean reset = limiter.reset(LoginRateLimiter.TYPE_IP, "10.0.0.2");
+
+            // Assert: alice's window has fully slid out, bob's has not
+            assertEquals(1, limiter.stats().trackedUsernames());
+            assertTrue(reset);
+            assertEquals(0, limiter.stats().trackedIps());
+            assertFalse(limiter.reset(LoginRateLimiter.TYPE_USERNAME, "alice"));
+        }
+
+        @Test
+        @DisplayName("Should publish allowed and blocked counters")
+        void bindTo_ShouldPublishMeters() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            limiter.bindTo(registry);
+            attempts("alice", "10.0.0.1", 3, T);
+
+            // Act
+            assertThrows(TooManyRequestsException.class, () -> limiter.acquire("alice", "10.0.0.1", T));
+
+            // Assert
+            assertEquals(3, registry.get("auth.login-limit.allowed").functionCounter().count());
+            assertEquals(1, registry.get("auth.login-limit.blocked").tag("key", "username").functionCounter().count());
+            assertEquals(0, registry.get("auth.login-limit.blocked").tag("key", "ip").functionCounter().count());
+            assertEquals(1, registry.get("auth.login-limit.keys").tag("key", "ip").gauge().value());
+        }
+    }
+}
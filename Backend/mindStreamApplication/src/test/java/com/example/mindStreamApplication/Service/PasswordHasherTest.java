@@ -0,0 +1,199 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordHasher Tests")
+class PasswordHasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private PasswordHasher passwordHasher;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(passwordHasher, "threads", 1);
+        ReflectionTestUtils.setField(passwordHasher, "queueCapacity", 1);
+        passwordHasher.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordHasher.shutdown();
+    }
+
+    // Make encode("slow") hold its hashing thread until the test releases it
+    private CountDownLatch blockSlowHashes() {
+        CountDownLatch started = new CountDownLatch(1);
+        when(passwordEncoder.encode("slow")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hashed";
+        });
+        return started;
+    }
+
+    @Nested
+    @DisplayName("Hashing Tests")
+    class HashingTests {
+
+        @Test
+        @DisplayName("Should delegate to the password encoder on the hashing pool")
+        void encodeAndMatches_ShouldDelegateToEncoder() {
+            // Arrange
+            when(passwordEncoder.encode("secret")).thenAnswer(invocation -> Thread.currentThread().getName());
+            when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+
+            // Act
+            String thread = passwordHasher.encode("secret");
+            boolean matches = passwordHasher.matches("secret", "hash");
+
+            // Assert
+            assertTrue(thread.startsWith("password-hasher-"));
+            assertTrue(matches);
+            assertEquals(2, registry.get("auth.hashing.duration").functionTimer().count());
+            assertEquals(2, registry.get("auth.hashing.queue-wait").functionTimer().count());
+        }
+
+        @Test
+        @DisplayName("Should rethrow encoder failures unchanged")
+        void matches_WhenEncoderFails_ShouldRethrow() {
+            // Arrange
+            when(passwordEncoder.matches("secret", "not-a-hash")).thenThrow(new IllegalArgumentException("bad hash"));
+
+            // Act & Assert
+            IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                    () -> passwordHasher.matches("secret", "not-a-hash"));
+            assertEquals("bad hash", thrown.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rehash Tests")
+    class RehashTests {
+
+        @Test
+        @DisplayName("Should report hashes below policy as the encoder does")
+        void upgradeEncoding_ShouldDelegateToEncoder() {
+            // Arrange
+            when(passwordEncoder.upgradeEncoding("old")).thenReturn(true);
+
+            // Act & Assert
+            assertTrue(passwordHasher.upgradeEncoding("old"));
+            assertFalse(passwordHasher.upgradeEncoding(null));
+        }
+
+        @Test
+        @DisplayName("Should hash again on the pool and hand over the new hash")
+        void rehashInBackground_ShouldStoreNewHash() throws Exception {
+            // Arrange
+            when(passwordEncoder.encode("secret")).thenReturn("newHash");
+            CompletableFuture<String> stored = new CompletableFuture<>();
+
+            // Act
+            passwordHasher.rehashInBackground("secret", stored::complete);
+
+            // Assert
+            assertEquals("newHash", stored.get(5, TimeUnit.SECONDS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.get("auth.hashing.rehashes").functionCounter().count() < 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, registry.get("auth.hashing.rehashes").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should skip the rehash while logins are queued")
+        void rehashInBackground_WhenQueued_ShouldSkip() throws Exception {
+            // Arrange
+            CountDownLatch started = blockSlowHashes();
+            callers.submit(() -> passwordHasher.encode("slow"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> passwordHasher.encode("slow"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (passwordHasher.queueDepth() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // Act
+            passwordHasher.rehashInBackground("secret", hash -> fail("should not rehash"));
+
+            // Assert
+            assertEquals(1, registry.get("auth.hashing.rehashes-skipped").functionCounter().count());
+            verify(passwordEncoder, never()).encode("secret");
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure Tests")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Should reject with 503 and Retry-After when the pool and queue are full")
+        void encode_WhenSaturated_ShouldFailFast() throws Exception {
+            // Arrange: one hash running, one queued
+            CountDownLatch started = blockSlowHashes();
+            Future<String> running = callers.submit(() -> passwordHasher.encode("slow"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> queued = callers.submit(() -> passwordHasher.encode("slow"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (passwordHasher.queueDepth() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // Act
+            ServiceUnavailableException thrown = assertThrows(ServiceUnavailableException.class,
+                    () -> passwordHasher.encode("other"));
+            release.countDown();
+
+            // Assert
+            assertEquals(1, thrown.getRetryAfterSeconds());
+            assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(1, registry.get("auth.hashing.rejected").functionCounter().count());
+            verify(passwordEncoder, never()).encode("other");
+        }
+
+        @Test
+        @DisplayName("Should give up with 503 when a hash takes longer than the timeout")
+        void encode_WhenTimedOut_ShouldFail() {
+            // Arrange
+            ReflectionTestUtils.setField(passwordHasher, "timeout", Duration.ofMillis(50));
+            blockSlowHashes();
+
+            // Act & Assert
+            assertThrows(ServiceUnavailableException.class, () -> passwordHasher.encode("slow"));
+            assertEquals(1, registry.get("auth.hashing.timeouts").functionCounter().count());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.RefreshToken;
+import com.example.mindStreamApplication.Exception.InvalidCredentialsException;
+import com.example.mindStreamApplication.Repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private static RefreshToken stored(String token, boolean revoked) {
+        RefreshToken refreshToken = new RefreshToken(RefreshTokenService.hash(token), 1L,
+                LocalDateTime.now().plusDays(1));
+        refreshToken.setRevoked(revoked);
+        return refreshToken;
+    }
+
+    @Nested
+    @DisplayName("Issue Tests")
+    class IssueTests {
+
+        @Test
+        @DisplayName("Should store only the hash of a new random token")
+        void issue_ShouldStoreTokenHash() {
+            // Act
+            String first = refreshTokenService.issue(1L);
+            String second = refreshTokenService.issue(1L);
+
+            // Assert
+            ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository, times(2)).save(saved.capture());
+            RefreshToken token = saved.getAllValues().get(0);
+            assertNotEquals(first, second);
+            assertEquals(43, first.length());
+            assertArrayEquals(RefreshTokenService.hash(first), token.getTokenHash());
+            assertEquals(1L, token.getUserId());
+            assertTrue(token.getExpiresAt().isAfter(LocalDateTime.now().plusDays(29)));
+            assertTrue(token.isNew());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rotate Tests")
+    class RotateTests {
+
+        @Test
+        @DisplayName("Should revoke the presented token and issue a new one")
+        void rotate_WithLiveToken_ShouldIssueReplacement() {
+            // Arrange
+            when(refreshTokenRepository.findById(aryEq(RefreshTokenService.hash("old"))))
+                    .thenReturn(Optional.of(stored("old", false)));
+            when(refreshTokenRepository.revokeIfActive(aryEq(RefreshTokenService.hash("old")), any())).thenReturn(1);
+
+            // Act
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old");
+
+            // Assert
+            assertEquals(1L, rotation.userId());
+            assertNotEquals("old", rotation.refreshToken());
+            verify(refreshTokenRepository).save(any(RefreshToken.class));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown tokens")
+        void rotate_WithUnknownToken_ShouldThrowException() {
+            // Arrange
+            when(refreshTokenRepository.findById(any())).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate("unknown"));
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate(" "));
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should revoke every session of the user when a rotated token is reused")
+        void rotate_WithRevokedToken_ShouldRevokeAllSessions() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            refreshTokenService.bindTo(registry);
+            when(refreshTokenRepository.findById(any())).thenReturn(Optional.of(stored("old", true)));
+
+            // Act & Assert
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate("old"));
+            verify(refreshTokenRepository).revokeAllByUserId(1L);
+            verify(refreshTokenRepository, never()).save(any());
+            assertEquals(1, registry.get("auth.refresh-tokens.reuse-detected").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should give only one of two concurrent refreshes a new token")
+        void rotate_WhenAlreadyRotated_ShouldThrowException() {
+            // Arrange
+            when(refreshTokenRepository.findById(any())).thenReturn(Optional.of(stored("old", false)));
+            when(refreshTokenRepository.revokeIfActive(any(), any())).thenReturn(0);
+
+            // Act & Assert
+            assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.rotate("old"));
+            verify(refreshTokenRepository, never()).save(any());
+            verify(refreshTokenRepository, never()).revokeAllByUserId(any());
+        }
+    }
+}
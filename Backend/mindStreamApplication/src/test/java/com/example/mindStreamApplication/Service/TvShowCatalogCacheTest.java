@@ -0,0 +1,253 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.Domain.TvShow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("TvShowCatalogCache Tests")
+class TvShowCatalogCacheTest {
+
+    private TvShowCatalogCache catalogCache;
+
+    private static TvShow show(long id, String album, int year) {
+        TvShow show = new TvShow(album, year, String.valueOf(id));
+        show.setId(id);
+        return show;
+    }
+
+    @BeforeEach
+    void setUp() {
+        catalogCache = new TvShowCatalogCache();
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should load once and count hits and misses")
+        void getAll_ShouldLoadOnceAndCountHits() {
+            // Arrange
+            AtomicInteger loads = new AtomicInteger();
+            List<TvShow> catalog = Arrays.asList(show(1L, "Breaking Bad", 2008));
+
+            // Act
+            catalogCache.getAll(() -> { loads.incrementAndGet(); return catalog; });
+            List<TvShow> result = catalogCache.getAll(() -> { loads.incrementAndGet(); return catalog; });
+
+            // Assert
+            assertEquals(1, result.size());
+            assertEquals(1, loads.get());
+            assertEquals(1L, catalogCache.stats().get("hits"));
+            assertEquals(1L, catalogCache.stats().get("misses"));
+        }
+
+        @Test
+        @DisplayName("Should not cache missing shows")
+        void getById_WhenMissing_ShouldNotCache() {
+            // Act
+            Optional<TvShow> first = catalogCache.getById(5L, id -> Optional.empty());
+            Optional<TvShow> second = catalogCache.getById(5L, id -> Optional.of(show(5L, "Severance", 2022)));
+
+            // Assert
+            assertTrue(first.isEmpty());
+            assertEquals("Severance", second.get().getAlbum());
+            assertEquals(0L, catalogCache.stats().get("hits"));
+        }
+
+        @Test
+        @DisplayName("Should load only the missing ids, in one call")
+        void getAllById_ShouldLoadMissesTogether() {
+            // Arrange
+            catalogCache.getById(1L, id -> Optional.of(show(1L, "Breaking Bad", 2008)));
+            List<Collection<Long>> loads = new ArrayList<>();
+
+            // Act
+            Map<Long, TvShow> result = catalogCache.getAllById(List.of(1L, 2L, 3L), ids -> {
+                loads.add(new ArrayList<>(ids));
+                return List.of(show(2L, "The Wire", 2002));
+            });
+
+            // Assert: 3 does not exist and is left out
+            assertEquals(List.of(List.of(2L, 3L)), loads);
+            assertEquals(Set.of(1L, 2L), result.keySet());
+            assertEquals("The Wire", catalogCache.getById(2L, id -> Optional.empty()).get().getAlbum());
+        }
+
+        @Test
+        @DisplayName("Should return read-only lists")
+        void getByYear_ShouldReturnUnmodifiableList() {
+            List<TvShow> result = catalogCache.getByYear(2008,
+                    year -> Arrays.asList(show(1L, "Breaking Bad", 2008)));
+
+            assertThrows(UnsupportedOperationException.class, () -> result.add(show(2L, "Other", 2008)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Consistency Tests")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("Should discard a load that raced with a write")
+        void getAll_WhenWriteDuringLoad_ShouldNotStoreStaleRows() {
+            // Arrange
+            List<TvShow> stale = Arrays.asList(show(1L, "Breaking Bad", 2008));
+
+            // Act
+            catalogCache.getAll(() -> {
+                catalogCache.onShowsSaved(Collections.singletonList(show(2L, "New Show", 2020)));
+                return stale;
+            });
+            List<TvShow> result = catalogCache.getAll(() -> Arrays.asList(
+                    show(1L, "Breaking Bad", 2008), show(2L, "New Show", 2020)));
+
+            // Assert
+            assertEquals(2, result.size());
+        }
+
+        @Test
+        @DisplayName("Should patch rows and drop the affected year on write")
+        void onShowsSaved_ShouldPatchRowsAndDropYear() {
+            // Arrange
+            catalogCache.getByYear(2008, year -> Arrays.asList(show(1L, "Breaking Bad", 2008)));
+            catalogCache.getByYear(2011, year -> Arrays.asList(show(2L, "Game of Thrones", 2011)));
+            long version = catalogCache.version();
+
+            // Act
+            catalogCache.onShowsSaved(Collections.singletonList(show(3L, "Mad Men", 2008)));
+
+            // Assert
+            assertEquals(version + 1, catalogCache.version());
+            assertEquals("Mad Men", catalogCache.getById(3L, id -> Optional.empty()).get().getAlbum());
+            assertEquals(1, catalogCache.getByYear(2011, year -> Collections.emptyList()).size());
+            assertTrue(catalogCache.getByYear(2008, year -> Collections.emptyList()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should drop every year list when an existing show is updated")
+        void onShowsSaved_WithExistingShow_ShouldDropAllYears() {
+            // Arrange
+            catalogCache.getById(1L, id -> Optional.of(show(1L, "Breaking Bad", 2008)));
+            catalogCache.getByYear(2008, year -> Arrays.asList(show(1L, "Breaking Bad", 2008)));
+
+            // Act
+            catalogCache.onShowsSaved(Collections.singletonList(show(1L, "Breaking Bad", 2009)));
+
+            // Assert
+            assertTrue(catalogCache.getByYear(2008, year -> Collections.emptyList()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reload everything after clear")
+        void clear_ShouldDropAllEntries() {
+            catalogCache.getById(1L, id -> Optional.of(show(1L, "Breaking Bad", 2008)));
+
+            catalogCache.clear();
+
+            assertEquals(0, catalogCache.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounds And Metrics Tests")
+    class BoundsAndMetricsTests {
+
+        @Test
+        @DisplayName("Should evict the least recently used row beyond the bound")
+        void getById_BeyondMaxEntries_ShouldEvictEldest() {
+            // Arrange
+            ReflectionTestUtils.setField(catalogCache, "maxEntries", 2);
+            catalogCache.getById(1L, id -> Optional.of(show(1L, "One", 2000)));
+            catalogCache.getById(2L, id -> Optional.of(show(2L, "Two", 2000)));
+            catalogCache.getById(1L, id -> Optional.empty());
+
+            // Act
+            catalogCache.getById(3L, id -> Optional.of(show(3L, "Three", 2000)));
+
+            // Assert
+            assertEquals(2, catalogCache.size());
+            assertEquals(1L, catalogCache.stats().get("evictions"));
+            assertTrue(catalogCache.getById(1L, id -> Optional.empty()).isPresent());
+            assertTrue(catalogCache.getById(2L, id -> Optional.empty()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not keep a full listing larger than the bound")
+        void getAll_LargerThanMaxEntries_ShouldNotBeCached() {
+            // Arrange
+            ReflectionTestUtils.setField(catalogCache, "maxEntries", 1);
+            AtomicInteger loads = new AtomicInteger();
+            List<TvShow> catalog = Arrays.asList(show(1L, "One", 2000), show(2L, "Two", 2000));
+
+            // Act
+            catalogCache.getAll(() -> { loads.incrementAndGet(); return catalog; });
+            catalogCache.getAll(() -> { loads.incrementAndGet(); return catalog; });
+
+            // Assert
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should bound year listings by their total rows")
+        void getByYear_BeyondMaxYearRows_ShouldEvictEldestYears() {
+            // Arrange
+            ReflectionTestUtils.setField(catalogCache, "maxYearRows", 3);
+            catalogCache.getByYear(2000, year -> Arrays.asList(show(1L, "One", 2000), show(2L, "Two", 2000)));
+            catalogCache.getByYear(2001, year -> Arrays.asList(show(3L, "Three", 2001)));
+
+            // Act: two more rows push out 2000, then 2001 is still within the bound
+            catalogCache.getByYear(2002, year -> Arrays.asList(show(4L, "Four", 2002), show(5L, "Five", 2002)));
+
+            // Assert
+            assertEquals(1L, catalogCache.stats().get("evictions"));
+            assertTrue(catalogCache.getByYear(2000, year -> Collections.emptyList()).isEmpty());
+            assertEquals(1, catalogCache.getByYear(2001, year -> Collections.emptyList()).size());
+        }
+
+        @Test
+        @DisplayName("Should not keep a year listing larger than the row bound")
+        void getByYear_LargerThanMaxYearRows_ShouldNotBeCached() {
+            // Arrange
+            ReflectionTestUtils.setField(catalogCache, "maxYearRows", 1);
+            AtomicInteger loads = new AtomicInteger();
+            List<TvShow> shows = Arrays.asList(show(1L, "One", 2000), show(2L, "Two", 2000));
+
+            // Act
+            catalogCache.getByYear(2000, year -> { loads.incrementAndGet(); return shows; });
+            catalogCache.getByYear(2000, year -> { loads.incrementAndGet(); return shows; });
+
+            // Assert
+            assertEquals(2, loads.get());
+            assertEquals(0L, catalogCache.stats().get("evictions"));
+        }
+
+        @Test
+        @DisplayName("Should publish counters to a meter registry")
+        void bindTo_ShouldRegisterMeters() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            catalogCache.bindTo(registry);
+
+            // Act
+            catalogCache.getById(1L, id -> Optional.of(show(1L, "One", 2000)));
+            catalogCache.getById(1L, id -> Optional.empty());
+
+            // Assert
+            assertEquals(1.0, registry.get("tvshows.cache.hits").functionCounter().count());
+            assertEquals(1.0, registry.get("tvshows.cache.misses").functionCounter().count());
+            assertEquals(0.0, registry.get("tvshows.cache.evictions").functionCounter().count());
+            assertEquals(1.0, registry.get("tvshows.cache.size").gauge().value());
+        }
+    }
+}
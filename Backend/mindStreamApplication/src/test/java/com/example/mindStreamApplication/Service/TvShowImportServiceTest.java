@@ -0,0 +1,225 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.TvShowImportResult;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TvShowImportService.class, TvShowBatchRepository.class, AlbumSearchIndex.class, CatalogFacetIndex.class,
+        TvShowCatalogCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("TvShowImportService Tests")
+class TvShowImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TvShowRepository tvShowRepository;
+
+    @Autowired
+    private TvShowImportService importService;
+
+    @Autowired
+    private AlbumSearchIndex albumSearchIndex;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(new TvShow("Breaking Bad", 2008, "1"));
+        entityManager.flush();
+        albumSearchIndex.invalidate();
+        catalogCache.clear();
+    }
+
+    @Nested
+    @DisplayName("CSV Import Tests")
+    class CsvImportTests {
+
+        @Test
+        @DisplayName("Should insert new rows and skip the header")
+        void importCsv_ShouldInsertRows() {
+            // Act
+            TvShowImportResult result = importService.importCsv(body(
+                    "album,year,chartPosition\nThe Wire,2002,3\nFriends,1994,5\n"));
+
+            // Assert
+            assertEquals(2, result.received());
+            assertEquals(2, result.inserted());
+            assertEquals(3, tvShowRepository.count());
+            TvShow wire = tvShowRepository.findByAlbum("The Wire");
+            assertEquals(2002, wire.getYear());
+            assertEquals("3", wire.getChartPosition());
+        }
+
+        @Test
+        @DisplayName("Should read quoted fields and empty columns")
+        void importCsv_WithQuotedFields_ShouldKeepCommasAndQuotes() {
+            // Act
+            importService.importCsv(body("\"Law & Order, SVU\",1999,\n\"The \"\"Office\"\"\",,7\n"));
+
+            // Assert
+            TvShow svu = tvShowRepository.findByAlbum("Law & Order, SVU");
+            assertEquals(1999, svu.getYear());
+            assertNull(svu.getChartPosition());
+            assertNull(tvShowRepository.findByAlbum("The \"Office\"").getYear());
+        }
+
+        @Test
+        @DisplayName("Should skip albums repeated in the upload or already stored")
+        void importCsv_WithDuplicates_ShouldSkipThem() {
+            // Act
+            TvShowImportResult result = importService.importCsv(body(
+                    "Breaking Bad,2008,1\nThe Wire,2002,3\nThe Wire,2002,3\n"));
+
+            // Assert
+            assertEquals(3, result.received());
+            assertEquals(1, result.inserted());
+            assertEquals(2, result.duplicates());
+            assertEquals(2, tvShowRepository.count());
+        }
+
+        @Test
+        @DisplayName("Should treat albums differing only in case as duplicates")
+        void importCsv_WithCaseVariants_ShouldSkipThem() {
+            // Act
+            TvShowImportResult result = importService.importCsv(body(
+                    "The Wire,2002,3\nTHE WIRE,2002,3\nthe wire,2002,3\n"));
+
+            // Assert
+            assertEquals(1, result.inserted());
+            assertEquals(2, result.duplicates());
+            assertEquals("The Wire", tvShowRepository.findByAlbumContaining("Wire").get(0).getAlbum());
+        }
+
+        @Test
+        @DisplayName("Should count rows without album or with a bad year as invalid")
+        void importCsv_WithInvalidRows_ShouldCountThem() {
+            // Act
+            TvShowImportResult result = importService.importCsv(body(",2001,1\nThe Wire,soon,3\nFriends,1994,5\n"));
+
+            // Assert
+            assertEquals(2, result.invalid());
+            assertEquals(1, result.inserted());
+        }
+
+        @Test
+        @DisplayName("Should write in batches of the configured size")
+        void importCsv_ShouldReportEachBatch() {
+            // Arrange
+            ReflectionTestUtils.setField(importService, "batchSize", 2);
+
+            // Act
+            TvShowImportResult result = importService.importCsv(body("A,2000,1\nB,2000,2\nC,2000,3\nBreaking Bad,2008,1\n"));
+
+            // Assert
+            List<TvShowImportResult.Batch> batches = result.batches();
+            assertEquals(2, batches.size());
+            assertEquals(2, batches.get(0).inserted());
+            assertEquals(2, batches.get(1).rows());
+            assertEquals(1, batches.get(1).inserted());
+            assertEquals(4, tvShowRepository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON Import Tests")
+    class JsonImportTests {
+
+        @Test
+        @DisplayName("Should insert objects from a JSON array")
+        void importJson_ShouldInsertRows() {
+            // Act
+            TvShowImportResult result = importService.importJson(body(
+                    "[{\"album\":\"The Wire\",\"year\":2002,\"chartPosition\":\"3\"},"
+                            + "{\"album\":\"Friends\",\"year\":\"1994\",\"chartPosition\":5},"
+                            + "{\"year\":2000}, 42]"));
+
+            // Assert
+            assertEquals(4, result.received());
+            assertEquals(2, result.inserted());
+            assertEquals(2, result.invalid());
+            assertEquals("5", tvShowRepository.findByAlbum("Friends").getChartPosition());
+        }
+
+        @Test
+        @DisplayName("Should reject a body that is not an array")
+        void importJson_WithObject_ShouldThrow() {
+            assertThrows(InvalidRequestException.class,
+                    () -> importService.importJson(body("{\"album\":\"The Wire\"}")));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed JSON")
+        void importJson_WithMalformedJson_ShouldThrow() {
+            assertThrows(InvalidRequestException.class,
+                    () -> importService.importJson(body("[{\"album\":")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache Refresh Tests")
+    class CacheRefreshTests {
+
+        @Test
+        @DisplayName("Should make imported shows visible to search and cached listings")
+        void import_ShouldInvalidateIndexAndCache() {
+            // Arrange
+            assertEquals(1, albumSearchIndex.search("Breaking").size());
+            assertEquals(1, catalogCache.getAll(tvShowRepository::findAll).size());
+            long version = catalogCache.version();
+
+            // Act
+            importService.importCsv(body("Breaking Point,2020,9\n"));
+
+            // Assert
+            assertTrue(catalogCache.version() > version);
+            assertEquals(Arrays.asList("Breaking Bad", "Breaking Point"),
+                    albumSearchIndex.search("Breaking").stream().map(TvShow::getAlbum).toList());
+        }
+
+        @Test
+        @DisplayName("Should leave caches alone when nothing was inserted")
+        void import_WithOnlyDuplicates_ShouldKeepCaches() {
+            // Arrange
+            catalogCache.getAll(tvShowRepository::findAll);
+            long version = catalogCache.version();
+
+            // Act
+            importService.importCsv(body("Breaking Bad,2008,1\n"));
+
+            // Assert
+            assertEquals(version, catalogCache.version());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.mindStreamApplication.Service;
+
+import com.example.mindStreamApplication.DTO.CatalogBrowse;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
+import com.example.mindStreamApplication.Domain.Favorite;
+import com.example.mindStreamApplication.Domain.TvShow;
+import com.example.mindStreamApplication.Repository.FavoriteBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowBatchRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsBatchRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TvShowService.class, FavoriteService.class, FavoriteBatchRepository.class, AlbumSearchIndex.class,
+        TvShowCatalogCache.class, UserFavoritesCache.class, FavoriteCountAggregator.class,
+        TvShowStatsBatchRepository.class, CoFavoriteIndex.class, TvShowBatchRepository.class,
+        CatalogFacetIndex.class})
+@DisplayName("TvShowService Query Count Tests")
+class TvShowServiceQueryCountTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TvShowService tvShowService;
+
+    @Autowired
+    private AlbumSearchIndex albumSearchIndex;
+
+    @Autowired
+    private CatalogFacetIndex facetIndex;
+
+    @Autowired
+    private TvShowCatalogCache catalogCache;
+
+    @Autowired
+    private UserFavoritesCache favoritesCache;
+
+    // Persist the given number of shows for one year and favorite every other one
+    private void seedCatalog(int size) {
+        for (int i = 0; i < size; i++) {
+            TvShow show = entityManager.persist(new TvShow("Show " + i, 2011, String.valueOf(i + 1)));
+            if (i % 2 == 0) {
+                entityManager.persist(new Favorite(USER_ID, show.getId()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Each test rolls back its rows, so the indexes and caches must reload from this test's data
+        albumSearchIndex.invalidate();
+        facetIndex.invalidate();
+        catalogCache.clear();
+        favoritesCache.clear();
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("getAllTvShows should issue a fixed number of statements")
+    void getAllTvShows_ShouldUseConstantStatementCount(int size) {
+        seedCatalog(size);
+        Statistics statistics = resetStatistics();
+
+        List<TvShowResponse> result = tvShowService.getAllTvShows(USER_ID);
+
+        assertEquals(size, result.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals((size + 1) / 2, result.stream().filter(TvShowResponse::isFavorite).count());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("searchTvShows should issue a fixed number of statements")
+    void searchTvShows_ShouldUseConstantStatementCount(int size) {
+        seedCatalog(size);
+        Statistics statistics = resetStatistics();
+
+        List<TvShowResponse> result = tvShowService.searchTvShows("Show", USER_ID);
+
+        assertEquals(size, result.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("getTvShowsByYear should issue a fixed number of statements")
+    void getTvShowsByYear_ShouldUseConstantStatementCount(int size) {
+        seedCatalog(size);
+        Statistics statistics = resetStatistics();
+
+        List<TvShowResponse> result = tvShowService.getTvShowsByYear(2011, USER_ID);
+
+        assertEquals(size, result.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("browseTvShows should only load the page rows once the facet index is built")
+    void browseTvShows_ShouldUseConstantStatementCount(int size) {
+        seedCatalog(size);
+        facetIndex.facets();
+        Statistics statistics = resetStatistics();
+
+        CatalogBrowse result = tvShowService.browseTvShows(2000, 2020, "show", null, null, USER_ID);
+
+        assertEquals(Math.min(size, 50), result.page().data().size());
+        assertEquals(size, result.page().count());
+        assertEquals(size, result.facets().years().get(0).count());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("Cached listings should not touch the database")
+    void getAllTvShows_WhenCached_ShouldIssueNoStatements(int size) {
+        seedCatalog(size);
+        tvShowService.getAllTvShows(USER_ID);
+        Statistics statistics = resetStatistics();
+
+        List<TvShowResponse> result = tvShowService.getAllTvShows(USER_ID);
+
+        assertEquals(size, result.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals((size + 1) / 2, result.stream().filter(TvShowResponse::isFavorite).count());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("Cached favorite checks should not touch the database")
+    void getTvShowById_WhenFavoritesCached_ShouldOnlyLoadShow(int size) {
+        seedCatalog(size);
+        List<TvShowResponse> listing = tvShowService.getAllTvShows(USER_ID);
+        Statistics statistics = resetStatistics();
+
+        for (TvShowResponse show : listing) {
+            tvShowService.getTvShowById(show.id(), USER_ID);
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    @DisplayName("Anonymous listing should not query favorites at all")
+    void getAllTvShows_WithoutUser_ShouldUseSingleStatement(int size) {
+        seedCatalog(size);
+        Statistics statistics = resetStatistics();
+
+        tvShowService.getAllTvShows(null);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    @DisplayName("Streaming export should read through one cursor and keep no entities")
+    void streamAllTvShows_ShouldUseSingleCursorAndDetachRows(int size) {
+        seedCatalog(size);
+        Statistics statistics = resetStatistics();
+        List<TvShowResponse> written = new ArrayList<>();
+
+        long count = tvShowService.streamAllTvShows(USER_ID, written::add);
+
+        assertEquals(size, count);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals((size + 1) / 2, written.stream().filter(TvShowResponse::isFavorite).count());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+        for (int i = 1; i < written.size(); i++) {
+            assertTrue(written.get(i - 1).id() < written.get(i).id());
+        }
+    }
+}
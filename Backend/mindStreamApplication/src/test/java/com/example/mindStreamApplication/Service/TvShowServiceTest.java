@@ -1,10 +1,19 @@
 package com.example.mindStreamApplication.Service;
 
+import com.example.mindStreamApplication.DTO.CatalogBrowse;
+import com.example.mindStreamApplication.DTO.CatalogFacets;
+import com.example.mindStreamApplication.DTO.CatalogPage;
+import com.example.mindStreamApplication.DTO.PopularTvShowResponse;
+import com.example.mindStreamApplication.DTO.RecommendedTvShowResponse;
+import com.example.mindStreamApplication.DTO.TvShowResponse;
 import com.example.mindStreamApplication.Domain.TvShow;
 import com.example.mindStreamApplication.Exception.DuplicateResourceException;
+import com.example.mindStreamApplication.Exception.InvalidRequestException;
 import com.example.mindStreamApplication.Exception.ResourceNotFoundException;
 import com.example.mindStreamApplication.Repository.FavoriteRepository;
 import com.example.mindStreamApplication.Repository.TvShowRepository;
+import com.example.mindStreamApplication.Repository.TvShowStatsRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,11 +21,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -34,6 +47,27 @@ class TvShowServiceTest {
     @Mock
     private FavoriteService favoriteService;
 
+    @Mock
+    private TvShowStatsRepository tvShowStatsRepository;
+
+    @Mock
+    private CoFavoriteIndex coFavoriteIndex;
+
+    @Mock
+    private AlbumSearchIndex albumSearchIndex;
+
+    @Mock
+    private CatalogFacetIndex facetIndex;
+
+    @Spy
+    private TvShowCatalogCache catalogCache = new TvShowCatalogCache();
+
+    @Spy
+    private UserFavoritesCache favoritesCache = new UserFavoritesCache();
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private TvShowService tvShowService;
 
@@ -59,10 +93,9 @@ class TvShowServiceTest {
             // Arrange
             List<TvShow> tvShows = Arrays.asList(testTvShow1, testTvShow2);
             when(tvShowRepository.findAll()).thenReturn(tvShows);
-            when(favoriteRepository.existsByUserIdAndTvShowId(any(), any())).thenReturn(false);
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getAllTvShows(null);
+            List<TvShowResponse> result = tvShowService.getAllTvShows(null);
 
             // Assert
             assertEquals(2, result.size());
@@ -75,7 +108,7 @@ class TvShowServiceTest {
             when(tvShowRepository.findAll()).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getAllTvShows(null);
+            List<TvShowResponse> result = tvShowService.getAllTvShows(null);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -87,14 +120,32 @@ class TvShowServiceTest {
             // Arrange
             List<TvShow> tvShows = Arrays.asList(testTvShow1);
             when(tvShowRepository.findAll()).thenReturn(tvShows);
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 1L)).thenReturn(true);
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(1L));
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getAllTvShows(1L);
+            List<TvShowResponse> result = tvShowService.getAllTvShows(1L);
 
             // Assert
             assertEquals(1, result.size());
-            assertTrue((Boolean) result.get(0).get("isFavorite"));
+            assertTrue(result.get(0).isFavorite());
+        }
+
+        @Test
+        @DisplayName("Should resolve favorite status with a single lookup")
+        void getAllTvShows_WithUserId_ShouldLoadFavoriteIdsOnce() {
+            // Arrange
+            List<TvShow> tvShows = Arrays.asList(testTvShow1, testTvShow2);
+            when(tvShowRepository.findAll()).thenReturn(tvShows);
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(2L));
+
+            // Act
+            List<TvShowResponse> result = tvShowService.getAllTvShows(1L);
+
+            // Assert
+            assertFalse(result.get(0).isFavorite());
+            assertTrue(result.get(1).isFavorite());
+            verify(favoriteRepository, times(1)).findTvShowIdsByUserId(1L);
+            verify(favoriteRepository, never()).existsByUserIdAndTvShowId(any(), any());
         }
 
         @Test
@@ -105,10 +156,10 @@ class TvShowServiceTest {
             when(tvShowRepository.findAll()).thenReturn(tvShows);
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getAllTvShows(null);
+            List<TvShowResponse> result = tvShowService.getAllTvShows(null);
 
             // Assert
-            assertFalse((Boolean) result.get(0).get("isFavorite"));
+            assertFalse(result.get(0).isFavorite());
         }
     }
 
@@ -121,14 +172,13 @@ class TvShowServiceTest {
         void getTvShowById_WhenExists_ShouldReturnShow() {
             // Arrange
             when(tvShowRepository.findById(1L)).thenReturn(Optional.of(testTvShow1));
-            when(favoriteRepository.existsByUserIdAndTvShowId(any(), any())).thenReturn(false);
 
             // Act
-            Map<String, Object> result = tvShowService.getTvShowById(1L, null);
+            TvShowResponse result = tvShowService.getTvShowById(1L, null);
 
             // Assert
-            assertEquals(1L, result.get("id"));
-            assertEquals("Breaking Bad", result.get("album"));
+            assertEquals(1L, result.id());
+            assertEquals("Breaking Bad", result.album());
         }
 
         @Test
@@ -149,13 +199,32 @@ class TvShowServiceTest {
         void getTvShowById_WithUserId_ShouldIncludeFavoriteStatus() {
             // Arrange
             when(tvShowRepository.findById(1L)).thenReturn(Optional.of(testTvShow1));
-            when(favoriteRepository.existsByUserIdAndTvShowId(1L, 1L)).thenReturn(true);
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(1L));
 
             // Act
-            Map<String, Object> result = tvShowService.getTvShowById(1L, 1L);
+            TvShowResponse result = tvShowService.getTvShowById(1L, 1L);
 
             // Assert
-            assertTrue((Boolean) result.get("isFavorite"));
+            assertTrue(result.isFavorite());
+            verify(favoriteRepository, never()).existsByUserIdAndTvShowId(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reuse cached favorite ids across requests")
+        void getTvShowById_WithUserId_ShouldLoadFavoritesOnce() {
+            // Arrange
+            when(tvShowRepository.findById(1L)).thenReturn(Optional.of(testTvShow1));
+            when(tvShowRepository.findById(2L)).thenReturn(Optional.of(testTvShow2));
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(2L));
+
+            // Act
+            TvShowResponse first = tvShowService.getTvShowById(1L, 1L);
+            TvShowResponse second = tvShowService.getTvShowById(2L, 1L);
+
+            // Assert
+            assertFalse(first.isFavorite());
+            assertTrue(second.isFavorite());
+            verify(favoriteRepository, times(1)).findTvShowIdsByUserId(1L);
         }
     }
 
@@ -168,25 +237,24 @@ class TvShowServiceTest {
         void searchTvShows_ShouldReturnMatchingShows() {
             // Arrange
             List<TvShow> tvShows = Arrays.asList(testTvShow1);
-            when(tvShowRepository.findByAlbumContaining("Breaking")).thenReturn(tvShows);
-            when(favoriteRepository.existsByUserIdAndTvShowId(any(), any())).thenReturn(false);
+            when(albumSearchIndex.search("Breaking")).thenReturn(tvShows);
 
             // Act
-            List<Map<String, Object>> result = tvShowService.searchTvShows("Breaking", null);
+            List<TvShowResponse> result = tvShowService.searchTvShows("Breaking", null);
 
             // Assert
             assertEquals(1, result.size());
-            assertEquals("Breaking Bad", result.get(0).get("album"));
+            assertEquals("Breaking Bad", result.get(0).album());
         }
 
         @Test
         @DisplayName("Should return empty list when no matches")
         void searchTvShows_WhenNoMatches_ShouldReturnEmptyList() {
             // Arrange
-            when(tvShowRepository.findByAlbumContaining("Nonexistent")).thenReturn(Collections.emptyList());
+            when(albumSearchIndex.search("Nonexistent")).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = tvShowService.searchTvShows("Nonexistent", null);
+            List<TvShowResponse> result = tvShowService.searchTvShows("Nonexistent", null);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -203,14 +271,13 @@ class TvShowServiceTest {
             // Arrange
             List<TvShow> tvShows = Arrays.asList(testTvShow2);
             when(tvShowRepository.findByYear(2011)).thenReturn(tvShows);
-            when(favoriteRepository.existsByUserIdAndTvShowId(any(), any())).thenReturn(false);
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getTvShowsByYear(2011, null);
+            List<TvShowResponse> result = tvShowService.getTvShowsByYear(2011, null);
 
             // Assert
             assertEquals(1, result.size());
-            assertEquals(2011, result.get(0).get("year"));
+            assertEquals(2011, result.get(0).year());
         }
 
         @Test
@@ -220,13 +287,361 @@ class TvShowServiceTest {
             when(tvShowRepository.findByYear(2000)).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getTvShowsByYear(2000, null);
+            List<TvShowResponse> result = tvShowService.getTvShowsByYear(2000, null);
 
             // Assert
             assertTrue(result.isEmpty());
         }
     }
 
+    @Nested
+    @DisplayName("Keyset Pagination Tests")
+    class PaginationTests {
+
+        @Test
+        @DisplayName("Should return first page with next cursor when more rows exist")
+        void getTvShowsPage_WhenMoreRows_ShouldReturnNextCursor() {
+            // Arrange
+            TvShow testTvShow3 = new TvShow("The Wire", 2002, "3");
+            testTvShow3.setId(3L);
+            when(tvShowRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                    .thenReturn(Arrays.asList(testTvShow1, testTvShow2, testTvShow3));
+
+            // Act
+            CatalogPage page = tvShowService.getTvShowsPage(2, null, false, null);
+
+            // Assert
+            assertEquals(2, page.data().size());
+            assertTrue(page.hasMore());
+            assertEquals(CatalogCursor.encode(2L), page.nextCursor());
+            assertNull(page.count());
+            verify(tvShowRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor and report the last page")
+        void getTvShowsPage_WithCursor_ShouldStartAfterLastId() {
+            // Arrange
+            when(tvShowRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(3)))
+                    .thenReturn(Arrays.asList(testTvShow2));
+
+            // Act
+            CatalogPage page = tvShowService.getTvShowsPage(2, CatalogCursor.encode(1L), false, null);
+
+            // Assert
+            assertEquals(1, page.data().size());
+            assertFalse(page.hasMore());
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should include total count only when requested")
+        void getTvShowsPage_WithIncludeCount_ShouldReturnCount() {
+            // Arrange
+            when(tvShowRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(TvShowService.DEFAULT_PAGE_SIZE + 1)))
+                    .thenReturn(Arrays.asList(testTvShow1, testTvShow2));
+            when(tvShowRepository.count()).thenReturn(2L);
+
+            // Act
+            CatalogPage page = tvShowService.getTvShowsPage(null, null, true, null);
+
+            // Assert
+            assertEquals(2L, page.count());
+        }
+
+        @Test
+        @DisplayName("Should page TV shows by year")
+        void getTvShowsByYearPage_ShouldUseKeysetQuery() {
+            // Arrange
+            when(tvShowRepository.findByYearAndIdGreaterThanOrderByIdAsc(2011, 0L, Limit.of(11)))
+                    .thenReturn(Arrays.asList(testTvShow2));
+            when(tvShowRepository.countByYear(2011)).thenReturn(1L);
+
+            // Act
+            CatalogPage yearPage = tvShowService.getTvShowsByYearPage(2011, 10, null, true, null);
+
+            // Assert
+            assertEquals(1L, yearPage.count());
+        }
+
+        @Test
+        @DisplayName("Should page ranked search results by their sort key")
+        void searchTvShowsPage_ShouldContinueAfterRankedCursor() {
+            // Arrange
+            AlbumSearchIndex index = new AlbumSearchIndex();
+            index.rebuild(Arrays.asList(testTvShow1, testTvShow2));
+            when(albumSearchIndex.rank("")).thenReturn(index.rank(""));
+
+            // Act
+            CatalogPage firstPage = tvShowService.searchTvShowsPage("", 1, null, true, null);
+            CatalogPage secondPage = tvShowService.searchTvShowsPage(
+                    "", 1, firstPage.nextCursor(), false, null);
+
+            // Assert
+            assertEquals(2L, firstPage.count());
+            assertEquals("Breaking Bad", firstPage.data().get(0).album());
+            assertEquals("Game of Thrones", secondPage.data().get(0).album());
+            assertFalse(secondPage.hasMore());
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside the allowed range")
+        void getTvShowsPage_WithInvalidLimit_ShouldThrowException() {
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getTvShowsPage(0, null, false, null));
+            assertThrows(InvalidRequestException.class,
+                    () -> tvShowService.getTvShowsPage(TvShowService.MAX_PAGE_SIZE + 1, null, false, null));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void getTvShowsPage_WithInvalidCursor_ShouldThrowException() {
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getTvShowsPage(10, "not-a-cursor", false, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("GetChartTvShows Tests")
+    class GetChartTvShowsTests {
+
+        @Test
+        @DisplayName("Should return the best ranked shows when no range is given")
+        void getChartTvShows_WithoutRange_ShouldReturnTopRanked() {
+            // Arrange
+            when(tvShowRepository.findByChartRankNotNullOrderByChartRankAscIdAsc(Limit.of(TvShowService.DEFAULT_PAGE_SIZE)))
+                    .thenReturn(Arrays.asList(testTvShow1, testTvShow2));
+
+            // Act
+            List<TvShowResponse> result = tvShowService.getChartTvShows(null, null, null, null);
+
+            // Assert
+            assertEquals(Arrays.asList(1L, 2L), result.stream().map(TvShowResponse::id).toList());
+            verify(tvShowRepository, never()).findByChartRankBetweenOrderByChartRankAscIdAsc(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should query a rank range and leave an open end unbounded")
+        void getChartTvShows_WithRange_ShouldQueryBetween() {
+            // Arrange
+            when(tvShowRepository.findByChartRankBetweenOrderByChartRankAscIdAsc(2, Integer.MAX_VALUE, Limit.of(5)))
+                    .thenReturn(List.of(testTvShow2));
+
+            // Act
+            List<TvShowResponse> result = tvShowService.getChartTvShows(2, null, 5, null);
+
+            // Assert
+            assertEquals(1, result.size());
+            assertEquals("2", result.get(0).chartPosition());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid ranges and limits")
+        void getChartTvShows_WithInvalidInput_ShouldThrow() {
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getChartTvShows(0, 5, null, null));
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getChartTvShows(5, 2, null, null));
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getChartTvShows(null, null, 0, null));
+            verifyNoInteractions(tvShowRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("BrowseTvShows Tests")
+    class BrowseTvShowsTests {
+
+        private final CatalogFacets facets = new CatalogFacets(
+                List.of(new CatalogFacets.FacetCount(2008, 1), new CatalogFacets.FacetCount(2011, 1)),
+                List.of(new CatalogFacets.FacetCount(2000, 1), new CatalogFacets.FacetCount(2010, 1)), 0);
+
+        @Test
+        @DisplayName("Should load the page rows in index order with one query and pass the facets through")
+        void browseTvShows_ShouldHydratePageInIndexOrder() {
+            // Arrange
+            when(facetIndex.browse(2000, 2020, "b", null, 2)).thenReturn(
+                    new CatalogFacetIndex.Browse(new long[]{2L, 1L}, new long[]{2008, 1L}, 5, facets));
+            when(tvShowRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(testTvShow1, testTvShow2));
+
+            // Act
+            CatalogBrowse result = tvShowService.browseTvShows(2000, 2020, "b", 2, null, null);
+
+            // Assert
+            assertEquals(Arrays.asList(2L, 1L), result.page().data().stream().map(TvShowResponse::id).toList());
+            assertTrue(result.page().hasMore());
+            assertEquals(CatalogCursor.encode(2008, 1L), result.page().nextCursor());
+            assertEquals(5L, result.page().count());
+            assertSame(facets, result.facets());
+        }
+
+        @Test
+        @DisplayName("Should decode the (year, id) cursor and end on the last page")
+        void browseTvShows_WithCursor_ShouldContinueAfterKey() {
+            // Arrange
+            when(facetIndex.browse(isNull(), isNull(), isNull(), aryEq(new long[]{2008, 1L}), eq(50))).thenReturn(
+                    new CatalogFacetIndex.Browse(new long[]{2L}, null, 2, facets));
+            when(tvShowRepository.findAllById(List.of(2L))).thenReturn(List.of(testTvShow2));
+
+            // Act
+            CatalogBrowse result = tvShowService.browseTvShows(null, null, null, null,
+                    CatalogCursor.encode(2008, 1L), null);
+
+            // Assert
+            assertEquals(1, result.page().data().size());
+            assertFalse(result.page().hasMore());
+            assertNull(result.page().nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should reject inverted year ranges, bad limits and malformed cursors")
+        void browseTvShows_WithInvalidInput_ShouldThrow() {
+            assertThrows(InvalidRequestException.class,
+                    () -> tvShowService.browseTvShows(2020, 2000, null, null, null, null));
+            assertThrows(InvalidRequestException.class,
+                    () -> tvShowService.browseTvShows(null, null, null, 0, null, null));
+            assertThrows(InvalidRequestException.class,
+                    () -> tvShowService.browseTvShows(null, null, null, null, CatalogCursor.encode(1L), null));
+            verifyNoInteractions(facetIndex, tvShowRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("GetTopTvShows Tests")
+    class GetTopTvShowsTests {
+
+        @Test
+        @DisplayName("Should return the most favorited shows with the default limit")
+        void getTopTvShows_WithoutLimit_ShouldUseDefault() {
+            // Arrange
+            List<PopularTvShowResponse> top = List.of(new PopularTvShowResponse(2L, "Game of Thrones", 2011, "2", 7));
+            when(tvShowStatsRepository.findMostFavorited(Limit.of(TvShowService.DEFAULT_TOP_LIMIT))).thenReturn(top);
+
+            // Act
+            List<PopularTvShowResponse> result = tvShowService.getTopTvShows(null);
+
+            // Assert
+            assertEquals(top, result);
+            verifyNoInteractions(favoriteRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside the allowed range")
+        void getTopTvShows_WithInvalidLimit_ShouldThrow() {
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getTopTvShows(0));
+            assertThrows(InvalidRequestException.class,
+                    () -> tvShowService.getTopTvShows(TvShowService.MAX_TOP_LIMIT + 1));
+            verifyNoInteractions(tvShowStatsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("GetRecommendations Tests")
+    class GetRecommendationsTests {
+
+        @Test
+        @DisplayName("Should return co-favorited shows with their shared counts")
+        void getRecommendations_ShouldReturnNeighbors() {
+            // Arrange
+            when(tvShowRepository.findById(1L)).thenReturn(Optional.of(testTvShow1));
+            when(tvShowRepository.findById(2L)).thenReturn(Optional.of(testTvShow2));
+            when(tvShowRepository.findById(3L)).thenReturn(Optional.empty());
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{3L, 2L}, new int[]{6, 4}));
+
+            // Act
+            List<RecommendedTvShowResponse> result = tvShowService.getRecommendations(1L, null, null);
+
+            // Assert: show 3 was deleted after the index was built
+            assertEquals(1, result.size());
+            assertEquals("Game of Thrones", result.get(0).album());
+            assertEquals(4, result.get(0).sharedFavorites());
+        }
+
+        @Test
+        @DisplayName("Should leave out shows the user already favorited and stop at the limit")
+        void getRecommendations_WithUser_ShouldSkipFavorites() {
+            // Arrange
+            TvShow third = new TvShow("The Wire", 2002, "3");
+            third.setId(3L);
+            TvShow fourth = new TvShow("Friends", 1994, "5");
+            fourth.setId(4L);
+            when(tvShowRepository.findById(1L)).thenReturn(Optional.of(testTvShow1));
+            when(tvShowRepository.findById(3L)).thenReturn(Optional.of(third));
+            when(favoriteRepository.findTvShowIdsByUserId(7L)).thenReturn(Set.of(2L));
+            when(coFavoriteIndex.neighbors(1L)).thenReturn(
+                    new CoFavoriteIndex.Neighbors(new long[]{2L, 3L, 4L}, new int[]{9, 5, 1}));
+
+            // Act
+            List<RecommendedTvShowResponse> result = tvShowService.getRecommendations(1L, 1, 7L);
+
+            // Assert
+            assertEquals(List.of(3L), result.stream().map(RecommendedTvShowResponse::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown shows and invalid limits")
+        void getRecommendations_WithInvalidInput_ShouldThrow() {
+            when(tvShowRepository.findById(99L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> tvShowService.getRecommendations(99L, null, null));
+            assertThrows(InvalidRequestException.class, () -> tvShowService.getRecommendations(1L, 0, null));
+            assertThrows(InvalidRequestException.class,
+                    () -> tvShowService.getRecommendations(1L, TvShowService.MAX_RECOMMENDATION_LIMIT + 1, null));
+            verifyNoInteractions(coFavoriteIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("StreamAllTvShows Tests")
+    class StreamAllTvShowsTests {
+
+        @Test
+        @DisplayName("Should hand every row to the action and detach it")
+        void streamAllTvShows_ShouldVisitAndDetachEachRow() {
+            // Arrange
+            when(tvShowRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(testTvShow1, testTvShow2));
+            List<TvShowResponse> written = new ArrayList<>();
+
+            // Act
+            long count = tvShowService.streamAllTvShows(null, written::add);
+
+            // Assert
+            assertEquals(2, count);
+            assertEquals(Arrays.asList(1L, 2L), written.stream().map(TvShowResponse::id).toList());
+            verify(entityManager).detach(testTvShow1);
+            verify(entityManager).detach(testTvShow2);
+            verify(tvShowRepository, never()).findAll();
+            verify(favoriteRepository, never()).findTvShowIdsByUserId(any());
+        }
+
+        @Test
+        @DisplayName("Should mark the user's favorites")
+        void streamAllTvShows_WithUserId_ShouldIncludeFavoriteStatus() {
+            // Arrange
+            when(tvShowRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(testTvShow1, testTvShow2));
+            when(favoriteRepository.findTvShowIdsByUserId(1L)).thenReturn(Set.of(2L));
+            List<TvShowResponse> written = new ArrayList<>();
+
+            // Act
+            tvShowService.streamAllTvShows(1L, written::add);
+
+            // Assert
+            assertFalse(written.get(0).isFavorite());
+            assertTrue(written.get(1).isFavorite());
+        }
+
+        @Test
+        @DisplayName("Should close the cursor when the action fails")
+        void streamAllTvShows_WhenActionThrows_ShouldCloseStream() {
+            // Arrange
+            boolean[] closed = {false};
+            when(tvShowRepository.streamAllByOrderByIdAsc())
+                    .thenReturn(Stream.of(testTvShow1).onClose(() -> closed[0] = true));
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> tvShowService.streamAllTvShows(null, show -> {
+                throw new IllegalStateException("client went away");
+            }));
+            assertTrue(closed[0]);
+        }
+    }
+
     @Nested
     @DisplayName("AddTvShow Tests")
     class AddTvShowTests {
@@ -248,6 +663,9 @@ class TvShowServiceTest {
             // Assert
             assertTrue((Boolean) result.get("success"));
             assertEquals("TV show added successfully", result.get("message"));
+            verify(albumSearchIndex).addAll(anyList());
+            verify(facetIndex).addAll(anyList());
+            verify(catalogCache).onShowsSaved(anyList());
         }
 
         @Test
@@ -301,6 +719,82 @@ class TvShowServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Catalog Cache Tests")
+    class CatalogCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated listings from the cache")
+        void getAllTvShows_WhenCached_ShouldQueryRepositoryOnce() {
+            // Arrange
+            when(tvShowRepository.findAll()).thenReturn(Arrays.asList(testTvShow1, testTvShow2));
+
+            // Act
+            tvShowService.getAllTvShows(null);
+            List<TvShowResponse> result = tvShowService.getAllTvShows(null);
+
+            // Assert
+            assertEquals(2, result.size());
+            verify(tvShowRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should serve shows loaded by a listing without another lookup")
+        void getTvShowById_AfterListing_ShouldNotQueryRepository() {
+            // Arrange
+            when(tvShowRepository.findAll()).thenReturn(Arrays.asList(testTvShow1, testTvShow2));
+            tvShowService.getAllTvShows(null);
+
+            // Act
+            TvShowResponse result = tvShowService.getTvShowById(2L, null);
+
+            // Assert
+            assertEquals("Game of Thrones", result.album());
+            verify(tvShowRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should cache year listings per year")
+        void getTvShowsByYear_WhenCached_ShouldQueryRepositoryOnce() {
+            // Arrange
+            when(tvShowRepository.findByYear(2008)).thenReturn(Arrays.asList(testTvShow1));
+
+            // Act
+            tvShowService.getTvShowsByYear(2008, null);
+            tvShowService.getTvShowsByYear(2008, null);
+
+            // Assert
+            verify(tvShowRepository, times(1)).findByYear(2008);
+        }
+
+        @Test
+        @DisplayName("Should show a newly added show on the next read")
+        void addTvShow_ShouldInvalidateCachedListings() {
+            // Arrange
+            TvShow added = new TvShow("New Show", 2008, "10");
+            added.setId(100L);
+            when(tvShowRepository.findAll())
+                    .thenReturn(Arrays.asList(testTvShow1))
+                    .thenReturn(Arrays.asList(testTvShow1, added));
+            when(tvShowRepository.findByYear(2008))
+                    .thenReturn(Arrays.asList(testTvShow1))
+                    .thenReturn(Arrays.asList(testTvShow1, added));
+            when(tvShowRepository.existsByAlbum("New Show")).thenReturn(false);
+            when(tvShowRepository.save(any(TvShow.class))).thenReturn(added);
+            tvShowService.getAllTvShows(null);
+            tvShowService.getTvShowsByYear(2008, null);
+
+            // Act
+            tvShowService.addTvShow("New Show", 2008, "10");
+
+            // Assert
+            assertEquals(2, tvShowService.getAllTvShows(null).size());
+            assertEquals(2, tvShowService.getTvShowsByYear(2008, null).size());
+            assertEquals("New Show", tvShowService.getTvShowById(100L, null).album());
+            verify(tvShowRepository, never()).findById(any());
+        }
+    }
+
     @Nested
     @DisplayName("LoadInitialData Tests")
     class LoadInitialDataTests {
@@ -340,14 +834,14 @@ class TvShowServiceTest {
         @DisplayName("Should handle special characters in search query")
         void searchTvShows_WithSpecialCharacters_ShouldWork() {
             // Arrange
-            when(tvShowRepository.findByAlbumContaining("Show: #1")).thenReturn(Collections.emptyList());
+            when(albumSearchIndex.search("Show: #1")).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = tvShowService.searchTvShows("Show: #1", null);
+            List<TvShowResponse> result = tvShowService.searchTvShows("Show: #1", null);
 
             // Assert
             assertTrue(result.isEmpty());
-            verify(tvShowRepository).findByAlbumContaining("Show: #1");
+            verify(albumSearchIndex).search("Show: #1");
         }
 
         @Test
@@ -355,11 +849,10 @@ class TvShowServiceTest {
         void searchTvShows_WithEmptyQuery_ShouldWork() {
             // Arrange
             List<TvShow> allShows = Arrays.asList(testTvShow1, testTvShow2);
-            when(tvShowRepository.findByAlbumContaining("")).thenReturn(allShows);
-            when(favoriteRepository.existsByUserIdAndTvShowId(any(), any())).thenReturn(false);
+            when(albumSearchIndex.search("")).thenReturn(allShows);
 
             // Act
-            List<Map<String, Object>> result = tvShowService.searchTvShows("", null);
+            List<TvShowResponse> result = tvShowService.searchTvShows("", null);
 
             // Assert
             assertEquals(2, result.size());
@@ -372,7 +865,7 @@ class TvShowServiceTest {
             when(tvShowRepository.findByYear(-1)).thenReturn(Collections.emptyList());
 
             // Act
-            List<Map<String, Object>> result = tvShowService.getTvShowsByYear(-1, null);
+            List<TvShowResponse> result = tvShowService.getTvShowsByYear(-1, null);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -0,0 +1,233 @@
+package com.example.mindStreamApplication.Service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("UserFavoritesCache Tests")
+class UserFavoritesCacheTest {
+
+    private UserFavoritesCache favoritesCache;
+
+    @BeforeEach
+    void setUp() {
+        favoritesCache = new UserFavoritesCache();
+    }
+
+    @Nested
+    @DisplayName("FavoriteIdSet Tests")
+    class FavoriteIdSetTests {
+
+        @Test
+        @DisplayName("Should answer membership for sparse ids")
+        void contains_WithSparseIds_ShouldUseSortedArray() {
+            FavoriteIdSet set = FavoriteIdSet.of(Arrays.asList(900_000L, 3L, 42L));
+
+            assertFalse(set.isBitmap());
+            assertTrue(set.contains(42L));
+            assertFalse(set.contains(43L));
+            assertArrayEquals(new long[]{3L, 42L, 900_000L}, set.toArray());
+        }
+
+        @Test
+        @DisplayName("Should answer membership for dense ids from a bitmap")
+        void contains_WithDenseIds_ShouldUseBitmap() {
+            List<Long> ids = LongStream.rangeClosed(100, 300).boxed().collect(Collectors.toList());
+            FavoriteIdSet set = FavoriteIdSet.of(ids);
+
+            assertTrue(set.isBitmap());
+            assertEquals(201, set.size());
+            assertTrue(set.contains(100L));
+            assertTrue(set.contains(300L));
+            assertFalse(set.contains(99L));
+            assertFalse(set.contains(301L));
+            assertEquals(ids, LongStream.of(set.toArray()).boxed().collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("Should copy on add and remove")
+        void withAndWithout_ShouldReturnNewSets() {
+            FavoriteIdSet set = FavoriteIdSet.of(Arrays.asList(1L, 2L));
+
+            FavoriteIdSet added = set.with(5L);
+            FavoriteIdSet removed = added.without(1L);
+
+            assertFalse(set.contains(5L));
+            assertTrue(added.contains(5L));
+            assertArrayEquals(new long[]{2L, 5L}, removed.toArray());
+            assertSame(FavoriteIdSet.EMPTY, FavoriteIdSet.of(Arrays.asList(7L)).without(7L));
+        }
+
+        @Test
+        @DisplayName("Should ignore null ids")
+        void contains_WithNull_ShouldReturnFalse() {
+            FavoriteIdSet set = FavoriteIdSet.of(Arrays.asList(1L, null));
+
+            assertEquals(1, set.size());
+            assertFalse(set.contains(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should load a user once and count hits and misses")
+        void get_ShouldLoadOnce() {
+            // Arrange
+            AtomicInteger loads = new AtomicInteger();
+
+            // Act
+            favoritesCache.get(1L, userId -> { loads.incrementAndGet(); return Set.of(10L); });
+            FavoriteIdSet result = favoritesCache.get(1L, userId -> { loads.incrementAndGet(); return Set.of(); });
+
+            // Assert
+            assertTrue(result.contains(10L));
+            assertEquals(1, loads.get());
+            assertEquals(1L, favoritesCache.stats().get("hits"));
+            assertEquals(1L, favoritesCache.stats().get("misses"));
+        }
+
+        @Test
+        @DisplayName("Should discard a load that raced with a write")
+        void get_WhenWriteDuringLoad_ShouldNotStoreStaleSet() {
+            // Act
+            favoritesCache.get(1L, userId -> {
+                favoritesCache.onAdded(1L, 20L);
+                return Set.of(10L);
+            });
+            FavoriteIdSet result = favoritesCache.get(1L, userId -> Set.of(10L, 20L));
+
+            // Assert
+            assertTrue(result.contains(20L));
+        }
+
+        @Test
+        @DisplayName("Should patch cached sets on add and remove")
+        void onAddedAndRemoved_ShouldPatchCachedSet() {
+            // Arrange
+            favoritesCache.get(1L, userId -> Set.of(10L));
+
+            // Act
+            favoritesCache.onAdded(1L, 20L);
+            favoritesCache.onRemoved(1L, 10L);
+
+            // Assert
+            FavoriteIdSet result = favoritesCache.get(1L, userId -> Set.of());
+            assertTrue(result.contains(20L));
+            assertFalse(result.contains(10L));
+        }
+
+        @Test
+        @DisplayName("Should change a user's version on every write, cached or not")
+        void versionOf_ShouldGrowWithWritesToThatUser() {
+            // Arrange
+            long before = favoritesCache.versionOf(1L);
+            long other = favoritesCache.versionOf(2L);
+
+            // Act
+            favoritesCache.onAdded(1L, 20L);
+            long afterAdd = favoritesCache.versionOf(1L);
+            favoritesCache.onRemoved(1L, 20L);
+
+            // Assert
+            assertTrue(afterAdd > before);
+            assertTrue(favoritesCache.versionOf(1L) > afterAdd);
+            assertEquals(other, favoritesCache.versionOf(2L));
+        }
+
+        @Test
+        @DisplayName("Should keep versions growing after older writes are forgotten")
+        void versionOf_BeyondMaxUsers_ShouldNotGoBack() {
+            // Arrange
+            ReflectionTestUtils.setField(favoritesCache, "maxUsers", 1);
+            favoritesCache.onAdded(1L, 20L);
+            long written = favoritesCache.versionOf(1L);
+
+            // Act: user 2's write pushes user 1's out
+            favoritesCache.onAdded(2L, 30L);
+
+            // Assert
+            assertTrue(favoritesCache.versionOf(1L) >= written);
+        }
+
+        @Test
+        @DisplayName("Should not create sets for users that are not cached")
+        void onAdded_WhenNotCached_ShouldDeferToNextLoad() {
+            favoritesCache.onAdded(1L, 20L);
+
+            assertEquals(0, favoritesCache.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction Tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should evict the least recently used user beyond the user bound")
+        void get_BeyondMaxUsers_ShouldEvictEldest() {
+            // Arrange
+            ReflectionTestUtils.setField(favoritesCache, "maxUsers", 2);
+            favoritesCache.get(1L, userId -> Set.of(1L));
+            favoritesCache.get(2L, userId -> Set.of(2L));
+            favoritesCache.get(1L, userId -> Set.of());
+
+            // Act
+            favoritesCache.get(3L, userId -> Set.of(3L));
+
+            // Assert
+            assertEquals(2, favoritesCache.size());
+            assertEquals(1L, favoritesCache.stats().get("evictions"));
+            assertTrue(favoritesCache.get(1L, userId -> Set.of()).contains(1L));
+            assertFalse(favoritesCache.get(2L, userId -> Set.of()).contains(2L));
+        }
+
+        @Test
+        @DisplayName("Should evict users until the memory budget holds")
+        void get_BeyondMemoryBudget_ShouldEvictEldest() {
+            // Arrange
+            long oneSet = FavoriteIdSet.of(Set.of(1L)).sizeInBytes();
+            ReflectionTestUtils.setField(favoritesCache, "maxBytes", oneSet * 2);
+            favoritesCache.get(1L, userId -> Set.of(1L));
+            favoritesCache.get(2L, userId -> Set.of(2L));
+
+            // Act
+            favoritesCache.get(3L, userId -> Set.of(3L));
+
+            // Assert
+            assertEquals(2, favoritesCache.size());
+            assertTrue(favoritesCache.sizeInBytes() <= oneSet * 2);
+        }
+
+        @Test
+        @DisplayName("Should publish counters to a meter registry")
+        void bindTo_ShouldRegisterMeters() {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            favoritesCache.bindTo(registry);
+
+            // Act
+            favoritesCache.get(1L, userId -> Set.of(1L));
+            favoritesCache.get(1L, userId -> Set.of());
+
+            // Assert
+            assertEquals(1.0, registry.get("favorites.cache.hits").functionCounter().count());
+            assertEquals(1.0, registry.get("favorites.cache.misses").functionCounter().count());
+            assertEquals(1.0, registry.get("favorites.cache.users").gauge().value());
+            assertTrue(registry.get("favorites.cache.bytes").gauge().value() > 0);
+        }
+    }
+}
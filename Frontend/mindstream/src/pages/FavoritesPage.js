@@ -106,10 +106,11 @@ const FavoritesPage = () => {
   const handleClearAll = async () => {
     if (window.confirm('Are you sure you want to remove all favorites?')) {
       try {
-        // Remove each favorite individually
-        for (const favorite of favorites) {
-          await favoriteService.removeFromFavorites(user.id, favorite.tvShow.id);
-        }
+        // Remove all favorites in one request
+        await favoriteService.applyBatch(
+          user.id,
+          favorites.map(favorite => ({ action: 'remove', tvShowId: favorite.tvShow.id }))
+        );
         setFavorites([]);
       } catch (err) {
         setError(err.message || 'Failed to clear favorites');
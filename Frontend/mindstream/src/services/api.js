@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { API_ENDPOINTS } from './constants';
 
 // Base URL for your backend API - uses environment variable or defaults to localhost
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/api';
@@ -25,15 +26,57 @@ api.interceptors.request.use(
   }
 );
 
-// Response interceptor for error handling
+// Clear the session and go to the login page
+const endSession = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+  window.location.href = '/login';
+};
+
+// One refresh at a time: requests failing together wait for the same new token
+// (refresh tokens rotate, so a second refresh with the old one would be rejected)
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshPromise = (refreshToken
+      ? axios.post(`${API_BASE_URL}${API_ENDPOINTS.AUTH.REFRESH_TOKEN}`, { refreshToken })
+      : Promise.reject(new Error('No refresh token')))
+      .then((response) => {
+        const { token, refreshToken: nextRefreshToken } = response.data;
+        localStorage.setItem('token', token);
+        localStorage.setItem('refreshToken', nextRefreshToken);
+        return token;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
+// Response interceptor for error handling: an expired token is renewed once and the request retried
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
+  async (error) => {
+    const request = error.config;
+    const isAuthCall = request?.url?.startsWith('/auth/');
+    if (error.response?.status === 401 && request && !request._retried && !isAuthCall) {
+      request._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        request.headers.Authorization = `Bearer ${token}`;
+        return api(request);
+      } catch (refreshError) {
+        endSession();
+        return Promise.reject(error);
+      }
+    }
+    if (error.response?.status === 401 && !isAuthCall) {
       // Token expired or invalid
-      localStorage.removeItem('token');
-      localStorage.removeItem('user');
-      window.location.href = '/login';
+      endSession();
     }
     return Promise.reject(error);
   }
@@ -11,15 +11,26 @@ export const authService = {
     }
   },
 
+  // Check whether a username and/or email is still free
+  checkAvailability: async ({ username, email }) => {
+    try {
+      const response = await api.get('/auth/availability', { params: { username, email } });
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || { message: 'Availability check failed' };
+    }
+  },
+
   // Login user
   login: async (username, password) => {
     try {
       const response = await api.post('/auth/login', { username, password });
-      const { token, user } = response.data;
+      const { token, refreshToken, user } = response.data;
       
-      // Store token and user data
+      // Store tokens and user data
       if (token) {
         localStorage.setItem('token', token);
+        localStorage.setItem('refreshToken', refreshToken);
         localStorage.setItem('user', JSON.stringify(user));
       }
       
@@ -29,9 +40,14 @@ export const authService = {
     }
   },
 
-  // Logout user
-  logout: () => {
+  // Logout user (revokes the refresh token; the session is cleared even if that fails)
+  logout: async () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      await api.post('/auth/logout', { refreshToken }).catch(() => {});
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
     window.location.href = '/login';
   },
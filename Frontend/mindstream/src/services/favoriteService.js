@@ -33,6 +33,16 @@ export const favoriteService = {
     }
   },
 
+  // Apply several add/remove operations at once, e.g. [{ action: 'remove', tvShowId: 10 }]
+  applyBatch: async (userId, operations) => {
+    try {
+      const response = await api.post('/favorites/batch', { userId, operations });
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || { message: 'Failed to update favorites' };
+    }
+  },
+
   // Check if album is favorited
   checkFavorite: async (userId, albumId) => {
     try {